@@ -8,6 +8,7 @@ import io.swagger.annotations.ApiParam;
 
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ErrorDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ApplicationDTO;
+import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.BulkApplicationResultDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.RegistrationRequestDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.UpdateRequestDTO;
 
@@ -78,6 +79,39 @@ public class RegisterApi  {
     {
     return delegate.registerApplication(registrationRequest);
     }
+    @POST
+    @Path("/bulk")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Registers OAuth2 applications in bulk\n", notes = "This API is used to create a batch of OAuth2 applications.\n", response = BulkApplicationResultDTO.class, responseContainer = "List")
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "Processed"),
+        
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Bad Request"),
+        
+        @io.swagger.annotations.ApiResponse(code = 500, message = "Server Error") })
+
+    public Response registerApplications(@ApiParam(value = "Information of the applications to register." ,required=true ) List<RegistrationRequestDTO> registrationRequests,
+    @ApiParam(value = "Whether to add the created applications to the application cache. Defaults to false.") @QueryParam("warm_up_cache") Boolean warmUpCache)
+    {
+    return delegate.registerApplications(registrationRequests,warmUpCache);
+    }
+    @PUT
+    @Path("/bulk")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Updates OAuth2 applications in bulk\n", notes = "This API is used to update a batch of OAuth2 applications.\n", response = BulkApplicationResultDTO.class, responseContainer = "List")
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "Processed"),
+        
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Bad Request"),
+        
+        @io.swagger.annotations.ApiResponse(code = 500, message = "Server Error") })
+
+    public Response updateApplications(@ApiParam(value = "Information of the applications to update." ,required=true ) List<UpdateRequestDTO> updateRequests)
+    {
+    return delegate.updateApplications(updateRequests);
+    }
     @PUT
     @Path("/{client_id}")
     @Consumes({ "application/json" })
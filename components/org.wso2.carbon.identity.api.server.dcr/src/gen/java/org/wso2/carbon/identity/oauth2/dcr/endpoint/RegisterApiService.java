@@ -5,6 +5,7 @@ import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.*;
 
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ErrorDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ApplicationDTO;
+import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.BulkApplicationResultDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.RegistrationRequestDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.UpdateRequestDTO;
 
@@ -21,5 +22,7 @@ public abstract class RegisterApiService {
     public abstract Response registerApplication(RegistrationRequestDTO registrationRequest);
     public abstract Response updateApplication(UpdateRequestDTO updateRequest,String clientId);
     public abstract Response getApplicationByName(String clientName);
+    public abstract Response registerApplications(List<RegistrationRequestDTO> registrationRequests,Boolean warmUpCache);
+    public abstract Response updateApplications(List<UpdateRequestDTO> updateRequests);
 }
 
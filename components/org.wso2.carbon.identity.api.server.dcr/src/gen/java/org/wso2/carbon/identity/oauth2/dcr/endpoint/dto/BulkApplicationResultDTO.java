@@ -0,0 +1,125 @@
+package org.wso2.carbon.identity.oauth2.dcr.endpoint.dto;
+
+import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ApplicationDTO;
+import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ErrorDTO;
+
+import io.swagger.annotations.*;
+import com.fasterxml.jackson.annotation.*;
+
+import javax.validation.constraints.NotNull;
+
+
+
+
+
+@ApiModel(description = "")
+public class BulkApplicationResultDTO  {
+  
+  
+  
+  private Integer index = null;
+  
+  
+  private Integer status = null;
+  
+  
+  private String clientId = null;
+  
+  
+  private String clientName = null;
+  
+  
+  private ApplicationDTO application = null;
+  
+  
+  private ErrorDTO error = null;
+
+  
+  /**
+   **/
+  @ApiModelProperty(value = "")
+  @JsonProperty("index")
+  public Integer getIndex() {
+    return index;
+  }
+  public void setIndex(Integer index) {
+    this.index = index;
+  }
+
+  
+  /**
+   **/
+  @ApiModelProperty(value = "")
+  @JsonProperty("status")
+  public Integer getStatus() {
+    return status;
+  }
+  public void setStatus(Integer status) {
+    this.status = status;
+  }
+
+  
+  /**
+   **/
+  @ApiModelProperty(value = "")
+  @JsonProperty("client_id")
+  public String getClientId() {
+    return clientId;
+  }
+  public void setClientId(String clientId) {
+    this.clientId = clientId;
+  }
+
+  
+  /**
+   **/
+  @ApiModelProperty(value = "")
+  @JsonProperty("client_name")
+  public String getClientName() {
+    return clientName;
+  }
+  public void setClientName(String clientName) {
+    this.clientName = clientName;
+  }
+
+  
+  /**
+   **/
+  @ApiModelProperty(value = "")
+  @JsonProperty("application")
+  public ApplicationDTO getApplication() {
+    return application;
+  }
+  public void setApplication(ApplicationDTO application) {
+    this.application = application;
+  }
+
+  
+  /**
+   **/
+  @ApiModelProperty(value = "")
+  @JsonProperty("error")
+  public ErrorDTO getError() {
+    return error;
+  }
+  public void setError(ErrorDTO error) {
+    this.error = error;
+  }
+
+  
+
+  @Override
+  public String toString()  {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BulkApplicationResultDTO {\n");
+    
+    sb.append("  index: ").append(index).append("\n");
+    sb.append("  status: ").append(status).append("\n");
+    sb.append("  client_id: ").append(clientId).append("\n");
+    sb.append("  client_name: ").append(clientName).append("\n");
+    sb.append("  application: ").append(application).append("\n");
+    sb.append("  error: ").append(error).append("\n");
+    sb.append("}\n");
+    return sb.toString();
+  }
+}
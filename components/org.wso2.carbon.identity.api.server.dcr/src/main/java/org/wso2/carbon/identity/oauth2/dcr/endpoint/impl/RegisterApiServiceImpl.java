@@ -16,19 +16,29 @@
 
 package org.wso2.carbon.identity.oauth2.dcr.endpoint.impl;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.oauth.dcr.DCRMConstants;
 import org.wso2.carbon.identity.oauth.dcr.bean.Application;
+import org.wso2.carbon.identity.oauth.dcr.bean.ApplicationRegistrationRequest;
+import org.wso2.carbon.identity.oauth.dcr.bean.ApplicationUpdateRequest;
+import org.wso2.carbon.identity.oauth.dcr.bean.BulkApplicationResult;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMClientException;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMException;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMServerException;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.RegisterApiService;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ApplicationDTO;
+import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.BulkApplicationResultDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.RegistrationRequestDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.UpdateRequestDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.util.DCRMUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.ws.rs.core.Response;
 
 /**
@@ -151,4 +161,77 @@ public class RegisterApiServiceImpl extends RegisterApiService {
         }
         return Response.status(Response.Status.OK).entity(applicationDTO).build();
     }
+
+    @Override
+    public Response registerApplications(List<RegistrationRequestDTO> registrationRequests, Boolean warmUpCache) {
+
+        if (registrationRequests == null || registrationRequests.isEmpty() || registrationRequests.contains(null)) {
+            DCRMException dcrmException = new DCRMException(
+                    DCRMConstants.ErrorMessages.BAD_REQUEST_INSUFFICIENT_DATA.getMessage());
+            DCRMUtils.handleErrorResponse(Response.Status.BAD_REQUEST, dcrmException, false, LOG);
+        }
+
+        List<BulkApplicationResultDTO> resultDTOs = null;
+        try {
+            List<ApplicationRegistrationRequest> applicationRegistrationRequests = new ArrayList<>();
+            for (RegistrationRequestDTO registrationRequest : registrationRequests) {
+                applicationRegistrationRequests.add(DCRMUtils.getApplicationRegistrationRequest(registrationRequest));
+            }
+            List<BulkApplicationResult> results = DCRMUtils.getOAuth2DCRMService()
+                    .registerApplications(applicationRegistrationRequests, Boolean.TRUE.equals(warmUpCache));
+            resultDTOs = DCRMUtils.getBulkApplicationResultDTOs(results, Response.Status.CREATED, LOG);
+        } catch (DCRMClientException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Client error while registering " + registrationRequests.size() + " applications", e);
+            }
+            DCRMUtils.handleErrorResponse(e, LOG);
+        } catch (DCRMServerException e) {
+            DCRMUtils.handleErrorResponse(Response.Status.INTERNAL_SERVER_ERROR, e, true, LOG);
+
+        } catch (Throwable throwable) {
+            DCRMUtils.handleErrorResponse(Response.Status.INTERNAL_SERVER_ERROR, throwable, true, LOG);
+        }
+        return Response.status(Response.Status.OK).entity(resultDTOs).build();
+    }
+
+    @Override
+    public Response updateApplications(List<UpdateRequestDTO> updateRequests) {
+
+        if (updateRequests == null || updateRequests.isEmpty() || updateRequests.contains(null)) {
+            DCRMException dcrmException = new DCRMException(
+                    DCRMConstants.ErrorMessages.BAD_REQUEST_INSUFFICIENT_DATA.getMessage());
+            DCRMUtils.handleErrorResponse(Response.Status.BAD_REQUEST, dcrmException, false, LOG);
+        }
+
+        // The update requests are keyed by the client id, hence each request must target a distinct application.
+        Map<String, ApplicationUpdateRequest> applicationUpdateRequests = new LinkedHashMap<>();
+        for (UpdateRequestDTO updateRequest : updateRequests) {
+            String clientId = updateRequest.getClientId();
+            if (StringUtils.isBlank(clientId) || applicationUpdateRequests.containsKey(clientId)) {
+                DCRMException dcrmException = new DCRMException(String.format(
+                        DCRMConstants.ErrorMessages.BAD_REQUEST_INVALID_INPUT.getMessage(),
+                        "Each update request must have a distinct client_id."));
+                DCRMUtils.handleErrorResponse(Response.Status.BAD_REQUEST, dcrmException, false, LOG);
+            }
+            applicationUpdateRequests.put(clientId, DCRMUtils.getApplicationUpdateRequest(updateRequest));
+        }
+
+        List<BulkApplicationResultDTO> resultDTOs = null;
+        try {
+            List<BulkApplicationResult> results = DCRMUtils.getOAuth2DCRMService()
+                    .updateApplications(applicationUpdateRequests);
+            resultDTOs = DCRMUtils.getBulkApplicationResultDTOs(results, Response.Status.OK, LOG);
+        } catch (DCRMClientException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Client error while updating " + updateRequests.size() + " applications", e);
+            }
+            DCRMUtils.handleErrorResponse(e, LOG);
+        } catch (DCRMServerException e) {
+            DCRMUtils.handleErrorResponse(Response.Status.INTERNAL_SERVER_ERROR, e, true, LOG);
+
+        } catch (Throwable throwable) {
+            DCRMUtils.handleErrorResponse(Response.Status.INTERNAL_SERVER_ERROR, throwable, true, LOG);
+        }
+        return Response.status(Response.Status.OK).entity(resultDTOs).build();
+    }
 }
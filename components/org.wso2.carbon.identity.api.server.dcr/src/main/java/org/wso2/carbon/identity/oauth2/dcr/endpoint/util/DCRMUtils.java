@@ -25,14 +25,19 @@ import org.wso2.carbon.identity.oauth.dcr.DCRMConstants;
 import org.wso2.carbon.identity.oauth.dcr.bean.Application;
 import org.wso2.carbon.identity.oauth.dcr.bean.ApplicationRegistrationRequest;
 import org.wso2.carbon.identity.oauth.dcr.bean.ApplicationUpdateRequest;
+import org.wso2.carbon.identity.oauth.dcr.bean.BulkApplicationResult;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMException;
 import org.wso2.carbon.identity.oauth.dcr.service.DCRMService;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ApplicationDTO;
+import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.BulkApplicationResultDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.ErrorDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.RegistrationRequestDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.dto.UpdateRequestDTO;
 import org.wso2.carbon.identity.oauth2.dcr.endpoint.exceptions.DCRMEndpointException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.ws.rs.core.Response;
 
 /**
@@ -157,15 +162,63 @@ public class DCRMUtils {
     public static void handleErrorResponse(DCRMException dcrmException, Log log) throws DCRMEndpointException {
 
         String errorCode = dcrmException.getErrorCode();
+        Response.Status status = getErrorStatus(errorCode);
+        boolean isStatusOnly = status != Response.Status.BAD_REQUEST;
+        throw buildDCRMEndpointException(status, errorCode, dcrmException.getMessage(), isStatusOnly);
+    }
+
+    /**
+     * Convert the results of a bulk request to BulkApplicationResultDTO objects. The failed applications get the
+     * same status and error details as a failed single application request.
+     *
+     * @param results Results of the applications in the bulk request.
+     * @param successStatus Status of an application which succeeded.
+     * @param log Log to log the server errors.
+     * @return List of @see BulkApplicationResultDTO
+     */
+    public static List<BulkApplicationResultDTO> getBulkApplicationResultDTOs(List<BulkApplicationResult> results,
+                                                                             Response.Status successStatus, Log log) {
+
+        List<BulkApplicationResultDTO> resultDTOs = new ArrayList<>();
+        for (BulkApplicationResult result : results) {
+            BulkApplicationResultDTO resultDTO = new BulkApplicationResultDTO();
+            resultDTO.setIndex(result.getIndex());
+            resultDTO.setClientId(result.getClientId());
+            resultDTO.setClientName(result.getClientName());
+            if (result.isSuccess()) {
+                resultDTO.setStatus(successStatus.getStatusCode());
+                resultDTO.setApplication(getApplicationDTOFromApplication(result.getApplication()));
+            } else {
+                DCRMException error = result.getError();
+                Response.Status status = getErrorStatus(error.getErrorCode());
+                ErrorDTO errorDTO;
+                if (status == Response.Status.BAD_REQUEST) {
+                    errorDTO = buildErrorDTO(error.getErrorCode(), error.getMessage());
+                } else {
+                    if (status == Response.Status.INTERNAL_SERVER_ERROR) {
+                        log.error("Error while processing the application at index: " + result.getIndex() +
+                                " of the bulk request.", error);
+                    }
+                    errorDTO = new ErrorDTO();
+                    errorDTO.setError(status.getReasonPhrase());
+                    errorDTO.setRef(getCorrelation());
+                }
+                resultDTO.setStatus(status.getStatusCode());
+                resultDTO.setError(errorDTO);
+            }
+            resultDTOs.add(resultDTO);
+        }
+        return resultDTOs;
+    }
+
+    private static Response.Status getErrorStatus(String errorCode) {
+
         Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-        boolean isStatusOnly = true;
         if (errorCode != null) {
             if (errorCode.startsWith(CONFLICT_STATUS)) {
                 status = Response.Status.BAD_REQUEST;
-                isStatusOnly = false;
             } else if (errorCode.startsWith(BAD_REQUEST_STATUS)) {
                 status = Response.Status.BAD_REQUEST;
-                isStatusOnly = false;
             } else if (errorCode.startsWith(NOT_FOUND_STATUS)) {
                 status = Response.Status.UNAUTHORIZED;
             } else if (errorCode.startsWith(FORBIDDEN_STATUS)) {
@@ -173,10 +226,9 @@ public class DCRMUtils {
             } else if (errorCode.startsWith(DCRMConstants.ErrorCodes.INVALID_CLIENT_METADATA) ||
                     errorCode.startsWith(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT)) {
                 status = Response.Status.BAD_REQUEST;
-                isStatusOnly = false;
             }
         }
-        throw buildDCRMEndpointException(status, errorCode, dcrmException.getMessage(), isStatusOnly);
+        return status;
     }
 
     /**
@@ -292,19 +344,24 @@ public class DCRMUtils {
         if (isStatusOnly) {
             return new DCRMEndpointException(status);
         } else {
-            String error = DCRMConstants.ErrorCodes.INVALID_CLIENT_METADATA;
-            if (DCRMConstants.ErrorMessages.BAD_REQUEST_INVALID_REDIRECT_URI.toString().equals(code)) {
-                error = DCRMConstants.ErrorCodes.INVALID_REDIRECT_URI;
-            }
-            if (code.equals(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT)) {
-                error = DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT;
-            }
+            return new DCRMEndpointException(status, buildErrorDTO(code, description));
+        }
+    }
+
+    private static ErrorDTO buildErrorDTO(String code, String description) {
 
-            ErrorDTO errorDTO = new ErrorDTO();
-            errorDTO.setError(error);
-            errorDTO.setErrorDescription(description);
-            errorDTO.setRef(getCorrelation());
-            return new DCRMEndpointException(status, errorDTO);
+        String error = DCRMConstants.ErrorCodes.INVALID_CLIENT_METADATA;
+        if (DCRMConstants.ErrorMessages.BAD_REQUEST_INVALID_REDIRECT_URI.toString().equals(code)) {
+            error = DCRMConstants.ErrorCodes.INVALID_REDIRECT_URI;
         }
+        if (code.equals(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT)) {
+            error = DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT;
+        }
+
+        ErrorDTO errorDTO = new ErrorDTO();
+        errorDTO.setError(error);
+        errorDTO.setErrorDescription(description);
+        errorDTO.setRef(getCorrelation());
+        return errorDTO;
     }
 }
@@ -72,9 +72,12 @@ public class ScopesApi  {
     public Response getScopes(@ApiParam(value = "The start index of the list of scopes to be retrieved") @QueryParam("startIndex")  Integer startIndex,
     @ApiParam(value = "Number of scopes to retrieve from the point of the start index") @QueryParam("count")  Integer count,
     @ApiParam(value = "Retrieve OIDC scopes as well via OAuth2 scopes endpoint.") @QueryParam("includeOIDCScopes")  Boolean includeOIDCScopes,
-    @ApiParam(value = "Request a set of scopes to be return.") @QueryParam("requestedScopes")  String requestedScopes)
+    @ApiParam(value = "Request a set of scopes to be return.") @QueryParam("requestedScopes")  String requestedScopes,
+    @ApiParam(value = "Name of the last scope of the previous page. Scopes are returned in scope name order starting right after this scope.") @QueryParam("after")  String after,
+    @ApiParam(value = "Return only the scopes whose name starts with this prefix.") @QueryParam("namePrefix")  String namePrefix,
+    @ApiParam(value = "Return only the scopes having this binding.") @QueryParam("binding")  String binding)
     {
-    return delegate.getScopes(startIndex,count,includeOIDCScopes,requestedScopes);
+    return delegate.getScopes(startIndex,count,includeOIDCScopes,requestedScopes,after,namePrefix,binding);
     }
     @HEAD
     @Path("/name/{name}")
@@ -23,5 +23,6 @@ public final class Constants {
 
     public static final String SERVER_API_PATH_COMPONENT = "/api/identity/oauth2/v1.0/scopes/name/";
     public static final String TENANT_CONTEXT_PATH_COMPONENT = "/t/%s";
+    public static final int SCOPES_STREAMING_PAGE_SIZE = 100;
 
 }
@@ -16,6 +16,7 @@
 
 package org.wso2.carbon.identity.oauth.scope.endpoint.impl;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.CarbonConstants;
@@ -30,6 +31,7 @@ import org.wso2.carbon.identity.oauth.scope.endpoint.ScopesApiService;
 import org.wso2.carbon.identity.oauth.scope.endpoint.dto.ScopeDTO;
 import org.wso2.carbon.identity.oauth.scope.endpoint.dto.ScopeToUpdateDTO;
 import org.wso2.carbon.identity.oauth.scope.endpoint.util.ScopeUtils;
+import org.wso2.carbon.identity.oauth.scope.endpoint.util.ScopesStreamingOutput;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeClientException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeException;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
@@ -38,11 +40,14 @@ import org.wso2.carbon.user.api.AuthorizationManager;
 import org.wso2.carbon.user.api.UserStoreException;
 
 import java.net.URI;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TENANT_NAME_FROM_CONTEXT;
+import static org.wso2.carbon.identity.oauth.scope.endpoint.Constants.SCOPES_STREAMING_PAGE_SIZE;
 import static org.wso2.carbon.identity.oauth.scope.endpoint.Constants.SERVER_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.oauth.scope.endpoint.Constants.TENANT_CONTEXT_PATH_COMPONENT;
 
@@ -129,15 +134,37 @@ public class ScopesApiServiceImpl extends ScopesApiService {
     }
 
     /**
-     * Retrieve the available scope list.
+     * Retrieve the available scope list. Unless offset pagination or requested scopes are asked for, the scopes are
+     * listed in scope name order, filtered in the database and streamed page by page.
      *
      * @param startIndex        Start Index of the result set to enforce pagination.
      * @param count             Number of elements in the result set to enforce pagination.
      * @param includeOIDCScopes Include OIDC scopes as well.
      * @param requestedScopes   Requested set of scopes to be return in the response.
+     * @param after             Name of the last scope of the previous page.
+     * @param namePrefix        Only return scopes whose name starts with this prefix.
+     * @param binding           Only return scopes having this binding.
      * @return Response with the retrieved scopes retrieval status.
      */
     @Override
+    public Response getScopes(Integer startIndex, Integer count, Boolean includeOIDCScopes, String requestedScopes,
+                              String after, String namePrefix, String binding) {
+
+        if (startIndex == null && StringUtils.isBlank(requestedScopes)) {
+            return getScopesAfter(count, includeOIDCScopes, after, namePrefix, binding);
+        }
+        return getScopes(startIndex, count, includeOIDCScopes, requestedScopes);
+    }
+
+    /**
+     * Retrieve the available scope list.
+     *
+     * @param startIndex        Start Index of the result set to enforce pagination.
+     * @param count             Number of elements in the result set to enforce pagination.
+     * @param includeOIDCScopes Include OIDC scopes as well.
+     * @param requestedScopes   Requested set of scopes to be return in the response.
+     * @return Response with the retrieved scopes retrieval status.
+     */
     public Response getScopes(Integer startIndex, Integer count, Boolean includeOIDCScopes, String requestedScopes) {
 
         Set<Scope> scopes = null;
@@ -168,6 +195,39 @@ public class ScopesApiServiceImpl extends ScopesApiService {
         return getScopes(startIndex, count, false, null);
     }
 
+    /**
+     * Stream the scopes after the given scope name. The first page is fetched before the response is committed so
+     * that a failure can still be reported with an error status.
+     *
+     * @param count             Maximum number of scopes to return. All matching scopes are returned if not given.
+     * @param includeOIDCScopes Include OIDC scopes as well.
+     * @param after             Name of the last scope of the previous page.
+     * @param namePrefix        Only return scopes whose name starts with this prefix.
+     * @param binding           Only return scopes having this binding.
+     * @return Response streaming the matching scopes.
+     */
+    private Response getScopesAfter(Integer count, Boolean includeOIDCScopes, String after, String namePrefix,
+                                     String binding) {
+
+        int limit = (count == null || count < 0) ? Integer.MAX_VALUE : count;
+        int pageSize = Math.min(limit, SCOPES_STREAMING_PAGE_SIZE);
+        List<Scope> firstPage = Collections.emptyList();
+        if (pageSize > 0) {
+            try {
+                firstPage = ScopeUtils.getOAuth2ScopeService().getScopesAfter(after, pageSize, includeOIDCScopes,
+                        namePrefix, binding);
+            } catch (IdentityOAuth2ScopeException e) {
+                ScopeUtils.handleErrorResponse(Response.Status.INTERNAL_SERVER_ERROR,
+                        Response.Status.INTERNAL_SERVER_ERROR.getReasonPhrase(), e, true, LOG);
+            } catch (Throwable throwable) {
+                ScopeUtils.handleErrorResponse(Response.Status.INTERNAL_SERVER_ERROR,
+                        Response.Status.INTERNAL_SERVER_ERROR.getReasonPhrase(), throwable, true, LOG);
+            }
+        }
+        return Response.status(Response.Status.OK).entity(new ScopesStreamingOutput(firstPage,
+                Math.max(pageSize, 1), limit, includeOIDCScopes, namePrefix, binding)).build();
+    }
+
     /**
      * Check the existence of a scope.
      *
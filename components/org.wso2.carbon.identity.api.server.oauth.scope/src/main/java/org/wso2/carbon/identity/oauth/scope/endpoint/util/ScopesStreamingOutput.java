@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.scope.endpoint.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeException;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes a scope listing as a JSON array, fetching the scopes page by page in scope name order while writing.
+ * Only one page of scopes is held in memory at a time.
+ */
+public class ScopesStreamingOutput implements StreamingOutput {
+
+    private static final ObjectMapper OBJECT_MAPPER =
+            new ObjectMapper().disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private final List<Scope> firstPage;
+    private final int pageSize;
+    private final int limit;
+    private final Boolean includeOIDCScopes;
+    private final String namePrefix;
+    private final String binding;
+
+    /**
+     * @param firstPage         First page of scopes, fetched before the response is committed so that errors can
+     *                          still be reported with a proper status.
+     * @param pageSize          Number of scopes fetched per page.
+     * @param limit             Maximum number of scopes to write.
+     * @param includeOIDCScopes Include OIDC scopes as well.
+     * @param namePrefix        Scope name prefix filter.
+     * @param binding           Scope binding filter.
+     */
+    public ScopesStreamingOutput(List<Scope> firstPage, int pageSize, int limit, Boolean includeOIDCScopes,
+                                 String namePrefix, String binding) {
+
+        this.firstPage = firstPage;
+        this.pageSize = pageSize;
+        this.limit = limit;
+        this.includeOIDCScopes = includeOIDCScopes;
+        this.namePrefix = namePrefix;
+        this.binding = binding;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+
+        // The output stream is owned by the container, hence the generator is flushed but not closed.
+        JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(output);
+        generator.writeStartArray();
+        List<Scope> page = firstPage;
+        int written = 0;
+        while (true) {
+            String lastScopeName = null;
+            for (Scope scope : page) {
+                if (written == limit) {
+                    break;
+                }
+                OBJECT_MAPPER.writeValue(generator, ScopeUtils.getScopeDTO(scope));
+                lastScopeName = scope.getName();
+                written++;
+            }
+            if (written == limit || page.size() < pageSize) {
+                break;
+            }
+            page = getNextPage(lastScopeName, Math.min(pageSize, limit - written));
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private List<Scope> getNextPage(String after, int count) throws IOException {
+
+        try {
+            return ScopeUtils.getOAuth2ScopeService().getScopesAfter(after, count, includeOIDCScopes, namePrefix,
+                    binding);
+        } catch (IdentityOAuth2ScopeException e) {
+            // The response is already committed, hence the listing can only be aborted.
+            throw new IOException("Error occurred while retrieving scopes after: " + after, e);
+        }
+    }
+}
@@ -17,6 +17,8 @@
  */
 package org.wso2.carbon.identity.oauth.scope.endpoint.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.logging.Log;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -42,15 +44,22 @@ import org.wso2.carbon.identity.oauth2.OAuth2ScopeService;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
 import org.wso2.carbon.identity.oauth2.bean.Scope;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doNothing;
@@ -59,9 +68,12 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
 import static org.wso2.carbon.identity.oauth.scope.endpoint.Constants.SERVER_API_PATH_COMPONENT;
 
 @Listeners(MockitoTestNGListener.class)
@@ -283,6 +295,60 @@ public class ScopesApiServiceImplTest {
         }
     }
 
+    @Test
+    public void testGetScopesAfterStreamsAllPages() throws Exception {
+
+        List<Scope> firstPage = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            firstPage.add(new Scope(String.format("scope%03d", i), someScopeName, someScopeDescription));
+        }
+        List<Scope> secondPage = Collections.singletonList(
+                new Scope("scope100", someScopeName, someScopeDescription));
+        when(oAuth2ScopeService.getScopesAfter(isNull(), eq(100), anyBoolean(), eq("scope"), isNull()))
+                .thenReturn(firstPage);
+        when(oAuth2ScopeService.getScopesAfter(eq("scope099"), eq(100), anyBoolean(), eq("scope"), isNull()))
+                .thenReturn(secondPage);
+
+        Response response = scopesApiService.getScopes(null, null, false, null, null, "scope", null);
+        assertEquals(response.getStatus(), Response.Status.OK.getStatusCode(), "Error occurred while getting scopes");
+
+        JsonNode scopes = writeStreamingEntity(response);
+        assertEquals(scopes.size(), 101, "Cannot Retrieve Expected Scopes");
+        assertEquals(scopes.get(0).get("name").asText(), "scope000");
+        assertEquals(scopes.get(100).get("name").asText(), "scope100");
+    }
+
+    @Test
+    public void testGetScopesAfterWithCount() throws Exception {
+
+        List<Scope> page = Arrays.asList(new Scope("scope1", someScopeName, someScopeDescription),
+                new Scope("scope2", someScopeName, someScopeDescription));
+        when(oAuth2ScopeService.getScopesAfter(eq("scope0"), eq(2), anyBoolean(), isNull(), eq("binding")))
+                .thenReturn(page);
+
+        Response response = scopesApiService.getScopes(null, 2, false, null, "scope0", null, "binding");
+
+        JsonNode scopes = writeStreamingEntity(response);
+        assertEquals(scopes.size(), 2, "Cannot Retrieve Expected Scopes");
+        verify(oAuth2ScopeService, times(1)).getScopesAfter(anyString(), anyInt(), anyBoolean(), nullable(String.class),
+                nullable(String.class));
+    }
+
+    @Test
+    public void testGetScopesAfterServerError() throws Exception {
+
+        when(oAuth2ScopeService.getScopesAfter(nullable(String.class), anyInt(), anyBoolean(), nullable(String.class),
+                nullable(String.class))).thenThrow(IdentityOAuth2ScopeServerException.class);
+        callRealMethod();
+        try {
+            scopesApiService.getScopes(null, null, false, null, null, null, null);
+            fail("Expected ScopeEndpointException was not thrown.");
+        } catch (ScopeEndpointException e) {
+            assertEquals(e.getResponse().getStatus(), Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(),
+                    "Cannot find HTTP Response, Internal Server Error in case of IdentityOAuth2ScopeException");
+        }
+    }
+
     @DataProvider(name = "BuildDeleteScope")
     public Object[][] buildDeleteApplication() {
 
@@ -477,6 +543,13 @@ public class ScopesApiServiceImplTest {
         }
     }
 
+    private JsonNode writeStreamingEntity(Response response) throws Exception {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        return new ObjectMapper().readTree(outputStream.toByteArray());
+    }
+
     private void callRealMethod() throws Exception {
 
         scopeUtils.when(() -> ScopeUtils.handleErrorResponse(any(Response.Status.class), any(String.class),
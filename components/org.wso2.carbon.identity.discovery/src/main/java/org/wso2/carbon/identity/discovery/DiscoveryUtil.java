@@ -20,6 +20,12 @@ package org.wso2.carbon.identity.discovery;
 
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 
 /**
  * Utility to handle OIDC Discovery related functionality.
@@ -28,6 +34,13 @@ public class DiscoveryUtil {
 
     public static final String OIDC_USE_ENTITY_ID_AS_ISSUER_IN_DISCOVERY = "OAuth" +
             ".UseEntityIdAsIssuerInOidcDiscovery";
+    public static final String OIDC_DISCOVERY_DOCUMENT_CACHE_ENABLED = "OAuth.OIDCDiscovery.EnableDocumentCache";
+    public static final String OIDC_DISCOVERY_CACHE_CONTROL_MAX_AGE = "OAuth.OIDCDiscovery.CacheControlMaxAge";
+    public static final String CACHE_CONTROL_PUBLIC_MAX_AGE = "public, max-age=";
+    private static final int DEFAULT_CACHE_CONTROL_MAX_AGE = 300;
+    private static final String ETAG_DIGEST_ALGORITHM = "SHA-256";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
 
     /**
      * Resident Idp entity id is honoured as the OIDC issuer location based on the configuration. This addresses
@@ -43,4 +56,78 @@ public class DiscoveryUtil {
         return Boolean.parseBoolean(useEntityIdAsIssuerInDiscovery);
     }
 
+    /**
+     * Serialized discovery documents are cached per tenant unless the cache is explicitly disabled.
+     */
+    public static boolean isDiscoveryDocumentCacheEnabled() {
+
+        return ConfigPropertyUtil.getBooleanProperty(OIDC_DISCOVERY_DOCUMENT_CACHE_ENABLED, true);
+    }
+
+    /**
+     * Returns the Cache-Control header value advertised with the discovery and webfinger responses, so that clients
+     * and intermediaries can reuse a response for the configured number of seconds.
+     */
+    public static String getCacheControlHeaderValue() {
+
+        return CACHE_CONTROL_PUBLIC_MAX_AGE + ConfigPropertyUtil.getNonNegativeIntProperty(
+                OIDC_DISCOVERY_CACHE_CONTROL_MAX_AGE, DEFAULT_CACHE_CONTROL_MAX_AGE);
+    }
+
+    /**
+     * Builds a strong, quoted entity tag for the given response body.
+     *
+     * @param content Serialized response body.
+     * @return Quoted entity tag.
+     */
+    public static String buildETag(byte[] content) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance(ETAG_DIGEST_ALGORITHM).digest(content);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256.
+            throw new IllegalStateException("Error while building the entity tag.", e);
+        }
+    }
+
+    /**
+     * Builds a strong, quoted entity tag for the given response body.
+     *
+     * @param content Serialized response body.
+     * @return Quoted entity tag.
+     */
+    public static String buildETag(String content) {
+
+        return buildETag(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks whether the If-None-Match header sent by the client matches the entity tag of the current response, in
+     * which case the client copy is still valid and a 304 response can be sent instead of the body.
+     *
+     * @param ifNoneMatch Value of the If-None-Match request header.
+     * @param eTag        Quoted entity tag of the current response.
+     * @return True if the entity tag is matched.
+     */
+    public static boolean isETagMatched(String ifNoneMatch, String eTag) {
+
+        if (StringUtils.isBlank(ifNoneMatch) || StringUtils.isBlank(eTag)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmedCandidate = candidate.trim();
+            if (ANY_ETAG.equals(trimmedCandidate)) {
+                return true;
+            }
+            // If-None-Match uses the weak comparison function.
+            if (trimmedCandidate.startsWith(WEAK_ETAG_PREFIX)) {
+                trimmedCandidate = trimmedCandidate.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if (eTag.equals(trimmedCandidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -27,6 +27,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.discovery.DiscoveryUtil.OIDC_DISCOVERY_CACHE_CONTROL_MAX_AGE;
+import static org.wso2.carbon.identity.discovery.DiscoveryUtil.OIDC_DISCOVERY_DOCUMENT_CACHE_ENABLED;
 import static org.wso2.carbon.identity.discovery.DiscoveryUtil.OIDC_USE_ENTITY_ID_AS_ISSUER_IN_DISCOVERY;
 
 /**
@@ -58,4 +63,47 @@ public class DiscoveryUtilTest {
             assertEquals(DiscoveryUtil.isUseEntityIdAsIssuerInOidcDiscovery(), false);
         }
     }
+
+    @Test
+    public void testIsDiscoveryDocumentCacheEnabled() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(eq(OIDC_DISCOVERY_DOCUMENT_CACHE_ENABLED)))
+                    .thenReturn(null);
+            assertEquals(DiscoveryUtil.isDiscoveryDocumentCacheEnabled(), true);
+            identityUtil.when(() -> IdentityUtil.getProperty(eq(OIDC_DISCOVERY_DOCUMENT_CACHE_ENABLED)))
+                    .thenReturn(Boolean.FALSE.toString());
+            assertEquals(DiscoveryUtil.isDiscoveryDocumentCacheEnabled(), false);
+        }
+    }
+
+    @Test
+    public void testGetCacheControlHeaderValue() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(eq(OIDC_DISCOVERY_CACHE_CONTROL_MAX_AGE)))
+                    .thenReturn(null);
+            assertEquals(DiscoveryUtil.getCacheControlHeaderValue(), "public, max-age=300");
+            identityUtil.when(() -> IdentityUtil.getProperty(eq(OIDC_DISCOVERY_CACHE_CONTROL_MAX_AGE)))
+                    .thenReturn("60");
+            assertEquals(DiscoveryUtil.getCacheControlHeaderValue(), "public, max-age=60");
+            identityUtil.when(() -> IdentityUtil.getProperty(eq(OIDC_DISCOVERY_CACHE_CONTROL_MAX_AGE)))
+                    .thenReturn("invalid");
+            assertEquals(DiscoveryUtil.getCacheControlHeaderValue(), "public, max-age=300");
+        }
+    }
+
+    @Test
+    public void testETagMatching() {
+
+        String eTag = DiscoveryUtil.buildETag("{\"issuer\":\"https://localhost:9443/oauth2/token\"}");
+        assertEquals(DiscoveryUtil.buildETag("{\"issuer\":\"https://localhost:9443/oauth2/token\"}"), eTag);
+        assertNotEquals(DiscoveryUtil.buildETag("{\"issuer\":\"https://localhost:9443/t/foo/oauth2/token\"}"),
+                eTag);
+        assertTrue(DiscoveryUtil.isETagMatched(eTag, eTag));
+        assertTrue(DiscoveryUtil.isETagMatched("\"stale\", W/" + eTag, eTag));
+        assertTrue(DiscoveryUtil.isETagMatched("*", eTag));
+        assertFalse(DiscoveryUtil.isETagMatched("\"stale\"", eTag));
+        assertFalse(DiscoveryUtil.isETagMatched(null, eTag));
+    }
 }
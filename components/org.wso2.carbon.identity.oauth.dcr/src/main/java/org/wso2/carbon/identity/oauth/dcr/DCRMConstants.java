@@ -46,6 +46,7 @@ public class DCRMConstants {
         BAD_REQUEST_INVALID_INPUT("%s"),
         BAD_REQUEST_INVALID_SP_INPUT("Invalid data sent for the service provider : %s"),
         BAD_REQUEST_INSUFFICIENT_DATA("Insufficient data in the request"),
+        BAD_REQUEST_BULK_LIMIT_EXCEEDED("The number of applications in the request exceeds the limit: %s"),
         NOT_FOUND_APPLICATION_WITH_ID("Application not available for given client key: %s"),
         NOT_FOUND_APPLICATION_WITH_NAME("Application not available for given client name: %s"),
         NOT_FOUND_OAUTH_APPLICATION_WITH_NAME("OAuth application not available for given client name: %s"),
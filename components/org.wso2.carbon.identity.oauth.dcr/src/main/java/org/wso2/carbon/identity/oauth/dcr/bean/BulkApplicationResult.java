@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.dcr.bean;
+
+import org.wso2.carbon.identity.oauth.dcr.exception.DCRMException;
+
+/**
+ * The result of an application in a bulk registration or a bulk update request. Holds either the created or
+ * updated application, or the error which failed the request of the application.
+ */
+public class BulkApplicationResult {
+
+    private final int index;
+    private final String clientId;
+    private final String clientName;
+    private final Application application;
+    private final DCRMException error;
+
+    public BulkApplicationResult(int index, Application application) {
+
+        this.index = index;
+        this.clientId = application.getClientId();
+        this.clientName = application.getClientName();
+        this.application = application;
+        this.error = null;
+    }
+
+    public BulkApplicationResult(int index, String clientId, String clientName, DCRMException error) {
+
+        this.index = index;
+        this.clientId = clientId;
+        this.clientName = clientName;
+        this.application = null;
+        this.error = error;
+    }
+
+    /**
+     * Get the position of the application in the bulk request.
+     *
+     * @return Index of the application in the request.
+     */
+    public int getIndex() {
+
+        return index;
+    }
+
+    public String getClientId() {
+
+        return clientId;
+    }
+
+    public String getClientName() {
+
+        return clientName;
+    }
+
+    public Application getApplication() {
+
+        return application;
+    }
+
+    public DCRMException getError() {
+
+        return error;
+    }
+
+    public boolean isSuccess() {
+
+        return error == null;
+    }
+}
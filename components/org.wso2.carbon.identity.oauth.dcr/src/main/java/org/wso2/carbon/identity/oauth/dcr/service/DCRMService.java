@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.oauth.dcr.service;
 
 import com.google.gson.Gson;
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
@@ -40,6 +41,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.IdentityOAuthClientException;
 import org.wso2.carbon.identity.oauth.OAuthAdminService;
+import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
@@ -48,6 +50,7 @@ import org.wso2.carbon.identity.oauth.dcr.DCRMConstants;
 import org.wso2.carbon.identity.oauth.dcr.bean.Application;
 import org.wso2.carbon.identity.oauth.dcr.bean.ApplicationRegistrationRequest;
 import org.wso2.carbon.identity.oauth.dcr.bean.ApplicationUpdateRequest;
+import org.wso2.carbon.identity.oauth.dcr.bean.BulkApplicationResult;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMClientException;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMException;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMServerException;
@@ -57,9 +60,12 @@ import org.wso2.carbon.identity.oauth.dcr.model.DCRConfiguration;
 import org.wso2.carbon.identity.oauth.dcr.util.DCRConstants;
 import org.wso2.carbon.identity.oauth.dcr.util.DCRMUtils;
 import org.wso2.carbon.identity.oauth.dcr.util.ErrorCodes;
+import org.wso2.carbon.identity.oauth.dcr.util.SoftwareStatementVerificationCache;
+import org.wso2.carbon.identity.oauth.dto.OAuthAppRegistrationResult;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.OAuth2Constants;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
 import org.wso2.carbon.identity.oauth2.util.JWTSignatureValidationUtils;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -69,9 +75,12 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static org.wso2.carbon.identity.oauth.Error.INVALID_OAUTH_CLIENT;
@@ -85,13 +94,16 @@ public class DCRMService {
 
     private static final Log log = LogFactory.getLog(DCRMService.class);
     private static OAuthAdminService oAuthAdminService = new OAuthAdminService();
+    private static OAuthAdminServiceImpl oAuthAdminServiceImpl = new OAuthAdminServiceImpl();
     private static DCRConfigurationMgtServiceImpl dcrConfigurationMgtService = new DCRConfigurationMgtServiceImpl();
     private static final String AUTH_TYPE_OAUTH_2 = "oauth2";
     private static final String OAUTH_VERSION = "OAuth-2.0";
     private static final String GRANT_TYPE_SEPARATOR = " ";
     private static final String APP_DISPLAY_NAME = "DisplayName";
-    private static Pattern clientIdRegexPattern = null;
+    private static volatile Pattern clientIdRegexPattern = null;
     private static final String SSA_VALIDATION_JWKS = "OAuth.DCRM.SoftwareStatementJWKS";
+    private static final String BULK_REQUEST_MAX_SIZE = "OAuth.DCRM.BulkRequest.MaxSize";
+    private static final int DEFAULT_BULK_REQUEST_MAX_SIZE = 100;
 
 
     /**
@@ -262,13 +274,8 @@ public class DCRMService {
             Map<String, Object> ssaClaims = null;
             // Validate software statement assertion signature.
             if (StringUtils.isNotEmpty(updateRequest.getSoftwareStatement())) {
-                try {
-                    validateSSASignature(updateRequest.getSoftwareStatement());
-                } catch (IdentityOAuth2Exception e) {
-                    throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT,
-                            DCRMConstants.ErrorMessages.SIGNATURE_VALIDATION_FAILED.getMessage(), e);
-                }
-                ssaClaims = getSSAClaims(updateRequest.getSoftwareStatement());
+                ssaClaims = getVerifiedSSAClaims(updateRequest.getSoftwareStatement(),
+                        dcrConfigurationMgtService.getDCRConfiguration());
             }
 
             //Validating and filtering additional attributes via extension
@@ -509,17 +516,272 @@ public class DCRMService {
     private Application createOAuthApplication(ApplicationRegistrationRequest registrationRequest)
             throws DCRMException {
 
+        DCRConfiguration dcrConfiguration = dcrConfigurationMgtService.getDCRConfiguration();
+        String applicationOwner = resolveApplicationOwner(registrationRequest, dcrConfiguration);
+        String tenantDomain = getTenantDomain();
+
+        String spName = registrationRequest.getClientName();
+        validateApplicationName(spName);
+
+        // Check whether a service provider already exists for the name we are trying to register the OAuth app with.
+        if (isServiceProviderExist(spName, tenantDomain)) {
+            throw DCRMUtils.generateClientException(DCRMConstants.ErrorMessages.CONFLICT_EXISTING_APPLICATION, spName);
+        }
+
+        if (StringUtils.isNotEmpty(registrationRequest.getConsumerKey()) && isClientIdExist(
+                registrationRequest.getConsumerKey(), tenantDomain)) {
+            throw DCRMUtils.generateClientException(DCRMConstants.ErrorMessages.CONFLICT_EXISTING_CLIENT_ID,
+                    registrationRequest.getConsumerKey());
+        }
+
+        Map<String, Object> ssaClaims = validateSoftwareStatement(registrationRequest, dcrConfiguration);
+        Map<String, Object> processedAttributes = filterRegisterAttributes(registrationRequest, ssaClaims);
+        ServiceProvider serviceProvider = createServiceProvider(registrationRequest, applicationOwner, tenantDomain,
+                processedAttributes);
+
+        OAuthConsumerAppDTO createdApp;
+        try {
+            // Register the OAuth app.
+            createdApp = createOAuthApp(registrationRequest, applicationOwner, tenantDomain, spName,
+                    dcrConfiguration);
+        } catch (DCRMException ex) {
+            if (log.isDebugEnabled()) {
+                log.debug("OAuth app: " + spName + " registration failed in tenantDomain: " + tenantDomain + ". " +
+                        "Deleting the service provider: " + spName + " to rollback.");
+            }
+            deleteServiceProvider(spName, tenantDomain, applicationOwner);
+            throw ex;
+        }
+        return completeApplicationRegistration(registrationRequest, serviceProvider, createdApp, applicationOwner,
+                tenantDomain, processedAttributes);
+    }
+
+    /**
+     * Create a batch of OAuth2/OIDC applications. The requests are validated up front, and the OAuth applications of
+     * the valid requests are persisted together. A request which fails does not fail the rest of the batch.
+     *
+     * @param registrationRequests Registration requests.
+     * @param warmUpCache          Whether to add the created OAuth applications to the application cache.
+     * @return Result of each request, in the order of the requests.
+     * @throws DCRMException If the batch is not acceptable as a whole.
+     */
+    public List<BulkApplicationResult> registerApplications(List<ApplicationRegistrationRequest> registrationRequests,
+                                                            boolean warmUpCache) throws DCRMException {
+
+        validateBulkRequestSize(registrationRequests.size());
+        String tenantDomain = getTenantDomain();
+        DCRConfiguration dcrConfiguration = dcrConfigurationMgtService.getDCRConfiguration();
+        BulkApplicationResult[] results = new BulkApplicationResult[registrationRequests.size()];
+
+        Set<String> requestedClientIds = new HashSet<>();
+        for (ApplicationRegistrationRequest registrationRequest : registrationRequests) {
+            if (StringUtils.isNotEmpty(registrationRequest.getConsumerKey())) {
+                requestedClientIds.add(registrationRequest.getConsumerKey());
+            }
+        }
+        Set<String> existingClientIds = getExistingClientIds(requestedClientIds);
+
+        Set<String> spNames = new HashSet<>();
+        Set<String> clientIds = new HashSet<>();
+        List<BulkRegistration> registrations = new ArrayList<>();
+        for (int i = 0; i < registrationRequests.size(); i++) {
+            ApplicationRegistrationRequest registrationRequest = registrationRequests.get(i);
+            try {
+                String spName = registrationRequest.getClientName();
+                validateApplicationName(spName);
+                if (!spNames.add(spName) || isServiceProviderExist(spName, tenantDomain)) {
+                    throw DCRMUtils.generateClientException(
+                            DCRMConstants.ErrorMessages.CONFLICT_EXISTING_APPLICATION, spName);
+                }
+                String clientId = registrationRequest.getConsumerKey();
+                if (StringUtils.isNotEmpty(clientId) &&
+                        (!clientIds.add(clientId) || existingClientIds.contains(clientId))) {
+                    throw DCRMUtils.generateClientException(
+                            DCRMConstants.ErrorMessages.CONFLICT_EXISTING_CLIENT_ID, clientId);
+                }
+                Map<String, Object> ssaClaims = validateSoftwareStatement(registrationRequest, dcrConfiguration);
+                String applicationOwner = resolveApplicationOwner(registrationRequest, dcrConfiguration);
+                BulkRegistration registration = new BulkRegistration(i, registrationRequest, applicationOwner);
+                registration.processedAttributes = filterRegisterAttributes(registrationRequest, ssaClaims);
+                registration.consumerApp = buildOAuthConsumerApp(registrationRequest, applicationOwner, spName,
+                        dcrConfiguration);
+                registrations.add(registration);
+            } catch (DCRMException e) {
+                results[i] = new BulkApplicationResult(i, registrationRequest.getConsumerKey(),
+                        registrationRequest.getClientName(), e);
+            }
+        }
+
+        // Service providers are created one by one, since the application management service has no batch API.
+        Iterator<BulkRegistration> iterator = registrations.iterator();
+        while (iterator.hasNext()) {
+            BulkRegistration registration = iterator.next();
+            try {
+                registration.serviceProvider = createServiceProvider(registration.request,
+                        registration.applicationOwner, tenantDomain, registration.processedAttributes);
+            } catch (DCRMException e) {
+                results[registration.index] = registration.failure(e);
+                iterator.remove();
+            }
+        }
+
+        registerOAuthApps(registrations, tenantDomain, warmUpCache, results);
+        for (BulkRegistration registration : registrations) {
+            if (results[registration.index] != null) {
+                continue;
+            }
+            try {
+                Application application = completeApplicationRegistration(registration.request,
+                        registration.serviceProvider, registration.createdApp, registration.applicationOwner,
+                        tenantDomain, registration.processedAttributes);
+                results[registration.index] = new BulkApplicationResult(registration.index, application);
+            } catch (DCRMException e) {
+                results[registration.index] = registration.failure(e);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Update a batch of OAuth2/OIDC applications. A request which fails does not fail the rest of the batch.
+     *
+     * @param updateRequests Update requests, keyed by the client id of the application to be updated.
+     * @return Result of each request, in the iteration order of the requests.
+     * @throws DCRMException If the batch is not acceptable as a whole.
+     */
+    public List<BulkApplicationResult> updateApplications(Map<String, ApplicationUpdateRequest> updateRequests)
+            throws DCRMException {
+
+        validateBulkRequestSize(updateRequests.size());
+        List<BulkApplicationResult> results = new ArrayList<>();
+        Set<String> clientNames = new HashSet<>();
+        int index = 0;
+        for (Map.Entry<String, ApplicationUpdateRequest> entry : updateRequests.entrySet()) {
+            String clientName = entry.getValue().getClientName();
+            try {
+                if (StringUtils.isNotEmpty(clientName) && !clientNames.add(clientName)) {
+                    throw DCRMUtils.generateClientException(
+                            DCRMConstants.ErrorMessages.CONFLICT_EXISTING_APPLICATION, clientName);
+                }
+                results.add(new BulkApplicationResult(index, updateApplication(entry.getValue(), entry.getKey())));
+            } catch (DCRMException e) {
+                results.add(new BulkApplicationResult(index, entry.getKey(), clientName, e));
+            }
+            index++;
+        }
+        return results;
+    }
+
+    private void registerOAuthApps(List<BulkRegistration> registrations, String tenantDomain, boolean warmUpCache,
+                                   BulkApplicationResult[] results) throws DCRMException {
+
+        if (registrations.isEmpty()) {
+            return;
+        }
+        List<OAuthConsumerAppDTO> consumerApps = new ArrayList<>();
+        registrations.forEach(registration -> consumerApps.add(registration.consumerApp));
+        if (log.isDebugEnabled()) {
+            log.debug("Creating " + consumerApps.size() + " OAuth Applications in tenant: " + tenantDomain);
+        }
+
+        List<OAuthAppRegistrationResult> registrationResults;
+        try {
+            registrationResults = oAuthAdminServiceImpl.registerAndRetrieveOAuthApplicationsData(consumerApps,
+                    warmUpCache);
+        } catch (IdentityOAuthAdminException e) {
+            // None of the OAuth apps are persisted, hence all the service providers are rolled back.
+            for (BulkRegistration registration : registrations) {
+                results[registration.index] = registration.failure(handleOAuthAppRegistrationError(e,
+                        registration.consumerApp.getApplicationName()));
+                rollbackServiceProvider(registration, tenantDomain);
+            }
+            return;
+        }
+
+        for (int i = 0; i < registrations.size(); i++) {
+            BulkRegistration registration = registrations.get(i);
+            OAuthAppRegistrationResult registrationResult = registrationResults.get(i);
+            String spName = registration.consumerApp.getApplicationName();
+            if (!registrationResult.isSuccess()) {
+                results[registration.index] = registration.failure(
+                        handleOAuthAppRegistrationError(registrationResult.getError(), spName));
+                rollbackServiceProvider(registration, tenantDomain);
+            } else if (registrationResult.getApplication() == null) {
+                results[registration.index] = registration.failure(DCRMUtils.generateServerException(
+                        DCRMConstants.ErrorMessages.FAILED_TO_REGISTER_APPLICATION, spName));
+                rollbackServiceProvider(registration, tenantDomain);
+            } else {
+                registration.createdApp = registrationResult.getApplication();
+            }
+        }
+    }
+
+    private void rollbackServiceProvider(BulkRegistration registration, String tenantDomain) {
+
+        String spName = registration.serviceProvider.getApplicationName();
+        if (log.isDebugEnabled()) {
+            log.debug("OAuth app: " + spName + " registration failed in tenantDomain: " + tenantDomain + ". " +
+                    "Deleting the service provider: " + spName + " to rollback.");
+        }
+        try {
+            deleteServiceProvider(spName, tenantDomain, registration.applicationOwner);
+        } catch (DCRMException e) {
+            log.error("Error while deleting the service provider: " + spName + " in tenant: " + tenantDomain, e);
+        }
+    }
+
+    private DCRMException handleOAuthAppRegistrationError(IdentityOAuthAdminException e, String spName)
+            throws DCRMException {
+
+        if (e instanceof IdentityOAuthClientException) {
+            return new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_CLIENT_METADATA, e.getMessage(), e);
+        }
+        return DCRMUtils.generateServerException(DCRMConstants.ErrorMessages.FAILED_TO_REGISTER_APPLICATION,
+                spName, e);
+    }
+
+    private Set<String> getExistingClientIds(Set<String> clientIds) throws DCRMException {
+
+        if (clientIds.isEmpty()) {
+            return clientIds;
+        }
+        try {
+            return oAuthAdminServiceImpl.getExistingConsumerKeys(clientIds);
+        } catch (IdentityOAuthAdminException e) {
+            throw DCRMUtils.generateServerException(DCRMConstants.ErrorMessages.FAILED_TO_GET_APPLICATION_BY_ID,
+                    String.join(", ", clientIds), e);
+        }
+    }
+
+    private void validateBulkRequestSize(int size) throws DCRMClientException {
+
+        if (size == 0) {
+            throw DCRMUtils.generateClientException(DCRMConstants.ErrorMessages.BAD_REQUEST_INSUFFICIENT_DATA, null);
+        }
+        int maxSize = getBulkRequestMaxSize();
+        if (size > maxSize) {
+            throw DCRMUtils.generateClientException(DCRMConstants.ErrorMessages.BAD_REQUEST_BULK_LIMIT_EXCEEDED,
+                    String.valueOf(maxSize));
+        }
+    }
+
+    private static int getBulkRequestMaxSize() {
+
+        return ConfigPropertyUtil.getPositiveIntProperty(BULK_REQUEST_MAX_SIZE, DEFAULT_BULK_REQUEST_MAX_SIZE);
+    }
+
+    private String resolveApplicationOwner(ApplicationRegistrationRequest registrationRequest,
+                                           DCRConfiguration dcrConfiguration) throws DCRMServerException {
+
         String applicationOwner = StringUtils.isNotBlank(registrationRequest.getExtApplicationOwner()) ?
                 registrationRequest.getExtApplicationOwner() :
                 PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-        String tenantDomain = getTenantDomain();
 
         /*
          * ApplicationOwner will be null and a server error is thrown when creating an app, if the api authentication/
          * api security is disabled for DCR endpoint. In such cases, we set the tenant admin as the application owner.
          */
         if (StringUtils.isBlank(applicationOwner)) {
-            DCRConfiguration dcrConfiguration = dcrConfigurationMgtService.getDCRConfiguration();
             boolean isClientAuthenticationRequired = dcrConfiguration.getAuthenticationRequired() != null ?
                     dcrConfiguration.getAuthenticationRequired() : true;
             if (!isClientAuthenticationRequired) {
@@ -532,29 +794,24 @@ public class DCRMService {
                 }
             }
         }
+        return applicationOwner;
+    }
+
+    private void validateApplicationName(String spName) throws DCRMClientException {
 
-        String spName = registrationRequest.getClientName();
-        String templateName = registrationRequest.getSpTemplateName();
-        boolean isManagementApp = registrationRequest.isManagementApp();
         // Regex validation of the application name.
         if (!DCRMUtils.isRegexValidated(spName)) {
             throw DCRMUtils.generateClientException(DCRMConstants.ErrorMessages.BAD_REQUEST_INVALID_SP_NAME,
                     DCRMUtils.getSPValidatorRegex(), null);
         }
+    }
 
-        // Check whether a service provider already exists for the name we are trying to register the OAuth app with.
-        if (isServiceProviderExist(spName, tenantDomain)) {
-            throw DCRMUtils.generateClientException(DCRMConstants.ErrorMessages.CONFLICT_EXISTING_APPLICATION, spName);
-        }
-
-        if (StringUtils.isNotEmpty(registrationRequest.getConsumerKey()) && isClientIdExist(
-                registrationRequest.getConsumerKey(), tenantDomain)) {
-            throw DCRMUtils.generateClientException(DCRMConstants.ErrorMessages.CONFLICT_EXISTING_CLIENT_ID,
-                    registrationRequest.getConsumerKey());
-        }
+    private Map<String, Object> validateSoftwareStatement(ApplicationRegistrationRequest registrationRequest,
+                                                          DCRConfiguration dcrConfiguration) throws DCRMException {
 
         // Check whether the software statement is mandatory and throw error if it is not provided.
-        if (isSSAMandated() && StringUtils.isEmpty(registrationRequest.getSoftwareStatement())) {
+        if (Boolean.TRUE.equals(dcrConfiguration.getMandateSSA()) &&
+                StringUtils.isEmpty(registrationRequest.getSoftwareStatement())) {
             throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT,
                     DCRMConstants.ErrorMessages.MANDATORY_SOFTWARE_STATEMENT.getMessage());
         }
@@ -562,32 +819,30 @@ public class DCRMService {
         Map<String, Object> ssaClaims = null;
         // Validate software statement assertion signature.
         if (StringUtils.isNotEmpty(registrationRequest.getSoftwareStatement())) {
-            try {
-                validateSSASignature(registrationRequest.getSoftwareStatement());
-            } catch (IdentityOAuth2Exception e) {
-                throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT,
-                        DCRMConstants.ErrorMessages.SIGNATURE_VALIDATION_FAILED.getMessage(), e);
-            }
-            ssaClaims = getSSAClaims(registrationRequest.getSoftwareStatement());
+            ssaClaims = getVerifiedSSAClaims(registrationRequest.getSoftwareStatement(), dcrConfiguration);
         }
+        return ssaClaims;
+    }
 
-        ServiceProvider serviceProvider;
-        Map<String, Object> processedAttributes = null;
+    private Map<String, Object> filterRegisterAttributes(ApplicationRegistrationRequest registrationRequest,
+                                                         Map<String, Object> ssaClaims) throws DCRMException {
 
         //Validating and filtering additional attributes via extension
         AdditionalAttributeFilter attributeHandler = DCRDataHolder.getInstance().getAdditionalAttributeFilter();
-        if (attributeHandler != null) {
-
-            if (ssaClaims != null || !registrationRequest.getAdditionalAttributes().isEmpty()) {
-                processedAttributes = attributeHandler.filterDCRRegisterAttributes(registrationRequest, ssaClaims);
-            }
-            serviceProvider = createServiceProvider(applicationOwner, tenantDomain, spName, templateName,
-                    isManagementApp, processedAttributes);
-        } else {
-            // Create a service provider.
-            serviceProvider = createServiceProvider(applicationOwner, tenantDomain, spName, templateName,
-                    isManagementApp);
+        if (attributeHandler != null &&
+                (ssaClaims != null || !registrationRequest.getAdditionalAttributes().isEmpty())) {
+            return attributeHandler.filterDCRRegisterAttributes(registrationRequest, ssaClaims);
         }
+        return null;
+    }
+
+    private ServiceProvider createServiceProvider(ApplicationRegistrationRequest registrationRequest,
+                                                  String applicationOwner, String tenantDomain,
+                                                  Map<String, Object> processedAttributes) throws DCRMException {
+
+        ServiceProvider serviceProvider = createServiceProvider(applicationOwner, tenantDomain,
+                registrationRequest.getClientName(), registrationRequest.getSpTemplateName(),
+                registrationRequest.isManagementApp(), processedAttributes);
 
         if (StringUtils.isNotEmpty(registrationRequest.getExtAllowedAudience()) &&
                 registrationRequest.getExtAllowedAudience().equalsIgnoreCase(ORG_ROLE_AUDIENCE)) {
@@ -595,18 +850,14 @@ public class DCRMService {
             associatedRolesConfig.setAllowedAudience(registrationRequest.getExtAllowedAudience().toLowerCase());
             serviceProvider.setAssociatedRolesConfig(associatedRolesConfig);
         }
-        OAuthConsumerAppDTO createdApp;
-        try {
-            // Register the OAuth app.
-            createdApp = createOAuthApp(registrationRequest, applicationOwner, tenantDomain, spName);
-        } catch (DCRMException ex) {
-            if (log.isDebugEnabled()) {
-                log.debug("OAuth app: " + spName + " registration failed in tenantDomain: " + tenantDomain + ". " +
-                        "Deleting the service provider: " + spName + " to rollback.");
-            }
-            deleteServiceProvider(spName, tenantDomain, applicationOwner);
-            throw ex;
-        }
+        return serviceProvider;
+    }
+
+    private Application completeApplicationRegistration(ApplicationRegistrationRequest registrationRequest,
+                                                        ServiceProvider serviceProvider,
+                                                        OAuthConsumerAppDTO createdApp, String applicationOwner,
+                                                        String tenantDomain, Map<String, Object> processedAttributes)
+            throws DCRMException {
 
         // Update the service provider properties list with the display name property.
         updateServiceProviderPropertyList(serviceProvider, registrationRequest.getExtApplicationDisplayName());
@@ -628,7 +879,8 @@ public class DCRMService {
         application.setSoftwareStatement(registrationRequest.getSoftwareStatement());
         application.setExtAllowedAudience(serviceProvider.getAssociatedRolesConfig().getAllowedAudience());
         if (processedAttributes != null) {
-            List<String> responseAttributes = attributeHandler.getResponseAttributeKeys();
+            List<String> responseAttributes =
+                    DCRDataHolder.getInstance().getAdditionalAttributeFilter().getResponseAttributeKeys();
             application.setAdditionalAttributes(processedAttributes.entrySet().stream()
                     .filter(entry -> responseAttributes.contains(entry.getKey()))
                     .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue()), HashMap::putAll));
@@ -636,12 +888,6 @@ public class DCRMService {
         return application;
     }
 
-    private boolean isSSAMandated() throws DCRMServerException {
-
-        DCRConfiguration dcrConfiguration = dcrConfigurationMgtService.getDCRConfiguration();
-        return Boolean.TRUE.equals(dcrConfiguration.getMandateSSA());
-    }
-
     private Application buildResponse(OAuthConsumerAppDTO createdApp, String tenantDomain) throws DCRMException {
 
         Application application = new Application();
@@ -718,8 +964,40 @@ public class DCRMService {
     private OAuthConsumerAppDTO createOAuthApp(ApplicationRegistrationRequest registrationRequest,
                                                String applicationOwner,
                                                String tenantDomain,
-                                               String spName) throws DCRMException {
+                                               String spName,
+                                               DCRConfiguration dcrConfiguration) throws DCRMException {
         // Then Create OAuthApp
+        OAuthConsumerAppDTO oAuthConsumerApp = buildOAuthConsumerApp(registrationRequest, applicationOwner, spName,
+                dcrConfiguration);
+        if (log.isDebugEnabled()) {
+            log.debug("Creating OAuth Application: " + spName + " in tenant: " + tenantDomain);
+        }
+
+        OAuthConsumerAppDTO createdApp;
+        try {
+            createdApp = oAuthAdminService.registerAndRetrieveOAuthApplicationData(oAuthConsumerApp);
+        } catch (IdentityOAuthClientException e) {
+            throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_CLIENT_METADATA, e.getMessage(), e);
+        } catch (IdentityOAuthAdminException e) {
+            throw DCRMUtils.generateServerException(
+                    DCRMConstants.ErrorMessages.FAILED_TO_REGISTER_APPLICATION, spName, e);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Created OAuth Application: " + spName + " in tenant: " + tenantDomain);
+        }
+
+        if (createdApp == null) {
+            throw DCRMUtils.generateServerException(DCRMConstants.ErrorMessages.FAILED_TO_REGISTER_APPLICATION, spName);
+        }
+        return createdApp;
+    }
+
+    private OAuthConsumerAppDTO buildOAuthConsumerApp(ApplicationRegistrationRequest registrationRequest,
+                                                      String applicationOwner,
+                                                      String spName,
+                                                      DCRConfiguration dcrConfiguration) throws DCRMException {
+
         OAuthConsumerAppDTO oAuthConsumerApp = new OAuthConsumerAppDTO();
         oAuthConsumerApp.setApplicationName(spName);
         oAuthConsumerApp.setUsername(applicationOwner);
@@ -821,40 +1099,11 @@ public class DCRMService {
         oAuthConsumerApp.setBypassClientCredentials(registrationRequest.isExtPublicClient());
         boolean enableFAPI = Boolean.parseBoolean(IdentityUtil.getProperty(OAuthConstants.ENABLE_FAPI));
         if (enableFAPI) {
-            DCRConfiguration dcrConfiguration = dcrConfigurationMgtService.getDCRConfiguration();
             boolean enableFAPIDCR = dcrConfiguration.getEnableFapiEnforcement();
             oAuthConsumerApp.setFapiConformanceEnabled(enableFAPIDCR);
         }
 
-        if (log.isDebugEnabled()) {
-            log.debug("Creating OAuth Application: " + spName + " in tenant: " + tenantDomain);
-        }
-
-        OAuthConsumerAppDTO createdApp;
-        try {
-            createdApp = oAuthAdminService.registerAndRetrieveOAuthApplicationData(oAuthConsumerApp);
-        } catch (IdentityOAuthClientException e) {
-            throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_CLIENT_METADATA, e.getMessage(), e);
-        } catch (IdentityOAuthAdminException e) {
-            throw DCRMUtils.generateServerException(
-                    DCRMConstants.ErrorMessages.FAILED_TO_REGISTER_APPLICATION, spName, e);
-        }
-
-        if (log.isDebugEnabled()) {
-            log.debug("Created OAuth Application: " + spName + " in tenant: " + tenantDomain);
-        }
-
-        if (createdApp == null) {
-            throw DCRMUtils.generateServerException(DCRMConstants.ErrorMessages.FAILED_TO_REGISTER_APPLICATION, spName);
-        }
-        return createdApp;
-    }
-
-    private ServiceProvider createServiceProvider(String applicationOwner, String tenantDomain, String spName,
-                                                  String templateName, boolean isManagementApp) throws DCRMException {
-
-        return createServiceProvider(applicationOwner, tenantDomain, spName, templateName,
-                isManagementApp, null);
+        return oAuthConsumerApp;
     }
 
     private ServiceProvider createServiceProvider(String applicationOwner, String tenantDomain, String spName,
@@ -1134,10 +1383,13 @@ public class DCRMService {
      */
     private static boolean clientIdMatchesRegex(String clientId, String clientIdValidatorRegex) {
 
-        if (clientIdRegexPattern == null) {
-            clientIdRegexPattern = Pattern.compile(clientIdValidatorRegex);
+        // Read the field once, so that a concurrent recompilation can not be observed half way.
+        Pattern regexPattern = clientIdRegexPattern;
+        if (regexPattern == null || !regexPattern.pattern().equals(clientIdValidatorRegex)) {
+            regexPattern = Pattern.compile(clientIdValidatorRegex);
+            clientIdRegexPattern = regexPattern;
         }
-        return clientIdRegexPattern.matcher(clientId).matches();
+        return regexPattern.matcher(clientId).matches();
     }
 
     /**
@@ -1174,48 +1426,60 @@ public class DCRMService {
     }
 
     /**
-     * Validate SSA signature using jwks_uri.
+     * Parse the software statement once, validate its signature using the configured jwks_uri and return its claims.
+     * Successful signature validations are cached against the digest of the statement until the statement expires,
+     * so a statement presented again is not verified against the JWKS again.
+     *
      * @param softwareStatement Software Statement
-     * @throws DCRMClientException
-     * @throws IdentityOAuth2Exception
+     * @param dcrConfiguration  DCR configuration of the tenant.
+     * @return Claims of the software statement.
+     * @throws DCRMClientException If the statement can not be parsed or the signature validation fails.
      */
-    private void validateSSASignature(String softwareStatement) throws DCRMClientException,
-            IdentityOAuth2Exception, DCRMServerException {
+    private Map<String, Object> getVerifiedSSAClaims(String softwareStatement, DCRConfiguration dcrConfiguration)
+            throws DCRMClientException {
 
-        DCRConfiguration dcrConfiguration = dcrConfigurationMgtService.getDCRConfiguration();
         String jwksURL = dcrConfiguration.getSsaJwks();
-        if (StringUtils.isNotEmpty(jwksURL)) {
+        SignedJWT signedJWT;
+        try {
+            signedJWT = SignedJWT.parse(softwareStatement);
+        } catch (ParseException e) {
+            DCRMConstants.ErrorMessages errorMessage = StringUtils.isNotEmpty(jwksURL) ?
+                    DCRMConstants.ErrorMessages.SIGNATURE_VALIDATION_FAILED :
+                    DCRMConstants.ErrorMessages.FAILED_TO_READ_SSA;
+            throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT,
+                    errorMessage.getMessage(), e);
+        }
+
+        boolean verified = false;
+        SoftwareStatementVerificationCache verificationCache = SoftwareStatementVerificationCache.getInstance();
+        if (StringUtils.isEmpty(jwksURL)) {
+            log.debug("Skipping Software Statement signature validation as jwks_uri is not configured.");
+        } else if (verificationCache.isVerified(jwksURL, softwareStatement)) {
+            log.debug("Software Statement signature is already validated. Skipping the signature validation.");
+        } else {
             try {
-                SignedJWT signedJWT = SignedJWT.parse(softwareStatement);
                 if (!JWTSignatureValidationUtils.validateUsingJWKSUri(signedJWT, jwksURL)) {
                     throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT,
                             DCRMConstants.ErrorMessages.SIGNATURE_VALIDATION_FAILED.getMessage());
                 }
-            } catch (ParseException e) {
+            } catch (IdentityOAuth2Exception e) {
                 throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT,
                         DCRMConstants.ErrorMessages.SIGNATURE_VALIDATION_FAILED.getMessage(), e);
             }
-
-        } else {
-            log.debug("Skipping Software Statement signature validation as jwks_uri is not configured.");
+            verified = true;
         }
-    }
-
-    /**
-     * Extracted SSA claims from the software statement.
-     * @param softwareStatement Software Statement
-     * @throws DCRMClientException
-     * @throws IdentityOAuth2Exception
-     */
-    private Map<String, Object> getSSAClaims(String softwareStatement) throws DCRMClientException {
 
+        JWTClaimsSet claimsSet;
         try {
-            SignedJWT signedJWT = SignedJWT.parse(softwareStatement);
-            return signedJWT.getJWTClaimsSet().getClaims();
+            claimsSet = signedJWT.getJWTClaimsSet();
         } catch (ParseException e) {
             throw new DCRMClientException(DCRMConstants.ErrorCodes.INVALID_SOFTWARE_STATEMENT,
                     DCRMConstants.ErrorMessages.FAILED_TO_READ_SSA.getMessage(), e);
         }
+        if (verified) {
+            verificationCache.addVerified(jwksURL, softwareStatement, claimsSet.getExpirationTime());
+        }
+        return claimsSet.getClaims();
     }
 
     /**
@@ -1262,4 +1526,30 @@ public class DCRMService {
         }
         return tenantDomain;
     }
+
+    /**
+     * State of an application registration request, while the request goes through a bulk registration.
+     */
+    private static class BulkRegistration {
+
+        private final int index;
+        private final ApplicationRegistrationRequest request;
+        private final String applicationOwner;
+        private Map<String, Object> processedAttributes;
+        private OAuthConsumerAppDTO consumerApp;
+        private ServiceProvider serviceProvider;
+        private OAuthConsumerAppDTO createdApp;
+
+        private BulkRegistration(int index, ApplicationRegistrationRequest request, String applicationOwner) {
+
+            this.index = index;
+            this.request = request;
+            this.applicationOwner = applicationOwner;
+        }
+
+        private BulkApplicationResult failure(DCRMException error) {
+
+            return new BulkApplicationResult(index, request.getConsumerKey(), request.getClientName(), error);
+        }
+    }
 }
@@ -40,7 +40,7 @@ import static org.wso2.carbon.identity.oauth.dcr.util.DCRConstants.APP_NAME_VALI
 public class DCRMUtils {
 
     private static final Log log = LogFactory.getLog(DCRMUtils.class);
-    private static Pattern spNameRegexPattern = null;
+    private static volatile Pattern spNameRegexPattern = null;
     private static final String SERVICE_PROVIDERS_NAME_REGEX = "ServiceProviders.SPNameRegex";
     private static final String APPLICATION_ROLE_PERMISSION_REQUIRED =
             "OAuth.DCRM.ApplicationRolePermissionRequiredToView";
@@ -176,11 +176,13 @@ public class DCRMUtils {
      */
     public static boolean isRegexValidated(String applicationName) {
 
-        if (spNameRegexPattern == null) {
-            String spValidatorRegex = getSPValidatorRegex();
-            spNameRegexPattern = Pattern.compile(spValidatorRegex);
+        String spValidatorRegex = getSPValidatorRegex();
+        Pattern regexPattern = spNameRegexPattern;
+        if (regexPattern == null || !regexPattern.pattern().equals(spValidatorRegex)) {
+            regexPattern = Pattern.compile(spValidatorRegex);
+            spNameRegexPattern = regexPattern;
         }
-        return spNameRegexPattern.matcher(applicationName).matches();
+        return regexPattern.matcher(applicationName).matches();
     }
 
     @Deprecated
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth.dcr.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Cache of software statements whose signature has already been verified against a jwks_uri.
+ * Entries are keyed by the jwks_uri and the SHA-256 digest of the statement, so the statement itself is never
+ * retained. An entry lives until the statement expires, capped by the configured expiry time, after which the
+ * statement is verified against the JWKS again. Only successful verifications are cached. A statement is
+ * verified independent of the tenant, hence all the entries are kept in the super tenant.
+ */
+public final class SoftwareStatementVerificationCache
+        extends BaseCache<String, SoftwareStatementVerificationCacheEntry> {
+
+    private static final Log log = LogFactory.getLog(SoftwareStatementVerificationCache.class);
+
+    private static final String CACHE_NAME = "SoftwareStatementVerificationCache";
+    private static final String ENABLE = "OAuth.DCRM.SoftwareStatementVerificationCache.Enable";
+    private static final String EXPIRY_TIME = "OAuth.DCRM.SoftwareStatementVerificationCache.ExpiryTime";
+    private static final long DEFAULT_EXPIRY_TIME_IN_SECONDS = 3600;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String KEY_SEPARATOR = "|";
+
+    private static final SoftwareStatementVerificationCache instance = new SoftwareStatementVerificationCache();
+
+    private final boolean enabled;
+    private final long expiryTimeInMillis;
+
+    private SoftwareStatementVerificationCache() {
+
+        super(CACHE_NAME);
+        enabled = ConfigPropertyUtil.getBooleanProperty(ENABLE, true);
+        expiryTimeInMillis = ConfigPropertyUtil.getPositiveLongProperty(EXPIRY_TIME, DEFAULT_EXPIRY_TIME_IN_SECONDS)
+                * 1000L;
+    }
+
+    public static SoftwareStatementVerificationCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Check whether the given software statement was already verified against the given jwks_uri and the
+     * verification is still valid.
+     *
+     * @param jwksUri           jwks_uri the statement was verified against.
+     * @param softwareStatement Serialized software statement.
+     * @return true if a valid verification is cached.
+     */
+    public boolean isVerified(String jwksUri, String softwareStatement) {
+
+        if (!enabled) {
+            return false;
+        }
+        String key = getKey(jwksUri, softwareStatement);
+        if (key == null) {
+            return false;
+        }
+        SoftwareStatementVerificationCacheEntry entry =
+                getValueFromCache(key, MultitenantConstants.SUPER_TENANT_ID);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.getExpiryTime() <= System.currentTimeMillis()) {
+            clearCacheEntry(key, MultitenantConstants.SUPER_TENANT_ID);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record a successful verification of the given software statement.
+     *
+     * @param jwksUri           jwks_uri the statement was verified against.
+     * @param softwareStatement Serialized software statement.
+     * @param expirationTime    Expiration time of the statement, or null if it does not expire.
+     */
+    public void addVerified(String jwksUri, String softwareStatement, Date expirationTime) {
+
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiry = now + expiryTimeInMillis;
+        if (expirationTime != null) {
+            expiry = Math.min(expiry, expirationTime.getTime());
+        }
+        if (expiry <= now) {
+            return;
+        }
+        String key = getKey(jwksUri, softwareStatement);
+        if (key == null) {
+            return;
+        }
+        addToCache(key, new SoftwareStatementVerificationCacheEntry(expiry), MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private String getKey(String jwksUri, String softwareStatement) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            byte[] hash = digest.digest(softwareStatement.getBytes(StandardCharsets.UTF_8));
+            return jwksUri + KEY_SEPARATOR + Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            log.error("Error while computing the digest of the software statement. Verification will not be cached.",
+                    e);
+            return null;
+        }
+    }
+}
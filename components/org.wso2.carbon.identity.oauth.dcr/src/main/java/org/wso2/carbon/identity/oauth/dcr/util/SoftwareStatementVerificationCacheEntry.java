@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth.dcr.util;
+
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+
+/**
+ * Cache entry of a verified software statement. Holds the time until which the verification can be reused.
+ */
+public class SoftwareStatementVerificationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -4301892750918564273L;
+
+    private final long expiryTime;
+
+    public SoftwareStatementVerificationCacheEntry(long expiryTime) {
+
+        this.expiryTime = expiryTime;
+    }
+
+    /**
+     * Get the time in milliseconds until which the verification is valid.
+     *
+     * @return Expiry time of the verification.
+     */
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+}
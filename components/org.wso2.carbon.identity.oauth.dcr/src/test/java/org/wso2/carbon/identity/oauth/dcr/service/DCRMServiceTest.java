@@ -55,6 +55,7 @@ import org.wso2.carbon.identity.oauth.dcr.exception.DCRMException;
 import org.wso2.carbon.identity.oauth.dcr.exception.DCRMServerException;
 import org.wso2.carbon.identity.oauth.dcr.handler.AdditionalAttributeFilter;
 import org.wso2.carbon.identity.oauth.dcr.internal.DCRDataHolder;
+import org.wso2.carbon.identity.oauth.dcr.model.DCRConfiguration;
 import org.wso2.carbon.identity.oauth.dcr.util.DCRConstants;
 import org.wso2.carbon.identity.oauth.dcr.util.ErrorCodes;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
@@ -1250,7 +1251,9 @@ public class DCRMServiceTest {
             jwtSignatureValidationUtils.when(() -> JWTSignatureValidationUtils.validateUsingJWKSUri(any(), anyString()))
                     .thenReturn(false);
             try {
-                invokePrivateMethod(dcrmService, "validateSSASignature", jwtString);
+                DCRConfiguration dcrConfiguration = new DCRConfiguration();
+                dcrConfiguration.setSsaJwks("https://localhost:9443/oauth2/jwks");
+                invokePrivateMethod(dcrmService, "getVerifiedSSAClaims", jwtString, dcrConfiguration);
             } catch (Exception e) {
                 Assert.assertTrue(e instanceof DCRMClientException);
                 Assert.assertEquals(((DCRMClientException) e).getErrorCode(),
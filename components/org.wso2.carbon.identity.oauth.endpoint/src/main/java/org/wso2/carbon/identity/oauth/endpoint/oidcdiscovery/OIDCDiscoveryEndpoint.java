@@ -23,12 +23,19 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.base.ServerConfigurationException;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.discovery.DiscoveryUtil;
 import org.wso2.carbon.identity.discovery.OIDCDiscoveryEndPointException;
 import org.wso2.carbon.identity.discovery.OIDCProcessor;
 import org.wso2.carbon.identity.discovery.builders.OIDProviderResponseBuilder;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.endpoint.util.factory.OIDCProviderServiceFactory;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryCache;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryCacheEntry;
+
+import java.nio.charset.StandardCharsets;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -37,6 +44,7 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 /**
@@ -95,11 +103,10 @@ public class OIDCDiscoveryEndpoint {
 
     private Response getResponse(HttpServletRequest request, String tenant) {
 
-        String response;
+        OIDCDiscoveryCacheEntry discoveryDocument;
         OIDCProcessor processor = OIDCProviderServiceFactory.getOIDCService();
         try {
-            OIDProviderResponseBuilder responseBuilder = OIDCDiscoveryServiceFactory.getOIDProviderResponseBuilder();
-            response = responseBuilder.getOIDProviderConfigString(processor.getResponse(request, tenant));
+            discoveryDocument = getDiscoveryDocument(processor, request, tenant);
         } catch (OIDCDiscoveryEndPointException e) {
             Response.ResponseBuilder errorResponse = Response.status(processor.handleError(e));
             return errorResponse.entity(e.getMessage()).build();
@@ -108,7 +115,61 @@ public class OIDCDiscoveryEndpoint {
             Response.ResponseBuilder errorResponse = Response.status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             return errorResponse.entity("Error in reading configuration.").build();
         }
+        if (discoveryDocument == null) {
+            return Response.status(HttpServletResponse.SC_OK).build();
+        }
+        String cacheControl = DiscoveryUtil.getCacheControlHeaderValue();
+        if (DiscoveryUtil.isETagMatched(request.getHeader(HttpHeaders.IF_NONE_MATCH), discoveryDocument.getETag())) {
+            return Response.status(HttpServletResponse.SC_NOT_MODIFIED)
+                    .header(HttpHeaders.ETAG, discoveryDocument.getETag())
+                    .header(HttpHeaders.CACHE_CONTROL, cacheControl).build();
+        }
         Response.ResponseBuilder responseBuilder = Response.status(HttpServletResponse.SC_OK);
-        return responseBuilder.entity(response).build();
+        return responseBuilder.entity(discoveryDocument.getDocument())
+                .header(HttpHeaders.ETAG, discoveryDocument.getETag())
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl).build();
+    }
+
+    /**
+     * Returns the serialized discovery document of the tenant. The document is built and serialized once per tenant
+     * and served from {@link OIDCDiscoveryCache} until a scope change or tenant removal clears it.
+     */
+    private OIDCDiscoveryCacheEntry getDiscoveryDocument(OIDCProcessor processor, HttpServletRequest request,
+                                                         String tenant)
+            throws OIDCDiscoveryEndPointException, ServerConfigurationException {
+
+        int tenantId = MultitenantConstants.INVALID_TENANT_ID;
+        if (DiscoveryUtil.isDiscoveryDocumentCacheEnabled()) {
+            try {
+                tenantId = IdentityTenantUtil.getTenantId(tenant);
+            } catch (IdentityRuntimeException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Unable to resolve the tenant id of: " + tenant + ". Discovery document will not be " +
+                            "cached.", e);
+                }
+            }
+        }
+        if (tenantId != MultitenantConstants.INVALID_TENANT_ID) {
+            OIDCDiscoveryCacheEntry cachedDocument = OIDCDiscoveryCache.getInstance().getDiscoveryDocument(tenantId);
+            if (cachedDocument != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Serving the OIDC discovery document of tenant: " + tenant + " from the cache.");
+                }
+                return cachedDocument;
+            }
+        }
+
+        OIDProviderResponseBuilder responseBuilder = OIDCDiscoveryServiceFactory.getOIDProviderResponseBuilder();
+        String response = responseBuilder.getOIDProviderConfigString(processor.getResponse(request, tenant));
+        if (response == null) {
+            return null;
+        }
+        byte[] document = response.getBytes(StandardCharsets.UTF_8);
+        OIDCDiscoveryCacheEntry discoveryDocument = new OIDCDiscoveryCacheEntry(document,
+                DiscoveryUtil.buildETag(document));
+        if (tenantId != MultitenantConstants.INVALID_TENANT_ID) {
+            OIDCDiscoveryCache.getInstance().addDiscoveryDocument(tenantId, discoveryDocument);
+        }
+        return discoveryDocument;
     }
 }
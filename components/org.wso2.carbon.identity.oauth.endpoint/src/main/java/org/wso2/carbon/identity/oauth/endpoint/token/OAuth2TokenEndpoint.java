@@ -92,6 +92,8 @@ public class OAuth2TokenEndpoint {
     private static final Log log = LogFactory.getLog(OAuth2TokenEndpoint.class);
     public static final String BEARER = "Bearer";
     private static final String SQL_ERROR = "sql_error";
+    // HttpServletResponse of the servlet API in use does not define the 429 status code.
+    private static final int SC_TOO_MANY_REQUESTS = 429;
 
     @POST
     @Path("/")
@@ -324,26 +326,35 @@ public class OAuth2TokenEndpoint {
             return handleSQLError();
         } else if (OAuth2ErrorCodes.SERVER_ERROR.equals(oauth2AccessTokenResp.getErrorCode())) {
             return handleServerError();
+        } else if (OAuth2ErrorCodes.TEMPORARY_UNAVAILABLE.equals(oauth2AccessTokenResp.getErrorCode())) {
+            // The token request rate limit of the client is exceeded. Send back HTTP 429 with the Retry-After header.
+            return buildErrorResponse(oauth2AccessTokenResp, SC_TOO_MANY_REQUESTS);
         } else {
             // Otherwise send back HTTP 400 Status Code
-            OAuthResponse response = OAuthASResponse
-                    .errorResponse(HttpServletResponse.SC_BAD_REQUEST)
-                    .setError(oauth2AccessTokenResp.getErrorCode())
-                    .setErrorDescription(oauth2AccessTokenResp.getErrorMsg())
-                    .buildJSONMessage();
-
-            ResponseHeader[] headers = oauth2AccessTokenResp.getResponseHeaders();
-            ResponseBuilder respBuilder = Response.status(response.getResponseStatus());
-
-            if (headers != null) {
-                for (ResponseHeader header : headers) {
-                    if (header != null) {
-                        respBuilder.header(header.getKey(), header.getValue());
-                    }
+            return buildErrorResponse(oauth2AccessTokenResp, HttpServletResponse.SC_BAD_REQUEST);
+        }
+    }
+
+    private Response buildErrorResponse(OAuth2AccessTokenRespDTO oauth2AccessTokenResp, int status)
+            throws OAuthSystemException {
+
+        OAuthResponse response = OAuthASResponse
+                .errorResponse(status)
+                .setError(oauth2AccessTokenResp.getErrorCode())
+                .setErrorDescription(oauth2AccessTokenResp.getErrorMsg())
+                .buildJSONMessage();
+
+        ResponseHeader[] headers = oauth2AccessTokenResp.getResponseHeaders();
+        ResponseBuilder respBuilder = Response.status(response.getResponseStatus());
+
+        if (headers != null) {
+            for (ResponseHeader header : headers) {
+                if (header != null) {
+                    respBuilder.header(header.getKey(), header.getValue());
                 }
             }
-            return respBuilder.entity(response.getBody()).build();
         }
+        return respBuilder.entity(response.getBody()).build();
     }
 
     private Response handleBasicAuthFailure(String errorMessage) throws OAuthSystemException {
@@ -58,6 +58,7 @@ import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientExcepti
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDAO;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth.dto.OAuthAppRegistrationResult;
 import org.wso2.carbon.identity.oauth.dto.OAuthAppRevocationRequestDTO;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.carbon.identity.oauth.dto.OAuthIDTokenAlgorithmDTO;
@@ -92,6 +93,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -339,11 +341,108 @@ public class OAuthAdminServiceImpl {
     OAuthConsumerAppDTO registerAndRetrieveOAuthApplicationData(OAuthConsumerAppDTO application, boolean enableAuditing)
             throws IdentityOAuthAdminException {
 
-        String tenantAwareLoggedInUsername = CarbonContext.getThreadLocalCarbonContext().getUsername();
         String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        OAuthAppDO app = buildOAuthAppDO(application, tenantDomain);
+        OAuthAppDAO dao = new OAuthAppDAO();
+        dao.addOAuthApplication(app);
+        return completeOAuthAppRegistration(app, application, tenantDomain, enableAuditing, true);
+    }
+
+    /**
+     * Registers a batch of OAuth consumer applications. Each application is validated on its own and the failures
+     * are reported per application, while the valid applications are persisted together in a single transaction.
+     * If the batch fails to persist, e.g. due to a name clash which only the database detects, the applications are
+     * persisted one by one, so that only the conflicting applications fail.
+     * The audit logs are not written for the applications, since the callers log the bulk operation themselves.
+     *
+     * @param applications <code>OAuthConsumerAppDTO</code>s with application information.
+     * @param warmUpCache  Whether to add the created applications to the application cache.
+     * @return Registration result of each application, in the order of the given applications.
+     * @throws IdentityOAuthAdminException Error when persisting the valid applications to the persistence store.
+     */
+    public List<OAuthAppRegistrationResult> registerAndRetrieveOAuthApplicationsData(
+            List<OAuthConsumerAppDTO> applications, boolean warmUpCache) throws IdentityOAuthAdminException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        List<OAuthAppRegistrationResult> results = new ArrayList<>();
+        List<OAuthAppDO> apps = new ArrayList<>();
+        List<OAuthAppDO> validApps = new ArrayList<>();
+        for (OAuthConsumerAppDTO application : applications) {
+            OAuthAppDO app = null;
+            try {
+                app = buildOAuthAppDO(application, tenantDomain);
+                validApps.add(app);
+                results.add(null);
+            } catch (IdentityOAuthAdminException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Skipping the invalid OAuth application: " + (application != null ?
+                            application.getApplicationName() : null) + " in the bulk registration.", e);
+                }
+                results.add(new OAuthAppRegistrationResult(application, e));
+            }
+            apps.add(app);
+        }
+        if (validApps.isEmpty()) {
+            return results;
+        }
+
+        OAuthAppDAO dao = new OAuthAppDAO();
+        try {
+            dao.addOAuthApplications(validApps);
+        } catch (IdentityOAuthAdminException e) {
+            if (validApps.size() == 1) {
+                throw e;
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Failed to persist " + validApps.size() + " OAuth applications as a batch. Persisting " +
+                        "them one by one.", e);
+            }
+            addOAuthApplicationsOneByOne(dao, apps, applications, results);
+        }
+        for (int i = 0; i < apps.size(); i++) {
+            if (apps.get(i) != null && results.get(i) == null) {
+                results.set(i, new OAuthAppRegistrationResult(completeOAuthAppRegistration(apps.get(i),
+                        applications.get(i), tenantDomain, false, warmUpCache)));
+            }
+        }
+        return results;
+    }
+
+    private void addOAuthApplicationsOneByOne(OAuthAppDAO dao, List<OAuthAppDO> apps,
+                                              List<OAuthConsumerAppDTO> applications,
+                                              List<OAuthAppRegistrationResult> results) {
+
+        for (int i = 0; i < apps.size(); i++) {
+            if (apps.get(i) == null) {
+                continue;
+            }
+            try {
+                dao.addOAuthApplication(apps.get(i));
+            } catch (IdentityOAuthAdminException e) {
+                results.set(i, new OAuthAppRegistrationResult(applications.get(i), e));
+            }
+        }
+    }
+
+    /**
+     * Get the client ids which are already registered in the current tenant, out of the given client ids.
+     *
+     * @param consumerKeys Client ids to be checked.
+     * @return Client ids which are already registered.
+     * @throws IdentityOAuthAdminException Error when reading the client ids from the persistence store.
+     */
+    public Set<String> getExistingConsumerKeys(Collection<String> consumerKeys) throws IdentityOAuthAdminException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        return new OAuthAppDAO().getExistingConsumerKeys(consumerKeys, tenantId);
+    }
+
+    private OAuthAppDO buildOAuthAppDO(OAuthConsumerAppDTO application, String tenantDomain)
+            throws IdentityOAuthAdminException {
+
+        String tenantAwareLoggedInUsername = CarbonContext.getThreadLocalCarbonContext().getUsername();
         OAuthAppDO app = new OAuthAppDO();
         AuthenticatedUser defaultAppOwner = null;
-        Map<String, Object> oidcDataMap;
         try {
             if (StringUtils.isNotEmpty(tenantAwareLoggedInUsername)) {
                 defaultAppOwner = buildAuthenticatedUser(tenantAwareLoggedInUsername, tenantDomain);
@@ -370,7 +469,6 @@ public class OAuthAdminServiceImpl {
             }
 
             if (defaultAppOwner != null) {
-                OAuthAppDAO dao = new OAuthAppDAO();
                 if (application != null) {
                     app.setApplicationName(application.getApplicationName());
 
@@ -554,38 +652,12 @@ public class OAuthAdminServiceImpl {
                         app.setFapiConformanceEnabled(application.isFapiConformanceEnabled());
                         app.setSubjectTokenEnabled(application.isSubjectTokenEnabled());
                         app.setSubjectTokenExpiryTime(application.getSubjectTokenExpiryTime());
+                        app.setTokenRequestRateLimit(application.getTokenRequestRateLimit());
                         if (isAccessTokenClaimsSeparationFeatureEnabled()) {
                             validateAccessTokenClaims(application, tenantDomain);
                             app.setAccessTokenClaims(application.getAccessTokenClaims());
                         }
                     }
-                    dao.addOAuthApplication(app);
-                    if (ApplicationConstants.CONSOLE_APPLICATION_NAME.equals(app.getApplicationName())) {
-                        String consoleCallBackURL = OAuth2Util.getConsoleCallbackFromServerConfig(tenantDomain);
-                        if (StringUtils.isNotEmpty(consoleCallBackURL)) {
-                            app.setCallbackUrl(consoleCallBackURL);
-                        }
-                    }
-                    AppInfoCache.getInstance().addToCache(app.getOauthConsumerKey(), app, tenantDomain);
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Oauth Application registration success : " + application.getApplicationName() +
-                                " in tenant domain: " + tenantDomain);
-                    }
-                    oidcDataMap = buildSPData(app);
-                    oidcDataMap.put("allowedOrigins", application.getAllowedOrigins());
-                    if (enableAuditing && isEnableV2AuditLogs()) {
-                        Optional<String> initiatorId = getInitiatorId();
-                        if (initiatorId.isPresent()) {
-                            AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
-                                    initiatorId.get(), LoggerUtils.Initiator.User.name(),
-                                    app.getOauthConsumerKey(), LoggerUtils.Target.Application.name(),
-                                    LogConstants.ApplicationManagement.CREATE_OAUTH_APPLICATION_ACTION)
-                                    .data(oidcDataMap);
-                            triggerAuditLogEvent(auditLogBuilder, true);
-                        } else {
-                            LOG.error("Error getting the logged in userId");
-                        }
-                    }
                 } else {
                     String message = "No application details in the request. Failed to register OAuth App.";
                     LOG.debug(message);
@@ -608,6 +680,41 @@ public class OAuthAdminServiceImpl {
             throw handleClientError(AUTHENTICATED_USER_NOT_FOUND,
                     "Error resolving user. Failed to register OAuth App", e);
         }
+        return app;
+    }
+
+    private OAuthConsumerAppDTO completeOAuthAppRegistration(OAuthAppDO app, OAuthConsumerAppDTO application,
+                                                             String tenantDomain, boolean enableAuditing,
+                                                             boolean warmUpCache) throws IdentityOAuthAdminException {
+
+        if (ApplicationConstants.CONSOLE_APPLICATION_NAME.equals(app.getApplicationName())) {
+            String consoleCallBackURL = OAuth2Util.getConsoleCallbackFromServerConfig(tenantDomain);
+            if (StringUtils.isNotEmpty(consoleCallBackURL)) {
+                app.setCallbackUrl(consoleCallBackURL);
+            }
+        }
+        if (warmUpCache) {
+            AppInfoCache.getInstance().addToCache(app.getOauthConsumerKey(), app, tenantDomain);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Oauth Application registration success : " + application.getApplicationName() +
+                    " in tenant domain: " + tenantDomain);
+        }
+        Map<String, Object> oidcDataMap = buildSPData(app);
+        oidcDataMap.put("allowedOrigins", application.getAllowedOrigins());
+        if (enableAuditing && isEnableV2AuditLogs()) {
+            Optional<String> initiatorId = getInitiatorId();
+            if (initiatorId.isPresent()) {
+                AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
+                        initiatorId.get(), LoggerUtils.Initiator.User.name(),
+                        app.getOauthConsumerKey(), LoggerUtils.Target.Application.name(),
+                        LogConstants.ApplicationManagement.CREATE_OAUTH_APPLICATION_ACTION)
+                        .data(oidcDataMap);
+                triggerAuditLogEvent(auditLogBuilder, true);
+            } else {
+                LOG.error("Error getting the logged in userId");
+            }
+        }
         OAuthConsumerAppDTO oAuthConsumerAppDTO = OAuthUtil.buildConsumerAppDTO(app);
         oAuthConsumerAppDTO.setAuditLogData(oidcDataMap);
         return oAuthConsumerAppDTO;
@@ -993,6 +1100,7 @@ public class OAuthAdminServiceImpl {
             oAuthAppDO.setRequirePushedAuthorizationRequests(consumerAppDTO.getRequirePushedAuthorizationRequests());
             oAuthAppDO.setSubjectTokenEnabled(consumerAppDTO.isSubjectTokenEnabled());
             oAuthAppDO.setSubjectTokenExpiryTime(consumerAppDTO.getSubjectTokenExpiryTime());
+            oAuthAppDO.setTokenRequestRateLimit(consumerAppDTO.getTokenRequestRateLimit());
 
             if (isAccessTokenClaimsSeparationFeatureEnabled()) {
                 // We check if the AT claims separation enabled at server level and
@@ -59,6 +59,7 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ServerException;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dao.SharedAppResolveDAO;
+import org.wso2.carbon.identity.oauth2.internal.cache.TokenBindingCache;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
@@ -443,6 +444,10 @@ public final class OAuthUtil {
         OAuthCacheKey cacheKey = new OAuthCacheKey(accessTokenDO.getAccessToken());
         String tenantDomain = accessTokenDO.getAuthzUser().getTenantDomain();
         OAuthCache.getInstance().clearCacheEntry(cacheKey,  tenantDomain);
+        String bindingReference = accessTokenDO.getTokenBinding() != null ?
+                accessTokenDO.getTokenBinding().getBindingReference() : null;
+        TokenBindingCache.getInstance().clearCacheEntries(accessTokenDO.getTokenId(), bindingReference,
+                accessTokenDO.getRefreshToken());
     }
 
     public static AuthenticatedUser getAuthenticatedUser(String fullyQualifiedUserName) {
@@ -563,6 +568,7 @@ public final class OAuthUtil {
         dto.setFapiConformanceEnabled(appDO.isFapiConformanceEnabled());
         dto.setSubjectTokenEnabled(appDO.isSubjectTokenEnabled());
         dto.setSubjectTokenExpiryTime(appDO.getSubjectTokenExpiryTime());
+        dto.setTokenRequestRateLimit(appDO.getTokenRequestRateLimit());
         dto.setAccessTokenClaims(appDO.getAccessTokenClaims());
         return dto;
     }
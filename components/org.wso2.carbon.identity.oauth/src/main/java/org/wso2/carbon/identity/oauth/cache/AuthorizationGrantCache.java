@@ -288,8 +288,8 @@ public class AuthorizationGrantCache extends
      * @return
      */
     private AuthorizationGrantCacheEntry getFromSessionStore(String id) {
-        return (AuthorizationGrantCacheEntry) SessionDataStore.getInstance().getSessionData(id,
-                AUTHORIZATION_GRANT_CACHE_NAME);
+        return (AuthorizationGrantCacheEntry) CompactCacheEntryCodec.unwrap(SessionDataStore.getInstance()
+                .getSessionData(id, AUTHORIZATION_GRANT_CACHE_NAME));
     }
 
     /**
@@ -298,7 +298,8 @@ public class AuthorizationGrantCache extends
      * @param entry cache entry to store
      */
     private void storeToSessionStore(String id, AuthorizationGrantCacheEntry entry) {
-        SessionDataStore.getInstance().storeSessionData(id, AUTHORIZATION_GRANT_CACHE_NAME, entry);
+        SessionDataStore.getInstance().storeSessionData(id, AUTHORIZATION_GRANT_CACHE_NAME,
+                CompactCacheEntryCodec.wrap(entry));
     }
 
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+/**
+ * Holds an {@link AuthorizationGrantCacheEntry} or a {@link SessionDataCacheEntry} encoded by
+ * {@link CompactCacheEntryCodec}. This is the object written to the session data store in place of the entry, when
+ * the compact serialization is enabled.
+ */
+public class CompactCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 6422195473028541870L;
+
+    private final byte[] encodedEntry;
+
+    public CompactCacheEntry(byte[] encodedEntry, long validityPeriod) {
+
+        this.encodedEntry = encodedEntry;
+        setValidityPeriod(validityPeriod);
+    }
+
+    public byte[] getEncodedEntry() {
+
+        return encodedEntry;
+    }
+}
@@ -0,0 +1,832 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenExtendedAttributes;
+import org.wso2.carbon.identity.oauth2.model.FederatedTokenDO;
+import org.wso2.carbon.identity.oauth2.model.OAuth2Parameters;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+import org.wso2.carbon.identity.openidconnect.model.RequestObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Versioned binary codec for the {@link AuthorizationGrantCacheEntry} and {@link SessionDataCacheEntry} objects
+ * written to the session data store.
+ * <p>
+ * Strings, numbers, flags, collections and claim mappings are written in a compact form. Each distinct string is
+ * written once per entry and referred by index afterwards, and the index space is seeded with a dictionary of
+ * frequently used claim URIs. Values of any other type are written to a single Java serialization section at the end
+ * of the entry, so that object references shared between them are preserved. Encoded entries larger than the
+ * configured threshold are deflated.
+ * <p>
+ * The layout of version 1 is: version byte, flags byte, entry type byte, followed by the (optionally deflated)
+ * compact section length, compact section and Java serialization section. Any change to the layout, the field order
+ * or the dictionary needs a new version, and decoding of the previous versions must be kept.
+ */
+public class CompactCacheEntryCodec {
+
+    private static final Log log = LogFactory.getLog(CompactCacheEntryCodec.class);
+
+    public static final String COMPACT_SERIALIZATION_ENABLED = "OAuth.CompactSessionDataSerialization.Enable";
+    public static final String COMPRESSION_THRESHOLD = "OAuth.CompactSessionDataSerialization.CompressionThreshold";
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 2048;
+
+    static final byte VERSION_1 = 1;
+    private static final byte FLAG_COMPRESSED = 1;
+    // Upper bounds of the inflated size of an entry, checked before the buffer is allocated. Deflate can not expand
+    // data by more than about 1032 times.
+    private static final int MAX_PAYLOAD_LENGTH = 16 * 1024 * 1024;
+    private static final int MAX_COMPRESSION_RATIO = 1032;
+    private static final byte AUTHORIZATION_GRANT_CACHE_ENTRY = 1;
+    private static final byte SESSION_DATA_CACHE_ENTRY = 2;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_TRUE = 4;
+    private static final byte TYPE_FALSE = 5;
+    private static final byte TYPE_STRING_ARRAY = 6;
+    private static final byte TYPE_ARRAY_LIST = 7;
+    private static final byte TYPE_HASH_MAP = 8;
+    private static final byte TYPE_LINKED_HASH_MAP = 9;
+    private static final byte TYPE_HASH_SET = 10;
+    private static final byte TYPE_LINKED_HASH_SET = 11;
+    private static final byte TYPE_CLAIM_MAPPING = 12;
+    private static final byte TYPE_SERIALIZED = 13;
+
+    // Strings are written as 0 for null, 1 for a new string, or the index in the string table plus 2.
+    private static final int STRING_NULL = 0;
+    private static final int STRING_NEW = 1;
+    private static final int STRING_REFERENCE_OFFSET = 2;
+
+    /* Dictionary of version 1. Entries must never be modified or reordered, as their indexes are part of the encoded
+    form. */
+    private static final List<String> DICTIONARY_V1 = Arrays.asList(
+            "http://wso2.org/claims/username",
+            "http://wso2.org/claims/userid",
+            "http://wso2.org/claims/emailaddress",
+            "http://wso2.org/claims/givenname",
+            "http://wso2.org/claims/lastname",
+            "http://wso2.org/claims/fullname",
+            "http://wso2.org/claims/displayName",
+            "http://wso2.org/claims/nickname",
+            "http://wso2.org/claims/telephone",
+            "http://wso2.org/claims/mobile",
+            "http://wso2.org/claims/country",
+            "http://wso2.org/claims/locality",
+            "http://wso2.org/claims/region",
+            "http://wso2.org/claims/postalcode",
+            "http://wso2.org/claims/streetaddress",
+            "http://wso2.org/claims/dob",
+            "http://wso2.org/claims/gender",
+            "http://wso2.org/claims/local",
+            "http://wso2.org/claims/url",
+            "http://wso2.org/claims/photourl",
+            "http://wso2.org/claims/role",
+            "http://wso2.org/claims/roles",
+            "http://wso2.org/claims/groups",
+            "http://wso2.org/claims/modified",
+            "http://wso2.org/claims/created",
+            "http://wso2.org/claims/identity/emailVerified",
+            "http://wso2.org/claims/identity/phoneVerified",
+            "http://wso2.org/claims/organization",
+            "http://wso2.org/claims/userprincipal",
+            "http://wso2.org/claims/runtime/federated_idp",
+            "sub",
+            "email",
+            "email_verified",
+            "given_name",
+            "family_name",
+            "name",
+            "preferred_username",
+            "nickname",
+            "phone_number",
+            "phone_number_verified",
+            "address",
+            "birthdate",
+            "gender",
+            "locale",
+            "zoneinfo",
+            "updated_at",
+            "groups",
+            "roles",
+            "openid",
+            "pwd",
+            "LOCAL");
+
+    private static final Map<String, Integer> DICTIONARY_V1_INDEXES;
+
+    static {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < DICTIONARY_V1.size(); i++) {
+            indexes.put(DICTIONARY_V1.get(i), i);
+        }
+        DICTIONARY_V1_INDEXES = indexes;
+    }
+
+    /* Claim mappings are written field by field only when the model classes have exactly the expected fields, so that
+    a field added to the model is never silently dropped. */
+    private static final boolean CLAIM_MAPPING_COMPACTABLE =
+            hasInstanceFields(ClaimMapping.class, "localClaim", "remoteClaim", "defaultValue", "requested",
+                    "mandatory") && hasInstanceFields(Claim.class, "claimUri", "claimId");
+
+    private static volatile Boolean enabled;
+    private static volatile Integer compressionThreshold;
+
+    private CompactCacheEntryCodec() {
+
+    }
+
+    /**
+     * Whether the compact serialization is enabled for the session data store.
+     *
+     * @return True if entries should be written in the compact form.
+     */
+    public static boolean isEnabled() {
+
+        if (enabled == null) {
+            enabled = ConfigPropertyUtil.getBooleanProperty(COMPACT_SERIALIZATION_ENABLED, false);
+        }
+        return enabled;
+    }
+
+    /**
+     * Returns the object to be written to the session data store for the given entry. This is the entry itself when
+     * the compact serialization is disabled or the entry can not be encoded.
+     *
+     * @param entry Authorization grant cache entry or session data cache entry.
+     * @return Object to be stored.
+     */
+    public static Object wrap(CacheEntry entry) {
+
+        if (entry == null || !isEnabled()) {
+            return entry;
+        }
+        try {
+            byte[] encodedEntry;
+            if (entry.getClass() == AuthorizationGrantCacheEntry.class) {
+                encodedEntry = encode((AuthorizationGrantCacheEntry) entry, getCompressionThreshold());
+            } else if (entry.getClass() == SessionDataCacheEntry.class) {
+                encodedEntry = encode((SessionDataCacheEntry) entry, getCompressionThreshold());
+            } else {
+                return entry;
+            }
+            return new CompactCacheEntry(encodedEntry, entry.getValidityPeriod());
+        } catch (IOException e) {
+            log.error("Error while encoding the cache entry of type: " + entry.getClass().getName() +
+                    ". The entry will be stored with the default serialization.", e);
+            return entry;
+        }
+    }
+
+    /**
+     * Returns the cache entry represented by an object read from the session data store. Entries stored with the
+     * default serialization are returned as they are.
+     *
+     * @param storedEntry Object read from the session data store.
+     * @return Cache entry, or null if the stored entry could not be decoded.
+     */
+    public static Object unwrap(Object storedEntry) {
+
+        if (!(storedEntry instanceof CompactCacheEntry)) {
+            return storedEntry;
+        }
+        CompactCacheEntry compactCacheEntry = (CompactCacheEntry) storedEntry;
+        try {
+            CacheEntry entry = decode(compactCacheEntry.getEncodedEntry());
+            entry.setValidityPeriod(compactCacheEntry.getValidityPeriod());
+            return entry;
+        } catch (IOException | ClassNotFoundException e) {
+            log.error("Error while decoding the cache entry read from the session data store.", e);
+            return null;
+        }
+    }
+
+    static byte[] encode(AuthorizationGrantCacheEntry entry, int compressionThreshold) throws IOException {
+
+        EntryWriter writer = new EntryWriter();
+        writer.writeString(entry.getCodeId());
+        writer.writeString(entry.getAuthorizationCode());
+        writer.writeString(entry.getTokenId());
+        writer.writeValue(entry.getUserAttributes());
+        writer.writeString(entry.getNonceValue());
+        writer.writeString(entry.getPkceCodeChallenge());
+        writer.writeString(entry.getPkceCodeChallengeMethod());
+        writer.writeValue(entry.getAcrValue());
+        writer.writeString(entry.getSelectedAcrValue());
+        writer.writeStrings(entry.getAmrList());
+        writer.writeString(entry.getEssentialClaims());
+        writer.writeLong(entry.getAuthTime());
+        writer.writeLong(entry.getMaxAge());
+        writer.writeValue(entry.getRequestObject());
+        writer.writeBoolean(entry.isHasNonOIDCClaims());
+        writer.writeValue(entry.getMappedRemoteClaims());
+        writer.writeString(entry.getSubjectClaim());
+        writer.writeString(entry.getTokenBindingValue());
+        writer.writeString(entry.getSessionContextIdentifier());
+        writer.writeString(entry.getOidcSessionId());
+        writer.writeBoolean(entry.isRequestObjectFlow());
+        writer.writeValue(entry.getAccessTokenExtensionDO());
+        writer.writeBoolean(entry.isApiBasedAuthRequest());
+        writer.writeString(entry.getImpersonator());
+        writer.writeValue(entry.getFederatedTokens());
+        writer.writeValue(entry.getAudiences());
+        writer.writeValue(entry.getCustomClaims());
+        writer.writeBoolean(entry.isPreIssueAccessTokenActionsExecuted());
+        return writer.toByteArray(AUTHORIZATION_GRANT_CACHE_ENTRY, compressionThreshold);
+    }
+
+    static byte[] encode(SessionDataCacheEntry entry, int compressionThreshold) throws IOException {
+
+        EntryWriter writer = new EntryWriter();
+        writer.writeValue(entry.getLoggedInUser());
+        writer.writeValue(entry.getoAuth2Parameters());
+        writer.writeValue(entry.getAuthzReqMsgCtx());
+        writer.writeLong(entry.getAuthTime());
+        writer.writeString(entry.getAuthenticatedIdPs());
+        writer.writeString(entry.getEssentialClaims());
+        writer.writeString(entry.getSessionContextIdentifier());
+        writer.writeBoolean(entry.isRemoveOnConsume());
+        writer.writeString(entry.getQueryString());
+        writer.writeStringArrayMap(entry.getParamMap());
+        writer.writeValue(new HashMap<>(entry.getEndpointParams()));
+        writer.writeValue(entry.getFederatedTokens());
+        writer.writeValue(entry.getMappedRemoteClaims());
+        return writer.toByteArray(SESSION_DATA_CACHE_ENTRY, compressionThreshold);
+    }
+
+    @SuppressWarnings("unchecked")
+    static CacheEntry decode(byte[] encodedEntry) throws IOException, ClassNotFoundException {
+
+        EntryReader reader = EntryReader.of(encodedEntry);
+        if (reader.entryType == AUTHORIZATION_GRANT_CACHE_ENTRY) {
+            AuthorizationGrantCacheEntry entry = new AuthorizationGrantCacheEntry();
+            entry.setCodeId(reader.readString());
+            entry.setAuthorizationCode(reader.readString());
+            entry.setTokenId(reader.readString());
+            entry.setUserAttributes((Map<ClaimMapping, String>) reader.readValue());
+            entry.setNonceValue(reader.readString());
+            entry.setPkceCodeChallenge(reader.readString());
+            entry.setPkceCodeChallengeMethod(reader.readString());
+            entry.setAcrValue((LinkedHashSet) reader.readValue());
+            entry.setSelectedAcrValue(reader.readString());
+            for (String amr : reader.readStrings()) {
+                entry.addAmr(amr);
+            }
+            entry.setEssentialClaims(reader.readString());
+            entry.setAuthTime(reader.readLong());
+            entry.setMaxAge(reader.readLong());
+            entry.setRequestObject((RequestObject) reader.readValue());
+            entry.setHasNonOIDCClaims(reader.readBoolean());
+            entry.setMappedRemoteClaims((Map<ClaimMapping, String>) reader.readValue());
+            entry.setSubjectClaim(reader.readString());
+            entry.setTokenBindingValue(reader.readString());
+            entry.setSessionContextIdentifier(reader.readString());
+            entry.setOidcSessionId(reader.readString());
+            entry.setRequestObjectFlow(reader.readBoolean());
+            entry.setAccessTokenExtensionDO((AccessTokenExtendedAttributes) reader.readValue());
+            entry.setApiBasedAuthRequest(reader.readBoolean());
+            entry.setImpersonator(reader.readString());
+            entry.setFederatedTokens((List<FederatedTokenDO>) reader.readValue());
+            entry.setAudiences((List<String>) reader.readValue());
+            entry.setCustomClaims((Map<String, Object>) reader.readValue());
+            entry.setPreIssueAccessTokenActionsExecuted(reader.readBoolean());
+            return entry;
+        }
+        if (reader.entryType == SESSION_DATA_CACHE_ENTRY) {
+            SessionDataCacheEntry entry = new SessionDataCacheEntry();
+            entry.setLoggedInUser((AuthenticatedUser) reader.readValue());
+            entry.setoAuth2Parameters((OAuth2Parameters) reader.readValue());
+            entry.setAuthzReqMsgCtx((OAuthAuthzReqMessageContext) reader.readValue());
+            entry.setAuthTime(reader.readLong());
+            entry.setAuthenticatedIdPs(reader.readString());
+            entry.setEssentialClaims(reader.readString());
+            entry.setSessionContextIdentifier(reader.readString());
+            entry.setRemoveOnConsume(reader.readBoolean());
+            entry.setQueryString(reader.readString());
+            entry.setParamMap(reader.readStringArrayMap());
+            entry.getEndpointParams().putAll((Map<String, Serializable>) reader.readValue());
+            entry.setFederatedTokens((List<FederatedTokenDO>) reader.readValue());
+            entry.setMappedRemoteClaims((Map<ClaimMapping, String>) reader.readValue());
+            return entry;
+        }
+        throw new IOException("Unknown cache entry type: " + reader.entryType);
+    }
+
+    private static int getCompressionThreshold() {
+
+        if (compressionThreshold == null) {
+            // A negative threshold disables the compression.
+            compressionThreshold = ConfigPropertyUtil.getIntProperty(COMPRESSION_THRESHOLD,
+                    DEFAULT_COMPRESSION_THRESHOLD);
+        }
+        return compressionThreshold;
+    }
+
+    private static boolean hasInstanceFields(Class<?> clazz, String... expectedFieldNames) {
+
+        Set<String> fieldNames = new HashSet<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                fieldNames.add(field.getName());
+            }
+        }
+        return clazz.getSuperclass() == Object.class
+                && fieldNames.equals(new HashSet<>(Arrays.asList(expectedFieldNames)));
+    }
+
+    /**
+     * Writes the compact section of an entry and collects the values which need Java serialization.
+     */
+    private static class EntryWriter {
+
+        private final ByteArrayOutputStream compactBytes = new ByteArrayOutputStream();
+        private final DataOutputStream compactOut = new DataOutputStream(compactBytes);
+        private final Map<String, Integer> stringTable = new HashMap<>(DICTIONARY_V1_INDEXES);
+        private ByteArrayOutputStream serializedBytes;
+        private ObjectOutputStream serializedOut;
+
+        void writeString(String value) throws IOException {
+
+            if (value == null) {
+                writeVarInt(STRING_NULL);
+                return;
+            }
+            Integer index = stringTable.get(value);
+            if (index != null) {
+                writeVarInt(index + STRING_REFERENCE_OFFSET);
+                return;
+            }
+            stringTable.put(value, stringTable.size());
+            writeVarInt(STRING_NEW);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            compactOut.write(bytes);
+        }
+
+        void writeStrings(Collection<String> values) throws IOException {
+
+            writeVarInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void writeLong(long value) throws IOException {
+
+            compactOut.writeLong(value);
+        }
+
+        void writeBoolean(boolean value) throws IOException {
+
+            compactOut.writeBoolean(value);
+        }
+
+        void writeStringArrayMap(Map<String, String[]> map) throws IOException {
+
+            if (map == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(map.size() + 1);
+            for (Map.Entry<String, String[]> mapEntry : map.entrySet()) {
+                writeString(mapEntry.getKey());
+                writeValue(mapEntry.getValue());
+            }
+        }
+
+        void writeValue(Object value) throws IOException {
+
+            if (value == null) {
+                compactOut.writeByte(TYPE_NULL);
+            } else if (value instanceof String) {
+                compactOut.writeByte(TYPE_STRING);
+                writeString((String) value);
+            } else if (value.getClass() == Long.class) {
+                compactOut.writeByte(TYPE_LONG);
+                compactOut.writeLong((Long) value);
+            } else if (value.getClass() == Integer.class) {
+                compactOut.writeByte(TYPE_INTEGER);
+                compactOut.writeInt((Integer) value);
+            } else if (value.getClass() == Boolean.class) {
+                compactOut.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+            } else if (value.getClass() == String[].class) {
+                compactOut.writeByte(TYPE_STRING_ARRAY);
+                String[] values = (String[]) value;
+                writeVarInt(values.length);
+                for (String element : values) {
+                    writeString(element);
+                }
+            } else if (value.getClass() == ArrayList.class) {
+                writeCollection(TYPE_ARRAY_LIST, (Collection<?>) value);
+            } else if (value.getClass() == HashSet.class) {
+                writeCollection(TYPE_HASH_SET, (Collection<?>) value);
+            } else if (value.getClass() == LinkedHashSet.class) {
+                writeCollection(TYPE_LINKED_HASH_SET, (Collection<?>) value);
+            } else if (value.getClass() == HashMap.class) {
+                writeMap(TYPE_HASH_MAP, (Map<?, ?>) value);
+            } else if (value.getClass() == LinkedHashMap.class) {
+                writeMap(TYPE_LINKED_HASH_MAP, (Map<?, ?>) value);
+            } else if (value.getClass() == ClaimMapping.class && CLAIM_MAPPING_COMPACTABLE
+                    && isCompactable((ClaimMapping) value)) {
+                compactOut.writeByte(TYPE_CLAIM_MAPPING);
+                ClaimMapping claimMapping = (ClaimMapping) value;
+                writeClaim(claimMapping.getLocalClaim());
+                writeClaim(claimMapping.getRemoteClaim());
+                writeString(claimMapping.getDefaultValue());
+                compactOut.writeByte((claimMapping.isRequested() ? 1 : 0) | (claimMapping.isMandatory() ? 2 : 0));
+            } else {
+                compactOut.writeByte(TYPE_SERIALIZED);
+                if (serializedOut == null) {
+                    serializedBytes = new ByteArrayOutputStream();
+                    serializedOut = new ObjectOutputStream(serializedBytes);
+                }
+                serializedOut.writeObject(value);
+            }
+        }
+
+        byte[] toByteArray(byte entryType, int compressionThreshold) throws IOException {
+
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream payloadOut = new DataOutputStream(payload);
+            compactOut.flush();
+            writeVarInt(payloadOut, compactBytes.size());
+            compactBytes.writeTo(payloadOut);
+            if (serializedOut != null) {
+                serializedOut.flush();
+                serializedBytes.writeTo(payloadOut);
+            }
+            payloadOut.flush();
+
+            byte[] payloadBytes = payload.toByteArray();
+            // Payloads above the inflated size accepted by the reader are stored as is.
+            boolean compressed = compressionThreshold >= 0 && payloadBytes.length > compressionThreshold &&
+                    payloadBytes.length <= MAX_PAYLOAD_LENGTH;
+            ByteArrayOutputStream result = new ByteArrayOutputStream(payloadBytes.length + 8);
+            DataOutputStream resultOut = new DataOutputStream(result);
+            resultOut.writeByte(VERSION_1);
+            resultOut.writeByte(compressed ? FLAG_COMPRESSED : 0);
+            resultOut.writeByte(entryType);
+            if (compressed) {
+                writeVarInt(resultOut, payloadBytes.length);
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try {
+                    deflater.setInput(payloadBytes);
+                    deflater.finish();
+                    byte[] buffer = new byte[4096];
+                    while (!deflater.finished()) {
+                        int length = deflater.deflate(buffer);
+                        resultOut.write(buffer, 0, length);
+                    }
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                resultOut.write(payloadBytes);
+            }
+            resultOut.flush();
+            return result.toByteArray();
+        }
+
+        private boolean isCompactable(ClaimMapping claimMapping) {
+
+            return (claimMapping.getLocalClaim() == null || claimMapping.getLocalClaim().getClass() == Claim.class)
+                    && (claimMapping.getRemoteClaim() == null
+                    || claimMapping.getRemoteClaim().getClass() == Claim.class);
+        }
+
+        private void writeClaim(Claim claim) throws IOException {
+
+            if (claim == null) {
+                compactOut.writeBoolean(false);
+                return;
+            }
+            compactOut.writeBoolean(true);
+            writeString(claim.getClaimUri());
+            compactOut.writeInt(claim.getClaimId());
+        }
+
+        private void writeCollection(byte type, Collection<?> values) throws IOException {
+
+            compactOut.writeByte(type);
+            writeVarInt(values.size());
+            for (Object value : values) {
+                writeValue(value);
+            }
+        }
+
+        private void writeMap(byte type, Map<?, ?> map) throws IOException {
+
+            compactOut.writeByte(type);
+            writeVarInt(map.size());
+            for (Map.Entry<?, ?> mapEntry : map.entrySet()) {
+                writeValue(mapEntry.getKey());
+                writeValue(mapEntry.getValue());
+            }
+        }
+
+        private void writeVarInt(int value) throws IOException {
+
+            writeVarInt(compactOut, value);
+        }
+
+        private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    /**
+     * Reads an entry written by {@link EntryWriter}.
+     */
+    private static class EntryReader {
+
+        private final byte entryType;
+        private final DataInputStream compactIn;
+        private final byte[] payload;
+        private final int serializedOffset;
+        private final List<String> stringTable = new ArrayList<>(DICTIONARY_V1);
+        private ObjectInputStream serializedIn;
+
+        private EntryReader(byte entryType, byte[] payload) throws IOException {
+
+            this.entryType = entryType;
+            this.payload = payload;
+            DataInputStream payloadIn = new DataInputStream(new ByteArrayInputStream(payload));
+            int compactLength = readVarInt(payloadIn);
+            int compactOffset = payload.length - payloadIn.available();
+            if (compactLength < 0 || compactOffset + compactLength > payload.length) {
+                throw new EOFException("Invalid length of the compact section: " + compactLength);
+            }
+            this.compactIn = new DataInputStream(new ByteArrayInputStream(payload, compactOffset, compactLength));
+            this.serializedOffset = compactOffset + compactLength;
+        }
+
+        static EntryReader of(byte[] encodedEntry) throws IOException {
+
+            if (encodedEntry == null || encodedEntry.length < 3) {
+                throw new EOFException("Encoded cache entry is truncated.");
+            }
+            if (encodedEntry[0] != VERSION_1) {
+                throw new IOException("Unsupported cache entry encoding version: " + encodedEntry[0]);
+            }
+            byte flags = encodedEntry[1];
+            byte entryType = encodedEntry[2];
+            if ((flags & FLAG_COMPRESSED) == 0) {
+                return new EntryReader(entryType, Arrays.copyOfRange(encodedEntry, 3, encodedEntry.length));
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(encodedEntry, 3,
+                    encodedEntry.length - 3));
+            int payloadLength = readVarInt(in);
+            int compressedOffset = encodedEntry.length - in.available();
+            long maxPayloadLength = Math.min(MAX_PAYLOAD_LENGTH,
+                    (long) (encodedEntry.length - compressedOffset) * MAX_COMPRESSION_RATIO);
+            if (payloadLength < 0 || payloadLength > maxPayloadLength) {
+                throw new IOException("Invalid length of the compressed cache entry: " + payloadLength);
+            }
+            byte[] payload = new byte[payloadLength];
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(encodedEntry, compressedOffset, encodedEntry.length - compressedOffset);
+                int inflatedLength = 0;
+                while (inflatedLength < payloadLength && !inflater.finished()) {
+                    int length = inflater.inflate(payload, inflatedLength, payloadLength - inflatedLength);
+                    if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflatedLength += length;
+                }
+                if (inflatedLength != payloadLength) {
+                    throw new EOFException("Compressed cache entry is truncated.");
+                }
+            } catch (DataFormatException e) {
+                throw new IOException("Compressed cache entry is corrupted.", e);
+            } finally {
+                inflater.end();
+            }
+            return new EntryReader(entryType, payload);
+        }
+
+        String readString() throws IOException {
+
+            int tag = readVarInt(compactIn);
+            if (tag == STRING_NULL) {
+                return null;
+            }
+            if (tag == STRING_NEW) {
+                int length = readVarInt(compactIn);
+                if (length < 0 || length > compactIn.available()) {
+                    throw new EOFException("Invalid string length: " + length);
+                }
+                byte[] bytes = new byte[length];
+                compactIn.readFully(bytes);
+                String value = new String(bytes, StandardCharsets.UTF_8);
+                stringTable.add(value);
+                return value;
+            }
+            int index = tag - STRING_REFERENCE_OFFSET;
+            if (index >= stringTable.size()) {
+                throw new IOException("Invalid string reference: " + index);
+            }
+            return stringTable.get(index);
+        }
+
+        List<String> readStrings() throws IOException {
+
+            int size = readSize();
+            List<String> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        long readLong() throws IOException {
+
+            return compactIn.readLong();
+        }
+
+        boolean readBoolean() throws IOException {
+
+            return compactIn.readBoolean();
+        }
+
+        ConcurrentHashMap<String, String[]> readStringArrayMap() throws IOException, ClassNotFoundException {
+
+            int size = readVarInt(compactIn) - 1;
+            if (size < 0) {
+                return null;
+            }
+            ConcurrentHashMap<String, String[]> map = new ConcurrentHashMap<>();
+            for (int i = 0; i < size; i++) {
+                String key = readString();
+                String[] value = (String[]) readValue();
+                // ConcurrentHashMap does not allow null keys or values.
+                if (key != null && value != null) {
+                    map.put(key, value);
+                }
+            }
+            return map;
+        }
+
+        Object readValue() throws IOException, ClassNotFoundException {
+
+            byte type = compactIn.readByte();
+            switch (type) {
+                case TYPE_NULL:
+                    return null;
+                case TYPE_STRING:
+                    return readString();
+                case TYPE_LONG:
+                    return compactIn.readLong();
+                case TYPE_INTEGER:
+                    return compactIn.readInt();
+                case TYPE_TRUE:
+                    return Boolean.TRUE;
+                case TYPE_FALSE:
+                    return Boolean.FALSE;
+                case TYPE_STRING_ARRAY:
+                    int length = readSize();
+                    String[] values = new String[length];
+                    for (int i = 0; i < length; i++) {
+                        values[i] = readString();
+                    }
+                    return values;
+                case TYPE_ARRAY_LIST:
+                    return readCollection(new ArrayList<>());
+                case TYPE_HASH_SET:
+                    return readCollection(new HashSet<>());
+                case TYPE_LINKED_HASH_SET:
+                    return readCollection(new LinkedHashSet<>());
+                case TYPE_HASH_MAP:
+                    return readMap(new HashMap<>());
+                case TYPE_LINKED_HASH_MAP:
+                    return readMap(new LinkedHashMap<>());
+                case TYPE_CLAIM_MAPPING:
+                    ClaimMapping claimMapping = new ClaimMapping();
+                    claimMapping.setLocalClaim(readClaim());
+                    claimMapping.setRemoteClaim(readClaim());
+                    claimMapping.setDefaultValue(readString());
+                    byte flags = compactIn.readByte();
+                    claimMapping.setRequested((flags & 1) != 0);
+                    claimMapping.setMandatory((flags & 2) != 0);
+                    return claimMapping;
+                case TYPE_SERIALIZED:
+                    if (serializedIn == null) {
+                        serializedIn = new ObjectInputStream(new ByteArrayInputStream(payload, serializedOffset,
+                                payload.length - serializedOffset));
+                    }
+                    return serializedIn.readObject();
+                default:
+                    throw new IOException("Unknown value type: " + type);
+            }
+        }
+
+        private Claim readClaim() throws IOException {
+
+            if (!compactIn.readBoolean()) {
+                return null;
+            }
+            Claim claim = new Claim();
+            claim.setClaimUri(readString());
+            claim.setClaimId(compactIn.readInt());
+            return claim;
+        }
+
+        private Collection<Object> readCollection(Collection<Object> values)
+                throws IOException, ClassNotFoundException {
+
+            int size = readSize();
+            for (int i = 0; i < size; i++) {
+                values.add(readValue());
+            }
+            return values;
+        }
+
+        private Map<Object, Object> readMap(Map<Object, Object> map) throws IOException, ClassNotFoundException {
+
+            int size = readSize();
+            for (int i = 0; i < size; i++) {
+                Object key = readValue();
+                map.put(key, readValue());
+            }
+            return map;
+        }
+
+        private int readSize() throws IOException {
+
+            int size = readVarInt(compactIn);
+            if (size < 0 || size > compactIn.available()) {
+                throw new EOFException("Invalid collection size: " + size);
+            }
+            return size;
+        }
+
+        private static int readVarInt(DataInputStream in) throws IOException {
+
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed variable length integer.");
+        }
+    }
+}
@@ -57,15 +57,16 @@ public class SessionDataCache extends AuthenticationBaseCache<SessionDataCacheKe
     public void addToCache(SessionDataCacheKey key, SessionDataCacheEntry entry) {
         super.addToCache(key, entry);
         if (isTemporarySessionDataPersistEnabled) {
-            SessionDataStore.getInstance().storeSessionData(key.getSessionDataId(), SESSION_DATA_CACHE_NAME, entry);
+            SessionDataStore.getInstance().storeSessionData(key.getSessionDataId(), SESSION_DATA_CACHE_NAME,
+                    CompactCacheEntryCodec.wrap(entry));
         }
     }
 
     public SessionDataCacheEntry getValueFromCache(SessionDataCacheKey key) {
         SessionDataCacheEntry cacheEntry = super.getValueFromCache(key);
         if (cacheEntry == null && isTemporarySessionDataPersistEnabled) {
-            cacheEntry = (SessionDataCacheEntry) SessionDataStore.getInstance().
-                    getSessionData(key.getSessionDataId(), SESSION_DATA_CACHE_NAME);
+            cacheEntry = (SessionDataCacheEntry) CompactCacheEntryCodec.unwrap(SessionDataStore.getInstance().
+                    getSessionData(key.getSessionDataId(), SESSION_DATA_CACHE_NAME));
         }
         return cacheEntry;
     }
@@ -86,6 +86,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.xml.namespace.QName;
@@ -120,7 +121,7 @@ public class OAuthServerConfiguration {
             "org.wso2.carbon.identity.oauth2.token.JWTTokenIssuer";
     private static final String REQUEST_PARAM_VALUE_BUILDER = "request_param_value_builder";
     private static final Log log = LogFactory.getLog(OAuthServerConfiguration.class);
-    private static OAuthServerConfiguration instance;
+    private static volatile OAuthServerConfiguration instance;
     private static String oauth1RequestTokenUrl = null;
     private static String oauth1RequestTokenUrlV2 = null;
     private static String oauth1AuthorizeUrl = null;
@@ -164,13 +165,13 @@ public class OAuthServerConfiguration {
     private String tokenPersistenceProcessorClassName =
             "org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor";
     private String oauthTokenGeneratorClassName;
-    private OAuthIssuer oauthTokenGenerator;
+    private volatile OAuthIssuer oauthTokenGenerator;
     private String oauthIdentityTokenGeneratorClassName;
     private String clientIdValidationRegex = "[a-zA-Z0-9_]{15,30}";
     private String persistAccessTokenAlias;
     private String retainOldAccessTokens;
     private String tokenCleanupFeatureEnable;
-    private OauthTokenIssuer oauthIdentityTokenGenerator;
+    private volatile OauthTokenIssuer oauthIdentityTokenGenerator;
     private boolean scopeValidationConfigValue = true;
     private boolean globalRbacScopeIssuerEnabled = false;
     private boolean cacheEnabled = false;
@@ -187,30 +188,30 @@ public class OAuthServerConfiguration {
     private boolean useLegacyScopesAsAliasForNewScopes = false;
     private boolean useLegacyPermissionAccessForUserBasedAuth = false;
     private String accessTokenPartitioningDomains = null;
-    private TokenPersistenceProcessor persistenceProcessor = null;
+    private volatile TokenPersistenceProcessor persistenceProcessor = null;
     private Set<OAuthCallbackHandlerMetaData> callbackHandlerMetaData = new HashSet<>();
     private Map<String, String> supportedGrantTypeClassNames = new HashMap<>();
     private Map<String, Boolean> refreshTokenAllowedGrantTypes = new HashMap<>();
     private Map<String, String> idTokenAllowedForGrantTypesMap = new HashMap<>();
     private Set<String> idTokenNotAllowedGrantTypesSet = new HashSet<>();
     private Set<String> userConsentEnabledGrantTypes = new HashSet<>();
-    private Map<String, AuthorizationGrantHandler> supportedGrantTypes;
-    private Map<String, RequestObjectBuilder> requestObjectBuilder;
+    private volatile Map<String, AuthorizationGrantHandler> supportedGrantTypes;
+    private volatile Map<String, RequestObjectBuilder> requestObjectBuilder;
     private Map<String, String> supportedGrantTypeValidatorNames = new HashMap<>();
-    private Map<String, Class<? extends OAuthValidator<HttpServletRequest>>> supportedGrantTypeValidators;
+    private volatile Map<String, Class<? extends OAuthValidator<HttpServletRequest>>> supportedGrantTypeValidators;
     private Map<String, String> supportedResponseTypeClassNames = new HashMap<>();
-    private Map<String, ResponseTypeHandler> supportedResponseTypes;
+    private volatile Map<String, ResponseTypeHandler> supportedResponseTypes;
     private Map<String, String> supportedResponseTypeValidatorNames = new HashMap<>();
     private Map<String, String> supportedResponseModeProviderClassNames = new HashMap<>();
-    private Map<String, ResponseModeProvider> supportedResponseModes;
+    private volatile Map<String, ResponseModeProvider> supportedResponseModes;
     private String defaultResponseModeProviderClassName;
     private ResponseModeProvider defaultResponseModeProvider;
-    private Map<String, Class<? extends OAuthValidator<HttpServletRequest>>> supportedResponseTypeValidators;
+    private volatile Map<String, Class<? extends OAuthValidator<HttpServletRequest>>> supportedResponseTypeValidators;
     private Map<String, TokenIssuerDO> supportedTokenIssuers = new HashMap<>();
     private List<String> supportedTokenTypes = new ArrayList<>();
     private List<String> publicClientSupportedGrantTypes = new ArrayList<>();
     private List<String> publicClientNotSupportedGrantTypes = new ArrayList<>();
-    private Map<String, OauthTokenIssuer> oauthTokenIssuerMap = new HashMap<>();
+    private Map<String, OauthTokenIssuer> oauthTokenIssuerMap = new ConcurrentHashMap<>();
     private String[] supportedClaims = null;
     private boolean isFapiCiba = false;
     private boolean isFapiSecurity = false;
@@ -219,7 +220,7 @@ public class OAuthServerConfiguration {
     private String saml2BearerTokenUserType;
     private boolean saml2UserIdFromClaims = false;
     private boolean mapFederatedUsersToLocal = false;
-    private SAML2TokenCallbackHandler saml2TokenCallbackHandler = null;
+    private volatile SAML2TokenCallbackHandler saml2TokenCallbackHandler = null;
     private Map<String, String> tokenValidatorClassNames = new HashMap();
     private boolean isAuthContextTokGenEnabled = false;
     private String tokenGeneratorImplClass = "org.wso2.carbon.identity.oauth2.token.JWTTokenGenerator";
@@ -259,12 +260,12 @@ public class OAuthServerConfiguration {
             "org.wso2.carbon.identity.openidconnect.SAMLAssertionClaimsCallback";
     private String jwtAccessTokenOIDCClaimsHandlerClassName =
             "org.wso2.carbon.identity.openidconnect.JWTAccessTokenOIDCClaimsHandler";
-    private IDTokenBuilder openIDConnectIDTokenBuilder = null;
+    private volatile IDTokenBuilder openIDConnectIDTokenBuilder = null;
     private Map<String, String> requestObjectBuilderClassNames = new HashMap<>();
     private volatile RequestObjectValidator requestObjectValidator = null;
     private volatile RequestObjectValidator cibaRequestObjectValidator = null;
-    private CustomClaimsCallbackHandler openidConnectIDTokenCustomClaimsCallbackHandler = null;
-    private CustomClaimsCallbackHandler jwtAccessTokenOIDCClaimsHandler = null;
+    private volatile CustomClaimsCallbackHandler openidConnectIDTokenCustomClaimsCallbackHandler = null;
+    private volatile CustomClaimsCallbackHandler jwtAccessTokenOIDCClaimsHandler = null;
     private String openIDConnectIDTokenIssuerIdentifier = null;
     private String openIDConnectIDTokenSubClaim = "http://wso2.org/claims/fullname";
     private Boolean openIDConnectSkipUserConsent = true;
@@ -308,7 +309,7 @@ public class OAuthServerConfiguration {
     private boolean useSPTenantDomainValue;
 
     // Property added to customize the token valued generation method. (IDENTITY-6139)
-    private ValueGenerator tokenValueGenerator;
+    private volatile ValueGenerator tokenValueGenerator;
 
     // property to skip OIDC claims retrieval for client credential grant type.
     // By default, this is true because OIDC claims are not required for client credential grant type
@@ -370,6 +371,37 @@ public class OAuthServerConfiguration {
         return instance;
     }
 
+    /**
+     * Instantiate the token generators, persistence processor, grant and response type handlers, request object
+     * handlers and claim callback handlers up front, instead of on the first request that needs them. Once this is
+     * done, the corresponding getters only read the already published instances.
+     */
+    public void initializeHandlers() {
+
+        long startTime = System.currentTimeMillis();
+        getTokenValueGenerator();
+        getOAuthTokenGenerator();
+        getIdentityOauthTokenIssuer();
+        try {
+            getPersistenceProcessor();
+        } catch (IdentityOAuth2Exception e) {
+            log.error("Error while initializing the token persistence processor.", e);
+        }
+        getSupportedGrantTypes();
+        getSupportedGrantTypeValidators();
+        getSupportedResponseTypes();
+        getSupportedResponseTypeValidators();
+        getSupportedResponseModes();
+        getRequestObjectValidator();
+        getCIBARequestObjectValidator();
+        getRequestObjectBuilders();
+        getSAML2TokenCallbackHandler();
+        getOpenIDConnectIDTokenBuilder();
+        getOpenIDConnectCustomClaimsCallbackHandler();
+        getJWTAccessTokenOIDCClaimsHandler();
+        log.info("OAuth server handlers are initialized in " + (System.currentTimeMillis() - startTime) + " ms.");
+    }
+
     private void buildOAuthServerConfiguration() {
 
         IdentityConfigParser configParser = IdentityConfigParser.getInstance();
@@ -1257,8 +1289,8 @@ public class OAuthServerConfiguration {
                                 log.error("Cannot cast class: " + entry.getValue(), e);
                             }
                         }
-                        supportedResponseTypeValidators = supportedResponseTypeValidatorsTemp;
                     }
+                    supportedResponseTypeValidators = supportedResponseTypeValidatorsTemp;
                 }
             }
         }
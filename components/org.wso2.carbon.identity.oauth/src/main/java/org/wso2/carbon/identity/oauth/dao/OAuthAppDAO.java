@@ -67,8 +67,11 @@ import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -105,6 +108,7 @@ import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigPro
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.TOKEN_BINDING_TYPE_NONE;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.TOKEN_BINDING_VALIDATION;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.TOKEN_EP_ALLOW_REUSE_PVT_KEY_JWT;
+import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.TOKEN_REQUEST_RATE_LIMIT;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.TOKEN_REVOCATION_WITH_IDP_SESSION_TERMINATION;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.TOKEN_TYPE;
 import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.OPENID_CONNECT_AUDIENCE;
@@ -139,6 +143,8 @@ public class OAuthAppDAO {
 
     private static final String CONSUMER_APPS_TABLE_NAME = "IDN_OAUTH_CONSUMER_APPS";
 
+    private static final int MAX_IN_CLAUSE_SIZE = 100;
+
     private TokenPersistenceProcessor persistenceProcessor;
     private boolean isHashDisabled = OAuth2Util.isHashDisabled();
 
@@ -156,18 +162,7 @@ public class OAuthAppDAO {
     public void addOAuthApplication(OAuthAppDO consumerAppDO) throws IdentityOAuthAdminException {
 
         AuthenticatedUser appOwner = consumerAppDO.getAppOwner();
-        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-        String appOrgId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getApplicationResidentOrganizationId();
-        if (StringUtils.isNotEmpty(appOrgId)) {
-            try {
-                tenantDomain = OAuthComponentServiceHolder.getInstance().getOrganizationManager()
-                        .resolveTenantDomain(appOrgId);
-            } catch (OrganizationManagementException e) {
-                throw handleError("Error occurred while resolving tenant domain for organization id: "
-                        + appOrgId, e);
-            }
-        }
-        int spTenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        int spTenantId = IdentityTenantUtil.getTenantId(getApplicationTenantDomain());
         String userStoreDomain = appOwner.getUserStoreDomain();
         if (!isDuplicateApplication(appOwner.getUserName(), spTenantId, userStoreDomain, consumerAppDO)) {
             int appId = 0;
@@ -175,36 +170,13 @@ public class OAuthAppDAO {
                 try {
                     String processedClientId =
                             persistenceProcessor.getProcessedClientId(consumerAppDO.getOauthConsumerKey());
-                    String processedClientSecret =
-                            persistenceProcessor.getProcessedClientSecret(consumerAppDO.getOauthConsumerSecret());
-
-                    String templatedCallbackUrl = consumerAppDO.getCallbackUrl();
-                    if (ApplicationMgtUtil.isConsoleOrMyAccount(consumerAppDO.getApplicationName()) &&
-                            isRootOrganization(spTenantId)) {
-                        templatedCallbackUrl = ApplicationMgtUtil.replaceUrlOriginWithPlaceholders(
-                                templatedCallbackUrl, consumerAppDO.getApplicationName());
-                    }
 
                     String dbProductName = connection.getMetaData().getDatabaseProductName();
                     try (PreparedStatement prepStmt = connection
                             .prepareStatement(SQLQueries.OAuthAppDAOSQLQueries.ADD_OAUTH_APP_WITH_PKCE, new String[] {
                                     DBUtils.getConvertedAutoGeneratedColumnName(dbProductName, "ID")
                             })) {
-                        prepStmt.setString(1, processedClientId);
-                        prepStmt.setString(2, processedClientSecret);
-                        prepStmt.setString(3, appOwner.getUserName());
-                        prepStmt.setInt(4, spTenantId);
-                        prepStmt.setString(5, userStoreDomain);
-                        prepStmt.setString(6, consumerAppDO.getApplicationName());
-                        prepStmt.setString(7, consumerAppDO.getOauthVersion());
-                        prepStmt.setString(8, templatedCallbackUrl);
-                        prepStmt.setString(9, consumerAppDO.getGrantTypes());
-                        prepStmt.setString(10, consumerAppDO.isPkceMandatory() ? "1" : "0");
-                        prepStmt.setString(11, consumerAppDO.isPkceSupportPlain() ? "1" : "0");
-                        prepStmt.setLong(12, consumerAppDO.getUserAccessTokenExpiryTime());
-                        prepStmt.setLong(13, consumerAppDO.getApplicationAccessTokenExpiryTime());
-                        prepStmt.setLong(14, consumerAppDO.getRefreshTokenExpiryTime());
-                        prepStmt.setLong(15, consumerAppDO.getIdTokenExpiryTime());
+                        setOAuthAppInsertParameters(prepStmt, consumerAppDO, processedClientId, spTenantId);
                         prepStmt.execute();
                         try (ResultSet results = prepStmt.getGeneratedKeys()) {
                             if (results.next()) {
@@ -255,6 +227,267 @@ public class OAuthAppDAO {
         }
     }
 
+    /**
+     * Add a batch of OAuth applications in a single transaction. The applications, their scope validators, access
+     * token claims and OIDC properties are written with JDBC batches, and either all the applications are added or
+     * none of them.
+     *
+     * @param consumerAppDOs OAuth applications to be added.
+     * @throws IdentityOAuthAdminException If an application with the same name or client id already exists, or if
+     *                                     the applications could not be persisted.
+     */
+    public void addOAuthApplications(List<OAuthAppDO> consumerAppDOs) throws IdentityOAuthAdminException {
+
+        if (CollectionUtils.isEmpty(consumerAppDOs)) {
+            return;
+        }
+        int spTenantId = IdentityTenantUtil.getTenantId(getApplicationTenantDomain());
+        validateDuplicateApplications(consumerAppDOs, spTenantId);
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection()) {
+            try {
+                Map<String, OAuthAppDO> appsByProcessedClientId = new LinkedHashMap<>();
+                try (PreparedStatement prepStmt = connection.prepareStatement(
+                        SQLQueries.OAuthAppDAOSQLQueries.ADD_OAUTH_APP_WITH_PKCE)) {
+                    for (OAuthAppDO consumerAppDO : consumerAppDOs) {
+                        String processedClientId =
+                                persistenceProcessor.getProcessedClientId(consumerAppDO.getOauthConsumerKey());
+                        appsByProcessedClientId.put(processedClientId, consumerAppDO);
+                        setOAuthAppInsertParameters(prepStmt, consumerAppDO, processedClientId, spTenantId);
+                        prepStmt.addBatch();
+                    }
+                    prepStmt.executeBatch();
+                }
+                // Not all the JDBC drivers return the generated keys of a batch, hence the ids are read back.
+                setAppIds(connection, appsByProcessedClientId, spTenantId);
+
+                try (PreparedStatement scopeValidatorStmt = connection.prepareStatement(
+                        SQLQueries.OAuthAppDAOSQLQueries.ADD_APP_SCOPE_VALIDATOR);
+                     PreparedStatement accessTokenClaimStmt = connection.prepareStatement(
+                             SQLQueries.OAuthAppDAOSQLQueries.INSERT_ACCESS_TOKEN_CLAIMS);
+                     PreparedStatement oidcPropertyStmt = connection.prepareStatement(
+                             SQLQueries.OAuthAppDAOSQLQueries.ADD_SP_OIDC_PROPERTY)) {
+                    for (Map.Entry<String, OAuthAppDO> entry : appsByProcessedClientId.entrySet()) {
+                        OAuthAppDO consumerAppDO = entry.getValue();
+                        addToBatchForAppValues(scopeValidatorStmt, consumerAppDO.getId(),
+                                consumerAppDO.getScopeValidators());
+                        addToBatchForAppValues(accessTokenClaimStmt, consumerAppDO.getId(),
+                                consumerAppDO.getAccessTokenClaims());
+                        addToBatchForServiceProviderOIDCProperties(oidcPropertyStmt, consumerAppDO, entry.getKey(),
+                                spTenantId);
+                    }
+                    scopeValidatorStmt.executeBatch();
+                    accessTokenClaimStmt.executeBatch();
+                    oidcPropertyStmt.executeBatch();
+                }
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e1) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                if (isDuplicateClient(e1)) {
+                    String msg = "An application with the same clientId already exists.";
+                    throw new IdentityOAuthClientException(Error.DUPLICATE_OAUTH_CLIENT.getErrorCode(), msg, e1);
+                }
+                throw handleError(String.format("Error when executing SQL to create %d OAuth apps in tenant: %d",
+                        consumerAppDOs.size(), spTenantId), e1);
+            }
+        } catch (SQLException e) {
+            throw handleError(String.format("Error when executing SQL to create %d OAuth apps in tenant: %d",
+                    consumerAppDOs.size(), spTenantId), e);
+        } catch (IdentityOAuth2Exception e) {
+            throw handleError("Error occurred while processing the client id and client secret by " +
+                    "TokenPersistenceProcessor", null);
+        } catch (URLBuilderException e) {
+            throw handleError(
+                    "Error occurred when replacing origin of the access URL with placeholders", e);
+        }
+    }
+
+    /**
+     * Get the client ids which are already registered in the given tenant, out of the given client ids.
+     *
+     * @param consumerKeys Client ids to be checked.
+     * @param tenantId     Tenant id.
+     * @return Client ids which are already registered.
+     * @throws IdentityOAuthAdminException Error while reading the client ids.
+     */
+    public Set<String> getExistingConsumerKeys(Collection<String> consumerKeys, int tenantId)
+            throws IdentityOAuthAdminException {
+
+        Set<String> existingConsumerKeys = new HashSet<>();
+        if (CollectionUtils.isEmpty(consumerKeys)) {
+            return existingConsumerKeys;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            Map<String, String> consumerKeysByProcessedClientId = new HashMap<>();
+            for (String consumerKey : consumerKeys) {
+                consumerKeysByProcessedClientId.put(persistenceProcessor.getProcessedClientId(consumerKey),
+                        consumerKey);
+            }
+            executeInClauseQuery(connection, SQLQueries.OAuthAppDAOSQLQueries.GET_APP_IDS_BY_CONSUMER_KEYS,
+                    SQLQueries.OAuthAppDAOSQLQueries.CONSUMER_KEY_LIST_PLACEHOLDER, tenantId,
+                    new ArrayList<>(consumerKeysByProcessedClientId.keySet()),
+                    resultSet -> existingConsumerKeys.add(consumerKeysByProcessedClientId.get(
+                            resultSet.getString(2))));
+        } catch (IdentityOAuth2Exception e) {
+            throw handleError("Error occurred while processing the client id by TokenPersistenceProcessor", null);
+        } catch (SQLException e) {
+            throw handleError("Error when executing the SQL: " + SQLQueries.OAuthAppDAOSQLQueries
+                    .GET_APP_IDS_BY_CONSUMER_KEYS, e);
+        }
+        return existingConsumerKeys;
+    }
+
+    /**
+     * Check the batch for applications which have the same client id, or the same name and owner, as another
+     * application in the batch or in the given tenant.
+     */
+    private void validateDuplicateApplications(List<OAuthAppDO> consumerAppDOs, int spTenantId)
+            throws IdentityOAuthAdminException {
+
+        Set<String> consumerKeys = new HashSet<>();
+        Set<List<String>> appKeys = new HashSet<>();
+        for (OAuthAppDO consumerAppDO : consumerAppDOs) {
+            if (!consumerKeys.add(consumerAppDO.getOauthConsumerKey())) {
+                String msg = "An application with the same clientId already exists.";
+                throw new IdentityOAuthClientException(Error.DUPLICATE_OAUTH_CLIENT.getErrorCode(), msg);
+            }
+            AuthenticatedUser appOwner = consumerAppDO.getAppOwner();
+            if (!appKeys.add(getAppKey(consumerAppDO.getApplicationName(), appOwner.getUserName(),
+                    appOwner.getUserStoreDomain(), spTenantId))) {
+                throw handleDuplicateApplicationName(consumerAppDO.getApplicationName());
+            }
+        }
+
+        Set<String> appNames = new HashSet<>();
+        consumerAppDOs.forEach(consumerAppDO -> appNames.add(consumerAppDO.getApplicationName()));
+        List<String> duplicateAppNames = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            executeInClauseQuery(connection, SQLQueries.OAuthAppDAOSQLQueries.GET_APP_OWNERS_BY_APP_NAMES,
+                    SQLQueries.OAuthAppDAOSQLQueries.APP_NAME_LIST_PLACEHOLDER, spTenantId, new ArrayList<>(appNames),
+                    resultSet -> {
+                        String appName = resultSet.getString(1);
+                        if (appKeys.contains(getAppKey(appName, resultSet.getString(2),
+                                resultSet.getString(3), spTenantId))) {
+                            duplicateAppNames.add(appName);
+                        }
+                    });
+        } catch (SQLException e) {
+            throw handleError("Error when executing the SQL : " + SQLQueries.OAuthAppDAOSQLQueries
+                    .GET_APP_OWNERS_BY_APP_NAMES, e);
+        }
+        if (!duplicateAppNames.isEmpty()) {
+            throw handleDuplicateApplicationName(duplicateAppNames.get(0));
+        }
+    }
+
+    private List<String> getAppKey(String appName, String username, String userDomain, int tenantId) {
+
+        if (!IdentityUtil.isUserStoreInUsernameCaseSensitive(username, tenantId)) {
+            username = username.toLowerCase();
+        }
+        return Arrays.asList(appName, username, userDomain);
+    }
+
+    private IdentityOAuthClientException handleDuplicateApplicationName(String appName) {
+
+        return new IdentityOAuthClientException(Error.DUPLICATE_OAUTH_CLIENT.getErrorCode(),
+                "An application with the name: " + appName + " already exists.");
+    }
+
+    private void setAppIds(Connection connection, Map<String, OAuthAppDO> appsByProcessedClientId, int spTenantId)
+            throws SQLException {
+
+        executeInClauseQuery(connection, SQLQueries.OAuthAppDAOSQLQueries.GET_APP_IDS_BY_CONSUMER_KEYS,
+                SQLQueries.OAuthAppDAOSQLQueries.CONSUMER_KEY_LIST_PLACEHOLDER, spTenantId,
+                new ArrayList<>(appsByProcessedClientId.keySet()), resultSet -> {
+                    OAuthAppDO consumerAppDO = appsByProcessedClientId.get(resultSet.getString(2));
+                    if (consumerAppDO != null) {
+                        consumerAppDO.setId(resultSet.getInt(1));
+                    }
+                });
+        for (OAuthAppDO consumerAppDO : appsByProcessedClientId.values()) {
+            if (consumerAppDO.getId() == 0) {
+                throw new SQLException("Cannot find the id of the created application: " +
+                        consumerAppDO.getApplicationName());
+            }
+        }
+    }
+
+    /**
+     * Execute a query with an IN clause over the given values. The values are split into chunks so that the number of
+     * bind parameters stays within the limits of the databases.
+     */
+    private void executeInClauseQuery(Connection connection, String sqlQuery, String placeholder, int tenantId,
+                                      List<String> values, ResultSetHandler resultSetHandler) throws SQLException {
+
+        for (int from = 0; from < values.size(); from += MAX_IN_CLAUSE_SIZE) {
+            List<String> chunk = values.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, values.size()));
+            String sql = sqlQuery.replace(placeholder, String.join(", ", Collections.nCopies(chunk.size(), "?")));
+            try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+                prepStmt.setInt(1, tenantId);
+                int parameterIndex = 2;
+                for (String value : chunk) {
+                    prepStmt.setString(parameterIndex++, value);
+                }
+                try (ResultSet resultSet = prepStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSetHandler.handle(resultSet);
+                    }
+                }
+            }
+        }
+    }
+
+    private void setOAuthAppInsertParameters(PreparedStatement prepStmt, OAuthAppDO consumerAppDO,
+                                             String processedClientId, int spTenantId)
+            throws SQLException, IdentityOAuth2Exception, URLBuilderException {
+
+        AuthenticatedUser appOwner = consumerAppDO.getAppOwner();
+        prepStmt.setString(1, processedClientId);
+        prepStmt.setString(2, persistenceProcessor.getProcessedClientSecret(consumerAppDO.getOauthConsumerSecret()));
+        prepStmt.setString(3, appOwner.getUserName());
+        prepStmt.setInt(4, spTenantId);
+        prepStmt.setString(5, appOwner.getUserStoreDomain());
+        prepStmt.setString(6, consumerAppDO.getApplicationName());
+        prepStmt.setString(7, consumerAppDO.getOauthVersion());
+        prepStmt.setString(8, getTemplatedCallbackUrl(consumerAppDO, spTenantId));
+        prepStmt.setString(9, consumerAppDO.getGrantTypes());
+        prepStmt.setString(10, consumerAppDO.isPkceMandatory() ? "1" : "0");
+        prepStmt.setString(11, consumerAppDO.isPkceSupportPlain() ? "1" : "0");
+        prepStmt.setLong(12, consumerAppDO.getUserAccessTokenExpiryTime());
+        prepStmt.setLong(13, consumerAppDO.getApplicationAccessTokenExpiryTime());
+        prepStmt.setLong(14, consumerAppDO.getRefreshTokenExpiryTime());
+        prepStmt.setLong(15, consumerAppDO.getIdTokenExpiryTime());
+    }
+
+    private String getTemplatedCallbackUrl(OAuthAppDO consumerAppDO, int spTenantId)
+            throws URLBuilderException, IdentityOAuth2Exception {
+
+        String templatedCallbackUrl = consumerAppDO.getCallbackUrl();
+        if (ApplicationMgtUtil.isConsoleOrMyAccount(consumerAppDO.getApplicationName()) &&
+                isRootOrganization(spTenantId)) {
+            templatedCallbackUrl = ApplicationMgtUtil.replaceUrlOriginWithPlaceholders(
+                    templatedCallbackUrl, consumerAppDO.getApplicationName());
+        }
+        return templatedCallbackUrl;
+    }
+
+    private String getApplicationTenantDomain() throws IdentityOAuthAdminException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        String appOrgId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getApplicationResidentOrganizationId();
+        if (StringUtils.isNotEmpty(appOrgId)) {
+            try {
+                tenantDomain = OAuthComponentServiceHolder.getInstance().getOrganizationManager()
+                        .resolveTenantDomain(appOrgId);
+            } catch (OrganizationManagementException e) {
+                throw handleError("Error occurred while resolving tenant domain for organization id: "
+                        + appOrgId, e);
+            }
+        }
+        return tenantDomain;
+    }
+
     private boolean isDuplicateClient(SQLException e) {
         // We detect constraint violations in JDBC drivers which don't throw SQLIntegrityConstraintViolationException
         // by looking at the error message.
@@ -1085,6 +1318,10 @@ public class OAuthAppDAO {
                 SUBJECT_TOKEN_EXPIRY_TIME, String.valueOf(oauthAppDO.getSubjectTokenExpiryTime()),
                 prepStatementForPropertyAdd, preparedStatementForPropertyUpdate);
 
+        addOrUpdateOIDCSpProperty(preprocessedClientId, spTenantId, spOIDCProperties,
+                TOKEN_REQUEST_RATE_LIMIT, String.valueOf(oauthAppDO.getTokenRequestRateLimit()),
+                prepStatementForPropertyAdd, preparedStatementForPropertyUpdate);
+
         addOrUpdateOIDCSpProperty(preprocessedClientId, spTenantId, spOIDCProperties,
                 HYBRID_FLOW_ENABLED, String.valueOf(oauthAppDO.isHybridFlowEnabled()),
                 prepStatementForPropertyAdd, preparedStatementForPropertyUpdate);
@@ -1536,6 +1773,17 @@ public class OAuthAppDAO {
         }
     }
 
+    private void addToBatchForAppValues(PreparedStatement prepStmt, int appId, String[] values) throws SQLException {
+
+        if (values != null) {
+            for (String value : values) {
+                prepStmt.setInt(1, appId);
+                prepStmt.setString(2, value);
+                prepStmt.addBatch();
+            }
+        }
+    }
+
     /**
      * Retrieve all scope validators for specific appId.
      *
@@ -1704,125 +1952,135 @@ public class OAuthAppDAO {
 
         try (PreparedStatement prepStmtAddOIDCProperty =
                      connection.prepareStatement(SQLQueries.OAuthAppDAOSQLQueries.ADD_SP_OIDC_PROPERTY)) {
+            addToBatchForServiceProviderOIDCProperties(prepStmtAddOIDCProperty, consumerAppDO, processedClientId,
+                    spTenantId);
+            prepStmtAddOIDCProperty.executeBatch();
+        }
+    }
 
-            if (isOIDCAudienceEnabled() && consumerAppDO.getAudiences() != null) {
-                String[] audiences = consumerAppDO.getAudiences();
-                for (String audience : audiences) {
-                    addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                            OPENID_CONNECT_AUDIENCE, audience);
-                }
+    private void addToBatchForServiceProviderOIDCProperties(PreparedStatement prepStmtAddOIDCProperty,
+                                                            OAuthAppDO consumerAppDO,
+                                                            String processedClientId,
+                                                            int spTenantId) throws SQLException {
+
+        if (isOIDCAudienceEnabled() && consumerAppDO.getAudiences() != null) {
+            String[] audiences = consumerAppDO.getAudiences();
+            for (String audience : audiences) {
+                addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                        OPENID_CONNECT_AUDIENCE, audience);
             }
+        }
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    REQUEST_OBJECT_SIGNED, String.valueOf(consumerAppDO.isRequestObjectSignatureValidationEnabled()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                REQUEST_OBJECT_SIGNED, String.valueOf(consumerAppDO.isRequestObjectSignatureValidationEnabled()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    ID_TOKEN_ENCRYPTED, String.valueOf(consumerAppDO.isIdTokenEncryptionEnabled()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                ID_TOKEN_ENCRYPTED, String.valueOf(consumerAppDO.isIdTokenEncryptionEnabled()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    ID_TOKEN_ENCRYPTION_ALGORITHM, String.valueOf(consumerAppDO.getIdTokenEncryptionAlgorithm()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                ID_TOKEN_ENCRYPTION_ALGORITHM, String.valueOf(consumerAppDO.getIdTokenEncryptionAlgorithm()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    ID_TOKEN_ENCRYPTION_METHOD, String.valueOf(consumerAppDO.getIdTokenEncryptionMethod()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                ID_TOKEN_ENCRYPTION_METHOD, String.valueOf(consumerAppDO.getIdTokenEncryptionMethod()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    BACK_CHANNEL_LOGOUT_URL, consumerAppDO.getBackChannelLogoutUrl());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                BACK_CHANNEL_LOGOUT_URL, consumerAppDO.getBackChannelLogoutUrl());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    FRONT_CHANNEL_LOGOUT_URL, consumerAppDO.getFrontchannelLogoutUrl());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                FRONT_CHANNEL_LOGOUT_URL, consumerAppDO.getFrontchannelLogoutUrl());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    TOKEN_TYPE, consumerAppDO.getTokenType());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                TOKEN_TYPE, consumerAppDO.getTokenType());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    BYPASS_CLIENT_CREDENTIALS, String.valueOf(consumerAppDO.isBypassClientCredentials()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                BYPASS_CLIENT_CREDENTIALS, String.valueOf(consumerAppDO.isBypassClientCredentials()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    RENEW_REFRESH_TOKEN, consumerAppDO.getRenewRefreshTokenEnabled());
-
-            if (TOKEN_BINDING_TYPE_NONE.equalsIgnoreCase(consumerAppDO.getTokenBindingType())) {
-                consumerAppDO.setTokenBindingType(null);
-            }
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty, TOKEN_BINDING_TYPE,
-                    consumerAppDO.getTokenBindingType());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                RENEW_REFRESH_TOKEN, consumerAppDO.getRenewRefreshTokenEnabled());
 
-            // Token binding is required to enable following features.
-            if (consumerAppDO.getTokenBindingType() == null) {
-                consumerAppDO.setTokenRevocationWithIDPSessionTerminationEnabled(false);
-                consumerAppDO.setTokenBindingValidationEnabled(false);
-            }
+        if (TOKEN_BINDING_TYPE_NONE.equalsIgnoreCase(consumerAppDO.getTokenBindingType())) {
+            consumerAppDO.setTokenBindingType(null);
+        }
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty, TOKEN_BINDING_TYPE,
+                consumerAppDO.getTokenBindingType());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    TOKEN_REVOCATION_WITH_IDP_SESSION_TERMINATION,
-                    String.valueOf(consumerAppDO.isTokenRevocationWithIDPSessionTerminationEnabled()));
+        // Token binding is required to enable following features.
+        if (consumerAppDO.getTokenBindingType() == null) {
+            consumerAppDO.setTokenRevocationWithIDPSessionTerminationEnabled(false);
+            consumerAppDO.setTokenBindingValidationEnabled(false);
+        }
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    TOKEN_BINDING_VALIDATION,
-                    String.valueOf(consumerAppDO.isTokenBindingValidationEnabled()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                TOKEN_REVOCATION_WITH_IDP_SESSION_TERMINATION,
+                String.valueOf(consumerAppDO.isTokenRevocationWithIDPSessionTerminationEnabled()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    TOKEN_AUTH_METHOD, consumerAppDO.getTokenEndpointAuthMethod());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                TOKEN_BINDING_VALIDATION,
+                String.valueOf(consumerAppDO.isTokenBindingValidationEnabled()));
 
-            if (consumerAppDO.isTokenEndpointAllowReusePvtKeyJwt() != null) {
-                addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                        TOKEN_EP_ALLOW_REUSE_PVT_KEY_JWT,
-                        String.valueOf(consumerAppDO.isTokenEndpointAllowReusePvtKeyJwt()));
-            }
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                TOKEN_AUTH_METHOD, consumerAppDO.getTokenEndpointAuthMethod());
 
+        if (consumerAppDO.isTokenEndpointAllowReusePvtKeyJwt() != null) {
             addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    TOKEN_AUTH_SIGNATURE_ALGORITHM, consumerAppDO.getTokenEndpointAuthSignatureAlgorithm());
+                    TOKEN_EP_ALLOW_REUSE_PVT_KEY_JWT,
+                    String.valueOf(consumerAppDO.isTokenEndpointAllowReusePvtKeyJwt()));
+        }
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty, SECTOR_IDENTIFIER_URI,
-                    consumerAppDO.getSectorIdentifierURI());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                TOKEN_AUTH_SIGNATURE_ALGORITHM, consumerAppDO.getTokenEndpointAuthSignatureAlgorithm());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    ID_TOKEN_SIGNATURE_ALGORITHM, consumerAppDO.getIdTokenSignatureAlgorithm());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty, SECTOR_IDENTIFIER_URI,
+                consumerAppDO.getSectorIdentifierURI());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    REQUEST_OBJECT_SIGNATURE_ALGORITHM, consumerAppDO.getRequestObjectSignatureAlgorithm());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                ID_TOKEN_SIGNATURE_ALGORITHM, consumerAppDO.getIdTokenSignatureAlgorithm());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    REQUEST_OBJECT_ENCRYPTION_ALGORITHM, consumerAppDO.getRequestObjectEncryptionAlgorithm());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                REQUEST_OBJECT_SIGNATURE_ALGORITHM, consumerAppDO.getRequestObjectSignatureAlgorithm());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    REQUEST_OBJECT_ENCRYPTION_METHOD, consumerAppDO.getRequestObjectEncryptionMethod());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                REQUEST_OBJECT_ENCRYPTION_ALGORITHM, consumerAppDO.getRequestObjectEncryptionAlgorithm());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    TLS_SUBJECT_DN, consumerAppDO.getTlsClientAuthSubjectDN());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                REQUEST_OBJECT_ENCRYPTION_METHOD, consumerAppDO.getRequestObjectEncryptionMethod());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    IS_PUSH_AUTH,
-                    String.valueOf(consumerAppDO.isRequirePushedAuthorizationRequests()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                TLS_SUBJECT_DN, consumerAppDO.getTlsClientAuthSubjectDN());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    IS_CERTIFICATE_BOUND_ACCESS_TOKEN,
-                    String.valueOf(consumerAppDO.isTlsClientCertificateBoundAccessTokens()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                IS_PUSH_AUTH,
+                String.valueOf(consumerAppDO.isRequirePushedAuthorizationRequests()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    SUBJECT_TYPE, consumerAppDO.getSubjectType());
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                IS_CERTIFICATE_BOUND_ACCESS_TOKEN,
+                String.valueOf(consumerAppDO.isTlsClientCertificateBoundAccessTokens()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    IS_FAPI_CONFORMANT_APP, String.valueOf(consumerAppDO.isFapiConformanceEnabled()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                SUBJECT_TYPE, consumerAppDO.getSubjectType());
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    IS_SUBJECT_TOKEN_ENABLED, String.valueOf(consumerAppDO.isSubjectTokenEnabled()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                IS_FAPI_CONFORMANT_APP, String.valueOf(consumerAppDO.isFapiConformanceEnabled()));
 
-            if (consumerAppDO.getSubjectTokenExpiryTime() <= 0) {
-                consumerAppDO.setSubjectTokenExpiryTime(SUBJECT_TOKEN_EXPIRY_TIME_VALUE);
-            }
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    SUBJECT_TOKEN_EXPIRY_TIME, String.valueOf(consumerAppDO.getSubjectTokenExpiryTime()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                IS_SUBJECT_TOKEN_ENABLED, String.valueOf(consumerAppDO.isSubjectTokenEnabled()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    HYBRID_FLOW_ENABLED,
-                    String.valueOf(consumerAppDO.isHybridFlowEnabled()));
+        if (consumerAppDO.getSubjectTokenExpiryTime() <= 0) {
+            consumerAppDO.setSubjectTokenExpiryTime(SUBJECT_TOKEN_EXPIRY_TIME_VALUE);
+        }
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                SUBJECT_TOKEN_EXPIRY_TIME, String.valueOf(consumerAppDO.getSubjectTokenExpiryTime()));
 
-            addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
-                    OAuthConstants.OIDCConfigProperties.HYBRID_FLOW_RESPONSE_TYPE,
-                    String.valueOf(consumerAppDO.getHybridFlowResponseType()));
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                TOKEN_REQUEST_RATE_LIMIT, String.valueOf(consumerAppDO.getTokenRequestRateLimit()));
 
-            prepStmtAddOIDCProperty.executeBatch();
-        }
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                HYBRID_FLOW_ENABLED,
+                String.valueOf(consumerAppDO.isHybridFlowEnabled()));
+
+        addToBatchForOIDCPropertyAdd(processedClientId, spTenantId, prepStmtAddOIDCProperty,
+                OAuthConstants.OIDCConfigProperties.HYBRID_FLOW_RESPONSE_TYPE,
+                String.valueOf(consumerAppDO.getHybridFlowResponseType()));
     }
 
     private void handleSpOIDCProperties(Connection connection,
@@ -1992,6 +2250,10 @@ public class OAuthAppDAO {
         if (subjectTokenExpiryTime != null) {
             oauthApp.setSubjectTokenExpiryTime(Integer.parseInt(subjectTokenExpiryTime));
         }
+        String tokenRequestRateLimit = getFirstPropertyValue(spOIDCProperties, TOKEN_REQUEST_RATE_LIMIT);
+        if (tokenRequestRateLimit != null) {
+            oauthApp.setTokenRequestRateLimit(Integer.parseInt(tokenRequestRateLimit));
+        }
 
         String hybridFlowEnabledProperty = getFirstPropertyValue(spOIDCProperties, HYBRID_FLOW_ENABLED);
 
@@ -2133,4 +2395,13 @@ public class OAuthAppDAO {
 
         return Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE_CLAIMS_SEPARATION_FOR_ACCESS_TOKEN));
     }
+
+    /**
+     * Handles a row of the result of a query.
+     */
+    @FunctionalInterface
+    private interface ResultSetHandler {
+
+        void handle(ResultSet resultSet) throws SQLException;
+    }
 }
@@ -113,6 +113,7 @@ public class OAuthAppDO extends InboundConfigurationProtocol implements Serializ
     private boolean fapiConformanceEnabled;
     private boolean subjectTokenEnabled;
     private int subjectTokenExpiryTime;
+    private int tokenRequestRateLimit;
     private String[] accessTokenClaims;
 
     public AuthenticatedUser getAppOwner() {
@@ -546,6 +547,21 @@ public class OAuthAppDO extends InboundConfigurationProtocol implements Serializ
         this.subjectTokenExpiryTime = subjectTokenExpiryTime;
     }
 
+    /**
+     * Get the number of token requests per minute allowed for each grant type of this application.
+     *
+     * @return Token request rate limit, or 0 if the server default applies.
+     */
+    public int getTokenRequestRateLimit() {
+
+        return tokenRequestRateLimit;
+    }
+
+    public void setTokenRequestRateLimit(int tokenRequestRateLimit) {
+
+        this.tokenRequestRateLimit = tokenRequestRateLimit;
+    }
+
     public String[] getAccessTokenClaims() {
 
         return accessTokenClaims;
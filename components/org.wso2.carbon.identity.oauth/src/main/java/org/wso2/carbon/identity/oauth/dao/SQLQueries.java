@@ -236,6 +236,16 @@ public class SQLQueries {
         public static final String INSERT_ACCESS_TOKEN_CLAIMS = "INSERT INTO IDN_OAUTH2_TOKEN_CLAIMS " +
                 "(APP_ID, CLAIM_URI) VALUES (?,?) ";
 
+        public static final String CONSUMER_KEY_LIST_PLACEHOLDER = "_CONSUMER_KEY_LIST_";
+
+        public static final String APP_NAME_LIST_PLACEHOLDER = "_APP_NAME_LIST_";
+
+        public static final String GET_APP_IDS_BY_CONSUMER_KEYS = "SELECT ID, CONSUMER_KEY FROM " +
+                "IDN_OAUTH_CONSUMER_APPS WHERE TENANT_ID=? AND CONSUMER_KEY IN (" + CONSUMER_KEY_LIST_PLACEHOLDER + ")";
+
+        public static final String GET_APP_OWNERS_BY_APP_NAMES = "SELECT APP_NAME, USERNAME, USER_DOMAIN FROM " +
+                "IDN_OAUTH_CONSUMER_APPS WHERE TENANT_ID=? AND APP_NAME IN (" + APP_NAME_LIST_PLACEHOLDER + ")";
+
         private OAuthAppDAOSQLQueries() {
         }
     }
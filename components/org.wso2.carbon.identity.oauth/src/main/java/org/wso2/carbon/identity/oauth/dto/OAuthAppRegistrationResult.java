@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.dto;
+
+import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
+
+/**
+ * The result of registering an OAuth application in a bulk registration. Holds either the registered application
+ * or the error which prevented the registration.
+ */
+public class OAuthAppRegistrationResult {
+
+    private final OAuthConsumerAppDTO application;
+    private final IdentityOAuthAdminException error;
+
+    public OAuthAppRegistrationResult(OAuthConsumerAppDTO application) {
+
+        this(application, null);
+    }
+
+    public OAuthAppRegistrationResult(OAuthConsumerAppDTO application, IdentityOAuthAdminException error) {
+
+        this.application = application;
+        this.error = error;
+    }
+
+    /**
+     * Get the registered application, or the requested application if the registration failed.
+     *
+     * @return OAuth application.
+     */
+    public OAuthConsumerAppDTO getApplication() {
+
+        return application;
+    }
+
+    public IdentityOAuthAdminException getError() {
+
+        return error;
+    }
+
+    public boolean isSuccess() {
+
+        return error == null;
+    }
+}
@@ -80,6 +80,7 @@ public class OAuthConsumerAppDTO implements InboundProtocolConfigurationDTO {
     private boolean fapiConformanceEnabled;
     private boolean subjectTokenEnabled;
     private int subjectTokenExpiryTime;
+    private int tokenRequestRateLimit;
     private String[] accessTokenClaims;
 
     // CORS origin related properties. This will be used by the CORS management service
@@ -530,6 +531,21 @@ public class OAuthConsumerAppDTO implements InboundProtocolConfigurationDTO {
         this.subjectTokenExpiryTime = subjectTokenExpiryTime;
     }
 
+    /**
+     * Get the number of token requests per minute allowed for each grant type of this application.
+     *
+     * @return Token request rate limit, or 0 if the server default applies.
+     */
+    public int getTokenRequestRateLimit() {
+
+        return tokenRequestRateLimit;
+    }
+
+    public void setTokenRequestRateLimit(int tokenRequestRateLimit) {
+
+        this.tokenRequestRateLimit = tokenRequestRateLimit;
+    }
+
     public String[] getAccessTokenClaims() {
 
         return accessTokenClaims;
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.event;
+
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.handler.AbstractIdentityHandler;
+import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeRespDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuthRevocationRequestDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuthRevocationResponseDTO;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.model.RefreshTokenValidationDataDO;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+
+import java.util.Map;
+
+/**
+ * Base class for OAuth event interceptors that can handle post token events asynchronously, such as audit and
+ * analytics publishers. The post issuance, renewal, revocation and introspection callbacks take an immutable
+ * {@link OAuthEventSnapshot} on the request thread and hand it to the {@link OAuthEventDispatcher}, which calls
+ * {@link #handleEvent(OAuthEventSnapshot)} on a worker thread.
+ * <p>
+ * Interceptors that must complete before the response is sent, such as the ones that revoke or map sessions, should
+ * keep extending {@link AbstractOAuthEventInterceptor}. An async interceptor can be made to run synchronously by
+ * setting the Async property of its event listener configuration to false.
+ */
+public abstract class AbstractAsyncOAuthEventInterceptor extends AbstractOAuthEventInterceptor {
+
+    private static final String ASYNC_PROPERTY = "Async";
+
+    private volatile Boolean async;
+
+    /**
+     * Handle a post token event. Called on a dispatcher worker thread unless the interceptor runs synchronously.
+     *
+     * @param snapshot Snapshot of the event.
+     * @throws IdentityOAuth2Exception If an error occurs while handling the event.
+     */
+    protected abstract void handleEvent(OAuthEventSnapshot snapshot) throws IdentityOAuth2Exception;
+
+    /**
+     * Check whether the events should be handled asynchronously. Async handling is on unless the Async property of
+     * the event listener configuration is set to false.
+     *
+     * @return True if the events should be handled asynchronously.
+     */
+    public boolean isAsync() {
+
+        if (async == null) {
+            IdentityEventListenerConfig identityEventListenerConfig = IdentityUtil.readEventListenerProperty
+                    (AbstractIdentityHandler.class.getName(), this.getClass().getName());
+            String asyncValue = identityEventListenerConfig == null || identityEventListenerConfig.getProperties()
+                    == null ? null : identityEventListenerConfig.getProperties().getProperty(ASYNC_PROPERTY);
+            async = asyncValue == null || Boolean.parseBoolean(asyncValue.trim());
+        }
+        return async;
+    }
+
+    @Override
+    public void onPostTokenIssue(OAuth2AccessTokenReqDTO tokenReqDTO, OAuth2AccessTokenRespDTO tokenRespDTO,
+                                 OAuthTokenReqMessageContext tokReqMsgCtx, Map<String, Object> params)
+            throws IdentityOAuth2Exception {
+
+        publish(buildTokenEndpointSnapshot(OAuthEventSnapshot.EventType.POST_TOKEN_ISSUE, tokenReqDTO, tokenRespDTO,
+                tokReqMsgCtx, params));
+    }
+
+    @Override
+    public void onPostTokenIssue(OAuthAuthzReqMessageContext oauthAuthzMsgCtx, AccessTokenDO tokenDO,
+                                 OAuth2AuthorizeRespDTO respDTO, Map<String, Object> params)
+            throws IdentityOAuth2Exception {
+
+        OAuthEventSnapshot.Builder builder = new OAuthEventSnapshot.Builder(
+                OAuthEventSnapshot.EventType.POST_TOKEN_ISSUE).properties(params);
+        if (oauthAuthzMsgCtx != null && oauthAuthzMsgCtx.getAuthorizationReqDTO() != null) {
+            builder.clientId(oauthAuthzMsgCtx.getAuthorizationReqDTO().getConsumerKey())
+                    .tenantDomain(oauthAuthzMsgCtx.getAuthorizationReqDTO().getTenantDomain())
+                    .authorizedUser(getUserName(oauthAuthzMsgCtx.getAuthorizationReqDTO().getUser()))
+                    .scopes(oauthAuthzMsgCtx.getApprovedScope());
+        }
+        if (tokenDO != null) {
+            builder.tokenId(tokenDO.getTokenId()).grantType(tokenDO.getGrantType());
+        }
+        publish(builder.build());
+    }
+
+    @Override
+    public void onPostTokenRenewal(OAuth2AccessTokenReqDTO tokenReqDTO, OAuth2AccessTokenRespDTO tokenRespDTO,
+                                   OAuthTokenReqMessageContext tokReqMsgCtx, Map<String, Object> params)
+            throws IdentityOAuth2Exception {
+
+        publish(buildTokenEndpointSnapshot(OAuthEventSnapshot.EventType.POST_TOKEN_RENEWAL, tokenReqDTO, tokenRespDTO,
+                tokReqMsgCtx, params));
+    }
+
+    @Override
+    public void onPostTokenRevocationByClient(OAuthRevocationRequestDTO revokeRequestDTO,
+                                              OAuthRevocationResponseDTO revokeResponseDTO, AccessTokenDO accessTokenDO,
+                                              RefreshTokenValidationDataDO refreshTokenDO, Map<String, Object> params)
+            throws IdentityOAuth2Exception {
+
+        OAuthEventSnapshot.Builder builder = new OAuthEventSnapshot.Builder(
+                OAuthEventSnapshot.EventType.POST_TOKEN_REVOCATION_BY_CLIENT).properties(params);
+        if (revokeRequestDTO != null) {
+            builder.clientId(revokeRequestDTO.getConsumerKey());
+        }
+        if (accessTokenDO != null) {
+            populateFromAccessToken(builder, accessTokenDO);
+        } else if (refreshTokenDO != null) {
+            builder.tokenId(refreshTokenDO.getTokenId()).grantType(refreshTokenDO.getGrantType())
+                    .scopes(refreshTokenDO.getScope()).authorizedUser(getUserName(refreshTokenDO.getAuthorizedUser()));
+            if (refreshTokenDO.getAuthorizedUser() != null) {
+                builder.tenantDomain(refreshTokenDO.getAuthorizedUser().getTenantDomain());
+            }
+        }
+        publish(builder.build());
+    }
+
+    @Override
+    public void onPostTokenRevocationByResourceOwner(
+            org.wso2.carbon.identity.oauth.dto.OAuthRevocationRequestDTO revokeRequestDTO,
+            org.wso2.carbon.identity.oauth.dto.OAuthRevocationResponseDTO revokeRespDTO,
+            AccessTokenDO accessTokenDO, Map<String, Object> params) throws IdentityOAuth2Exception {
+
+        OAuthEventSnapshot.Builder builder = new OAuthEventSnapshot.Builder(
+                OAuthEventSnapshot.EventType.POST_TOKEN_REVOCATION_BY_RESOURCE_OWNER).properties(params);
+        if (revokeRequestDTO != null) {
+            builder.clientId(revokeRequestDTO.getConsumerKey()).authorizedUser(revokeRequestDTO.getAuthzUser());
+        }
+        if (accessTokenDO != null) {
+            populateFromAccessToken(builder, accessTokenDO);
+        }
+        publish(builder.build());
+    }
+
+    @Override
+    public void onPostTokenValidation(OAuth2TokenValidationRequestDTO oAuth2TokenValidationRequestDTO,
+                                      OAuth2IntrospectionResponseDTO oAuth2IntrospectionResponseDTO,
+                                      Map<String, Object> params) throws IdentityOAuth2Exception {
+
+        OAuthEventSnapshot.Builder builder = new OAuthEventSnapshot.Builder(
+                OAuthEventSnapshot.EventType.POST_TOKEN_INTROSPECTION).properties(params);
+        if (oAuth2IntrospectionResponseDTO != null) {
+            builder.clientId(oAuth2IntrospectionResponseDTO.getClientId())
+                    .authorizedUser(oAuth2IntrospectionResponseDTO.getUsername());
+            if (oAuth2IntrospectionResponseDTO.getScope() != null) {
+                builder.scopes(oAuth2IntrospectionResponseDTO.getScope().split(" "));
+            }
+        }
+        publish(builder.build());
+    }
+
+    private void publish(OAuthEventSnapshot snapshot) throws IdentityOAuth2Exception {
+
+        if (isAsync()) {
+            OAuthEventDispatcher.getInstance().dispatch(getClass().getName(), snapshot, this::handleEvent);
+        } else {
+            handleEvent(snapshot);
+        }
+    }
+
+    private static OAuthEventSnapshot buildTokenEndpointSnapshot(OAuthEventSnapshot.EventType eventType,
+                                                                 OAuth2AccessTokenReqDTO tokenReqDTO,
+                                                                 OAuth2AccessTokenRespDTO tokenRespDTO,
+                                                                 OAuthTokenReqMessageContext tokReqMsgCtx,
+                                                                 Map<String, Object> params) {
+
+        OAuthEventSnapshot.Builder builder = new OAuthEventSnapshot.Builder(eventType).properties(params);
+        if (tokenReqDTO != null) {
+            builder.clientId(tokenReqDTO.getClientId()).grantType(tokenReqDTO.getGrantType())
+                    .tenantDomain(tokenReqDTO.getTenantDomain());
+        }
+        if (tokenRespDTO != null) {
+            builder.tokenId(tokenRespDTO.getTokenId());
+        }
+        if (tokReqMsgCtx != null) {
+            builder.authorizedUser(getUserName(tokReqMsgCtx.getAuthorizedUser())).scopes(tokReqMsgCtx.getScope());
+        }
+        return builder.build();
+    }
+
+    private static void populateFromAccessToken(OAuthEventSnapshot.Builder builder, AccessTokenDO accessTokenDO) {
+
+        builder.tokenId(accessTokenDO.getTokenId()).grantType(accessTokenDO.getGrantType())
+                .scopes(accessTokenDO.getScope()).authorizedUser(getUserName(accessTokenDO.getAuthzUser()));
+        if (accessTokenDO.getAuthzUser() != null) {
+            builder.tenantDomain(accessTokenDO.getAuthzUser().getTenantDomain());
+        }
+    }
+
+    private static String getUserName(AuthenticatedUser user) {
+
+        return user == null ? null : user.toFullQualifiedUsername();
+    }
+}
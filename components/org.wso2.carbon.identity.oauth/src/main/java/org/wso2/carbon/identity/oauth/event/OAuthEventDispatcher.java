@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatches post token event snapshots to asynchronous OAuth event interceptors on a bounded pool of worker threads,
+ * so that slow audit or analytics listeners do not add to the token endpoint latency.
+ * <p>
+ * Asynchronous dispatching is disabled by default, in which case events are handled on the request thread. The
+ * dispatch queue is bounded and lossless. When the queue is full, the configured back pressure policy either handles
+ * the event on the request thread (CALLER_RUNS, the default) or blocks the request thread until a slot frees up
+ * (BLOCK). Events still queued when the dispatcher is shut down are handled on the shutting down thread. Events are
+ * handled in the tenant flow of the request that raised them. Submitted, completed and failed counts and the
+ * queueing lag are tracked per listener.
+ */
+public class OAuthEventDispatcher {
+
+    private static final Log log = LogFactory.getLog(OAuthEventDispatcher.class);
+
+    private static final String ASYNC_EVENT_DISPATCHER_ENABLE = "OAuth.AsyncEventDispatcher.Enable";
+    private static final String ASYNC_EVENT_DISPATCHER_POOL_SIZE = "OAuth.AsyncEventDispatcher.PoolSize";
+    private static final String ASYNC_EVENT_DISPATCHER_QUEUE_SIZE = "OAuth.AsyncEventDispatcher.QueueSize";
+    private static final String ASYNC_EVENT_DISPATCHER_BACK_PRESSURE_POLICY =
+            "OAuth.AsyncEventDispatcher.BackPressurePolicy";
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final long SHUTDOWN_TIMEOUT_IN_MILLIS = 5000;
+
+    private static volatile OAuthEventDispatcher instance;
+
+    private final ConcurrentMap<String, ListenerMetrics> metrics = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int poolSize;
+    private final int queueSize;
+    private final BackPressurePolicy backPressurePolicy;
+    private volatile ThreadPoolExecutor executor;
+    private volatile boolean shutdown;
+
+    /**
+     * Behaviour when the dispatch queue is full. Neither policy drops events.
+     */
+    public enum BackPressurePolicy {
+        BLOCK,
+        CALLER_RUNS
+    }
+
+    /**
+     * Handles a dispatched event snapshot.
+     */
+    public interface EventHandler {
+
+        void handle(OAuthEventSnapshot snapshot) throws IdentityOAuth2Exception;
+    }
+
+    private OAuthEventDispatcher() {
+
+        this(ConfigPropertyUtil.getBooleanProperty(ASYNC_EVENT_DISPATCHER_ENABLE, false),
+                ConfigPropertyUtil.getPositiveIntProperty(ASYNC_EVENT_DISPATCHER_POOL_SIZE, DEFAULT_POOL_SIZE),
+                ConfigPropertyUtil.getPositiveIntProperty(ASYNC_EVENT_DISPATCHER_QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+                ConfigPropertyUtil.getEnumProperty(ASYNC_EVENT_DISPATCHER_BACK_PRESSURE_POLICY,
+                        BackPressurePolicy.class, BackPressurePolicy.CALLER_RUNS));
+    }
+
+    OAuthEventDispatcher(boolean enabled, int poolSize, int queueSize, BackPressurePolicy backPressurePolicy) {
+
+        this.enabled = enabled;
+        this.poolSize = poolSize;
+        this.queueSize = queueSize;
+        this.backPressurePolicy = backPressurePolicy;
+    }
+
+    public static OAuthEventDispatcher getInstance() {
+
+        if (instance == null) {
+            synchronized (OAuthEventDispatcher.class) {
+                if (instance == null) {
+                    instance = new OAuthEventDispatcher();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled && !shutdown;
+    }
+
+    /**
+     * Queue the given event snapshot to be handled by a worker thread. The event is handled on the calling thread
+     * when the dispatcher is disabled or shut down, or when the queue is full and the back pressure policy is
+     * CALLER_RUNS. Errors raised while handling the event asynchronously are logged and counted, not propagated.
+     *
+     * @param listenerName Name of the listener, used to track the metrics.
+     * @param snapshot     Event snapshot.
+     * @param handler      Handler of the event.
+     * @throws IdentityOAuth2Exception If the event is handled on the calling thread and the handler fails.
+     */
+    public void dispatch(String listenerName, OAuthEventSnapshot snapshot, EventHandler handler)
+            throws IdentityOAuth2Exception {
+
+        ListenerMetrics listenerMetrics = getListenerMetrics(listenerName);
+        ThreadPoolExecutor currentExecutor = isEnabled() ? getExecutor() : null;
+        if (currentExecutor == null) {
+            handleSynchronously(listenerMetrics, snapshot, handler);
+            return;
+        }
+        listenerMetrics.submitted.incrementAndGet();
+        currentExecutor.execute(new DispatchTask(listenerName, listenerMetrics, snapshot, handler));
+    }
+
+    /**
+     * Get the metrics of the given listener.
+     *
+     * @param listenerName Name of the listener.
+     * @return Metrics of the listener.
+     */
+    public ListenerMetrics getListenerMetrics(String listenerName) {
+
+        return metrics.computeIfAbsent(listenerName, name -> new ListenerMetrics());
+    }
+
+    /**
+     * Get the metrics of all the listeners that dispatched at least one event.
+     *
+     * @return Unmodifiable map of listener name to metrics.
+     */
+    public Map<String, ListenerMetrics> getListenerMetrics() {
+
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Stop accepting new events and handle the queued ones. Events that are not handled by the workers within the
+     * shutdown timeout are handled on the calling thread.
+     */
+    public void shutdown() {
+
+        ThreadPoolExecutor currentExecutor;
+        synchronized (this) {
+            shutdown = true;
+            currentExecutor = executor;
+        }
+        if (currentExecutor == null) {
+            return;
+        }
+        currentExecutor.shutdown();
+        try {
+            if (currentExecutor.awaitTermination(SHUTDOWN_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Runnable> pendingTasks = currentExecutor.shutdownNow();
+        if (!pendingTasks.isEmpty()) {
+            log.warn("Handling " + pendingTasks.size() + " queued OAuth events on the shutdown thread.");
+        }
+        for (Runnable task : pendingTasks) {
+            task.run();
+        }
+    }
+
+    int getQueuedEventCount() {
+
+        ThreadPoolExecutor currentExecutor = executor;
+        return currentExecutor == null ? 0 : currentExecutor.getQueue().size();
+    }
+
+    /**
+     * Get the executor, creating it on the first dispatch. The shutdown flag is checked under the same lock the
+     * executor is created with, so that a dispatch racing the shutdown does not start an executor which is never shut
+     * down. An executor that is already shut down rejects the task, which is then handled on the calling thread.
+     *
+     * @return Executor, or null if the dispatcher is shut down before the executor is created.
+     */
+    private ThreadPoolExecutor getExecutor() {
+
+        ThreadPoolExecutor currentExecutor = executor;
+        if (currentExecutor != null) {
+            return currentExecutor;
+        }
+        synchronized (this) {
+            if (shutdown) {
+                return null;
+            }
+            if (executor == null) {
+                AtomicInteger threadCount = new AtomicInteger();
+                executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueSize), runnable -> {
+                            Thread thread = new Thread(runnable,
+                                    "oauth-async-event-dispatcher-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }, new BackPressureHandler(backPressurePolicy));
+            }
+        }
+        return executor;
+    }
+
+    private static void handleSynchronously(ListenerMetrics listenerMetrics, OAuthEventSnapshot snapshot,
+                                            EventHandler handler) throws IdentityOAuth2Exception {
+
+        listenerMetrics.submitted.incrementAndGet();
+        try {
+            handler.handle(snapshot);
+            listenerMetrics.completed.incrementAndGet();
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            listenerMetrics.failed.incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the back pressure policy when the dispatch queue is full. Tasks rejected after the executor is shut
+     * down are run on the calling thread so that no event is lost.
+     */
+    private static class BackPressureHandler implements RejectedExecutionHandler {
+
+        private final BackPressurePolicy policy;
+
+        BackPressureHandler(BackPressurePolicy policy) {
+
+            this.policy = policy;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+
+            if (policy == BackPressurePolicy.BLOCK && !executor.isShutdown()) {
+                try {
+                    executor.getQueue().put(runnable);
+                    // The executor may have been shut down while waiting, leaving the task stranded in the queue.
+                    if (!executor.isShutdown() || !executor.remove(runnable)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ((DispatchTask) runnable).callerRuns();
+            runnable.run();
+        }
+    }
+
+    /**
+     * Handles a single event snapshot and records the metrics of the listener.
+     */
+    private static class DispatchTask implements Runnable {
+
+        private final String listenerName;
+        private final ListenerMetrics listenerMetrics;
+        private final OAuthEventSnapshot snapshot;
+        private final EventHandler handler;
+        private final long queuedTime = System.currentTimeMillis();
+        private final String tenantDomain;
+        private final int tenantId;
+        private final String username;
+
+        DispatchTask(String listenerName, ListenerMetrics listenerMetrics, OAuthEventSnapshot snapshot,
+                     EventHandler handler) {
+
+            this.listenerName = listenerName;
+            this.listenerMetrics = listenerMetrics;
+            this.snapshot = snapshot;
+            this.handler = handler;
+            // Captured on the request thread, since worker threads do not inherit the carbon context.
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            this.tenantDomain = carbonContext.getTenantDomain();
+            this.tenantId = carbonContext.getTenantId();
+            this.username = carbonContext.getUsername();
+        }
+
+        void callerRuns() {
+
+            listenerMetrics.callerRuns.incrementAndGet();
+        }
+
+        @Override
+        public void run() {
+
+            listenerMetrics.recordLag(System.currentTimeMillis() - queuedTime);
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantId(tenantId);
+                carbonContext.setTenantDomain(tenantDomain);
+                carbonContext.setUsername(username);
+                handler.handle(snapshot);
+                listenerMetrics.completed.incrementAndGet();
+            } catch (IdentityOAuth2Exception | RuntimeException e) {
+                listenerMetrics.failed.incrementAndGet();
+                log.error("Error while handling the " + snapshot.getEventType() + " event asynchronously in " +
+                        listenerName + ".", e);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+    }
+
+    /**
+     * Dispatch metrics of a single listener. Lag is the time an event spent in the queue before a worker picked it up.
+     */
+    public static class ListenerMetrics {
+
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong callerRuns = new AtomicLong();
+        private final AtomicLong lastLagInMillis = new AtomicLong();
+        private final AtomicLong maxLagInMillis = new AtomicLong();
+
+        public long getSubmittedCount() {
+
+            return submitted.get();
+        }
+
+        public long getCompletedCount() {
+
+            return completed.get();
+        }
+
+        public long getFailedCount() {
+
+            return failed.get();
+        }
+
+        /**
+         * Get the number of events handled on the request thread because the dispatch queue was full or the
+         * dispatcher was shut down.
+         *
+         * @return Caller runs count.
+         */
+        public long getCallerRunsCount() {
+
+            return callerRuns.get();
+        }
+
+        public long getPendingCount() {
+
+            return submitted.get() - completed.get() - failed.get();
+        }
+
+        public long getLastLagInMillis() {
+
+            return lastLagInMillis.get();
+        }
+
+        public long getMaxLagInMillis() {
+
+            return maxLagInMillis.get();
+        }
+
+        private void recordLag(long lagInMillis) {
+
+            lastLagInMillis.set(lagInMillis);
+            maxLagInMillis.accumulateAndGet(lagInMillis, Math::max);
+        }
+    }
+}
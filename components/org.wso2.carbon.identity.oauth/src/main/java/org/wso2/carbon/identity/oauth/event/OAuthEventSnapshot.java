@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable copy of the data of a post token event. Snapshots are taken on the request thread so that asynchronous
+ * listeners never observe the mutable request and response objects, which are reused or changed once the request
+ * completes. Token values are deliberately not part of the snapshot.
+ * <p>
+ * Event parameters are copied along with their array, collection and map values. Any other parameter value is shared
+ * with the request thread, hence listeners must treat such values as read only.
+ */
+public final class OAuthEventSnapshot {
+
+    /**
+     * Post token events that can be dispatched asynchronously.
+     */
+    public enum EventType {
+        POST_TOKEN_ISSUE,
+        POST_TOKEN_RENEWAL,
+        POST_TOKEN_REVOCATION_BY_CLIENT,
+        POST_TOKEN_REVOCATION_BY_RESOURCE_OWNER,
+        POST_TOKEN_INTROSPECTION
+    }
+
+    private final EventType eventType;
+    private final String clientId;
+    private final String grantType;
+    private final String tenantDomain;
+    private final String authorizedUser;
+    private final String tokenId;
+    private final List<String> scopes;
+    private final Map<String, Object> properties;
+    private final long eventTime;
+
+    private OAuthEventSnapshot(Builder builder) {
+
+        this.eventType = builder.eventType;
+        this.clientId = builder.clientId;
+        this.grantType = builder.grantType;
+        this.tenantDomain = builder.tenantDomain;
+        this.authorizedUser = builder.authorizedUser;
+        this.tokenId = builder.tokenId;
+        this.scopes = builder.scopes == null ? Collections.emptyList() :
+                Collections.unmodifiableList(Arrays.asList(builder.scopes.clone()));
+        this.properties = builder.properties == null ? Collections.emptyMap() : copyProperties(builder.properties);
+        this.eventTime = builder.eventTime == 0 ? System.currentTimeMillis() : builder.eventTime;
+    }
+
+    public EventType getEventType() {
+
+        return eventType;
+    }
+
+    public String getClientId() {
+
+        return clientId;
+    }
+
+    public String getGrantType() {
+
+        return grantType;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public String getAuthorizedUser() {
+
+        return authorizedUser;
+    }
+
+    public String getTokenId() {
+
+        return tokenId;
+    }
+
+    public List<String> getScopes() {
+
+        return scopes;
+    }
+
+    /**
+     * Get the event parameters passed to the interceptor. The map is a copy taken when the event occurred.
+     *
+     * @return Unmodifiable map of event parameters.
+     */
+    public Map<String, Object> getProperties() {
+
+        return properties;
+    }
+
+    /**
+     * Get the time the event occurred on the request thread, in milliseconds.
+     *
+     * @return Event time.
+     */
+    public long getEventTime() {
+
+        return eventTime;
+    }
+
+    private static Map<String, Object> copyProperties(Map<String, Object> properties) {
+
+        Map<String, Object> copy = new HashMap<>();
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            copy.put(property.getKey(), copyValue(property.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static Object copyValue(Object value) {
+
+        if (value instanceof Object[]) {
+            return ((Object[]) value).clone();
+        }
+        if (value instanceof Set) {
+            Set<Object> copy = new LinkedHashSet<>();
+            for (Object element : (Set<?>) value) {
+                copy.add(copyValue(element));
+            }
+            return Collections.unmodifiableSet(copy);
+        }
+        if (value instanceof Collection) {
+            List<Object> copy = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                copy.add(copyValue(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), copyValue(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        return value;
+    }
+
+    /**
+     * Builder for {@link OAuthEventSnapshot}.
+     */
+    public static class Builder {
+
+        private final EventType eventType;
+        private String clientId;
+        private String grantType;
+        private String tenantDomain;
+        private String authorizedUser;
+        private String tokenId;
+        private String[] scopes;
+        private Map<String, Object> properties;
+        private long eventTime;
+
+        public Builder(EventType eventType) {
+
+            this.eventType = eventType;
+        }
+
+        public Builder clientId(String clientId) {
+
+            this.clientId = clientId;
+            return this;
+        }
+
+        public Builder grantType(String grantType) {
+
+            this.grantType = grantType;
+            return this;
+        }
+
+        public Builder tenantDomain(String tenantDomain) {
+
+            this.tenantDomain = tenantDomain;
+            return this;
+        }
+
+        public Builder authorizedUser(String authorizedUser) {
+
+            this.authorizedUser = authorizedUser;
+            return this;
+        }
+
+        public Builder tokenId(String tokenId) {
+
+            this.tokenId = tokenId;
+            return this;
+        }
+
+        public Builder scopes(String[] scopes) {
+
+            this.scopes = scopes;
+            return this;
+        }
+
+        public Builder properties(Map<String, Object> properties) {
+
+            this.properties = properties;
+            return this;
+        }
+
+        public Builder eventTime(long eventTime) {
+
+            this.eventTime = eventTime;
+            return this;
+        }
+
+        public OAuthEventSnapshot build() {
+
+            return new OAuthEventSnapshot(this);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.wso2.carbon.identity.application.mgt.AuthorizedAPIManagementService;
 import org.wso2.carbon.identity.application.mgt.inbound.protocol.ApplicationInboundAuthConfigHandler;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.cors.mgt.core.CORSManagementService;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
@@ -74,6 +75,7 @@ import org.wso2.carbon.user.core.service.RealmService;
 public class OAuthServiceComponent {
 
     private static final Log log = LogFactory.getLog(OAuthServiceComponent.class);
+    private static final String EAGER_HANDLER_INITIALIZATION_ENABLE = "OAuth.EagerHandlerInitialization.Enable";
     private ServiceRegistration serviceRegistration = null;
 
     protected void activate(ComponentContext context) {
@@ -103,6 +105,9 @@ public class OAuthServiceComponent {
 
             // We need to explicitly populate the OAuthTokenIssuerMap since it's used for token validation.
             oauthServerConfig.populateOAuthTokenIssuerMap();
+            if (Boolean.parseBoolean(IdentityUtil.getProperty(EAGER_HANDLER_INITIALIZATION_ENABLE))) {
+                oauthServerConfig.initializeHandlers();
+            }
 
             OAuthAdminServiceImpl oauthAdminService = new OAuthAdminServiceImpl();
             OAuthComponentServiceHolder.getInstance().setOAuthAdminService(oauthAdminService);
@@ -41,6 +41,7 @@ import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.util.RoleScopeIndex;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.role.mgt.core.GroupBasicInfo;
@@ -196,6 +197,11 @@ public class IdentityOauthEventHandler extends AbstractEventHandler {
                     .get(IdentityEventConstants.EventProperty.ROLE_ID);
             String tenantDomain = (String) event.getEventProperties()
                     .get(IdentityEventConstants.EventProperty.TENANT_DOMAIN);
+            boolean permissionsUpdated = IdentityEventConstants.Event.POST_UPDATE_PERMISSIONS_FOR_ROLE_V2_EVENT
+                    .equals(event.getEventName());
+            if (permissionsUpdated) {
+                RoleScopeIndex.getInstance().invalidateTenant(tenantDomain);
+            }
             try {
                 // Terminate sessions associated with the primary role.
                 terminateSessionsForRole(roleId, tenantDomain);
@@ -205,6 +211,9 @@ public class IdentityOauthEventHandler extends AbstractEventHandler {
                 for (RoleDTO roleDTO : roleDTOList) {
                     tenantDomain = IdentityTenantUtil.getTenantDomain(roleDTO.getTenantId());
                     roleId = roleDTO.getId();
+                    if (permissionsUpdated) {
+                        RoleScopeIndex.getInstance().invalidateTenant(tenantDomain);
+                    }
                     // Terminate sessions associated with the given shared role.
                     terminateSessionsForRole(roleId, tenantDomain);
                 }
@@ -212,6 +221,16 @@ public class IdentityOauthEventHandler extends AbstractEventHandler {
                 String errorMsg = "Invalid role id :" + roleId + "in tenant domain " + tenantDomain;
                 throw new IdentityEventException(errorMsg);
             }
+        } else if (IdentityEventConstants.Event.POST_DELETE_ROLE_V2_EVENT.equals(event.getEventName())) {
+
+            // The shared roles of the deleted role can no longer be resolved to their organizations.
+            RoleScopeIndex.getInstance().invalidateAllTenants();
+        } else if (IdentityEventConstants.Event.POST_UPDATE_AUTHORIZED_API_FOR_APPLICATION_EVENT
+                .equals(event.getEventName()) || IdentityEventConstants.Event
+                .POST_DELETE_AUTHORIZED_API_FOR_APPLICATION_EVENT.equals(event.getEventName())) {
+
+            RoleScopeIndex.getInstance().invalidateApplication(
+                    (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.APPLICATION_ID));
         } else if (IdentityEventConstants.Event.PRE_UPDATE_AUTHORIZED_API_FOR_APPLICATION_EVENT
                 .equals(event.getEventName())) {
 
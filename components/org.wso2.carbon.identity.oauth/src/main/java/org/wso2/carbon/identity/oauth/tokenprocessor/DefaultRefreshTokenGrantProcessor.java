@@ -23,7 +23,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.OAuth2ErrorCodes;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ClientException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
@@ -71,6 +73,19 @@ public class DefaultRefreshTokenGrantProcessor implements RefreshTokenGrantProce
                         oldAccessToken.getAccessToken())));
             }
         }
+        if (OAuth2Util.isOptimisticRefreshTokenRotationEnabled()) {
+            /* Only move the previous access token to "INACTIVE" if it is still in the state observed during the
+            validation. Otherwise, the refresh token has been used by a concurrent request in the meantime. */
+            boolean isRotated = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
+                    .rotateAccessToken(oldAccessToken.getTokenId(), oldAccessToken.getRefreshTokenState(),
+                            OAuthConstants.TokenStates.TOKEN_STATE_INACTIVE, clientId, UUID.randomUUID().toString(),
+                            accessTokenBean, userStoreDomain, oldAccessToken.getGrantType());
+            if (!isRotated) {
+                throw new IdentityOAuth2ClientException(OAuth2ErrorCodes.INVALID_GRANT,
+                        "Refresh token is already used by a concurrent request.");
+            }
+            return;
+        }
         // set the previous access token state to "INACTIVE" and store new access token in single db connection
         OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
                 .invalidateAndCreateNewAccessToken(oldAccessToken.getTokenId(),
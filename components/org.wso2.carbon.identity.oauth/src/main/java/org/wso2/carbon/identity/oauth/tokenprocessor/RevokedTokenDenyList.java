@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.dao.RevokedTokenDAO;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time bounded deny-list of revoked self-contained tokens, keyed by the token identifier (jti). Revocations are written
+ * to the database and kept in memory until the token expires, so a lookup never goes to the database. Revocations
+ * made on other nodes are picked up on a fixed interval, hence a token revoked on another node is rejected within one
+ * sync interval.
+ */
+public class RevokedTokenDenyList {
+
+    private static final Log log = LogFactory.getLog(RevokedTokenDenyList.class);
+
+    private static final String DENY_LIST_SYNC_INTERVAL = "OAuth.TokenPersistence.DenyListSyncInterval";
+    private static final long DEFAULT_SYNC_INTERVAL_IN_MILLIS = 10000;
+    private static final long CLEANUP_INTERVAL_IN_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private static volatile RevokedTokenDenyList instance;
+
+    private final ConcurrentMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final RevokedTokenDAO revokedTokenDAO;
+    private final long syncIntervalInMillis;
+    private volatile boolean loaded;
+    private volatile long lastSyncTime;
+    private volatile long lastCleanupTime;
+    private volatile ScheduledExecutorService syncExecutor;
+
+    private RevokedTokenDenyList() {
+
+        this(OAuthTokenPersistenceFactory.getInstance().getRevokedTokenDAO(), ConfigPropertyUtil
+                .getNonNegativeLongProperty(DENY_LIST_SYNC_INTERVAL, DEFAULT_SYNC_INTERVAL_IN_MILLIS));
+    }
+
+    RevokedTokenDenyList(RevokedTokenDAO revokedTokenDAO, long syncIntervalInMillis) {
+
+        this.revokedTokenDAO = revokedTokenDAO;
+        this.syncIntervalInMillis = syncIntervalInMillis;
+    }
+
+    public static RevokedTokenDenyList getInstance() {
+
+        if (instance == null) {
+            synchronized (RevokedTokenDenyList.class) {
+                if (instance == null) {
+                    instance = new RevokedTokenDenyList();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether the given token is revoked.
+     *
+     * @param tokenIdentifier Token identifier.
+     * @return True if the token is revoked and has not expired yet.
+     * @throws IdentityOAuth2Exception If the deny-list could not be loaded.
+     */
+    public boolean isRevoked(String tokenIdentifier) throws IdentityOAuth2Exception {
+
+        loadIfRequired();
+        Long expiryTime = revokedTokens.get(tokenIdentifier);
+        if (expiryTime == null) {
+            return false;
+        }
+        if (expiryTime <= System.currentTimeMillis()) {
+            revokedTokens.remove(tokenIdentifier, expiryTime);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Revoke the given token until it expires.
+     *
+     * @param tokenIdentifier Token identifier.
+     * @param consumerKey     Consumer key of the application the token is issued to.
+     * @param expiryTime      Expiry time of the token in milliseconds.
+     * @throws IdentityOAuth2Exception If an error occurs while recording the revocation.
+     */
+    public void revoke(String tokenIdentifier, String consumerKey, long expiryTime) throws IdentityOAuth2Exception {
+
+        if (expiryTime <= System.currentTimeMillis()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Token: " + tokenIdentifier + " has already expired. Skip adding it to the deny-list.");
+            }
+            return;
+        }
+        revokedTokenDAO.addRevokedToken(tokenIdentifier, consumerKey, expiryTime);
+        revokedTokens.put(tokenIdentifier, expiryTime);
+    }
+
+    /**
+     * Pick up the revocations recorded since the last sync and drop the expired entries.
+     *
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the revocations.
+     */
+    public synchronized void sync() throws IdentityOAuth2Exception {
+
+        long currentTime = System.currentTimeMillis();
+        // Overlap with the previous sync to tolerate clock skew between nodes and late commits.
+        long createdAfter = loaded ? Math.max(0, lastSyncTime - syncIntervalInMillis) : 0;
+        Map<String, Long> newRevocations = revokedTokenDAO.getRevokedTokens(createdAfter);
+        revokedTokens.putAll(newRevocations);
+        revokedTokens.values().removeIf(expiryTime -> expiryTime <= currentTime);
+        lastSyncTime = currentTime;
+        loaded = true;
+        if (log.isDebugEnabled()) {
+            log.debug("Synced " + newRevocations.size() + " revoked tokens. Deny-list size: " +
+                    revokedTokens.size());
+        }
+    }
+
+    /**
+     * Stop the periodic sync.
+     */
+    public void shutdown() {
+
+        ScheduledExecutorService executor = syncExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    int size() {
+
+        return revokedTokens.size();
+    }
+
+    private void loadIfRequired() throws IdentityOAuth2Exception {
+
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                sync();
+                startSyncExecutor();
+            }
+        }
+    }
+
+    private void startSyncExecutor() {
+
+        if (syncExecutor != null || syncIntervalInMillis <= 0) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "oauth-revoked-token-deny-list-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::syncQuietly, syncIntervalInMillis, syncIntervalInMillis,
+                TimeUnit.MILLISECONDS);
+        lastCleanupTime = System.currentTimeMillis();
+        syncExecutor = executor;
+    }
+
+    private void syncQuietly() {
+
+        try {
+            sync();
+            if (System.currentTimeMillis() - lastCleanupTime >= CLEANUP_INTERVAL_IN_MILLIS) {
+                lastCleanupTime = System.currentTimeMillis();
+                int removedCount = revokedTokenDAO.removeExpiredRevokedTokens();
+                if (log.isDebugEnabled()) {
+                    log.debug("Removed " + removedCount + " expired entries from the revoked token deny-list.");
+                }
+            }
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            log.error("Error while syncing the revoked token deny-list.", e);
+        }
+    }
+}
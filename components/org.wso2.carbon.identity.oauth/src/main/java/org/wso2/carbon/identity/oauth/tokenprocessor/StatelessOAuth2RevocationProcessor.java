@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dto.OAuthRevocationRequestDTO;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+/**
+ * Revocation processor for the stateless mode, used when token persistence is disabled. Access tokens are not
+ * persisted, hence they are revoked by adding their identifier to the {@link RevokedTokenDenyList} until they expire.
+ * Refresh tokens and indirect revocations are handled as in the {@link DefaultOAuth2RevocationProcessor}.
+ */
+public class StatelessOAuth2RevocationProcessor extends DefaultOAuth2RevocationProcessor {
+
+    @Override
+    public void revokeAccessToken(OAuthRevocationRequestDTO revokeRequestDTO, AccessTokenDO accessTokenDO)
+            throws IdentityOAuth2Exception {
+
+        long expiryTime = accessTokenDO.getIssuedTime().getTime() + accessTokenDO.getValidityPeriodInMillis();
+        RevokedTokenDenyList.getInstance().revoke(accessTokenDO.getTokenId(), accessTokenDO.getConsumerKey(),
+                expiryTime);
+    }
+}
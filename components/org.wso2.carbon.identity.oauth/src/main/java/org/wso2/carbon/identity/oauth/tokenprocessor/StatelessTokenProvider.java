@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.model.RefreshTokenValidationDataDO;
+import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.security.cert.X509Certificate;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Token provider for the stateless mode, used when token persistence is disabled. JWT access tokens are verified
+ * offline from their signature and claims, and revoked tokens are rejected through the {@link RevokedTokenDenyList}.
+ * Other tokens are looked up through the {@link DefaultTokenProvider}.
+ */
+public class StatelessTokenProvider implements TokenProvider {
+
+    private static final Log log = LogFactory.getLog(StatelessTokenProvider.class);
+    private static final String CLIENT_ID = "client_id";
+    private static final String TOKEN_BINDING_REF = "binding_ref";
+    private static final String TOKEN_BINDING_TYPE = "binding_type";
+
+    private final TokenProvider defaultTokenProvider = new DefaultTokenProvider();
+
+    @Override
+    public AccessTokenDO getVerifiedAccessToken(String accessToken, boolean includeExpired)
+            throws IdentityOAuth2Exception {
+
+        if (!JWTUtils.isJWT(accessToken)) {
+            return defaultTokenProvider.getVerifiedAccessToken(accessToken, includeExpired);
+        }
+        AccessTokenDO accessTokenDO = verifyAccessToken(accessToken);
+        if (accessTokenDO == null) {
+            // Same contract as the persisted tokens, which are only looked up in ACTIVE and EXPIRED states.
+            if (!includeExpired) {
+                throw new IllegalArgumentException("Invalid Access Token. ACTIVE access token is not found.");
+            }
+            return null;
+        }
+        return accessTokenDO;
+    }
+
+    @Override
+    public RefreshTokenValidationDataDO getVerifiedRefreshToken(String refreshToken, String consumerKey)
+            throws IdentityOAuth2Exception {
+
+        return defaultTokenProvider.getVerifiedRefreshToken(refreshToken, consumerKey);
+    }
+
+    @Override
+    public AccessTokenDO getVerifiedRefreshToken(String refreshToken) throws IdentityOAuth2Exception {
+
+        return defaultTokenProvider.getVerifiedRefreshToken(refreshToken);
+    }
+
+    /**
+     * Verify the signature of the given JWT access token and build the token data from its claims.
+     *
+     * @param accessToken JWT access token.
+     * @return Access token data, or null if the token is not issued for the stateless mode, is not signed by this
+     * server, or is revoked.
+     * @throws IdentityOAuth2Exception If an error occurs while verifying the token.
+     */
+    private AccessTokenDO verifyAccessToken(String accessToken) throws IdentityOAuth2Exception {
+
+        try {
+            SignedJWT signedJWT = JWTUtils.parseJWT(accessToken);
+            Optional<JWTClaimsSet> claimsSet = JWTUtils.getJWTClaimSet(signedJWT);
+            if (!claimsSet.isPresent() || !JWTUtils.validateRequiredFields(claimsSet.get()) ||
+                    claimsSet.get().getClaim(OAuth2Constants.ENTITY_ID) == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Mandatory claims are not available in the JWT access token.");
+                }
+                return null;
+            }
+            AccessTokenDO accessTokenDO = buildAccessTokenDO(claimsSet.get());
+            if (!isValidSignature(signedJWT, claimsSet.get(), accessTokenDO)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Signature validation failed for the JWT access token: " + accessTokenDO.getTokenId());
+                }
+                return null;
+            }
+            if (RevokedTokenDenyList.getInstance().isRevoked(accessTokenDO.getTokenId())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("JWT access token: " + accessTokenDO.getTokenId() + " is revoked.");
+                }
+                return null;
+            }
+            return accessTokenDO;
+        } catch (ParseException e) {
+            throw new IdentityOAuth2Exception("Error while parsing the JWT access token.", e);
+        } catch (JOSEException e) {
+            throw new IdentityOAuth2Exception("Error while verifying the signature of the JWT access token.", e);
+        } catch (OrganizationManagementException e) {
+            throw new IdentityOAuth2Exception("Error while retrieving the organization hierarchy.", e);
+        }
+    }
+
+    private boolean isValidSignature(SignedJWT signedJWT, JWTClaimsSet claimsSet, AccessTokenDO accessTokenDO)
+            throws IdentityOAuth2Exception, ParseException, JOSEException, OrganizationManagementException {
+
+        Optional<X509Certificate> certificate = JWTUtils.getCertificateFromClaims(claimsSet);
+        X509Certificate x509Certificate;
+        if (certificate.isPresent()) {
+            x509Certificate = certificate.get();
+        } else {
+            String tenantDomain = JWTUtils.getSigningTenantDomain(claimsSet, accessTokenDO);
+            IdentityProvider identityProvider = JWTUtils.getResidentIDPForIssuer(claimsSet, tenantDomain);
+            x509Certificate = JWTUtils.resolveSignerCertificate(identityProvider);
+        }
+        if (x509Certificate == null) {
+            return false;
+        }
+        return JWTUtils.verifySignature(signedJWT, x509Certificate, JWTUtils.verifyAlgorithm(signedJWT));
+    }
+
+    private AccessTokenDO buildAccessTokenDO(JWTClaimsSet claimsSet) throws ParseException, IdentityOAuth2Exception {
+
+        String consumerKey = claimsSet.getStringClaim(CLIENT_ID);
+        String userType = claimsSet.getStringClaim(OAuthConstants.AUTHORIZED_USER_TYPE);
+        String tenantDomain = claimsSet.getStringClaim(OAuth2Constants.USER_TENANT_DOMAIN);
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setAuthenticatedSubjectIdentifier(claimsSet.getSubject());
+        // The user name is not part of the token. Callers which need it should resolve it from the user id.
+        authenticatedUser.setUserName(claimsSet.getSubject());
+        if (OAuthConstants.UserType.APPLICATION_USER.equals(userType)) {
+            authenticatedUser.setUserId(claimsSet.getStringClaim(OAuth2Constants.ENTITY_ID));
+        }
+        authenticatedUser.setTenantDomain(tenantDomain);
+        authenticatedUser.setUserStoreDomain(claimsSet.getStringClaim(OAuth2Constants.USER_STORE_DOMAIN));
+        Boolean isFederated = claimsSet.getBooleanClaim(OAuth2Constants.IS_FEDERATED);
+        authenticatedUser.setFederatedUser(Boolean.TRUE.equals(isFederated));
+
+        Date issuedTime = claimsSet.getIssueTime() != null ? claimsSet.getIssueTime() : new Date();
+        long validityPeriodInMillis = claimsSet.getExpirationTime().getTime() - issuedTime.getTime();
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setConsumerKey(consumerKey);
+        accessTokenDO.setAuthzUser(authenticatedUser);
+        accessTokenDO.setScope(OAuth2Util.buildScopeArray(claimsSet.getStringClaim(OAuthConstants.SCOPE)));
+        // The jti is the persisted alias of JWT access tokens.
+        accessTokenDO.setTokenId(claimsSet.getJWTID());
+        accessTokenDO.setAccessToken(claimsSet.getJWTID());
+        accessTokenDO.setTokenType(userType);
+        accessTokenDO.setGrantType(claimsSet.getStringClaim(OAuth2Constants.GRANT_TYPE));
+        accessTokenDO.setIssuedTime(new Timestamp(issuedTime.getTime()));
+        accessTokenDO.setValidityPeriodInMillis(validityPeriodInMillis);
+        accessTokenDO.setValidityPeriod(validityPeriodInMillis / 1000);
+        accessTokenDO.setTokenState(JWTUtils.checkExpirationTime(claimsSet.getExpirationTime()) ?
+                OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE : OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED);
+        Boolean isConsented = claimsSet.getBooleanClaim(OAuth2Constants.IS_CONSENTED);
+        accessTokenDO.setIsConsentedToken(Boolean.TRUE.equals(isConsented));
+        if (StringUtils.isNotBlank(tenantDomain)) {
+            accessTokenDO.setTenantID(OAuth2Util.getTenantId(tenantDomain));
+        }
+        String bindingType = claimsSet.getStringClaim(TOKEN_BINDING_TYPE);
+        if (StringUtils.isNotBlank(bindingType)) {
+            accessTokenDO.setTokenBinding(new TokenBinding(bindingType,
+                    claimsSet.getStringClaim(TOKEN_BINDING_REF)));
+        }
+        return accessTokenDO;
+    }
+}
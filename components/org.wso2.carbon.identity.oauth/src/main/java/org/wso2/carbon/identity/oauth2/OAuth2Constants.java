@@ -48,10 +48,16 @@ public class OAuth2Constants {
     public static final String ENTITY_ID = "entity_id";
     public static final String IS_CONSENTED = "is_consented";
     public static final String IS_FEDERATED = "is_federated";
+    public static final String USER_TENANT_DOMAIN = "user_tenant_domain";
+    public static final String USER_STORE_DOMAIN = "user_store_domain";
+    public static final String GRANT_TYPE = "grant_type";
     public static final boolean DEFAULT_PERSIST_ENABLED = true;
     public static final String OAUTH_TOKEN_PERSISTENCE_ENABLE = "OAuth.TokenPersistence.Enable";
     public static final String OAUTH_CODE_PERSISTENCE_ENABLE = "OAuth.EnableAuthCodePersistence";
+    public static final String OAUTH_SELF_CONTAINED_CODE_ENABLE = "OAuth.EnableSelfContainedAuthCode";
     public static final String OAUTH_ENABLE_REVOKE_TOKEN_HEADERS = "OAuth.EnableRevokeTokenHeadersInResponse";
+    public static final String OAUTH_OPTIMISTIC_REFRESH_TOKEN_ROTATION_ENABLE =
+            "OAuth.RefreshTokenRotation.EnableOptimisticConcurrency";
     public static final String CONSOLE_CALLBACK_URL_FROM_SERVER_CONFIGS = "Console.CallbackURL";
     public static final String MY_ACCOUNT_CALLBACK_URL_FROM_SERVER_CONFIGS = "MyAccount.CallbackURL";
     public static final String TENANT_DOMAIN_PLACEHOLDER = "{TENANT_DOMAIN}";
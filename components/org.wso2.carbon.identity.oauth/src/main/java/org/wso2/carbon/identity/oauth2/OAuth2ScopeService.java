@@ -38,6 +38,7 @@ import org.wso2.carbon.identity.oauth2.scopeservice.ScopeMetadata;
 import org.wso2.carbon.identity.oauth2.scopeservice.ScopeMetadataService;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.oauth2.util.Oauth2ScopeUtils;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryCache;
 import org.wso2.carbon.identity.openidconnect.cache.OIDCScopeClaimCache;
 import org.wso2.carbon.utils.DiagnosticLog;
 
@@ -207,6 +208,35 @@ public class OAuth2ScopeService implements ScopeMetadataService {
         return scopes;
     }
 
+    /**
+     * Retrieve a page of scopes ordered by scope name, starting right after the given scope name. Filters are
+     * applied in the database, hence a page always holds up to count matching scopes.
+     *
+     * @param after             Name of the last scope of the previous page. Null or empty for the first page.
+     * @param count             Maximum number of scopes in the page.
+     * @param includeOIDCScopes Include OIDC scopes as well.
+     * @param namePrefix        Only return scopes whose name starts with this prefix.
+     * @param binding           Only return scopes having this binding.
+     * @return Scopes of the page in scope name order.
+     * @throws IdentityOAuth2ScopeServerException
+     */
+    public List<Scope> getScopesAfter(String after, Integer count, Boolean includeOIDCScopes, String namePrefix,
+                                      String binding) throws IdentityOAuth2ScopeServerException {
+
+        if (count == null || count < 1) {
+            count = Oauth2ScopeConstants.MAX_FILTER_COUNT;
+        }
+
+        try {
+            return OAuthTokenPersistenceFactory.getInstance().getOAuthScopeDAO()
+                    .getScopesAfter(after, count, Oauth2ScopeUtils.getTenantID(),
+                            BooleanUtils.isTrue(includeOIDCScopes), namePrefix, binding);
+        } catch (IdentityOAuth2ScopeServerException e) {
+            throw Oauth2ScopeUtils.generateServerException(Oauth2ScopeConstants.ErrorMessages.
+                    ERROR_CODE_FAILED_TO_GET_ALL_SCOPES_PAGINATION, e);
+        }
+    }
+
     /**
      * @param name Name of the scope which need to get retrieved
      * @return Retrieved Scope
@@ -366,6 +396,7 @@ public class OAuth2ScopeService implements ScopeMetadataService {
         OAuthScopeCache.getInstance().addToCache(new OAuthScopeCacheKey(updatedScope.getName()), updatedScope,
                 tenantID);
         OIDCScopeClaimCache.getInstance().clearScopeClaimMap(tenantID);
+        OIDCDiscoveryCache.getInstance().clearDiscoveryDocument(tenantID);
         return updatedScope;
     }
 
@@ -583,12 +614,9 @@ public class OAuth2ScopeService implements ScopeMetadataService {
         validateAppId(appId);
         try {
             if (CollectionUtils.isNotEmpty(consentRequiredScopes)) {
-                UserApplicationScopeConsentDO existingConsent = OAuthTokenPersistenceFactory.getInstance()
+                return OAuthTokenPersistenceFactory.getInstance()
                         .getOAuthUserConsentedScopesDAO()
-                        .getUserConsentForApplication(userId, appId, userTenantId);
-                consentRequiredScopes.removeAll(existingConsent.getApprovedScopes());
-                consentRequiredScopes.removeAll(existingConsent.getDeniedScopes());
-                return consentRequiredScopes.isEmpty();
+                        .isUserConsentedForAllScopes(userId, appId, userTenantId, consentRequiredScopes);
             }
             return true;
         } catch (IdentityOAuth2ScopeConsentException e) {
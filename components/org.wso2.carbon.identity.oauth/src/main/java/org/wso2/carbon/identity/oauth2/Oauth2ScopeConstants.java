@@ -126,6 +126,10 @@ public class Oauth2ScopeConstants {
         public static final String OFFSET = "offset";
         public static final String SCOPE_TYPE = "scope_type";
         public static final String SCOPE_LIST_PLACEHOLDER = "_SCOPE_LIST_";
+        public static final String AFTER = "after";
+        public static final String NAME_PREFIX = "name_prefix";
+        public static final String BINDING = "binding";
+        public static final String SCOPE_FILTER_PLACEHOLDER = "_SCOPE_FILTER_";
     }
 
     /**
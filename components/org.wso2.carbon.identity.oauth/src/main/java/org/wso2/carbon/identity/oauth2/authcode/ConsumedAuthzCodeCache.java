@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.authcode;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory record of the self-contained authorization codes that have already been redeemed, keyed by the
+ * authorization code id. An entry is only kept until the code it belongs to expires, since an expired code is
+ * rejected anyway, which keeps the cache bounded by the number of codes issued within one code lifetime.
+ * <p>
+ * Redeeming a code has to be atomic, which the distributed caches do not offer, hence the record is local to the
+ * node. Self-contained codes are therefore not issued when clustering is enabled.
+ */
+public class ConsumedAuthzCodeCache {
+
+    private static final long DEFAULT_PURGE_INTERVAL_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final ConsumedAuthzCodeCache instance = new ConsumedAuthzCodeCache(
+            DEFAULT_PURGE_INTERVAL_IN_MILLIS);
+
+    private final ConcurrentMap<String, Long> consumedCodes = new ConcurrentHashMap<>();
+    private final AtomicLong lastPurgeTime = new AtomicLong(System.currentTimeMillis());
+    private final long purgeIntervalInMillis;
+
+    ConsumedAuthzCodeCache(long purgeIntervalInMillis) {
+
+        this.purgeIntervalInMillis = purgeIntervalInMillis;
+    }
+
+    public static ConsumedAuthzCodeCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Mark the given authorization code as consumed.
+     *
+     * @param authzCodeId Authorization code id.
+     * @param expiryTime  Time in milliseconds after which the code is no longer accepted.
+     * @return True if the code is consumed by this call, false if it has already been consumed.
+     */
+    public boolean consume(String authzCodeId, long expiryTime) {
+
+        long currentTime = System.currentTimeMillis();
+        purgeIfRequired(currentTime);
+        if (expiryTime <= currentTime) {
+            // Expired codes are rejected by the caller, hence there is no need to remember them.
+            return true;
+        }
+        return consumedCodes.putIfAbsent(authzCodeId, expiryTime) == null;
+    }
+
+    int size() {
+
+        return consumedCodes.size();
+    }
+
+    private void purgeIfRequired(long currentTime) {
+
+        long lastPurge = lastPurgeTime.get();
+        if (currentTime - lastPurge >= purgeIntervalInMillis && lastPurgeTime.compareAndSet(lastPurge, currentTime)) {
+            consumedCodes.values().removeIf(expiryTime -> expiryTime <= currentTime);
+        }
+    }
+}
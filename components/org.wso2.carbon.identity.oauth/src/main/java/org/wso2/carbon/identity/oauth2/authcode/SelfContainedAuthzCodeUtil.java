@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.authcode;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.wso2.carbon.core.util.CryptoException;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.application.authentication.framework.exception.UserIdNotFoundException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.oauth2.rar.util.AuthorizationDetailsUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Utility to issue and read self-contained authorization codes. A self-contained code carries the authorization code
+ * context (authorized user, approved scopes, redirect URI and PKCE challenge) encrypted with the server encryption key
+ * and signed with the server private key, hence it does not have to be stored when it is issued and read back when it
+ * is redeemed. One-time use of these codes is enforced through the {@link ConsumedAuthzCodeCache}. Rich authorization
+ * requests are always issued opaque persisted codes.
+ */
+public class SelfContainedAuthzCodeUtil {
+
+    private static final Log log = LogFactory.getLog(SelfContainedAuthzCodeUtil.class);
+
+    private static final String CODE_PREFIX = "sc.";
+    private static final String SIGNATURE_SEPARATOR = ".";
+    private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+    private static final String CODE_ID = "cid";
+    private static final String CONSUMER_KEY = "ck";
+    private static final String SCOPES = "scp";
+    private static final String ISSUED_TIME = "iat";
+    private static final String VALIDITY_PERIOD = "vp";
+    private static final String CALLBACK_URL = "cb";
+    private static final String PKCE_CODE_CHALLENGE = "pc";
+    private static final String PKCE_CODE_CHALLENGE_METHOD = "pcm";
+    private static final String USER_NAME = "un";
+    private static final String USER_ID = "uid";
+    private static final String USER_STORE_DOMAIN = "usd";
+    private static final String TENANT_DOMAIN = "td";
+    private static final String FEDERATED_IDP_NAME = "idp";
+    private static final String SUBJECT_IDENTIFIER = "sub";
+    private static final String ACCESSING_ORGANIZATION = "ao";
+    private static final String USER_RESIDENT_ORGANIZATION = "ro";
+
+    private SelfContainedAuthzCodeUtil() {
+
+    }
+
+    /**
+     * Check whether the given authorization code is a self-contained authorization code.
+     *
+     * @param authzCode Authorization code.
+     * @return True if the code is a self-contained authorization code.
+     */
+    public static boolean isSelfContainedAuthzCode(String authzCode) {
+
+        return StringUtils.startsWith(authzCode, CODE_PREFIX);
+    }
+
+    /**
+     * Check whether a self-contained authorization code is to be issued for the given authorization request. Rich
+     * authorization requests get an opaque persisted code instead, since their approved authorization details are
+     * stored against the persisted code and read back through it when the code is redeemed.
+     *
+     * @param oauthAuthzMsgCtx Authorization request message context.
+     * @return True if a self-contained authorization code is to be issued.
+     */
+    public static boolean isSelfContainedAuthzCodeApplicable(OAuthAuthzReqMessageContext oauthAuthzMsgCtx) {
+
+        return OAuth2Util.isSelfContainedAuthCodeEnabled() &&
+                !AuthorizationDetailsUtils.isRichAuthorizationRequest(oauthAuthzMsgCtx);
+    }
+
+    /**
+     * Build a self-contained authorization code from the given authorization code context.
+     *
+     * @param authzCodeDO Authorization code context.
+     * @return Self-contained authorization code.
+     * @throws IdentityOAuth2Exception If an error occurs while encrypting or signing the code.
+     */
+    public static String issueAuthzCode(AuthzCodeDO authzCodeDO) throws IdentityOAuth2Exception {
+
+        JSONObject payload = new JSONObject();
+        payload.put(CODE_ID, authzCodeDO.getAuthzCodeId());
+        payload.put(CONSUMER_KEY, authzCodeDO.getConsumerKey());
+        String[] scopes = authzCodeDO.getScope() == null ? new String[0] : authzCodeDO.getScope();
+        payload.put(SCOPES, new JSONArray(Arrays.asList(scopes)));
+        payload.put(ISSUED_TIME, authzCodeDO.getIssuedTime().getTime());
+        payload.put(VALIDITY_PERIOD, authzCodeDO.getValidityPeriod());
+        payload.putOpt(CALLBACK_URL, authzCodeDO.getCallbackUrl());
+        payload.putOpt(PKCE_CODE_CHALLENGE, authzCodeDO.getPkceCodeChallenge());
+        payload.putOpt(PKCE_CODE_CHALLENGE_METHOD, authzCodeDO.getPkceCodeChallengeMethod());
+        addAuthorizedUser(payload, authzCodeDO.getAuthorizedUser());
+
+        String encryptedPayload;
+        try {
+            encryptedPayload = toBase64Url(CryptoUtil.getDefaultCryptoUtil().encryptAndBase64Encode(
+                    payload.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (CryptoException e) {
+            throw new IdentityOAuth2Exception("Error while encrypting the self-contained authorization code for " +
+                    "client: " + authzCodeDO.getConsumerKey(), e);
+        }
+        return CODE_PREFIX + encryptedPayload + SIGNATURE_SEPARATOR + sign(encryptedPayload);
+    }
+
+    /**
+     * Read the authorization code context from the given self-contained authorization code. The state of the returned
+     * code is always active, consumption of the code has to be tracked by the caller.
+     *
+     * @param authzCode Self-contained authorization code.
+     * @param clientId  Client id of the application redeeming the code.
+     * @return Authorization code context, or null if the code is malformed, tampered with or not issued to the client.
+     * @throws IdentityOAuth2Exception If an error occurs while verifying the signature of the code.
+     */
+    public static AuthzCodeDO readAuthzCode(String authzCode, String clientId) throws IdentityOAuth2Exception {
+
+        JSONObject payload = readPayload(authzCode);
+        if (payload == null) {
+            return null;
+        }
+        try {
+            if (!StringUtils.equals(clientId, payload.getString(CONSUMER_KEY))) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Self-contained authorization code is not issued to the client: " + clientId);
+                }
+                return null;
+            }
+            JSONArray scopeArray = payload.getJSONArray(SCOPES);
+            String[] scopes = new String[scopeArray.length()];
+            for (int i = 0; i < scopeArray.length(); i++) {
+                scopes[i] = scopeArray.getString(i);
+            }
+            return new AuthzCodeDO(readAuthorizedUser(payload), scopes,
+                    new Timestamp(payload.getLong(ISSUED_TIME)), payload.getLong(VALIDITY_PERIOD),
+                    payload.optString(CALLBACK_URL, null), clientId, authzCode, payload.getString(CODE_ID),
+                    OAuthConstants.AuthorizationCodeState.ACTIVE, payload.optString(PKCE_CODE_CHALLENGE, null),
+                    payload.optString(PKCE_CODE_CHALLENGE_METHOD, null));
+        } catch (JSONException e) {
+            log.warn("Malformed self-contained authorization code received from client: " + clientId);
+            return null;
+        }
+    }
+
+    /**
+     * Read the authorization code id from the given self-contained authorization code.
+     *
+     * @param authzCode Self-contained authorization code.
+     * @return Authorization code id, or null if the code is malformed or tampered with.
+     * @throws IdentityOAuth2Exception If an error occurs while verifying the signature of the code.
+     */
+    public static String getAuthzCodeId(String authzCode) throws IdentityOAuth2Exception {
+
+        JSONObject payload = readPayload(authzCode);
+        return payload == null ? null : payload.optString(CODE_ID, null);
+    }
+
+    private static JSONObject readPayload(String authzCode) throws IdentityOAuth2Exception {
+
+        if (!isSelfContainedAuthzCode(authzCode)) {
+            return null;
+        }
+        String code = authzCode.substring(CODE_PREFIX.length());
+        int separatorIndex = code.indexOf(SIGNATURE_SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == code.length() - 1) {
+            return null;
+        }
+        String encryptedPayload = code.substring(0, separatorIndex);
+        String signature = code.substring(separatorIndex + 1);
+        try {
+            if (!verify(encryptedPayload, signature)) {
+                log.warn("Signature verification failed for a self-contained authorization code.");
+                return null;
+            }
+            byte[] payload = CryptoUtil.getDefaultCryptoUtil().base64DecodeAndDecrypt(fromBase64Url(encryptedPayload));
+            return new JSONObject(new String(payload, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException | CryptoException | JSONException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to read the self-contained authorization code.", e);
+            }
+            return null;
+        }
+    }
+
+    private static void addAuthorizedUser(JSONObject payload, AuthenticatedUser authorizedUser) {
+
+        payload.put(USER_NAME, authorizedUser.getUserName());
+        payload.putOpt(TENANT_DOMAIN, authorizedUser.getTenantDomain());
+        payload.putOpt(USER_STORE_DOMAIN, authorizedUser.getUserStoreDomain());
+        payload.putOpt(SUBJECT_IDENTIFIER, authorizedUser.getAuthenticatedSubjectIdentifier());
+        payload.putOpt(ACCESSING_ORGANIZATION, authorizedUser.getAccessingOrganization());
+        payload.putOpt(USER_RESIDENT_ORGANIZATION, authorizedUser.getUserResidentOrganization());
+        if (authorizedUser.isFederatedUser()) {
+            payload.put(FEDERATED_IDP_NAME, authorizedUser.getFederatedIdPName());
+        }
+        try {
+            payload.putOpt(USER_ID, authorizedUser.getUserId());
+        } catch (UserIdNotFoundException e) {
+            // The user id is resolved again when the code is redeemed.
+            if (log.isDebugEnabled()) {
+                log.debug("User id is not available for the user: " + authorizedUser.getLoggableMaskedUserId());
+            }
+        }
+    }
+
+    private static AuthenticatedUser readAuthorizedUser(JSONObject payload) {
+
+        AuthenticatedUser authorizedUser = new AuthenticatedUser();
+        authorizedUser.setUserName(payload.getString(USER_NAME));
+        authorizedUser.setTenantDomain(payload.optString(TENANT_DOMAIN, null));
+        authorizedUser.setUserStoreDomain(payload.optString(USER_STORE_DOMAIN, null));
+        authorizedUser.setAuthenticatedSubjectIdentifier(payload.optString(SUBJECT_IDENTIFIER, null));
+        authorizedUser.setAccessingOrganization(payload.optString(ACCESSING_ORGANIZATION, null));
+        authorizedUser.setUserResidentOrganization(payload.optString(USER_RESIDENT_ORGANIZATION, null));
+        if (payload.has(FEDERATED_IDP_NAME)) {
+            authorizedUser.setFederatedUser(true);
+            authorizedUser.setFederatedIdPName(payload.getString(FEDERATED_IDP_NAME));
+        }
+        if (payload.has(USER_ID)) {
+            authorizedUser.setUserId(payload.getString(USER_ID));
+        }
+        return authorizedUser;
+    }
+
+    private static String sign(String encryptedPayload) throws IdentityOAuth2Exception {
+
+        try {
+            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signature.initSign((PrivateKey) OAuth2Util.getPrivateKey(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME));
+            signature.update(encryptedPayload.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IdentityOAuth2Exception("Error while signing the self-contained authorization code.", e);
+        }
+    }
+
+    private static boolean verify(String encryptedPayload, String encodedSignature) throws IdentityOAuth2Exception {
+
+        try {
+            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
+            signature.initVerify(OAuth2Util.getCertificate(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)
+                    .getPublicKey());
+            signature.update(encryptedPayload.getBytes(StandardCharsets.US_ASCII));
+            return signature.verify(Base64.getUrlDecoder().decode(encodedSignature));
+        } catch (SignatureException e) {
+            // Thrown for a malformed signature, which is treated as a failed verification.
+            return false;
+        } catch (GeneralSecurityException e) {
+            throw new IdentityOAuth2Exception("Error while verifying the self-contained authorization code.", e);
+        }
+    }
+
+    private static String toBase64Url(String base64) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Base64.getDecoder().decode(base64));
+    }
+
+    private static String fromBase64Url(String base64Url) {
+
+        return Base64.getEncoder().encodeToString(Base64.getUrlDecoder().decode(base64Url));
+    }
+}
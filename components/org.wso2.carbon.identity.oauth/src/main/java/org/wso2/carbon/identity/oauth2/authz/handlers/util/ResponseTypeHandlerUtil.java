@@ -47,6 +47,7 @@ import org.wso2.carbon.identity.oauth.event.OAuthEventInterceptor;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
+import org.wso2.carbon.identity.oauth2.authcode.SelfContainedAuthzCodeUtil;
 import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.bean.OAuthClientAuthnContext;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
@@ -293,6 +294,11 @@ public class ResponseTypeHandlerUtil {
                 oauthAuthzMsgCtx.getApprovedScope(), timestamp, validityPeriod, authorizationReqDTO.getCallbackUrl(),
                 authorizationReqDTO.getConsumerKey(), authorizationCode, codeId,
                 authorizationReqDTO.getPkceCodeChallenge(), authorizationReqDTO.getPkceCodeChallengeMethod());
+        if (SelfContainedAuthzCodeUtil.isSelfContainedAuthzCodeApplicable(oauthAuthzMsgCtx)) {
+            // The code context is carried in the code itself, hence the DAO skips persisting it.
+            authorizationCode = SelfContainedAuthzCodeUtil.issueAuthzCode(authzCodeDO);
+            authzCodeDO.setAuthorizationCode(authorizationCode);
+        }
 
         String appTenant = authorizationReqDTO.getTenantDomain();
         if (StringUtils.isNotEmpty(appTenant)) {
@@ -308,7 +314,7 @@ public class ResponseTypeHandlerUtil {
                             authorizationReqDTO.getCallbackUrl(), authzCodeDO);
         }
 
-        if (cacheEnabled) {
+        if (cacheEnabled && !SelfContainedAuthzCodeUtil.isSelfContainedAuthzCode(authorizationCode)) {
             // Cache the authz Code, here we prepend the client_key to avoid collisions with
             // AccessTokenDO instances. In database level, these are in two databases. But access
             // tokens and authorization codes are in a single cache.
@@ -23,7 +23,11 @@ import org.wso2.carbon.utils.CarbonUtils;
 
 /**
  * JWKS cache enables caching responses from JWK URIs
+ *
+ * @deprecated JWK sets are no longer kept in this cache. They are kept by the node local
+ * {@link org.wso2.carbon.identity.oauth2.validators.jwt.RefreshingJWKSource} of each JWK URI instead.
  */
+@Deprecated
 public class JWKSCache extends AuthenticationBaseCache<JWKSCacheKey, JWKSCacheEntry> {
 
     private static final String JWKS_CACHE_NAME = "JWKSCache";
@@ -31,6 +31,11 @@ import org.wso2.carbon.identity.oauth.tokenprocessor.TokenPersistenceProcessor;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.sql.DataSource;
 
 /*
 NOTE
@@ -48,6 +53,11 @@ abstract class AbstractOAuthDAO {
     private static final String OAUTH_TOKEN_PERSISTENCE_ENABLE = "OAuth.TokenPersistence.Enable";
     // We read from these properties for the sake of backward compatibility
     private static final String FRAMEWORK_PERSISTENCE_ENABLE = "JDBCPersistenceManager.SessionDataPersist.Enable";
+    // JNDI name of an optional read replica data source, used only by read only listing and reporting lookups.
+    private static final String OAUTH_TOKEN_READ_REPLICA_DATA_SOURCE = "OAuth.TokenPersistence.ReadReplicaDataSource";
+
+    private static volatile DataSource readReplicaDataSource;
+    private static volatile boolean readReplicaDataSourceResolved;
 
     protected static final String UTC = "UTC";
     protected static final String AUTHZ_USER = "AUTHZ_USER";
@@ -101,4 +111,56 @@ abstract class AbstractOAuthDAO {
         return IdentityDatabaseUtil.getDBConnection();
     }
 
+    /**
+     * Check whether a read replica data source is configured for token lookups.
+     *
+     * @return True if a read replica data source is available.
+     */
+    protected boolean isReadReplicaEnabled() {
+
+        return getReadReplicaDataSource() != null;
+    }
+
+    /**
+     * Get a connection from the read replica data source. The replica may lag behind the primary database, hence
+     * callers should fall back to the primary database when a record is not found. The replica must only serve read
+     * only listing and reporting paths which opt in explicitly, never token validation or revocation.
+     *
+     * @return Read only connection, or null if a read replica data source is not configured.
+     * @throws SQLException If an error occurs while getting the connection.
+     */
+    protected Connection getReadReplicaConnection() throws SQLException {
+
+        DataSource dataSource = getReadReplicaDataSource();
+        if (dataSource == null) {
+            return null;
+        }
+        Connection connection = dataSource.getConnection();
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    private static DataSource getReadReplicaDataSource() {
+
+        if (readReplicaDataSourceResolved) {
+            return readReplicaDataSource;
+        }
+        synchronized (AbstractOAuthDAO.class) {
+            if (!readReplicaDataSourceResolved) {
+                String dataSourceName = IdentityUtil.getProperty(OAUTH_TOKEN_READ_REPLICA_DATA_SOURCE);
+                if (dataSourceName != null && !dataSourceName.trim().isEmpty()) {
+                    try {
+                        readReplicaDataSource = (DataSource) new InitialContext().lookup(dataSourceName.trim());
+                        log.info("Using read replica data source: " + dataSourceName + " for token listing and reporting lookups.");
+                    } catch (NamingException e) {
+                        log.error("Error while looking up the read replica data source: " + dataSourceName +
+                                ". Token lookups will use the primary data source.", e);
+                    }
+                }
+                readReplicaDataSourceResolved = true;
+            }
+        }
+        return readReplicaDataSource;
+    }
+
 }
@@ -23,7 +23,9 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -82,6 +84,47 @@ public interface AccessTokenDAO {
 
     }
 
+    /**
+     * Get the access tokens of the given token identifiers. Token identifiers without a token are not included in the
+     * result.
+     *
+     * @param tokenIds Token identifiers.
+     * @return Map of token identifier to access token.
+     * @throws IdentityOAuth2Exception
+     */
+    default Map<String, String> getAccessTokensByTokenIds(Set<String> tokenIds) throws IdentityOAuth2Exception {
+
+        Map<String, String> accessTokens = new HashMap<>();
+        for (String tokenId : tokenIds) {
+            String accessToken = getAccessTokenByTokenId(tokenId);
+            if (accessToken != null) {
+                accessTokens.put(tokenId, accessToken);
+            }
+        }
+        return accessTokens;
+    }
+
+    /**
+     * Get the active access tokens of the given token identifiers. Token identifiers without an active token are not
+     * included in the result.
+     *
+     * @param tokenIds Token identifiers.
+     * @return Map of token identifier to active access token.
+     * @throws IdentityOAuth2Exception
+     */
+    default Map<String, AccessTokenDO> getActiveAccessTokensByTokenIds(Set<String> tokenIds)
+            throws IdentityOAuth2Exception {
+
+        Map<String, AccessTokenDO> accessTokenDOs = new HashMap<>();
+        for (Map.Entry<String, String> accessToken : getAccessTokensByTokenIds(tokenIds).entrySet()) {
+            AccessTokenDO accessTokenDO = getAccessToken(accessToken.getValue(), false);
+            if (accessTokenDO != null) {
+                accessTokenDOs.put(accessToken.getKey(), accessTokenDO);
+            }
+        }
+        return accessTokenDOs;
+    }
+
     /**
      * Get session identifier by token identifier.
      *
@@ -99,6 +142,21 @@ public interface AccessTokenDAO {
 
     AccessTokenDO getAccessToken(String accessTokenIdentifier, boolean includeExpired) throws IdentityOAuth2Exception;
 
+    /**
+     * Get an access token for read only listing or reporting. The token may be served from the read replica, which
+     * can lag behind the primary database, hence the result must not be used to validate, revoke or cache the token.
+     *
+     * @param accessTokenIdentifier Access token identifier.
+     * @param includeExpired        Whether to include expired tokens.
+     * @return Access token, or null if the token is not found.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the token.
+     */
+    default AccessTokenDO getAccessTokenForReporting(String accessTokenIdentifier, boolean includeExpired)
+            throws IdentityOAuth2Exception {
+
+        return getAccessToken(accessTokenIdentifier, includeExpired);
+    }
+
     Set<String> getAccessTokensByUser(AuthenticatedUser authenticatedUser) throws IdentityOAuth2Exception;
 
     default Set<AccessTokenDO> getAccessTokensByUserForOpenidScope(AuthenticatedUser authenticatedUser)
@@ -182,6 +240,31 @@ public interface AccessTokenDAO {
                 userStoreDomain);
     }
 
+    /**
+     * Invalidate the existing token and store the new token within one DB transaction, provided that the existing
+     * token is still in the expected state. This lets concurrent rotations of the same token be detected without a
+     * lock, as only one of them can move the existing token out of the expected state.
+     *
+     * @param oldAccessTokenId   ID of the existing token.
+     * @param expectedTokenState state of the existing token observed when it was validated.
+     * @param tokenState         state to move the existing token to.
+     * @param consumerKey        consumer key of the existing token.
+     * @param tokenStateId       new token state id of the existing token.
+     * @param accessTokenDO      new access token details.
+     * @param userStoreDomain    user store domain of the token.
+     * @param grantType          grant type of the existing token.
+     * @return false if the existing token is no longer in the expected state, in which case nothing is persisted.
+     * @throws IdentityOAuth2Exception in case of failure.
+     */
+    default boolean rotateAccessToken(String oldAccessTokenId, String expectedTokenState, String tokenState,
+                                      String consumerKey, String tokenStateId, AccessTokenDO accessTokenDO,
+                                      String userStoreDomain, String grantType) throws IdentityOAuth2Exception {
+
+        invalidateAndCreateNewAccessToken(oldAccessTokenId, tokenState, consumerKey, tokenStateId, accessTokenDO,
+                userStoreDomain, grantType);
+        return true;
+    }
+
     void updateUserStoreDomain(int tenantId, String currentUserStoreDomain,
                                String newUserStoreDomain) throws IdentityOAuth2Exception;
 
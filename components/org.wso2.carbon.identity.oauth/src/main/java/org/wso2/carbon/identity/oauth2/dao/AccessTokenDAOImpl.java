@@ -45,6 +45,9 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.OAuth2Constants.OAuthColumnName;
 import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.internal.cache.SessionTokenMappingCache;
+import org.wso2.carbon.identity.oauth2.internal.cache.SessionTokenMappingCacheEntry;
+import org.wso2.carbon.identity.oauth2.internal.cache.TokenBindingCache;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenExtendedAttributes;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
@@ -53,6 +56,7 @@ import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.sql.Connection;
 import java.sql.DataTruncation;
@@ -108,6 +112,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         } catch (SQLException e) {
             throw new IdentityOAuth2Exception("Error while inserting access token.", e);
         }
+        clearCachedTokenBinding(accessTokenDO);
     }
 
     private void insertAccessToken(String accessToken, String consumerKey, AccessTokenDO accessTokenDO,
@@ -318,14 +323,12 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                             " bindingType: " + accessTokenDO.getTokenBinding().getBindingType() +
                             " bindingRef: " + accessTokenDO.getTokenBinding().getBindingReference());
                 }
-                try (PreparedStatement preparedStatement = connection.prepareStatement(STORE_TOKEN_BINDING)) {
-                    preparedStatement.setString(1, accessTokenId);
-                    preparedStatement.setString(2, accessTokenDO.getTokenBinding().getBindingType());
-                    preparedStatement.setString(3, accessTokenDO.getTokenBinding().getBindingReference());
-                    preparedStatement.setString(4, accessTokenDO.getTokenBinding().getBindingValue());
-                    preparedStatement.setInt(5, tenantId);
-                    preparedStatement.execute();
-                }
+                TokenBinding tokenBinding = new TokenBinding(accessTokenId,
+                        accessTokenDO.getTokenBinding().getBindingType(),
+                        accessTokenDO.getTokenBinding().getBindingReference(),
+                        accessTokenDO.getTokenBinding().getBindingValue());
+                OAuthTokenPersistenceFactory.getInstance().getTokenBindingMgtDAO()
+                        .storeTokenBinding(tokenBinding, tenantId, connection);
             }
 
             if (doInsertTokenExtendedAttributes) {
@@ -457,6 +460,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                 oldTokenCleanupObject.cleanupTokenByTokenId(existingAccessTokenDO.getTokenId(), connection);
             }
             IdentityDatabaseUtil.commitTransaction(connection);
+            clearCachedTokenBinding(newAccessTokenDO);
             return true;
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
@@ -500,22 +504,9 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         ResultSet resultSet = null;
         try {
 
-            String sql = getLatestAccessTokenQuerySQL(connection);
-
-            if (!includeExpiredTokens) {
-                sql = sql.replace("TOKEN_SCOPE_HASH=?", "TOKEN_SCOPE_HASH=? AND TOKEN_STATE='ACTIVE'");
-            }
-
-            sql = OAuth2Util.getTokenPartitionedSqlByUserStore(sql, userDomain);
-
-            if (!isUsernameCaseSensitive) {
-                sql = sql.replace(AUTHZ_USER, LOWER_AUTHZ_USER);
-            }
-
             String hashedScope = OAuth2Util.hashScopes(scope);
-            if (hashedScope == null) {
-                sql = sql.replace("TOKEN_SCOPE_HASH=?", "TOKEN_SCOPE_HASH IS NULL");
-            }
+            String sql = AccessTokenQueryResolver.getLatestAccessTokenQuery(getLatestAccessTokenQuerySQL(connection),
+                    includeExpiredTokens, userDomain, isUsernameCaseSensitive, hashedScope == null);
 
             prepStmt = connection.prepareStatement(sql);
             prepStmt.setString(1, getPersistenceProcessor().getProcessedClientId(consumerKey));
@@ -1060,110 +1051,68 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                     (accessTokenIdentifier));
         }
 
-        AccessTokenDO dataDO = null;
+        // Token lookups back introspection, revocation and grant handling, and their results are cached. Hence they
+        // are not served from the read replica, which may still report a token revoked on the primary as active.
         Connection connection = IdentityDatabaseUtil.getDBConnection(false);
-        PreparedStatement prepStmt = null;
-        ResultSet resultSet = null;
         try {
-            String sql;
-            boolean isConsentedColumnDataFetched = false;
-            if (includeExpired) {
-                if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
-                        sql = SQLQueries.RETRIEVE_ACTIVE_EXPIRED_ACCESS_TOKEN_IDP_NAME;
-                } else {
-                        sql = SQLQueries.RETRIEVE_ACTIVE_EXPIRED_ACCESS_TOKEN;
-                }
-            } else {
-                if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
-                        if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
-                            sql = SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN_IDP_NAME_WITH_CONSENTED_TOKEN;
-                            isConsentedColumnDataFetched = true;
-                        } else {
-                            sql = SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN_IDP_NAME;
-                        }
-                } else {
-                        if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
-                            sql = SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN_WITH_CONSENTED_TOKEN;
-                            isConsentedColumnDataFetched = true;
-                        } else {
-                            sql = SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN;
-                        }
-                }
+            return getAccessToken(connection, accessTokenIdentifier, includeExpired);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public AccessTokenDO getAccessTokenForReporting(String accessTokenIdentifier, boolean includeExpired)
+            throws IdentityOAuth2Exception {
+
+        if (isReadReplicaEnabled()) {
+            AccessTokenDO dataDO = getAccessTokenFromReadReplica(accessTokenIdentifier, includeExpired);
+            if (dataDO != null) {
+                return dataDO;
             }
+        }
+        return getAccessToken(accessTokenIdentifier, includeExpired);
+    }
 
-            sql = OAuth2Util.getTokenPartitionedSqlByToken(sql, accessTokenIdentifier);
+    private AccessTokenDO getAccessTokenFromReadReplica(String accessTokenIdentifier, boolean includeExpired) {
 
-            prepStmt = connection.prepareStatement(sql);
+        try (Connection connection = getReadReplicaConnection()) {
+            if (connection == null) {
+                return null;
+            }
+            AccessTokenDO dataDO = getAccessToken(connection, accessTokenIdentifier, includeExpired);
+            if (dataDO == null && log.isDebugEnabled()) {
+                // The token may not have been replicated yet. Hence the primary database is queried.
+                log.debug("Access token not found in the read replica. Retrieving from the primary database.");
+            }
+            return dataDO;
+        } catch (IdentityOAuth2Exception | SQLException e) {
+            log.warn("Error while retrieving access token from the read replica. Retrieving from the primary " +
+                    "database.", e);
+            return null;
+        }
+    }
 
+    private AccessTokenDO getAccessToken(Connection connection, String accessTokenIdentifier, boolean includeExpired)
+            throws IdentityOAuth2Exception {
+
+        AccessTokenDO dataDO = null;
+        boolean isConsentedColumnDataFetched = AccessTokenQueryResolver.isConsentedColumnFetched(includeExpired);
+        String sql = AccessTokenQueryResolver.getPartitionedQueryByToken(
+                AccessTokenQueryResolver.getAccessTokenQuery(includeExpired), accessTokenIdentifier);
+        try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
             prepStmt.setString(1,
                     getHashingPersistenceProcessor().getProcessedAccessTokenIdentifier(accessTokenIdentifier));
-            resultSet = prepStmt.executeQuery();
+            ResultSet resultSet = prepStmt.executeQuery();
 
             int iterateId = 0;
+            Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(UTC));
             List<String> scopes = new ArrayList<>();
             while (resultSet.next()) {
 
                 if (iterateId == 0) {
-
-                    String consumerKey = getPersistenceProcessor().getPreprocessedClientId(resultSet.getString(1));
-                    String authorizedUser = resultSet.getString(2);
-                    int tenantId = resultSet.getInt(3);
-                    String tenantDomain = OAuth2Util.getTenantDomain(tenantId);
-                    String userDomain = resultSet.getString(4);
-                    String[] scope = OAuth2Util.buildScopeArray(resultSet.getString(5));
-                    Timestamp issuedTime = resultSet.getTimestamp(6, Calendar.getInstance(TimeZone.getTimeZone(UTC)));
-                    Timestamp refreshTokenIssuedTime = resultSet.getTimestamp(7,
-                            Calendar.getInstance(TimeZone.getTimeZone(UTC)));
-                    long validityPeriodInMillis = resultSet.getLong(8);
-                    long refreshTokenValidityPeriodMillis = resultSet.getLong(9);
-                    String tokenType = resultSet.getString(10);
-                    String refreshToken = resultSet.getString(11);
-                    String tokenId = resultSet.getString(12);
-                    String grantType = resultSet.getString(13);
-                    String subjectIdentifier = resultSet.getString(14);
-                    String authenticatedIDP = null;
-                    String tokenBindingReference = resultSet.getString(15);
-                    String authorizedOrganization = resultSet.getString(16);
-                    int appResideTenantId = resultSet.getInt(17);
-
-                    if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
-                        authenticatedIDP = resultSet.getString(18);
-                    }
-
-                    boolean isConsentedToken = false;
-                    if (isConsentedColumnDataFetched) {
-                        int consentedTokenColumnIndex = resultSet.findColumn(CONSENTED_TOKEN_COLUMN_NAME);
-                        isConsentedToken = resultSet.getBoolean(consentedTokenColumnIndex);
-                    }
-
-                    AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(authorizedUser,
-                            userDomain, tenantDomain, authenticatedIDP, authorizedOrganization, appResideTenantId);
-                    ServiceProvider serviceProvider;
-                    try {
-                        serviceProvider = OAuth2ServiceComponentHolder.getApplicationMgtService().
-                                getServiceProviderByClientId(consumerKey, OAuthConstants.Scope.OAUTH2, tenantDomain);
-                    } catch (IdentityApplicationManagementException e) {
-                        throw new IdentityOAuth2Exception("Error occurred while retrieving OAuth2 application data " +
-                                "for client id " + consumerKey, e);
-                    }
-
-                    user.setAuthenticatedSubjectIdentifier(subjectIdentifier, serviceProvider);
-
-                    dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime, refreshTokenIssuedTime,
-                            validityPeriodInMillis, refreshTokenValidityPeriodMillis, tokenType);
-                    dataDO.setAccessToken(accessTokenIdentifier);
-                    dataDO.setRefreshToken(refreshToken);
-                    dataDO.setTokenId(tokenId);
-                    dataDO.setGrantType(grantType);
-                    dataDO.setTenantID(tenantId);
-                    dataDO.setIsConsentedToken(isConsentedToken);
-                    dataDO.setAppResidentTenantId(appResideTenantId);
-                    dataDO.setAccessTokenExtendedAttributes(new AccessTokenExtendedAttributes(
-                            getAccessTokenExtendedAttributeParameters(accessTokenIdentifier)));
-
-                    if (StringUtils.isNotBlank(tokenBindingReference) && !NONE.equals(tokenBindingReference)) {
-                        setTokenBindingToAccessTokenDO(dataDO, connection, tokenId);
-                    }
+                    dataDO = buildAccessTokenDO(connection, resultSet, accessTokenIdentifier,
+                            isConsentedColumnDataFetched, utcCalendar);
                 } else {
                     scopes.add(resultSet.getString(5));
                 }
@@ -1178,8 +1127,72 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
 
         } catch (SQLException e) {
             throw new IdentityOAuth2Exception("Error when retrieving Access Token" + e);
-        } finally {
-            IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
+        }
+
+        return dataDO;
+    }
+
+    private AccessTokenDO buildAccessTokenDO(Connection connection, ResultSet resultSet, String accessTokenIdentifier,
+                                             boolean isConsentedColumnDataFetched, Calendar utcCalendar)
+            throws SQLException, IdentityOAuth2Exception {
+
+        String consumerKey = getPersistenceProcessor().getPreprocessedClientId(resultSet.getString(1));
+        String authorizedUser = resultSet.getString(2);
+        int tenantId = resultSet.getInt(3);
+        String tenantDomain = OAuth2Util.getTenantDomain(tenantId);
+        String userDomain = resultSet.getString(4);
+        String[] scope = OAuth2Util.buildScopeArray(resultSet.getString(5));
+        Timestamp issuedTime = resultSet.getTimestamp(6, utcCalendar);
+        Timestamp refreshTokenIssuedTime = resultSet.getTimestamp(7, utcCalendar);
+        long validityPeriodInMillis = resultSet.getLong(8);
+        long refreshTokenValidityPeriodMillis = resultSet.getLong(9);
+        String tokenType = resultSet.getString(10);
+        String refreshToken = resultSet.getString(11);
+        String tokenId = resultSet.getString(12);
+        String grantType = resultSet.getString(13);
+        String subjectIdentifier = resultSet.getString(14);
+        String authenticatedIDP = null;
+        String tokenBindingReference = resultSet.getString(15);
+        String authorizedOrganization = resultSet.getString(16);
+        int appResideTenantId = resultSet.getInt(17);
+
+        if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+            authenticatedIDP = resultSet.getString(18);
+        }
+
+        boolean isConsentedToken = false;
+        if (isConsentedColumnDataFetched) {
+            int consentedTokenColumnIndex = resultSet.findColumn(CONSENTED_TOKEN_COLUMN_NAME);
+            isConsentedToken = resultSet.getBoolean(consentedTokenColumnIndex);
+        }
+
+        AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(authorizedUser,
+                userDomain, tenantDomain, authenticatedIDP, authorizedOrganization, appResideTenantId);
+        ServiceProvider serviceProvider;
+        try {
+            serviceProvider = OAuth2ServiceComponentHolder.getApplicationMgtService().
+                    getServiceProviderByClientId(consumerKey, OAuthConstants.Scope.OAUTH2, tenantDomain);
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving OAuth2 application data " +
+                    "for client id " + consumerKey, e);
+        }
+
+        user.setAuthenticatedSubjectIdentifier(subjectIdentifier, serviceProvider);
+
+        AccessTokenDO dataDO = new AccessTokenDO(consumerKey, user, scope, issuedTime, refreshTokenIssuedTime,
+                validityPeriodInMillis, refreshTokenValidityPeriodMillis, tokenType);
+        dataDO.setAccessToken(accessTokenIdentifier);
+        dataDO.setRefreshToken(refreshToken);
+        dataDO.setTokenId(tokenId);
+        dataDO.setGrantType(grantType);
+        dataDO.setTenantID(tenantId);
+        dataDO.setIsConsentedToken(isConsentedToken);
+        dataDO.setAppResidentTenantId(appResideTenantId);
+        dataDO.setAccessTokenExtendedAttributes(new AccessTokenExtendedAttributes(
+                getAccessTokenExtendedAttributeParameters(connection, accessTokenIdentifier)));
+
+        if (StringUtils.isNotBlank(tokenBindingReference) && !NONE.equals(tokenBindingReference)) {
+            setTokenBindingToAccessTokenDO(dataDO, connection, tokenId);
         }
 
         return dataDO;
@@ -1188,13 +1201,24 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
     private Map<String, String> getAccessTokenExtendedAttributeParameters(String accessTokenIdentifier)
             throws IdentityOAuth2Exception {
 
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            return getAccessTokenExtendedAttributeParameters(connection, accessTokenIdentifier);
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving extended attributes for access token: " +
+                    accessTokenIdentifier, e);
+        }
+    }
+
+    private Map<String, String> getAccessTokenExtendedAttributeParameters(Connection connection,
+                                                                          String accessTokenIdentifier)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Retrieving extended attributes for access token: " + accessTokenIdentifier);
         }
         Map<String, String> parameters = new HashMap<>();
-        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
-             PreparedStatement prepStmt = connection.prepareStatement(SQLQueries
-                     .GET_ACCESS_TOKEN_EXTENDED_ATTRIBUTES)) {
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                SQLQueries.GET_ACCESS_TOKEN_EXTENDED_ATTRIBUTES)) {
             prepStmt.setString(1, accessTokenIdentifier);
             try (ResultSet resultSet = prepStmt.executeQuery()) {
                 while (resultSet.next()) {
@@ -1267,6 +1291,8 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                 preparedStatement.setString(4, sessionContextIdentifier);
                 preparedStatement.setInt(5, tenantId);
                 preparedStatement.execute();
+                SessionTokenMappingCache.getInstance().clearCacheEntry(sessionContextIdentifier,
+                        MultitenantConstants.SUPER_TENANT_ID);
             } catch (SQLException e) {
                 String errorMsg = "Error while persisting token to session mapping for sessionId: " +
                         sessionContextIdentifier;
@@ -1289,6 +1315,23 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
      */
     public Set<String> getTokenIdBySessionIdentifier(String sessionId) throws IdentityOAuth2Exception {
 
+        // Session identifiers are unique across tenants, hence the mappings are cached in the super tenant.
+        SessionTokenMappingCacheEntry cacheEntry = SessionTokenMappingCache.getInstance().getValueFromCache(sessionId,
+                MultitenantConstants.SUPER_TENANT_ID);
+        if (cacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Token ids mapped to the session: " + sessionId + " are found in the cache.");
+            }
+            return new HashSet<>(cacheEntry.getTokenIds());
+        }
+        Set<String> tokenIds = getTokenIdBySessionIdentifierFromDB(sessionId);
+        SessionTokenMappingCache.getInstance().addToCache(sessionId, new SessionTokenMappingCacheEntry(tokenIds),
+                MultitenantConstants.SUPER_TENANT_ID);
+        return tokenIds;
+    }
+
+    private Set<String> getTokenIdBySessionIdentifierFromDB(String sessionId) throws IdentityOAuth2Exception {
+
         String sql = SQLQueries.RETRIEVE_TOKENS_MAPPED_FOR_TOKEN_BINDING_VALUE;
         Connection connection = IdentityDatabaseUtil.getDBConnection(false);
         PreparedStatement prepStmt = null;
@@ -1710,6 +1753,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
         }
         if (revoked) {
+            TokenBindingCache.getInstance().clearCacheEntries(tokenId, null, null);
             // To revoke the tokens from Request Object table.
             OAuth2TokenUtil.postUpdateAccessToken(tokenId, OAuthConstants.TokenStates.
                     TOKEN_STATE_REVOKED, true);
@@ -2150,6 +2194,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
             }
             IdentityDatabaseUtil.commitTransaction(connection);
             tokenUpdateSuccessful = true;
+            clearCachedTokenBinding(accessTokenDO);
         } catch (SQLException e) {
             IdentityDatabaseUtil.rollbackTransaction(connection);
             String errorMsg = "Error while regenerating access token";
@@ -2168,6 +2213,72 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         }
     }
 
+    @Override
+    public boolean rotateAccessToken(String oldAccessTokenId, String expectedTokenState, String tokenState,
+                                     String consumerKey, String tokenStateId, AccessTokenDO accessTokenDO,
+                                     String userStoreDomain, String grantType) throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Rotating access token with id: " + oldAccessTokenId + " in state: " + expectedTokenState +
+                    " for client: " + consumerKey + " user: " + accessTokenDO.getAuthzUser().getLoggableUserId() +
+                    " scope: " + Arrays.toString(accessTokenDO.getScope()));
+        }
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try {
+            // Move the existing token out of the observed state first, so that a concurrent rotation of the same
+            // token finds no matching row and backs off without doing any further work.
+            if (!updateAccessTokenStateIfCurrent(connection, oldAccessTokenId, expectedTokenState, tokenState,
+                    tokenStateId, userStoreDomain)) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                if (log.isDebugEnabled()) {
+                    log.debug("Access token with id: " + oldAccessTokenId + " is no longer in state: " +
+                            expectedTokenState + ". Hence it has been rotated by a concurrent request.");
+                }
+                return false;
+            }
+            if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled() && !accessTokenDO.isConsentedToken()) {
+                accessTokenDO.setIsConsentedToken(isPreviousTokenConsented(connection, oldAccessTokenId));
+            }
+            insertAccessToken(accessTokenDO.getAccessToken(), consumerKey, accessTokenDO, connection, userStoreDomain);
+
+            if (StringUtils.equals(grantType, OAuthConstants.GrantTypes.AUTHORIZATION_CODE)) {
+                updateTokenIdIfAutzCodeGrantType(oldAccessTokenId, accessTokenDO.getTokenId(), connection);
+            }
+            if (isTokenCleanupFeatureEnabled) {
+                oldTokenCleanupObject.cleanupTokenByTokenId(oldAccessTokenId, connection);
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            clearCachedTokenBinding(accessTokenDO);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw new IdentityOAuth2Exception("Error while rotating access token with id: " + oldAccessTokenId, e);
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+
+        boolean isUserRelated = !(StringUtils.equals(grantType, OAuthConstants.GrantTypes.CLIENT_CREDENTIALS) ||
+                StringUtils.equals(grantType, OAuthConstants.GrantTypes.PASSWORD));
+        OAuth2TokenUtil.postUpdateAccessToken(oldAccessTokenId, tokenState, isUserRelated);
+        OAuth2TokenUtil.postRefreshAccessToken(oldAccessTokenId, accessTokenDO.getTokenId(), tokenState,
+                isUserRelated);
+        return true;
+    }
+
+    private boolean updateAccessTokenStateIfCurrent(Connection connection, String tokenId, String expectedTokenState,
+                                                    String tokenState, String tokenStateId, String userStoreDomain)
+            throws IdentityOAuth2Exception, SQLException {
+
+        String sql = OAuth2Util.getTokenPartitionedSqlByUserStore(SQLQueries.UPDATE_TOKEN_STATE_IF_CURRENT,
+                userStoreDomain);
+        try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            prepStmt.setString(1, tokenState);
+            prepStmt.setString(2, tokenStateId);
+            prepStmt.setString(3, tokenId);
+            prepStmt.setString(4, expectedTokenState);
+            return prepStmt.executeUpdate() == 1;
+        }
+    }
+
     /**
      * Retrieves AccessTokenDOs of the given tenant.
      *
@@ -2558,6 +2669,87 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         return token;
     }
 
+    @Override
+    public Map<String, String> getAccessTokensByTokenIds(Set<String> tokenIds) throws IdentityOAuth2Exception {
+
+        Map<String, String> accessTokens = new HashMap<>();
+        if (CollectionUtils.isEmpty(tokenIds)) {
+            return accessTokens;
+        }
+        if (OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled()) {
+            // Tokens may be spread across the user store partitions, hence they are retrieved one by one.
+            return AccessTokenDAO.super.getAccessTokensByTokenIds(tokenIds);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving access tokens for " + tokenIds.size() + " token ids.");
+        }
+        String placeholders = String.join(", ", Collections.nCopies(tokenIds.size(), "?"));
+        String sql = SQLQueries.RETRIEVE_TOKENS_BY_TOKEN_IDS.replace(SQLQueries.TOKEN_ID_LIST_PLACEHOLDER,
+                placeholders);
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            for (String tokenId : tokenIds) {
+                prepStmt.setString(parameterIndex++, tokenId);
+            }
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    accessTokens.put(resultSet.getString("TOKEN_ID"), getPersistenceProcessor()
+                            .getPreprocessedAccessTokenIdentifier(resultSet.getString("ACCESS_TOKEN")));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving access tokens for token ids: " +
+                    tokenIds, e);
+        }
+        return accessTokens;
+    }
+
+    @Override
+    public Map<String, AccessTokenDO> getActiveAccessTokensByTokenIds(Set<String> tokenIds)
+            throws IdentityOAuth2Exception {
+
+        if (OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled()) {
+            // Tokens may be spread across the user store partitions, hence they are retrieved one by one.
+            return AccessTokenDAO.super.getActiveAccessTokensByTokenIds(tokenIds);
+        }
+        Map<String, AccessTokenDO> accessTokenDOs = new HashMap<>();
+        Map<String, String> accessTokens = getAccessTokensByTokenIds(tokenIds);
+        if (accessTokens.isEmpty()) {
+            return accessTokenDOs;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving active access tokens for " + accessTokens.size() + " token ids.");
+        }
+        boolean isConsentedColumnDataFetched = AccessTokenQueryResolver.isConsentedColumnFetched(false);
+        String sql = AccessTokenQueryResolver.getActiveAccessTokensByTokenIdsQuery(accessTokens.size());
+        Calendar utcCalendar = Calendar.getInstance(TimeZone.getTimeZone(UTC));
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            for (String tokenId : accessTokens.keySet()) {
+                prepStmt.setString(parameterIndex++, tokenId);
+            }
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    String tokenId = resultSet.getString(12);
+                    AccessTokenDO accessTokenDO = accessTokenDOs.get(tokenId);
+                    if (accessTokenDO == null) {
+                        accessTokenDOs.put(tokenId, buildAccessTokenDO(connection, resultSet,
+                                accessTokens.get(tokenId), isConsentedColumnDataFetched, utcCalendar));
+                    } else {
+                        accessTokenDO.setScope((String[]) ArrayUtils.add(accessTokenDO.getScope(),
+                                resultSet.getString(5)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving active access tokens for token ids: " +
+                    accessTokens.keySet(), e);
+        }
+        return accessTokenDOs;
+    }
+
     /**
      * Retrieves access token of the given token id which issued against specified user store.
      *
@@ -2951,6 +3143,20 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
      * @param tokenBinding token binding.
      * @return true if valid binding available.
      */
+    /**
+     * Clear the token binding entries cached for a token, once the transaction storing the token and its binding is
+     * committed. The token or its binding reference may have been cached as having no binding before the commit.
+     *
+     * @param accessTokenDO Stored access token.
+     */
+    private void clearCachedTokenBinding(AccessTokenDO accessTokenDO) {
+
+        if (isTokenBindingAvailable(accessTokenDO.getTokenBinding())) {
+            TokenBindingCache.getInstance().clearCacheEntries(accessTokenDO.getTokenId(),
+                    accessTokenDO.getTokenBinding().getBindingReference(), accessTokenDO.getRefreshToken());
+        }
+    }
+
     private boolean isTokenBindingAvailable(TokenBinding tokenBinding) {
 
         return tokenBinding != null && StringUtils.isNotBlank(tokenBinding.getBindingType()) && StringUtils
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.user.core.UserCoreConstants;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the SQL queries used by the hot access token lookups. The database vendor, the optional columns and the
+ * token partitioning configuration do not change at runtime, hence the final form of each query is computed once and
+ * reused, instead of re-running the partition table substitution and string replacements for every lookup.
+ * <p>
+ * The user store domain of a lookup by token is decoded from the token presented by the client. Hence partitioned
+ * queries are only cached for the primary user store and the user store domains configured for token partitioning,
+ * so that the number of cached queries stays bounded.
+ */
+final class AccessTokenQueryResolver {
+
+    private static final String NO_USER_STORE = "";
+    private static final String ACTIVE_SCOPE_HASH_CONDITION = "TOKEN_SCOPE_HASH=? AND TOKEN_STATE='ACTIVE'";
+    private static final String SCOPE_HASH_CONDITION = "TOKEN_SCOPE_HASH=?";
+    private static final String NULL_SCOPE_HASH_CONDITION = "TOKEN_SCOPE_HASH IS NULL";
+    private static final String ACCESS_TOKEN_HASH_CONDITION = "ACCESS_TOKEN_HASH=?";
+
+    private static final ConcurrentMap<String, ConcurrentMap<String, String>> PARTITIONED_QUERIES =
+            new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ConcurrentMap<String, String>> LATEST_ACCESS_TOKEN_QUERIES =
+            new ConcurrentHashMap<>();
+
+    private static volatile Map<String, String> partitioningDomainMappings;
+
+    private AccessTokenQueryResolver() {
+
+    }
+
+    /**
+     * Get the query to retrieve an access token by the token hash.
+     *
+     * @param includeExpired Whether expired tokens should be retrieved.
+     * @return Query to retrieve the access token.
+     */
+    static String getAccessTokenQuery(boolean includeExpired) {
+
+        if (includeExpired) {
+            if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+                return SQLQueries.RETRIEVE_ACTIVE_EXPIRED_ACCESS_TOKEN_IDP_NAME;
+            }
+            return SQLQueries.RETRIEVE_ACTIVE_EXPIRED_ACCESS_TOKEN;
+        }
+        if (OAuth2ServiceComponentHolder.isIDPIdColumnEnabled()) {
+            if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
+                return SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN_IDP_NAME_WITH_CONSENTED_TOKEN;
+            }
+            return SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN_IDP_NAME;
+        }
+        if (OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled()) {
+            return SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN_WITH_CONSENTED_TOKEN;
+        }
+        return SQLQueries.RETRIEVE_ACTIVE_ACCESS_TOKEN;
+    }
+
+    /**
+     * Get the query to retrieve the active access tokens of the given number of token ids. The query returns the
+     * same columns as the query to retrieve an active access token by the token hash.
+     *
+     * @param tokenIdCount Number of token ids.
+     * @return Query to retrieve the active access tokens.
+     */
+    static String getActiveAccessTokensByTokenIdsQuery(int tokenIdCount) {
+
+        String placeholders = String.join(", ", Collections.nCopies(tokenIdCount, "?"));
+        return getAccessTokenQuery(false).replace(ACCESS_TOKEN_HASH_CONDITION, "TOKEN_ID IN (" + placeholders + ")");
+    }
+
+    /**
+     * Check whether the given access token query fetches the consented token column.
+     *
+     * @param includeExpired Whether expired tokens are retrieved.
+     * @return True if the consented token column is fetched.
+     */
+    static boolean isConsentedColumnFetched(boolean includeExpired) {
+
+        return !includeExpired && OAuth2ServiceComponentHolder.isConsentedTokenColumnEnabled();
+    }
+
+    /**
+     * Get the partitioned form of the given query for the user store encoded in the access token.
+     *
+     * @param sql   Query.
+     * @param token Access token.
+     * @return Partitioned query, or the original query if token partitioning is disabled.
+     * @throws IdentityOAuth2Exception If an error occurs while resolving the partitioned tables.
+     */
+    static String getPartitionedQueryByToken(String sql, String token) throws IdentityOAuth2Exception {
+
+        if (!isTokenPartitioningEnabled()) {
+            return sql;
+        }
+        String userId = OAuth2Util.getUserIdFromAccessToken(token);
+        String userStoreDomain = null;
+        if (userId != null) {
+            int separatorIndex = userId.indexOf(UserCoreConstants.DOMAIN_SEPARATOR);
+            if (separatorIndex > 0) {
+                userStoreDomain = userId.substring(0, separatorIndex);
+            }
+        }
+        return getPartitionedQueryByUserStore(sql, userStoreDomain);
+    }
+
+    /**
+     * Get the partitioned form of the given query for the given user store.
+     *
+     * @param sql             Query.
+     * @param userStoreDomain User store domain.
+     * @return Partitioned query, or the original query if token partitioning is disabled.
+     * @throws IdentityOAuth2Exception If an error occurs while resolving the partitioned tables.
+     */
+    static String getPartitionedQueryByUserStore(String sql, String userStoreDomain) throws IdentityOAuth2Exception {
+
+        if (!isTokenPartitioningEnabled()) {
+            return sql;
+        }
+        String key = getUserStoreKey(userStoreDomain);
+        if (key == null) {
+            return OAuth2Util.getTokenPartitionedSqlByUserStore(sql, userStoreDomain);
+        }
+        ConcurrentMap<String, String> partitionedQueries = getQueryVariants(PARTITIONED_QUERIES, sql);
+        String partitionedSql = partitionedQueries.get(key);
+        if (partitionedSql == null) {
+            partitionedSql = OAuth2Util.getTokenPartitionedSqlByUserStore(sql, userStoreDomain);
+            partitionedQueries.putIfAbsent(key, partitionedSql);
+        }
+        return partitionedSql;
+    }
+
+    /**
+     * Get the query to retrieve the latest access token of a client, user and scope combination.
+     *
+     * @param baseSql                 Database specific base query.
+     * @param includeExpired          Whether expired tokens should be retrieved.
+     * @param userStoreDomain         User store domain of the user.
+     * @param isUsernameCaseSensitive Whether the user store is case sensitive.
+     * @param isScopeHashNull         Whether the scope hash is null.
+     * @return Query to retrieve the latest access token.
+     * @throws IdentityOAuth2Exception If an error occurs while resolving the partitioned tables.
+     */
+    static String getLatestAccessTokenQuery(String baseSql, boolean includeExpired, String userStoreDomain,
+                                            boolean isUsernameCaseSensitive, boolean isScopeHashNull)
+            throws IdentityOAuth2Exception {
+
+        String userStoreKey = isTokenPartitioningEnabled() ? getUserStoreKey(userStoreDomain) : NO_USER_STORE;
+        if (userStoreKey == null) {
+            return buildLatestAccessTokenQuery(baseSql, includeExpired, userStoreDomain, isUsernameCaseSensitive,
+                    isScopeHashNull);
+        }
+        ConcurrentMap<String, String> queryVariants = getQueryVariants(LATEST_ACCESS_TOKEN_QUERIES, baseSql);
+        String key = (includeExpired ? "1" : "0") + (isUsernameCaseSensitive ? "1" : "0") +
+                (isScopeHashNull ? "1" : "0") + userStoreKey;
+        String sql = queryVariants.get(key);
+        if (sql != null) {
+            return sql;
+        }
+        sql = buildLatestAccessTokenQuery(baseSql, includeExpired, userStoreDomain, isUsernameCaseSensitive,
+                isScopeHashNull);
+        queryVariants.putIfAbsent(key, sql);
+        return sql;
+    }
+
+    private static String buildLatestAccessTokenQuery(String baseSql, boolean includeExpired, String userStoreDomain,
+                                                      boolean isUsernameCaseSensitive, boolean isScopeHashNull)
+            throws IdentityOAuth2Exception {
+
+        String sql = baseSql;
+        if (!includeExpired) {
+            sql = sql.replace(SCOPE_HASH_CONDITION, ACTIVE_SCOPE_HASH_CONDITION);
+        }
+        sql = OAuth2Util.getTokenPartitionedSqlByUserStore(sql, userStoreDomain);
+        if (!isUsernameCaseSensitive) {
+            sql = sql.replace(AbstractOAuthDAO.AUTHZ_USER, AbstractOAuthDAO.LOWER_AUTHZ_USER);
+        }
+        if (isScopeHashNull) {
+            sql = sql.replace(SCOPE_HASH_CONDITION, NULL_SCOPE_HASH_CONDITION);
+        }
+        return sql;
+    }
+
+    /**
+     * Get the key under which the queries of the given user store domain are cached. Lookups without a user store
+     * domain and lookups of the primary user store share a key, as they use the same tables.
+     *
+     * @param userStoreDomain User store domain.
+     * @return Partition of the user store domain, or null if the domain is not configured for token partitioning.
+     * @throws IdentityOAuth2Exception If the token partitioning domains are not configured correctly.
+     */
+    private static String getUserStoreKey(String userStoreDomain) throws IdentityOAuth2Exception {
+
+        if (StringUtils.isBlank(userStoreDomain) ||
+                IdentityUtil.getPrimaryDomainName().equalsIgnoreCase(userStoreDomain)) {
+            return NO_USER_STORE;
+        }
+        Map<String, String> domainMappings = partitioningDomainMappings;
+        if (domainMappings == null) {
+            domainMappings = OAuth2Util.getAvailableUserStoreDomainMappings();
+            partitioningDomainMappings = domainMappings;
+        }
+        return domainMappings.get(userStoreDomain);
+    }
+
+    private static ConcurrentMap<String, String> getQueryVariants(
+            ConcurrentMap<String, ConcurrentMap<String, String>> queries, String baseSql) {
+
+        ConcurrentMap<String, String> queryVariants = queries.get(baseSql);
+        if (queryVariants == null) {
+            queries.putIfAbsent(baseSql, new ConcurrentHashMap<>());
+            queryVariants = queries.get(baseSql);
+        }
+        return queryVariants;
+    }
+
+    private static boolean isTokenPartitioningEnabled() {
+
+        return OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled();
+    }
+}
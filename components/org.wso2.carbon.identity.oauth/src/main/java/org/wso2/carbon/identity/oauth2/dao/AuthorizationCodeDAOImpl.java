@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.authcode.SelfContainedAuthzCodeUtil;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
@@ -75,7 +76,8 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
     public void insertAuthorizationCode(String authzCode, String consumerKey, String appTenantDomain,
                                         String callbackUrl, AuthzCodeDO authzCodeDO) throws IdentityOAuth2Exception {
 
-        if (!OAuth2Util.isAuthCodePersistenceEnabled()) {
+        if (!OAuth2Util.isAuthCodePersistenceEnabled()
+                || SelfContainedAuthzCodeUtil.isSelfContainedAuthzCode(authzCode)) {
             return;
         }
 
@@ -315,6 +317,10 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
     public void updateAuthorizationCodeState(String authzCode, String codeId, String newState)
             throws IdentityOAuth2Exception {
 
+        if (SelfContainedAuthzCodeUtil.isSelfContainedAuthzCode(authzCode)) {
+            // Self-contained codes are not persisted. Their one-time use is tracked by ConsumedAuthzCodeCache.
+            return;
+        }
         if (log.isDebugEnabled()) {
             if (IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.AUTHORIZATION_CODE)) {
                 log.debug("Changing state of authorization code(hashed): " + DigestUtils.sha256Hex(authzCode)
@@ -354,7 +360,8 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
     public void deactivateAuthorizationCode(AuthzCodeDO authzCodeDO) throws
             IdentityOAuth2Exception {
 
-        if (!OAuth2Util.isAuthCodePersistenceEnabled()) {
+        if (!OAuth2Util.isAuthCodePersistenceEnabled()
+                || SelfContainedAuthzCodeUtil.isSelfContainedAuthzCode(authzCodeDO.getAuthorizationCode())) {
             return;
         }
 
@@ -881,6 +888,9 @@ public class AuthorizationCodeDAOImpl extends AbstractOAuthDAO implements Author
     @Override
     public String getCodeIdByAuthorizationCode(String authzCode) throws IdentityOAuth2Exception {
 
+        if (SelfContainedAuthzCodeUtil.isSelfContainedAuthzCode(authzCode)) {
+            return SelfContainedAuthzCodeUtil.getAuthzCodeId(authzCode);
+        }
         if (log.isDebugEnabled() && IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.ACCESS_TOKEN)) {
             log.debug("Retrieving id of authorization code(hashed): " + DigestUtils.sha256Hex(authzCode));
         }
@@ -18,32 +18,78 @@
 
 package org.wso2.carbon.identity.oauth2.dao;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeConsentException;
 import org.wso2.carbon.identity.oauth2.internal.cache.OAuthUserConsentedScopeCache;
 import org.wso2.carbon.identity.oauth2.internal.cache.OAuthUserConsentedScopeCacheEntry;
 import org.wso2.carbon.identity.oauth2.model.UserApplicationScopeConsentDO;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Cache backed OAuth user consented scopes management data access object implementation.
+ * <p>
+ * Consents are cached per user and application. Applications the user has not consented to are cached as empty
+ * consents so that repeated authorization requests do not hit the database. Concurrent cache misses for the same
+ * user and application are coalesced into a single database read.
+ * <p>
+ * Changes to the consents are written to the database first, after which the affected cache entries are invalidated,
+ * so that the next read loads the consent from the database. Entries are never populated from the change itself.
  */
 public class CacheBackedOAuthUserConsentedScopesDAOImpl implements OAuthUserConsentedScopesDAO {
 
+    private static final Log log = LogFactory.getLog(CacheBackedOAuthUserConsentedScopesDAOImpl.class);
+
     private final OAuthUserConsentedScopeCache cache = OAuthUserConsentedScopeCache.getInstance();
-    private final OAuthUserConsentedScopesDAO dao = new OAuthUserConsentedScopesDAOImpl();
+    private final OAuthUserConsentedScopesDAO dao;
+    private final ConcurrentMap<String, CompletableFuture<UserApplicationScopeConsentDO>> inFlightLoads =
+            new ConcurrentHashMap<>();
+
+    public CacheBackedOAuthUserConsentedScopesDAOImpl() {
+
+        this(new OAuthUserConsentedScopesDAOImpl());
+    }
+
+    CacheBackedOAuthUserConsentedScopesDAOImpl(OAuthUserConsentedScopesDAO dao) {
+
+        this.dao = dao;
+    }
 
     @Override
     public UserApplicationScopeConsentDO getUserConsentForApplication(String userId, String appId, int tenantId)
             throws IdentityOAuth2ScopeConsentException {
 
         OAuthUserConsentedScopeCacheEntry entry = cache.getValueFromCache(userId, tenantId);
-        if (entry != null && entry.getAppID().equals(appId)) {
-            return entry.getUserApplicationScopeConsentDO();
+        if (entry != null) {
+            UserApplicationScopeConsentDO userConsent = entry.getConsent(appId);
+            if (userConsent != null) {
+                return userConsent;
+            }
         }
-        UserApplicationScopeConsentDO userConsent = dao.getUserConsentForApplication(userId, appId, tenantId);
-        cache.addToCache(userId, new OAuthUserConsentedScopeCacheEntry(appId, userConsent), tenantId);
-        return userConsent;
+        return loadUserConsent(userId, appId, tenantId);
+    }
+
+    @Override
+    public boolean isUserConsentedForAllScopes(String userId, String appId, int tenantId,
+                                               Collection<String> scopes)
+            throws IdentityOAuth2ScopeConsentException {
+
+        OAuthUserConsentedScopeCacheEntry entry = cache.getValueFromCache(userId, tenantId);
+        if (entry == null || !entry.containsConsent(appId)) {
+            loadUserConsent(userId, appId, tenantId);
+            entry = cache.getValueFromCache(userId, tenantId);
+        }
+        if (entry != null && entry.containsConsent(appId)) {
+            return entry.isConsentedForAllScopes(appId, scopes);
+        }
+        // The cache may be disabled. Fall back to checking the consent retrieved from the database.
+        return OAuthUserConsentedScopesDAO.super.isUserConsentedForAllScopes(userId, appId, tenantId, scopes);
     }
 
     @Override
@@ -57,8 +103,8 @@ public class CacheBackedOAuthUserConsentedScopesDAOImpl implements OAuthUserCons
     public void addUserConsentForApplication(String userId, int tenantId, UserApplicationScopeConsentDO userConsent)
             throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
         dao.addUserConsentForApplication(userId, tenantId, userConsent);
+        removeCachedConsent(userId, userConsent.getAppId(), tenantId);
     }
 
     @Override
@@ -67,28 +113,97 @@ public class CacheBackedOAuthUserConsentedScopesDAOImpl implements OAuthUserCons
                                                     UserApplicationScopeConsentDO consentsToBeUpdated)
             throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
-        dao.updateExistingConsentForApplication(userId, appId, tenantId, consentsToBeAdded, consentsToBeUpdated);
+        try {
+            dao.updateExistingConsentForApplication(userId, appId, tenantId, consentsToBeAdded, consentsToBeUpdated);
+        } finally {
+            // A failed update may have been partially applied. Hence the cached consent is invalidated either way.
+            removeCachedConsent(userId, appId, tenantId);
+        }
     }
 
     @Override
     public void deleteUserConsentOfApplication(String userId, String appId, int tenantId)
             throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
         dao.deleteUserConsentOfApplication(userId, appId, tenantId);
+        removeCachedConsent(userId, appId, tenantId);
     }
 
     @Override
-   public void revokeConsentOfApplication(String appId, int tenantId) throws IdentityOAuth2ScopeConsentException {
+    public void revokeConsentOfApplication(String appId, int tenantId) throws IdentityOAuth2ScopeConsentException {
 
         dao.revokeConsentOfApplication(appId, tenantId);
+        // Consents of all the users of the application are revoked. Hence clear the consents cached in the tenant.
+        cache.clear(tenantId);
     }
 
     @Override
     public void deleteUserConsents(String userId, int tenantId) throws IdentityOAuth2ScopeConsentException {
 
-        cache.clearCacheEntry(userId, tenantId);
         dao.deleteUserConsents(userId, tenantId);
+        cache.clearCacheEntry(userId, tenantId);
+    }
+
+    private UserApplicationScopeConsentDO loadUserConsent(String userId, String appId, int tenantId)
+            throws IdentityOAuth2ScopeConsentException {
+
+        String loadKey = tenantId + ":" + userId + ":" + appId;
+        CompletableFuture<UserApplicationScopeConsentDO> load = new CompletableFuture<>();
+        CompletableFuture<UserApplicationScopeConsentDO> inFlightLoad = inFlightLoads.putIfAbsent(loadKey, load);
+        if (inFlightLoad != null) {
+            return awaitLoad(inFlightLoad, userId, appId, tenantId);
+        }
+        try {
+            UserApplicationScopeConsentDO userConsent = dao.getUserConsentForApplication(userId, appId, tenantId);
+            addConsentToCache(userId, appId, tenantId, userConsent);
+            load.complete(userConsent);
+            return userConsent;
+        } catch (IdentityOAuth2ScopeConsentException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(loadKey, load);
+        }
+    }
+
+    private UserApplicationScopeConsentDO awaitLoad(CompletableFuture<UserApplicationScopeConsentDO> inFlightLoad,
+                                                    String userId, String appId, int tenantId)
+            throws IdentityOAuth2ScopeConsentException {
+
+        try {
+            return inFlightLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityOAuth2ScopeConsentException("Interrupted while waiting for scope consents of userId : " +
+                    userId + " and appId : " + appId + " and tenantId : " + tenantId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IdentityOAuth2ScopeConsentException) {
+                throw (IdentityOAuth2ScopeConsentException) e.getCause();
+            }
+            throw new IdentityOAuth2ScopeConsentException("Error occurred while retrieving scope consents for " +
+                    "userId : " + userId + " and appId : " + appId + " and tenantId : " + tenantId, e.getCause());
+        }
+    }
+
+    private void addConsentToCache(String userId, String appId, int tenantId,
+                                   UserApplicationScopeConsentDO userConsent) {
+
+        OAuthUserConsentedScopeCacheEntry entry = cache.getValueFromCache(userId, tenantId);
+        if (entry == null) {
+            entry = new OAuthUserConsentedScopeCacheEntry(tenantId);
+        }
+        entry.putConsent(appId, userConsent);
+        cache.addToCache(userId, entry, tenantId);
+    }
+
+    private void removeCachedConsent(String userId, String appId, int tenantId) {
+
+        /* The whole entry of the user is cleared instead of putting back a copy without the consent, which could
+        overwrite the consents of other applications loaded concurrently. */
+        cache.clearCacheEntry(userId, tenantId);
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the cached consent of user : " + userId + " for app : " + appId + " in tenant : " +
+                    tenantId);
+        }
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A non-critical single row update that can be written behind through the {@link WriteBehindBuffer}. Updates with the
+ * same query and key are coalesced, so that only the latest update is written. An update is only meaningful until its
+ * expiry time, for example the expiry of the token, after which it is discarded if it has not been written yet.
+ */
+public final class DeferredUpdate {
+
+    private final String sql;
+    private final String key;
+    private final long expiryTime;
+    private final ParameterBinder parameterBinder;
+    private int failedAttempts;
+
+    /**
+     * Create a deferred update.
+     *
+     * @param sql             Update query.
+     * @param key             Identifier of the updated row, such as the token id.
+     * @param expiryTime      Time in milliseconds after which the update need not be written.
+     * @param parameterBinder Binds the parameters of the update query.
+     */
+    public DeferredUpdate(String sql, String key, long expiryTime, ParameterBinder parameterBinder) {
+
+        this.sql = sql;
+        this.key = key;
+        this.expiryTime = expiryTime;
+        this.parameterBinder = parameterBinder;
+    }
+
+    public String getSql() {
+
+        return sql;
+    }
+
+    public String getKey() {
+
+        return key;
+    }
+
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+
+    String getCoalescingKey() {
+
+        return sql + '\u0000' + key;
+    }
+
+    void bind(PreparedStatement preparedStatement) throws SQLException {
+
+        parameterBinder.bind(preparedStatement);
+    }
+
+    int incrementFailedAttempts() {
+
+        return ++failedAttempts;
+    }
+
+    /**
+     * Binds the parameters of a deferred update to the prepared statement.
+     */
+    @FunctionalInterface
+    public interface ParameterBinder {
+
+        void bind(PreparedStatement preparedStatement) throws SQLException;
+    }
+}
@@ -20,13 +20,17 @@
 
 package org.wso2.carbon.identity.oauth2.dao;
 
+import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
 import org.wso2.carbon.identity.oauth2.bean.Scope;
 
 import java.sql.Connection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * OAuth scope management data access interface.
@@ -50,6 +54,35 @@ public interface OAuthScopeDAO {
     Set<Scope> getScopesWithPagination(Integer offset, Integer limit, int tenantID, Boolean includeOIDCScopes)
             throws IdentityOAuth2ScopeServerException;
 
+    /**
+     * Get a page of scopes ordered by scope name, starting right after the given scope name. Bindings of the
+     * scopes in the page are fetched with the same query. The default implementation loads all the scopes of the
+     * tenant and pages them in memory, so that implementations which do not support paging still return every scope.
+     *
+     * @param after             Name of the last scope of the previous page. Null or empty for the first page.
+     * @param limit             Maximum number of scopes in the page.
+     * @param tenantID          Tenant ID.
+     * @param includeOIDCScopes Include OIDC scopes as well.
+     * @param namePrefix        Only return scopes whose name starts with this prefix. Ignored if blank.
+     * @param binding           Only return scopes having this binding. Ignored if blank.
+     * @return Scopes of the page in scope name order.
+     * @throws IdentityOAuth2ScopeServerException If an error occurs while retrieving the scopes.
+     */
+    default List<Scope> getScopesAfter(String after, int limit, int tenantID, boolean includeOIDCScopes,
+                                       String namePrefix, String binding)
+            throws IdentityOAuth2ScopeServerException {
+
+        return getAllScopes(tenantID, includeOIDCScopes).stream()
+                .filter(scope -> StringUtils.isEmpty(after) || scope.getName().compareTo(after) > 0)
+                .filter(scope -> StringUtils.isBlank(namePrefix) || scope.getName().startsWith(namePrefix))
+                .filter(scope -> StringUtils.isBlank(binding) || scope.getScopeBindings() != null
+                        && scope.getScopeBindings().stream()
+                        .anyMatch(scopeBinding -> scopeBinding.getBindings().contains(binding)))
+                .sorted(Comparator.comparing(Scope::getName))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     Scope getScopeByName(String name, int tenantID) throws IdentityOAuth2ScopeServerException;
 
     boolean isScopeExists(String scopeName, int tenantID) throws IdentityOAuth2ScopeServerException;
@@ -44,12 +44,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.DEFAULT_SCOPE_BINDING;
 import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.INTERNAL_SCOPE_PREFIX;
+import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.SQLPlaceholders.SCOPE_FILTER_PLACEHOLDER;
 import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.SQLPlaceholders.SCOPE_LIST_PLACEHOLDER;
 
 /**
@@ -94,6 +96,7 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             try {
                 addScope(scope, conn, tenantID);
                 IdentityDatabaseUtil.commitTransaction(conn);
+                ScopeRegistry.getInstance().invalidate(tenantID);
             } catch (SQLException e1) {
                 IdentityDatabaseUtil.rollbackTransaction(conn);
                 String msg = "SQL error occurred while creating scope :" + scope.getName();
@@ -119,6 +122,10 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             log.debug("Get all scopes for tenantId  :" + tenantID);
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            return getTenantScopes(tenantID).getScopes(false);
+        }
+
         Set<Scope> scopes = new HashSet<>();
         Map<Integer, Scope> scopeMap = new HashMap<>();
         String sql;
@@ -206,6 +213,10 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             log.debug("Get all scopes including OAUTH2 and OIDC scopes for tenantId  :" + tenantID);
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            return getTenantScopes(tenantID).getScopes(true);
+        }
+
         Set<Scope> scopes = new HashSet<>();
         Map<Integer, Scope> scopeMap = new HashMap<>();
         String sql;
@@ -268,6 +279,11 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             return new HashSet<>();
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            return getTenantScopes(tenantID).getScopes(includeOIDCScopes,
+                    Arrays.asList(requestedScopes.split("\\s+")));
+        }
+
         String sql;
         if (includeOIDCScopes) {
             sql = String.format(SQLQueries.RETRIEVE_REQUESTED_ALL_SCOPES_WITHOUT_SCOPE_TYPE);
@@ -337,6 +353,10 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             log.debug("Get scopes for tenantId  :" + tenantID + " and bindingType: " + bindingType);
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            return getTenantScopes(tenantID).getScopesByBindingType(bindingType);
+        }
+
         Set<Scope> scopes = new HashSet<>();
         Map<Integer, Scope> scopeMap = new HashMap<>();
 
@@ -549,6 +569,122 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
         }
     }
 
+    @Override
+    public List<Scope> getScopesAfter(String after, int limit, int tenantID, boolean includeOIDCScopes,
+                                      String namePrefix, String binding)
+            throws IdentityOAuth2ScopeServerException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Get scopes after: " + after + " with limit: " + limit + " for tenantId: " + tenantID +
+                    " including OIDC scopes: " + includeOIDCScopes + ", name prefix: " + namePrefix +
+                    " and binding: " + binding);
+        }
+
+        Map<Integer, Scope> scopeMap = new LinkedHashMap<>();
+        try (Connection conn = IdentityDatabaseUtil.getDBConnection(false)) {
+            NamedPreparedStatement namedPreparedStatement = getPreparedStatementForGetScopesAfter(after, limit,
+                    tenantID, includeOIDCScopes, namePrefix, binding, conn);
+            try (PreparedStatement preparedStatement = namedPreparedStatement.getPreparedStatement();
+                 ResultSet rs = preparedStatement.executeQuery()) {
+                while (rs.next()) {
+                    int scopeID = rs.getInt(1);
+                    Scope scope = scopeMap.get(scopeID);
+                    if (scope == null) {
+                        scope = new Scope(rs.getString(2), rs.getString(3), new ArrayList<>(), rs.getString(4));
+                        scopeMap.put(scopeID, scope);
+                    }
+                    String scopeBinding = rs.getString(5);
+                    if (scopeBinding != null) {
+                        scope.addScopeBinding(rs.getString(6), scopeBinding);
+                    }
+                }
+            }
+            return new ArrayList<>(scopeMap.values());
+        } catch (SQLException e) {
+            String msg = "Error occurred while getting scopes after: " + after + " in tenant :" + tenantID;
+            throw new IdentityOAuth2ScopeServerException(msg, e);
+        }
+    }
+
+    /**
+     * Get SQL statement for get a page of scopes after the given scope name. Only the filters that are set are
+     * added to the query.
+     *
+     * @param after             Name of the last scope of the previous page.
+     * @param limit             Limit.
+     * @param tenantID          Tenant ID.
+     * @param includeOIDCScopes Include OIDC scopes as well.
+     * @param namePrefix        Scope name prefix.
+     * @param binding           Scope binding.
+     * @param conn              Database connection.
+     * @return Named prepared statement.
+     * @throws SQLException
+     */
+    private NamedPreparedStatement getPreparedStatementForGetScopesAfter(String after, int limit, int tenantID,
+                                                                         boolean includeOIDCScopes, String namePrefix,
+                                                                         String binding, Connection conn)
+            throws SQLException {
+
+        String query;
+        String driverName = conn.getMetaData().getDriverName();
+        if (driverName.contains("MySQL")
+                || driverName.contains("MariaDB")
+                || driverName.contains("H2")
+                || driverName.contains("PostgreSQL")) {
+            query = SQLQueries.RETRIEVE_SCOPES_AFTER_NAME_MYSQL;
+        } else if (conn.getMetaData().getDatabaseProductName().contains("DB2")) {
+            query = SQLQueries.RETRIEVE_SCOPES_AFTER_NAME_DB2SQL;
+        } else if (driverName.contains("MS SQL") || driverName.contains("Microsoft")
+                || driverName.contains("microsoft")) {
+            query = SQLQueries.RETRIEVE_SCOPES_AFTER_NAME_MSSQL;
+        } else if (driverName.contains("Informix")) {
+            query = SQLQueries.RETRIEVE_SCOPES_AFTER_NAME_INFORMIX;
+        } else {
+            query = SQLQueries.RETRIEVE_SCOPES_AFTER_NAME_ORACLE;
+        }
+
+        // Oracle treats an empty string as null, hence the cursor condition is only added after the first page.
+        StringBuilder filter = new StringBuilder();
+        if (StringUtils.isNotEmpty(after)) {
+            filter.append(SQLQueries.SCOPES_AFTER_NAME_CONDITION).append(" ");
+        }
+        if (!includeOIDCScopes) {
+            filter.append(SQLQueries.SCOPES_SCOPE_TYPE_CONDITION).append(" ");
+        }
+        if (StringUtils.isNotBlank(namePrefix)) {
+            filter.append(SQLQueries.SCOPES_NAME_PREFIX_CONDITION).append(" ");
+        }
+        if (StringUtils.isNotBlank(binding)) {
+            filter.append(SQLQueries.SCOPES_BINDING_CONDITION);
+        }
+        query = query.replace(SCOPE_FILTER_PLACEHOLDER, filter.toString());
+
+        NamedPreparedStatement namedPreparedStatement = new NamedPreparedStatement(conn, query);
+        namedPreparedStatement.setInt(Oauth2ScopeConstants.SQLPlaceholders.TENANT_ID, tenantID);
+        namedPreparedStatement.setString(Oauth2ScopeConstants.SQLPlaceholders.AFTER, after);
+        namedPreparedStatement
+                .setString(Oauth2ScopeConstants.SQLPlaceholders.SCOPE_TYPE, Oauth2ScopeConstants.SCOPE_TYPE_OAUTH2);
+        namedPreparedStatement.setString(Oauth2ScopeConstants.SQLPlaceholders.NAME_PREFIX,
+                escapeLikePattern(namePrefix) + "%");
+        namedPreparedStatement.setString(Oauth2ScopeConstants.SQLPlaceholders.BINDING, binding);
+        namedPreparedStatement.setInt(Oauth2ScopeConstants.SQLPlaceholders.LIMIT, limit);
+        return namedPreparedStatement;
+    }
+
+    /**
+     * Escape the LIKE wildcards of the given value with the escape character used by the scope name prefix filter.
+     *
+     * @param value Value to be escaped.
+     * @return Escaped value.
+     */
+    private static String escapeLikePattern(String value) {
+
+        if (value == null) {
+            return StringUtils.EMPTY;
+        }
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * Get a scope by name
      *
@@ -564,6 +700,10 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             log.debug("Get scope by name called for scope name:" + name);
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            return getTenantScopes(tenantID).getScopeByName(name);
+        }
+
         Scope scope = null;
         String sql;
         try (Connection conn = IdentityDatabaseUtil.getDBConnection(false)) {
@@ -675,6 +815,10 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             log.debug("Get scope ID by name called for scope name:" + scopeName);
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            return getTenantScopes(tenantID).getScopeId(scopeName, false);
+        }
+
         try (Connection conn = IdentityDatabaseUtil.getDBConnection(false)) {
             return getScopeId(scopeName, tenantID, conn);
         } catch (SQLException e) {
@@ -714,6 +858,10 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             log.debug("Get scope ID regardless of scope type, for scope name: " + scopeName);
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            return getTenantScopes(tenantID).getScopeId(scopeName, true);
+        }
+
         int scopeID = Oauth2ScopeConstants.INVALID_SCOPE_ID;
         try (Connection conn = IdentityDatabaseUtil.getDBConnection(false)) {
 
@@ -752,6 +900,7 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             try {
                 deleteScope(name, tenantID, conn);
                 IdentityDatabaseUtil.commitTransaction(conn);
+                ScopeRegistry.getInstance().invalidate(tenantID);
             } catch (SQLException e1) {
                 IdentityDatabaseUtil.rollbackTransaction(conn);
                 String msg = "Error occurred while deleting scopes ";
@@ -785,6 +934,7 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
                     deleteBindings(scopeId, conn);
                     addScopeBinding(updatedScope, conn, scopeId);
                     IdentityDatabaseUtil.commitTransaction(conn);
+                    ScopeRegistry.getInstance().invalidate(tenantID);
                 }
             } catch (SQLException e1) {
                 IdentityDatabaseUtil.rollbackTransaction(conn);
@@ -797,6 +947,60 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
         }
     }
 
+    private ScopeRegistry.TenantScopes getTenantScopes(int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        return ScopeRegistry.getInstance().getTenantScopes(tenantID, this::loadTenantScopes);
+    }
+
+    /**
+     * Load all the OAuth2 and OIDC scopes of the tenant, with their bindings, for the scope registry.
+     *
+     * @param tenantID Tenant ID.
+     * @return Scopes of the tenant.
+     * @throws IdentityOAuth2ScopeServerException If an error occurs while reading the scopes.
+     */
+    private ScopeRegistry.TenantScopes loadTenantScopes(int tenantID) throws IdentityOAuth2ScopeServerException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Loading all scopes of tenantId: " + tenantID + " to the scope registry.");
+        }
+
+        Map<Integer, ScopeRegistry.ScopeEntry> scopeMap = new HashMap<>();
+        try (Connection conn = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement ps = conn.prepareStatement(SQLQueries.RETRIEVE_ALL_SCOPES_WITH_SCOPE_TYPE)) {
+            ps.setInt(1, tenantID);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    int scopeID = rs.getInt(1);
+                    ScopeRegistry.ScopeEntry scopeEntry = scopeMap.get(scopeID);
+                    if (scopeEntry == null) {
+                        scopeEntry = new ScopeRegistry.ScopeEntry(scopeID, rs.getString(2), rs.getString(3),
+                                rs.getString(4), Oauth2ScopeConstants.SCOPE_TYPE_OAUTH2.equals(rs.getString(5)));
+                        scopeMap.put(scopeID, scopeEntry);
+                    }
+                    scopeEntry.addBinding(rs.getString(7), rs.getString(6));
+                }
+            }
+            return new ScopeRegistry.TenantScopes(scopeMap.values(),
+                    isCaseInsensitiveDB(conn.getMetaData().getDriverName()));
+        } catch (SQLException e) {
+            String msg = "Error occurred while loading all scopes in tenant :" + tenantID;
+            throw new IdentityOAuth2ScopeServerException(msg, e);
+        }
+    }
+
+    /**
+     * Check whether the database compares scope names ignoring the case, as MySQL, MariaDB and MS SQL Server do with
+     * their default collations, so that the scope registry matches scope names in the same way as the queries do.
+     *
+     * @param driverName Name of the JDBC driver.
+     * @return True if scope names are compared ignoring the case.
+     */
+    private static boolean isCaseInsensitiveDB(String driverName) {
+
+        return driverName.contains("MySQL") || driverName.contains("MariaDB") || driverName.contains("Microsoft");
+    }
+
     /**
      * Add an OIDC scope.
      *
@@ -970,6 +1174,14 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
             log.debug("Retrieving bindings of scope: " + scopeName + " tenant id: " + tenantId);
         }
 
+        if (ScopeRegistry.getInstance().isEnabled()) {
+            try {
+                return getTenantScopes(tenantId).getBindings(scopeName);
+            } catch (IdentityOAuth2ScopeServerException e) {
+                throw new IdentityOAuth2Exception("Error getting bindings of scope - " + scopeName, e);
+            }
+        }
+
         Connection connection = IdentityDatabaseUtil.getDBConnection(false);
 
         PreparedStatement ps = null;
@@ -44,6 +44,7 @@ public class OAuthTokenPersistenceFactory {
     private TokenBindingMgtDAO tokenBindingMgtDAO;
     private OAuthUserConsentedScopesDAO oauthUserConsentedScopesDAO;
     private final AuthorizationDetailsDAO authorizationDetailsDAO;
+    private final RevokedTokenDAO revokedTokenDAO;
 
     public OAuthTokenPersistenceFactory() {
 
@@ -56,6 +57,7 @@ public class OAuthTokenPersistenceFactory {
         this.tokenBindingMgtDAO = new TokenBindingMgtDAOImpl();
         this.oauthUserConsentedScopesDAO = new CacheBackedOAuthUserConsentedScopesDAOImpl();
         this.authorizationDetailsDAO = new AuthorizationDetailsDAOImpl();
+        this.revokedTokenDAO = new RevokedTokenDAOImpl();
     }
 
     public static OAuthTokenPersistenceFactory getInstance() {
@@ -125,4 +127,9 @@ public class OAuthTokenPersistenceFactory {
     public AuthorizationDetailsDAO getAuthorizationDetailsDAO() {
         return this.authorizationDetailsDAO;
     }
+
+    public RevokedTokenDAO getRevokedTokenDAO() {
+
+        return revokedTokenDAO;
+    }
 }
@@ -21,7 +21,10 @@ package org.wso2.carbon.identity.oauth2.dao;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeConsentException;
 import org.wso2.carbon.identity.oauth2.model.UserApplicationScopeConsentDO;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This interface defines the API for user consent management for OAuth scopes.
@@ -40,6 +43,26 @@ public interface OAuthUserConsentedScopesDAO {
     UserApplicationScopeConsentDO getUserConsentForApplication(String userId, String appId, int tenantId)
             throws IdentityOAuth2ScopeConsentException;
 
+    /**
+     * Check whether the user has either approved or denied all the given scopes for a given application.
+     *
+     * @param userId    User identifier.
+     * @param appId     Application identifier.
+     * @param tenantId  Tenant Id.
+     * @param scopes    Scopes to be checked.
+     * @return  True if the user has already made a consent decision for all the given scopes.
+     * @throws IdentityOAuth2ScopeConsentException
+     */
+    default boolean isUserConsentedForAllScopes(String userId, String appId, int tenantId,
+                                                Collection<String> scopes)
+            throws IdentityOAuth2ScopeConsentException {
+
+        UserApplicationScopeConsentDO userConsent = getUserConsentForApplication(userId, appId, tenantId);
+        Set<String> consentedScopes = new HashSet<>(userConsent.getApprovedScopes());
+        consentedScopes.addAll(userConsent.getDeniedScopes());
+        return consentedScopes.containsAll(scopes);
+    }
+
     /**
      * Retrieve consents given for OAuth scopes by a user for user's all applications.
      *
@@ -23,6 +23,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.internal.cache.TokenBindingCache;
 import org.wso2.carbon.identity.oauth2.model.OldAccessTokenDO;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 
@@ -188,6 +189,8 @@ public class OldTokensCleanDAO {
                         "Successfully old access token deleted from access token table. Token ID: " + oldAccessTokenID);
             }
             connection.commit();
+            // Token bindings are deleted along with the token.
+            TokenBindingCache.getInstance().clearCacheEntries(oldAccessTokenID, null, null);
         } catch (SQLException e) {
             connection.rollback();
             log.error("SQL error occurred while remove token from main table", e);
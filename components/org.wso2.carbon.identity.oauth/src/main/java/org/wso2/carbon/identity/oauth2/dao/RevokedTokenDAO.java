@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.Map;
+
+/**
+ * Data access object for the deny-list of revoked self-contained tokens. A self-contained token cannot be revoked by
+ * changing its state in the database, hence its identifier is recorded until the token expires.
+ */
+public interface RevokedTokenDAO {
+
+    /**
+     * Record the given token as revoked until it expires.
+     *
+     * @param tokenIdentifier Unique identifier of the token, such as the jti of a JWT.
+     * @param consumerKey     Consumer key of the application the token is issued to.
+     * @param expiryTime      Expiry time of the token in milliseconds.
+     * @throws IdentityOAuth2Exception If an error occurs while recording the revoked token.
+     */
+    void addRevokedToken(String tokenIdentifier, String consumerKey, long expiryTime) throws IdentityOAuth2Exception;
+
+    /**
+     * Get the revoked tokens recorded at or after the given time which have not expired yet.
+     *
+     * @param createdAfter Time in milliseconds. Use 0 to get all the revoked tokens.
+     * @return Map of token identifier to the expiry time of the token in milliseconds.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the revoked tokens.
+     */
+    Map<String, Long> getRevokedTokens(long createdAfter) throws IdentityOAuth2Exception;
+
+    /**
+     * Remove the revoked tokens which have expired, as expired tokens are rejected regardless of the deny-list.
+     *
+     * @return Number of removed entries.
+     * @throws IdentityOAuth2Exception If an error occurs while removing the expired entries.
+     */
+    int removeExpiredRevokedTokens() throws IdentityOAuth2Exception;
+}
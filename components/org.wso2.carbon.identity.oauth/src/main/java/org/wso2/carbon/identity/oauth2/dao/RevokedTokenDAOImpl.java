@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import static org.wso2.carbon.identity.oauth2.dao.SQLQueries.DELETE_EXPIRED_REVOKED_TOKENS;
+import static org.wso2.carbon.identity.oauth2.dao.SQLQueries.INSERT_REVOKED_TOKEN;
+import static org.wso2.carbon.identity.oauth2.dao.SQLQueries.RETRIEVE_REVOKED_TOKENS_CREATED_AFTER;
+
+/**
+ * Revoked token data access object implementation.
+ */
+public class RevokedTokenDAOImpl implements RevokedTokenDAO {
+
+    private static final Log log = LogFactory.getLog(RevokedTokenDAOImpl.class);
+    private static final String UTC = "UTC";
+
+    @Override
+    public void addRevokedToken(String tokenIdentifier, String consumerKey, long expiryTime)
+            throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Adding the token: " + tokenIdentifier + " of the client: " + consumerKey +
+                    " to the revoked token deny-list.");
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_REVOKED_TOKEN)) {
+                preparedStatement.setString(1, UUID.randomUUID().toString());
+                preparedStatement.setString(2, tokenIdentifier);
+                preparedStatement.setString(3, consumerKey);
+                preparedStatement.setTimestamp(4, new Timestamp(System.currentTimeMillis()), getUTCCalendar());
+                preparedStatement.setTimestamp(5, new Timestamp(expiryTime), getUTCCalendar());
+                preparedStatement.execute();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Failed to add the token: " + tokenIdentifier +
+                    " to the revoked token deny-list.", e);
+        }
+    }
+
+    @Override
+    public Map<String, Long> getRevokedTokens(long createdAfter) throws IdentityOAuth2Exception {
+
+        Map<String, Long> revokedTokens = new HashMap<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement preparedStatement =
+                     connection.prepareStatement(RETRIEVE_REVOKED_TOKENS_CREATED_AFTER)) {
+            preparedStatement.setTimestamp(1, new Timestamp(createdAfter), getUTCCalendar());
+            preparedStatement.setTimestamp(2, new Timestamp(System.currentTimeMillis()), getUTCCalendar());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    revokedTokens.put(resultSet.getString(1), resultSet.getTimestamp(2, getUTCCalendar()).getTime());
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Failed to retrieve the revoked tokens.", e);
+        }
+        return revokedTokens;
+    }
+
+    @Override
+    public int removeExpiredRevokedTokens() throws IdentityOAuth2Exception {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(DELETE_EXPIRED_REVOKED_TOKENS)) {
+                preparedStatement.setTimestamp(1, new Timestamp(System.currentTimeMillis()), getUTCCalendar());
+                int removedCount = preparedStatement.executeUpdate();
+                IdentityDatabaseUtil.commitTransaction(connection);
+                return removedCount;
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Failed to remove the expired entries of the revoked token deny-list.",
+                    e);
+        }
+    }
+
+    private static Calendar getUTCCalendar() {
+
+        return Calendar.getInstance(TimeZone.getTimeZone(UTC));
+    }
+}
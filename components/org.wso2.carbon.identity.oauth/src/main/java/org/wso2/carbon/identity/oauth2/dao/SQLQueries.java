@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.oauth2.dao;
 
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
 
+import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.SQLPlaceholders.SCOPE_FILTER_PLACEHOLDER;
 import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.SQLPlaceholders.SCOPE_LIST_PLACEHOLDER;
 
 /**
@@ -75,6 +76,11 @@ public class SQLQueries {
     public static final String RETRIEVE_TOKEN_BY_TOKEN_ID = "SELECT ACCESS_TOKEN FROM " +
             "IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_ID = ?";
 
+    public static final String TOKEN_ID_LIST_PLACEHOLDER = "_TOKEN_ID_LIST_";
+
+    public static final String RETRIEVE_TOKENS_BY_TOKEN_IDS = "SELECT TOKEN_ID, ACCESS_TOKEN FROM " +
+            "IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_ID IN (" + TOKEN_ID_LIST_PLACEHOLDER + ")";
+
     public static final String UPDATE_TOKEN_AGAINST_AUTHZ_CODE = "UPDATE IDN_OAUTH2_AUTHORIZATION_CODE SET " +
             "TOKEN_ID=? WHERE AUTHORIZATION_CODE=?";
 
@@ -475,6 +481,9 @@ public class SQLQueries {
     public static final String UPDATE_TOKEN_STATE = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET TOKEN_STATE=?, " +
             "TOKEN_STATE_ID=? WHERE TOKEN_ID=?";
 
+    public static final String UPDATE_TOKEN_STATE_IF_CURRENT = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET TOKEN_STATE=?, " +
+            "TOKEN_STATE_ID=? WHERE TOKEN_ID=? AND TOKEN_STATE=?";
+
     public static final String UPDATE_TOKEN_CONSENTED_TOKEN = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET " +
             "CONSENTED_TOKEN=? WHERE TOKEN_ID=?";
     @Deprecated
@@ -1341,6 +1350,12 @@ public class SQLQueries {
                     "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS ON SCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID " +
                     "WHERE SCOPES.TENANT_ID=?";
 
+    public static final String RETRIEVE_ALL_SCOPES_WITH_SCOPE_TYPE =
+            "SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION, SCOPES.SCOPE_TYPE, " +
+                    "SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS ON SCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID " +
+                    "WHERE SCOPES.TENANT_ID=?";
+
     public static final String RETRIEVE_ALL_OAUTH2_SCOPES_ORACLE =
             "SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION, " +
                     "SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM IDN_OAUTH2_SCOPE SCOPES " +
@@ -1491,6 +1506,70 @@ public class SQLQueries {
                     "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING AS SCOPEBINDINGS " +
                     "ON FILTEREDSCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID";
 
+    public static final String RETRIEVE_SCOPES_AFTER_NAME_MYSQL =
+            "SELECT FILTEREDSCOPES.SCOPE_ID, FILTEREDSCOPES.NAME, FILTEREDSCOPES.DISPLAY_NAME, " +
+                    "FILTEREDSCOPES.DESCRIPTION, SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM " +
+                    "(SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION " +
+                    "FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "WHERE SCOPES.TENANT_ID = :" + Oauth2ScopeConstants.SQLPlaceholders.TENANT_ID + "; " +
+                    SCOPE_FILTER_PLACEHOLDER + " ORDER BY SCOPES.NAME LIMIT :limit;) FILTEREDSCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS " +
+                    "ON FILTEREDSCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID ORDER BY FILTEREDSCOPES.NAME";
+
+    public static final String RETRIEVE_SCOPES_AFTER_NAME_ORACLE =
+            "SELECT FILTEREDSCOPES.SCOPE_ID, FILTEREDSCOPES.NAME, FILTEREDSCOPES.DISPLAY_NAME, " +
+                    "FILTEREDSCOPES.DESCRIPTION, SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM " +
+                    "(SELECT * FROM (SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION " +
+                    "FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "WHERE SCOPES.TENANT_ID = :" + Oauth2ScopeConstants.SQLPlaceholders.TENANT_ID + "; " +
+                    SCOPE_FILTER_PLACEHOLDER + " ORDER BY SCOPES.NAME) WHERE ROWNUM <= :limit;) FILTEREDSCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS " +
+                    "ON FILTEREDSCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID ORDER BY FILTEREDSCOPES.NAME";
+
+    public static final String RETRIEVE_SCOPES_AFTER_NAME_DB2SQL =
+            "SELECT FILTEREDSCOPES.SCOPE_ID, FILTEREDSCOPES.NAME, FILTEREDSCOPES.DISPLAY_NAME, " +
+                    "FILTEREDSCOPES.DESCRIPTION, SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM " +
+                    "(SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION " +
+                    "FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "WHERE SCOPES.TENANT_ID = :" + Oauth2ScopeConstants.SQLPlaceholders.TENANT_ID + "; " +
+                    SCOPE_FILTER_PLACEHOLDER + " ORDER BY SCOPES.NAME FETCH FIRST :limit; ROWS ONLY) FILTEREDSCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS " +
+                    "ON FILTEREDSCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID ORDER BY FILTEREDSCOPES.NAME";
+
+    public static final String RETRIEVE_SCOPES_AFTER_NAME_MSSQL =
+            "SELECT FILTEREDSCOPES.SCOPE_ID, FILTEREDSCOPES.NAME, FILTEREDSCOPES.DISPLAY_NAME, " +
+                    "FILTEREDSCOPES.DESCRIPTION, SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM " +
+                    "(SELECT TOP (:limit;) SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION " +
+                    "FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "WHERE SCOPES.TENANT_ID = :" + Oauth2ScopeConstants.SQLPlaceholders.TENANT_ID + "; " +
+                    SCOPE_FILTER_PLACEHOLDER + " ORDER BY SCOPES.NAME) FILTEREDSCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS " +
+                    "ON FILTEREDSCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID ORDER BY FILTEREDSCOPES.NAME";
+
+    public static final String RETRIEVE_SCOPES_AFTER_NAME_INFORMIX =
+            "SELECT FILTEREDSCOPES.SCOPE_ID, FILTEREDSCOPES.NAME, FILTEREDSCOPES.DISPLAY_NAME, " +
+                    "FILTEREDSCOPES.DESCRIPTION, SCOPEBINDINGS.SCOPE_BINDING, SCOPEBINDINGS.BINDING_TYPE FROM " +
+                    "(SELECT FIRST :limit; * FROM (SELECT SCOPES.SCOPE_ID, SCOPES.NAME, SCOPES.DISPLAY_NAME, " +
+                    "SCOPES.DESCRIPTION FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "WHERE SCOPES.TENANT_ID = :" + Oauth2ScopeConstants.SQLPlaceholders.TENANT_ID + "; " +
+                    SCOPE_FILTER_PLACEHOLDER + ") RESULT ORDER BY RESULT.NAME) FILTEREDSCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS " +
+                    "ON FILTEREDSCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID ORDER BY FILTEREDSCOPES.NAME";
+
+    public static final String SCOPES_AFTER_NAME_CONDITION =
+            "AND SCOPES.NAME > :" + Oauth2ScopeConstants.SQLPlaceholders.AFTER + ";";
+
+    public static final String SCOPES_SCOPE_TYPE_CONDITION =
+            "AND SCOPES.SCOPE_TYPE = :" + Oauth2ScopeConstants.SQLPlaceholders.SCOPE_TYPE + ";";
+
+    public static final String SCOPES_NAME_PREFIX_CONDITION =
+            "AND SCOPES.NAME LIKE :" + Oauth2ScopeConstants.SQLPlaceholders.NAME_PREFIX + "; ESCAPE '!'";
+
+    public static final String SCOPES_BINDING_CONDITION =
+            "AND EXISTS (SELECT 1 FROM IDN_OAUTH2_SCOPE_BINDING FILTERBINDINGS " +
+                    "WHERE FILTERBINDINGS.SCOPE_ID = SCOPES.SCOPE_ID AND FILTERBINDINGS.SCOPE_BINDING = :" +
+                    Oauth2ScopeConstants.SQLPlaceholders.BINDING + ";)";
+
     public static final String RETRIEVE_SCOPE_BY_NAME =
             "SELECT SCOPES.NAME, SCOPES.DISPLAY_NAME, SCOPES.DESCRIPTION, " +
                     "SCOPEBINDINGS.SCOPE_BINDING,SCOPEBINDINGS.BINDING_TYPE FROM IDN_OAUTH2_SCOPE AS SCOPES " +
@@ -1724,6 +1803,15 @@ public class SQLQueries {
                     "TOKEN.TOKEN_ID=BINDING.TOKEN_ID WHERE TOKEN.REFRESH_TOKEN = ? " +
                     "AND BINDING.TOKEN_BINDING_TYPE = ?";
 
+    public static final String INSERT_REVOKED_TOKEN = "INSERT INTO IDN_OAUTH2_REVOKED_TOKENS (UUID, " +
+            "TOKEN_IDENTIFIER, CONSUMER_KEY, TIME_CREATED, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?)";
+
+    public static final String RETRIEVE_REVOKED_TOKENS_CREATED_AFTER = "SELECT TOKEN_IDENTIFIER, EXPIRY_TIME FROM " +
+            "IDN_OAUTH2_REVOKED_TOKENS WHERE TIME_CREATED >= ? AND EXPIRY_TIME > ?";
+
+    public static final String DELETE_EXPIRED_REVOKED_TOKENS = "DELETE FROM IDN_OAUTH2_REVOKED_TOKENS WHERE " +
+            "EXPIRY_TIME <= ?";
+
     private SQLQueries() {
 
     }
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
+import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.DEFAULT_SCOPE_BINDING;
+
+/**
+ * Cache which holds per tenant an immutable snapshot of all the OAuth2 and OIDC scopes of the tenant, with their
+ * bindings, so that {@link OAuthScopeDAOImpl} can answer scope metadata reads without going to the database. A
+ * snapshot is loaded with a single query when it is first needed.
+ * <p>
+ * The snapshot of a tenant is discarded on all the nodes of the cluster when a scope of the tenant is added, updated
+ * or deleted, and is otherwise bounded by the timeout configured for this cache. A load first puts a marker holding a
+ * unique load id to the cache, and the loaded snapshot is only cached if the marker is still there once the load
+ * completes, so that a snapshot which may have missed a scope change committed on any node is not kept. Only an
+ * invalidation received between that check and the put of the snapshot is left to the cache timeout.
+ * <p>
+ * Scope names are matched in the same way as the database matches them, which is case insensitive on MySQL,
+ * MariaDB and MS SQL Server with their default collations.
+ */
+public final class ScopeRegistry extends BaseCache<Integer, ScopeRegistry.TenantScopes> {
+
+    private static final Log log = LogFactory.getLog(ScopeRegistry.class);
+
+    private static final String CACHE_NAME = "ScopeRegistry";
+    private static final String ENABLE = "OAuth.ScopeRegistry.Enable";
+
+    private static final ScopeRegistry instance = new ScopeRegistry();
+
+    private final boolean enabled;
+
+    private ScopeRegistry() {
+
+        super(CACHE_NAME);
+        enabled = ConfigPropertyUtil.getBooleanProperty(ENABLE, false);
+    }
+
+    public static ScopeRegistry getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Discard the scope snapshot of the given tenant. This must be called after the change to the scopes of the
+     * tenant is committed.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void invalidate(int tenantId) {
+
+        clearCacheEntry(tenantId, tenantId);
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the scope registry of tenant: " + tenantId);
+        }
+    }
+
+    /**
+     * Get the scope snapshot of the given tenant, loading it if there is no snapshot.
+     *
+     * @param tenantId Tenant id.
+     * @param loader   Loader of the scopes of the tenant.
+     * @return Scope snapshot of the tenant.
+     * @throws IdentityOAuth2ScopeServerException If loading the scopes fails.
+     */
+    TenantScopes getTenantScopes(int tenantId, TenantScopesLoader loader) throws IdentityOAuth2ScopeServerException {
+
+        TenantScopes current = getValueFromCache(tenantId, tenantId);
+        if (current != null && !current.isLoadMarker()) {
+            return current;
+        }
+        TenantScopes loadMarker = new TenantScopes(UUID.randomUUID().toString());
+        addToCache(tenantId, loadMarker, tenantId);
+        TenantScopes loaded = loader.load(tenantId);
+        // An invalidation from any node of the cluster, or a concurrent load, replaces the marker. The snapshot may
+        // then miss a scope change, hence it is only cached if the marker of this load is still in place.
+        current = getValueFromCache(tenantId, tenantId);
+        if (current != null && loadMarker.loadId.equals(current.loadId)) {
+            addToCache(tenantId, loaded, tenantId);
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + loaded.scopes.size() + " scopes to the scope registry of tenant: " + tenantId);
+            }
+        } else if (log.isDebugEnabled()) {
+            log.debug("Scopes of tenant: " + tenantId + " changed while being loaded. Hence the loaded scopes are " +
+                    "not added to the scope registry.");
+        }
+        return loaded;
+    }
+
+    /**
+     * Loads all the scopes of a tenant.
+     */
+    @FunctionalInterface
+    interface TenantScopesLoader {
+
+        TenantScopes load(int tenantId) throws IdentityOAuth2ScopeServerException;
+    }
+
+    /**
+     * Scope snapshot of a tenant. Scopes are returned as new {@link Scope} instances, built in the same way as the
+     * corresponding {@link OAuthScopeDAOImpl} query does, so that callers may modify them.
+     */
+    static final class TenantScopes extends CacheEntry {
+
+        private static final long serialVersionUID = -2370611592739460825L;
+
+        private final Map<String, ScopeEntry> scopes;
+        private final boolean caseInsensitiveNames;
+        private final String loadId;
+
+        /**
+         * Create the scope snapshot of a tenant.
+         *
+         * @param scopeEntries         Scopes of the tenant.
+         * @param caseInsensitiveNames Whether scope names are matched ignoring the case, as the database does.
+         */
+        TenantScopes(Collection<ScopeEntry> scopeEntries, boolean caseInsensitiveNames) {
+
+            Map<String, ScopeEntry> scopes = new HashMap<>(scopeEntries.size() * 2);
+            for (ScopeEntry scopeEntry : scopeEntries) {
+                scopes.put(caseInsensitiveNames ? toLookupKey(scopeEntry.name) : scopeEntry.name, scopeEntry);
+            }
+            this.scopes = Collections.unmodifiableMap(scopes);
+            this.caseInsensitiveNames = caseInsensitiveNames;
+            this.loadId = null;
+        }
+
+        private TenantScopes(String loadId) {
+
+            this.scopes = Collections.emptyMap();
+            this.caseInsensitiveNames = false;
+            this.loadId = loadId;
+        }
+
+        private boolean isLoadMarker() {
+
+            return loadId != null;
+        }
+
+        private static String toLookupKey(String name) {
+
+            return name.toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Get the database id of the given scope.
+         *
+         * @param name              Scope name.
+         * @param includeOIDCScopes Whether scopes other than OAuth2 scopes, such as OIDC scopes, are considered.
+         * @return Scope id, or {@link Oauth2ScopeConstants#INVALID_SCOPE_ID} if there is no such scope.
+         */
+        int getScopeId(String name, boolean includeOIDCScopes) {
+
+            ScopeEntry scopeEntry = getScopeEntry(name, includeOIDCScopes);
+            return scopeEntry == null ? Oauth2ScopeConstants.INVALID_SCOPE_ID : scopeEntry.id;
+        }
+
+        Set<Scope> getScopes(boolean includeOIDCScopes) {
+
+            Set<Scope> result = new HashSet<>();
+            for (ScopeEntry scopeEntry : scopes.values()) {
+                if (includeOIDCScopes || scopeEntry.oauth2Scope) {
+                    result.add(scopeEntry.toScope());
+                }
+            }
+            return result;
+        }
+
+        Set<Scope> getScopes(boolean includeOIDCScopes, Collection<String> names) {
+
+            Set<ScopeEntry> scopeEntries = new HashSet<>();
+            for (String name : names) {
+                ScopeEntry scopeEntry = getScopeEntry(name, includeOIDCScopes);
+                if (scopeEntry != null) {
+                    scopeEntries.add(scopeEntry);
+                }
+            }
+            Set<Scope> result = new HashSet<>();
+            for (ScopeEntry scopeEntry : scopeEntries) {
+                result.add(scopeEntry.toScope());
+            }
+            return result;
+        }
+
+        /**
+         * Get the OAuth2 scopes which have bindings of the given type, with only the bindings of that type.
+         *
+         * @param bindingType Binding type.
+         * @return Scopes.
+         */
+        Set<Scope> getScopesByBindingType(String bindingType) {
+
+            Set<Scope> result = new HashSet<>();
+            for (ScopeEntry scopeEntry : scopes.values()) {
+                if (!scopeEntry.oauth2Scope) {
+                    continue;
+                }
+                Scope scope = null;
+                for (String[] binding : scopeEntry.bindings) {
+                    if (StringUtils.equals(bindingType, binding[0])) {
+                        if (scope == null) {
+                            scope = scopeEntry.newScope();
+                        }
+                        if (binding[1] != null) {
+                            scope.addScopeBinding(bindingType, binding[1]);
+                        }
+                    }
+                }
+                if (scope != null) {
+                    result.add(scope);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Get the given OAuth2 scope, with the bindings without a type added as default bindings.
+         *
+         * @param name Scope name.
+         * @return Scope, or null if there is no such scope.
+         */
+        Scope getScopeByName(String name) {
+
+            ScopeEntry scopeEntry = getScopeEntry(name, false);
+            if (scopeEntry == null) {
+                return null;
+            }
+            Scope scope = scopeEntry.newScope();
+            for (String[] binding : scopeEntry.bindings) {
+                scope.addScopeBinding(binding[0] == null ? DEFAULT_SCOPE_BINDING : binding[0], binding[1]);
+            }
+            return scope;
+        }
+
+        /**
+         * Get the bindings of all the types of the given scope, regardless of the scope type.
+         *
+         * @param name Scope name.
+         * @return Bindings of the scope.
+         */
+        Set<String> getBindings(String name) {
+
+            Set<String> result = new HashSet<>();
+            ScopeEntry scopeEntry = getScopeEntry(name, true);
+            if (scopeEntry != null) {
+                for (String[] binding : scopeEntry.bindings) {
+                    if (StringUtils.isNotEmpty(binding[1])) {
+                        result.add(binding[1]);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private ScopeEntry getScopeEntry(String name, boolean includeOIDCScopes) {
+
+            if (name == null) {
+                return null;
+            }
+            ScopeEntry scopeEntry = scopes.get(caseInsensitiveNames ? toLookupKey(name) : name);
+            if (scopeEntry == null || (!scopeEntry.oauth2Scope && !includeOIDCScopes)) {
+                return null;
+            }
+            return scopeEntry;
+        }
+    }
+
+    /**
+     * Scope row of the snapshot, holding the bindings as loaded from the database.
+     */
+    static final class ScopeEntry implements Serializable {
+
+        private static final long serialVersionUID = -7719324186054237916L;
+
+        private final int id;
+        private final String name;
+        private final String displayName;
+        private final String description;
+        private final boolean oauth2Scope;
+        private final List<String[]> bindings = new ArrayList<>();
+
+        ScopeEntry(int id, String name, String displayName, String description, boolean oauth2Scope) {
+
+            this.id = id;
+            this.name = name;
+            this.displayName = displayName;
+            this.description = description;
+            this.oauth2Scope = oauth2Scope;
+        }
+
+        /**
+         * Add a binding of the scope. Only called while the scopes of a tenant are being loaded.
+         *
+         * @param bindingType Binding type, which may be null.
+         * @param binding     Binding, which may be null.
+         */
+        void addBinding(String bindingType, String binding) {
+
+            bindings.add(new String[]{bindingType, binding});
+        }
+
+        private Scope newScope() {
+
+            return new Scope(name, displayName, new ArrayList<>(), description);
+        }
+
+        private Scope toScope() {
+
+            Scope scope = newScope();
+            for (String[] binding : bindings) {
+                if (binding[1] != null) {
+                    scope.addScopeBinding(binding[0], binding[1]);
+                }
+            }
+            return scope;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.oauth2.dao;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 
+import java.sql.Connection;
 import java.util.Optional;
 
 /**
@@ -69,6 +70,27 @@ public interface TokenBindingMgtDAO {
      */
     void storeTokenBinding(TokenBinding tokenBinding, int tenantId) throws IdentityOAuth2Exception;
 
+    /**
+     * Store access token binding using the given connection, so the binding is stored in the same transaction as
+     * the access token. The caller is responsible for committing the transaction, and for clearing the cached
+     * bindings of the token and its binding reference once the transaction is committed.
+     * <p>
+     * The default implementation does not use the given connection. It delegates to
+     * {@link #storeTokenBinding(TokenBinding, int)}, which stores the binding in a transaction of its own that is
+     * committed before this method returns, regardless of the outcome of the caller's transaction. Implementations
+     * backed by the access token database should override it.
+     *
+     * @param tokenBinding token binding.
+     * @param tenantId     tenant id.
+     * @param connection   database connection.
+     * @throws IdentityOAuth2Exception in case of failure.
+     */
+    default void storeTokenBinding(TokenBinding tokenBinding, int tenantId, Connection connection)
+            throws IdentityOAuth2Exception {
+
+        storeTokenBinding(tokenBinding, tenantId);
+    }
+
     /**
      * Delete access token binding.
      *
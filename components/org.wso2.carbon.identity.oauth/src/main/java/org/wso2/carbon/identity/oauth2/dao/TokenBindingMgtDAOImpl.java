@@ -27,6 +27,8 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
 import org.wso2.carbon.identity.oauth.tokenprocessor.TokenPersistenceProcessor;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.internal.cache.TokenBindingCache;
+import org.wso2.carbon.identity.oauth2.internal.cache.TokenBindingCacheEntry;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
@@ -55,6 +57,23 @@ public class TokenBindingMgtDAOImpl implements TokenBindingMgtDAO {
     @Override
     public Optional<TokenBinding> getTokenBinding(String tokenId) throws IdentityOAuth2Exception {
 
+        String cacheKey = TokenBindingCache.buildTokenIdKey(tokenId);
+        TokenBindingCacheEntry cacheEntry = TokenBindingCache.getInstance().getValueFromCache(cacheKey,
+                MultitenantConstants.SUPER_TENANT_ID);
+        if (cacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Token binding for the token id: " + tokenId + " is found in the cache.");
+            }
+            return Optional.ofNullable(cacheEntry.toTokenBinding());
+        }
+        Optional<TokenBinding> tokenBinding = getTokenBindingFromDB(tokenId);
+        TokenBindingCache.getInstance().addToCache(cacheKey, new TokenBindingCacheEntry(tokenBinding.orElse(null)),
+                MultitenantConstants.SUPER_TENANT_ID);
+        return tokenBinding;
+    }
+
+    private Optional<TokenBinding> getTokenBindingFromDB(String tokenId) throws IdentityOAuth2Exception {
+
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
              PreparedStatement preparedStatement = connection.prepareStatement(RETRIEVE_TOKEN_BINDING_BY_TOKEN_ID)) {
             preparedStatement.setString(1, tokenId);
@@ -76,6 +95,25 @@ public class TokenBindingMgtDAOImpl implements TokenBindingMgtDAO {
     public Optional<TokenBinding> getTokenBindingByBindingRef(String tokenId, String bindingRef)
             throws IdentityOAuth2Exception {
 
+        String cacheKey = TokenBindingCache.buildTokenIdAndBindingRefKey(tokenId, bindingRef);
+        TokenBindingCacheEntry cacheEntry = TokenBindingCache.getInstance().getValueFromCache(cacheKey,
+                MultitenantConstants.SUPER_TENANT_ID);
+        if (cacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Token binding for the token id: " + tokenId + " and token binding ref: " + bindingRef +
+                        " is found in the cache.");
+            }
+            return Optional.ofNullable(cacheEntry.toTokenBinding());
+        }
+        Optional<TokenBinding> tokenBinding = getTokenBindingByBindingRefFromDB(tokenId, bindingRef);
+        TokenBindingCache.getInstance().addToCache(cacheKey, new TokenBindingCacheEntry(tokenBinding.orElse(null)),
+                MultitenantConstants.SUPER_TENANT_ID);
+        return tokenBinding;
+    }
+
+    private Optional<TokenBinding> getTokenBindingByBindingRefFromDB(String tokenId, String bindingRef)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Getting token binding for the token id: " + tokenId + " and token binding ref: " + bindingRef);
         }
@@ -105,6 +143,22 @@ public class TokenBindingMgtDAOImpl implements TokenBindingMgtDAO {
     public boolean isTokenBindingExistsForBindingReference(String tokenBindingReference)
             throws IdentityOAuth2Exception {
 
+        String cacheKey = TokenBindingCache.buildBindingRefKey(tokenBindingReference);
+        TokenBindingCacheEntry cacheEntry = TokenBindingCache.getInstance().getValueFromCache(cacheKey,
+                MultitenantConstants.SUPER_TENANT_ID);
+        if (cacheEntry != null) {
+            return !cacheEntry.isEmpty();
+        }
+        boolean isTokenBindingExists = isTokenBindingExistsForBindingReferenceInDB(tokenBindingReference);
+        // Only the existence is cached against the binding reference.
+        TokenBindingCache.getInstance().addToCache(cacheKey, new TokenBindingCacheEntry(isTokenBindingExists ?
+                new TokenBinding(null, tokenBindingReference) : null), MultitenantConstants.SUPER_TENANT_ID);
+        return isTokenBindingExists;
+    }
+
+    private boolean isTokenBindingExistsForBindingReferenceInDB(String tokenBindingReference)
+            throws IdentityOAuth2Exception {
+
         if (log.isDebugEnabled()) {
             log.debug("Checking for token binding existence for the binding reference: "
                     + tokenBindingReference);
@@ -141,8 +195,29 @@ public class TokenBindingMgtDAOImpl implements TokenBindingMgtDAO {
                     " bindingType: " + tokenBinding.getBindingType() +
                     " bindingRef: " + tokenBinding.getBindingReference());
         }
-        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
-                PreparedStatement preparedStatement = connection.prepareStatement(STORE_TOKEN_BINDING)) {
+        Connection connection = IdentityDatabaseUtil.getDBConnection(true);
+        try {
+            storeTokenBinding(tokenBinding, tenantId, connection);
+            IdentityDatabaseUtil.commitTransaction(connection);
+        } catch (IdentityOAuth2Exception e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            throw e;
+        } finally {
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+        // Drop the empty entries cached for the token and the binding reference before the binding was stored.
+        TokenBindingCache.getInstance().clearCacheEntries(tokenBinding.getTokenId(),
+                tokenBinding.getBindingReference(), null);
+    }
+
+    @Override
+    public void storeTokenBinding(TokenBinding tokenBinding, int tenantId, Connection connection)
+            throws IdentityOAuth2Exception {
+
+        if (tokenBinding == null) {
+            return;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement(STORE_TOKEN_BINDING)) {
             preparedStatement.setString(1, tokenBinding.getTokenId());
             preparedStatement.setString(2, tokenBinding.getBindingType());
             preparedStatement.setString(3, tokenBinding.getBindingReference());
@@ -162,6 +237,8 @@ public class TokenBindingMgtDAOImpl implements TokenBindingMgtDAO {
     @Override
     public void deleteTokenBinding(String tokenId) throws IdentityOAuth2Exception {
 
+        // Resolve the binding reference, so that its cached existence is cleared along with the binding.
+        String bindingRef = getTokenBinding(tokenId).map(TokenBinding::getBindingReference).orElse(null);
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
                 PreparedStatement preparedStatement = connection.prepareStatement(DELETE_TOKEN_BINDING_BY_TOKEN_ID)) {
             preparedStatement.setString(1, tokenId);
@@ -169,12 +246,29 @@ public class TokenBindingMgtDAOImpl implements TokenBindingMgtDAO {
         } catch (SQLException e) {
             throw new IdentityOAuth2Exception("Failed to get token binding for the token id: " + tokenId, e);
         }
+        TokenBindingCache.getInstance().clearCacheEntries(tokenId, bindingRef, null);
     }
 
     @Override
     public Optional<TokenBinding> getBindingFromRefreshToken(String refreshToken, boolean isTokenHashingEnabled)
             throws IdentityOAuth2Exception {
 
+        String cacheKey = TokenBindingCache.buildRefreshTokenKey(refreshToken);
+        TokenBindingCacheEntry cacheEntry = TokenBindingCache.getInstance().getValueFromCache(cacheKey,
+                MultitenantConstants.SUPER_TENANT_ID);
+        if (cacheEntry != null) {
+            return Optional.ofNullable(cacheEntry.toTokenBinding());
+        }
+        Optional<TokenBinding> tokenBinding = getBindingFromRefreshTokenFromDB(refreshToken, isTokenHashingEnabled);
+        TokenBindingCache.getInstance().addToCache(cacheKey, new TokenBindingCacheEntry(tokenBinding.orElse(null)),
+                MultitenantConstants.SUPER_TENANT_ID);
+        return tokenBinding;
+    }
+
+    private Optional<TokenBinding> getBindingFromRefreshTokenFromDB(String refreshToken,
+                                                                   boolean isTokenHashingEnabled)
+            throws IdentityOAuth2Exception {
+
         TokenPersistenceProcessor hashingPersistenceProcessor = new HashingPersistenceProcessor();
         JdbcTemplate jdbcTemplate = new JdbcTemplate(IdentityDatabaseUtil.getDataSource());
         if (isTokenHashingEnabled) {
@@ -196,7 +290,7 @@ public class TokenBindingMgtDAOImpl implements TokenBindingMgtDAO {
                         preparedStatement.setString(2, CERTIFICATE_BASED_TOKEN_BINDER);
                     });
 
-            return tokenBindingList.isEmpty() ? null : Optional.ofNullable(tokenBindingList.get(0));
+            return tokenBindingList.isEmpty() ? Optional.empty() : Optional.ofNullable(tokenBindingList.get(0));
         } catch (DataAccessException e) {
             String error = String.format("Error obtaining token binding type using refresh token: %s.",
                     refreshToken);
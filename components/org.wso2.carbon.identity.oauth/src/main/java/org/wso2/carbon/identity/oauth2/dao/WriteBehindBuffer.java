@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers non-critical single row updates and writes them to the database in JDBC batches on a fixed interval
+ * instead of on the request thread. Updates to the same row are coalesced.
+ * Failed batches are retried on the next flush, hence an update is written at least once unless it expires before it
+ * could be written. Pending updates are flushed when the buffer is shut down.
+ * <p>
+ * Only values that no request reads back while the update is pending may be deferred. Values used for security checks,
+ * such as the last poll time that enforces slow_down, and values read by later requests, such as the consented flag of
+ * a token which userinfo and the refresh token grant rely on, must be written synchronously.
+ * <p>
+ * The buffer is disabled unless OAuth.WriteBehind.Enable is set to true. Callers should write synchronously when
+ * {@link #defer(DeferredUpdate)} returns false.
+ */
+public class WriteBehindBuffer {
+
+    private static final Log log = LogFactory.getLog(WriteBehindBuffer.class);
+
+    private static final String WRITE_BEHIND_ENABLE = "OAuth.WriteBehind.Enable";
+    private static final String WRITE_BEHIND_FLUSH_INTERVAL = "OAuth.WriteBehind.FlushInterval";
+    private static final String WRITE_BEHIND_MAX_PENDING_UPDATES = "OAuth.WriteBehind.MaxPendingUpdates";
+    private static final long DEFAULT_FLUSH_INTERVAL_IN_MILLIS = 1000;
+    private static final int DEFAULT_MAX_PENDING_UPDATES = 10000;
+    private static final int MAX_FLUSH_ATTEMPTS = 5;
+
+    private static volatile WriteBehindBuffer instance;
+
+    private final ConcurrentMap<String, DeferredUpdate> pendingUpdates = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final boolean enabled;
+    private final long flushIntervalInMillis;
+    private final int maxPendingUpdates;
+    private volatile ScheduledExecutorService flushExecutor;
+    private volatile boolean shutdown;
+
+    private WriteBehindBuffer() {
+
+        this(ConfigPropertyUtil.getBooleanProperty(WRITE_BEHIND_ENABLE, false),
+                ConfigPropertyUtil.getPositiveLongProperty(WRITE_BEHIND_FLUSH_INTERVAL,
+                        DEFAULT_FLUSH_INTERVAL_IN_MILLIS),
+                ConfigPropertyUtil.getPositiveIntProperty(WRITE_BEHIND_MAX_PENDING_UPDATES,
+                        DEFAULT_MAX_PENDING_UPDATES));
+    }
+
+    WriteBehindBuffer(boolean enabled, long flushIntervalInMillis, int maxPendingUpdates) {
+
+        this.enabled = enabled;
+        this.flushIntervalInMillis = flushIntervalInMillis;
+        this.maxPendingUpdates = maxPendingUpdates;
+    }
+
+    public static WriteBehindBuffer getInstance() {
+
+        if (instance == null) {
+            synchronized (WriteBehindBuffer.class) {
+                if (instance == null) {
+                    instance = new WriteBehindBuffer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled && !shutdown;
+    }
+
+    /**
+     * Buffer the given update to be written with the next flush.
+     *
+     * @param update Update to be deferred.
+     * @return True if the update was buffered. False if the caller should write the update synchronously, which is
+     * the case when the buffer is disabled, full, or cannot flush the update before it expires.
+     */
+    public boolean defer(DeferredUpdate update) {
+
+        if (!isEnabled()) {
+            return false;
+        }
+        if (System.currentTimeMillis() + flushIntervalInMillis >= update.getExpiryTime()) {
+            return false;
+        }
+        String coalescingKey = update.getCoalescingKey();
+        if (pendingUpdates.size() >= maxPendingUpdates && !pendingUpdates.containsKey(coalescingKey)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Write behind buffer is full. Writing the update for key: " + update.getKey() +
+                        " synchronously.");
+            }
+            return false;
+        }
+        startFlushExecutor();
+        pendingUpdates.put(coalescingKey, update);
+        return true;
+    }
+
+    /**
+     * Write all the pending updates to the database. Updates of the same query are written as a single batch.
+     */
+    public void flush() {
+
+        synchronized (flushLock) {
+            if (pendingUpdates.isEmpty()) {
+                return;
+            }
+            long currentTime = System.currentTimeMillis();
+            Map<String, List<DeferredUpdate>> updatesByQuery = new LinkedHashMap<>();
+            for (Map.Entry<String, DeferredUpdate> entry : pendingUpdates.entrySet()) {
+                DeferredUpdate update = entry.getValue();
+                if (!pendingUpdates.remove(entry.getKey(), update)) {
+                    continue;
+                }
+                if (update.getExpiryTime() <= currentTime) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Discarding expired deferred update for key: " + update.getKey());
+                    }
+                    continue;
+                }
+                updatesByQuery.computeIfAbsent(update.getSql(), sql -> new ArrayList<>()).add(update);
+            }
+            for (Map.Entry<String, List<DeferredUpdate>> entry : updatesByQuery.entrySet()) {
+                try {
+                    executeBatch(entry.getKey(), entry.getValue());
+                    if (log.isDebugEnabled()) {
+                        log.debug("Flushed " + entry.getValue().size() + " deferred updates.");
+                    }
+                } catch (SQLException | IdentityRuntimeException e) {
+                    log.error("Error while flushing " + entry.getValue().size() + " deferred updates. The updates " +
+                            "will be retried with the next flush.", e);
+                    requeue(entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop the periodic flush and write all the pending updates. Updates deferred afterwards are rejected so that
+     * callers write them synchronously.
+     */
+    public void shutdown() {
+
+        shutdown = true;
+        ScheduledExecutorService executor = flushExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(flushIntervalInMillis, TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    int getPendingUpdateCount() {
+
+        return pendingUpdates.size();
+    }
+
+    private void executeBatch(String sql, List<DeferredUpdate> updates) throws SQLException {
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            try (PreparedStatement prepStmt = connection.prepareStatement(sql)) {
+                for (DeferredUpdate update : updates) {
+                    update.bind(prepStmt);
+                    prepStmt.addBatch();
+                }
+                prepStmt.executeBatch();
+                IdentityDatabaseUtil.commitTransaction(connection);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
+            }
+        }
+    }
+
+    private void requeue(List<DeferredUpdate> updates) {
+
+        for (DeferredUpdate update : updates) {
+            if (update.incrementFailedAttempts() >= MAX_FLUSH_ATTEMPTS) {
+                log.error("Discarding deferred update for key: " + update.getKey() + " after " + MAX_FLUSH_ATTEMPTS +
+                        " failed attempts.");
+                continue;
+            }
+            // A newer update for the same row supersedes the failed one.
+            pendingUpdates.putIfAbsent(update.getCoalescingKey(), update);
+        }
+    }
+
+    private void startFlushExecutor() {
+
+        if (flushExecutor != null) {
+            return;
+        }
+        synchronized (this) {
+            if (flushExecutor == null) {
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "oauth-write-behind-flush");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalInMillis, flushIntervalInMillis,
+                        TimeUnit.MILLISECONDS);
+                flushExecutor = executor;
+            }
+        }
+    }
+
+    private void flushQuietly() {
+
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Error while flushing deferred updates.", e);
+        }
+    }
+}
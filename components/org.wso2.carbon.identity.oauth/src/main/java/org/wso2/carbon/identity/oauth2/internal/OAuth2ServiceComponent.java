@@ -56,12 +56,15 @@ import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.token.bindings.TokenBinderInfo;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
+import org.wso2.carbon.identity.oauth.event.OAuthEventDispatcher;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth.rar.core.AuthorizationDetailsSchemaValidator;
 import org.wso2.carbon.identity.oauth.tokenprocessor.OAuth2RevocationProcessor;
 import org.wso2.carbon.identity.oauth.tokenprocessor.RefreshTokenGrantProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.RevokedTokenDenyList;
 import org.wso2.carbon.identity.oauth.tokenprocessor.TokenProvider;
 import org.wso2.carbon.identity.oauth2.IntrospectionDataProvider;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.OAuth2ScopeService;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.carbon.identity.oauth2.OAuth2TokenValidationService;
@@ -76,6 +79,7 @@ import org.wso2.carbon.identity.oauth2.client.authentication.PublicClientAuthent
 import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dao.TokenManagementDAO;
+import org.wso2.carbon.identity.oauth2.dao.WriteBehindBuffer;
 import org.wso2.carbon.identity.oauth2.device.api.DeviceAuthService;
 import org.wso2.carbon.identity.oauth2.device.api.DeviceAuthServiceImpl;
 import org.wso2.carbon.identity.oauth2.device.response.DeviceFlowResponseTypeRequestValidator;
@@ -146,6 +150,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import javax.xml.namespace.QName;
@@ -156,10 +161,7 @@ import javax.xml.stream.XMLStreamReader;
 import static org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants.PERMISSIONS_BINDING_TYPE;
 import static org.wso2.carbon.identity.oauth2.device.constants.Constants.DEVICE_FLOW_GRANT_TYPE;
 import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.checkAudienceEnabled;
-import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.checkConsentedTokenColumnAvailable;
-import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.checkIDPIdColumnAvailable;
 import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getJWTRenewWithoutRevokeAllowedGrantTypes;
-import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.isAccessTokenExtendedTableExist;
 
 /**
  * OAuth 2 OSGi service component.
@@ -171,6 +173,8 @@ import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.isAccessTokenExten
 public class OAuth2ServiceComponent {
 
     private static final Log log = LogFactory.getLog(OAuth2ServiceComponent.class);
+    private static final String STARTUP_THREAD_NAME = "oauth2-startup";
+    private static final int STARTUP_PARALLELISM = 4;
     private static final String IDENTITY_PATH = "identity";
     public static final String NAME = "name";
     public static final String ID = "id";
@@ -237,19 +241,41 @@ public class OAuth2ServiceComponent {
 
     protected void activate(ComponentContext context) {
 
-        try {
-            // Check if server compliant with the client ID tenant unification.
-            if (!OAuth2Util.isCompliantWithClientIDTenantUnification()) {
-                throw new RuntimeException("The unique key constraint in the IDN_OAUTH_CONSUMER_APPS table is not " +
-                        "compatible with the server configs on tenant qualified URLs and/ or tenanted sessions.");
-            }
+        long activationStartTime = System.currentTimeMillis();
+        try (StartupTaskRunner startupTasks = new StartupTaskRunner(STARTUP_THREAD_NAME, STARTUP_PARALLELISM)) {
+            activateComponent(context, startupTasks);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("OAuth2ServiceComponent activated in " + (System.currentTimeMillis() - activationStartTime) +
+                    " ms.");
+        }
+    }
 
+    private void activateComponent(ComponentContext context, StartupTaskRunner startupTasks) {
+
+        // The schema capability checks only read database metadata, hence they run alongside the activation steps
+        // below and their results are collected where they are needed.
+        Future<Boolean> clientIdTenantUnificationCompliance = startupTasks.submit(
+                "client ID tenant unification check", OAuth2Util::isCompliantWithClientIDTenantUnification);
+        Future<Boolean> idpIdColumnAvailability = startupTasks.submit("IDP_ID column check",
+                OAuth2Util::checkIDPIdColumnAvailable);
+        Future<Boolean> accessTokenExtendedTableAvailability = startupTasks.submit(
+                "access token extended table check", OAuth2Util::isAccessTokenExtendedTableExist);
+        Future<Boolean> consentedTokenColumnAvailability = startupTasks.submit("CONSENTED_TOKEN column check",
+                OAuth2Util::checkConsentedTokenColumnAvailable);
+        try {
             if (OAuth2ServiceComponentHolder.getInstance().getScopeClaimMappingDAO() == null) {
                 OAuth2ServiceComponentHolder.getInstance()
                         .setScopeClaimMappingDAO(new ScopeClaimMappingDAOImpl());
             }
             loadScopeConfigFile();
             loadOauthScopeBinding();
+
+            // Check if server compliant with the client ID tenant unification, before persisting anything.
+            if (!startupTasks.await(clientIdTenantUnificationCompliance)) {
+                throw new RuntimeException("The unique key constraint in the IDN_OAUTH_CONSUMER_APPS table is not " +
+                        "compatible with the server configs on tenant qualified URLs and/ or tenanted sessions.");
+            }
             int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
             boolean isRecordExist = OAuthTokenPersistenceFactory.getInstance().getScopeClaimMappingDAO().
                     hasScopesPopulated(tenantId);
@@ -443,7 +469,7 @@ public class OAuth2ServiceComponent {
             }
             OAuth2ServiceComponentHolder.setAudienceEnabled(false);
         }
-        if (checkIDPIdColumnAvailable()) {
+        if (startupTasks.await(idpIdColumnAvailability)) {
             if (log.isDebugEnabled()) {
                 log.debug("IDP_ID column is available in all relevant tables. " +
                         "Setting isIDPIdColumnEnabled to true.");
@@ -457,13 +483,13 @@ public class OAuth2ServiceComponent {
             OAuth2ServiceComponentHolder.setIDPIdColumnEnabled(false);
         }
 
-        if (isAccessTokenExtendedTableExist()) {
+        if (startupTasks.await(accessTokenExtendedTableAvailability)) {
             log.debug("IDN_OAUTH2_ACCESS_TOKEN_EXTENDED table is available Setting " +
                     "isAccessTokenExtendedTableExist to true.");
             OAuth2ServiceComponentHolder.setTokenExtendedTableExist(true);
         }
 
-        boolean isConsentedTokenColumnAvailable = checkConsentedTokenColumnAvailable();
+        boolean isConsentedTokenColumnAvailable = startupTasks.await(consentedTokenColumnAvailability);
         OAuth2ServiceComponentHolder.setConsentedTokenColumnEnabled(isConsentedTokenColumnAvailable);
         if (log.isDebugEnabled()) {
             if (isConsentedTokenColumnAvailable) {
@@ -480,12 +506,28 @@ public class OAuth2ServiceComponent {
         boolean restrictUnassignedScopes = Boolean.parseBoolean(System.getProperty(
                 OAuthConstants.RESTRICT_UNASSIGNED_SCOPES));
         OAuth2ServiceComponentHolder.setRestrictUnassignedScopes(restrictUnassignedScopes);
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(OAuth2Constants.OAUTH_SELF_CONTAINED_CODE_ENABLE))
+                && OAuth2Util.isClusteringEnabled()) {
+            log.warn("Self-contained authorization codes are not issued since clustering is enabled. Redeemed " +
+                    "self-contained codes are tracked per node, which would allow a code to be redeemed on each node.");
+        }
         if (OAuthServerConfiguration.getInstance().isUseLegacyScopesAsAliasForNewScopesEnabled()
                 || OAuthServerConfiguration.getInstance().isUseLegacyPermissionAccessForUserBasedAuth()) {
             initializeLegacyScopeToNewScopeMappings();
         }
     }
 
+    protected void deactivate(ComponentContext context) {
+
+        // Write the pending deferred updates and handle the queued events before the data sources go away.
+        WriteBehindBuffer.getInstance().shutdown();
+        OAuthEventDispatcher.getInstance().shutdown();
+        RevokedTokenDenyList.getInstance().shutdown();
+        if (log.isDebugEnabled()) {
+            log.debug("Identity OAuth bundle is deactivated");
+        }
+    }
+
     /**
      * Set Application management service implementation
      *
@@ -41,6 +41,8 @@ import org.wso2.carbon.identity.oauth.tokenprocessor.DefaultRefreshTokenGrantPro
 import org.wso2.carbon.identity.oauth.tokenprocessor.DefaultTokenProvider;
 import org.wso2.carbon.identity.oauth.tokenprocessor.OAuth2RevocationProcessor;
 import org.wso2.carbon.identity.oauth.tokenprocessor.RefreshTokenGrantProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.StatelessOAuth2RevocationProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.StatelessTokenProvider;
 import org.wso2.carbon.identity.oauth.tokenprocessor.TokenProvider;
 import org.wso2.carbon.identity.oauth2.OAuthAuthorizationRequestBuilder;
 import org.wso2.carbon.identity.oauth2.authz.validators.ResponseTypeRequestValidator;
@@ -55,6 +57,7 @@ import org.wso2.carbon.identity.oauth2.rar.validator.DefaultAuthorizationDetails
 import org.wso2.carbon.identity.oauth2.responsemode.provider.ResponseModeProvider;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.ClaimProvider;
 import org.wso2.carbon.identity.openidconnect.dao.ScopeClaimMappingDAO;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
@@ -551,7 +554,8 @@ public class OAuth2ServiceComponentHolder {
     public OAuth2RevocationProcessor getRevocationProcessor() {
 
         if (revocationProcessor == null) {
-            revocationProcessor = new DefaultOAuth2RevocationProcessor();
+            revocationProcessor = OAuth2Util.isTokenPersistenceEnabled() ? new DefaultOAuth2RevocationProcessor() :
+                    new StatelessOAuth2RevocationProcessor();
         }
         return revocationProcessor;
     }
@@ -758,7 +762,8 @@ public class OAuth2ServiceComponentHolder {
     public TokenProvider getTokenProvider() {
 
         if (tokenProvider == null) {
-            tokenProvider = new DefaultTokenProvider();
+            tokenProvider = OAuth2Util.isTokenPersistenceEnabled() ? new DefaultTokenProvider() :
+                    new StatelessTokenProvider();
         }
         return tokenProvider;
     }
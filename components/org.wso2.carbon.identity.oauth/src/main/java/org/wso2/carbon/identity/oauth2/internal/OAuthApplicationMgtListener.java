@@ -63,6 +63,7 @@ import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.util.RoleScopeIndex;
 
 import java.io.ByteArrayInputStream;
 import java.io.StringWriter;
@@ -151,6 +152,7 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
         }
 
         removeEntriesFromCache(serviceProvider, tenantDomain);
+        RoleScopeIndex.getInstance().invalidateApplication(serviceProvider.getApplicationResourceId());
         threadLocalForClaimConfigUpdates.remove();
         return true;
     }
@@ -192,6 +194,14 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
         return true;
     }
 
+    @Override
+    public boolean doPostDeleteApplication(String applicationName, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+
+        RoleScopeIndex.getInstance().invalidateAllTenants();
+        return true;
+    }
+
     private Set<String> getOAuthAppsAssociatedWithApplication(ServiceProvider serviceProvider) {
 
         Set<String> oauthKeys = new HashSet<>();
@@ -25,10 +25,13 @@ import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.dao.ScopeRegistry;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.util.ScopeVocabulary;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryCache;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.stratos.common.exception.StratosException;
 
@@ -49,6 +52,9 @@ public class OAuthTenantMgtListenerImpl extends AbstractIdentityTenantMgtListene
     public void onPreDelete(int tenantId) throws StratosException {
 
         clearTokenData(tenantId);
+        ScopeVocabulary.clear(tenantId);
+        OIDCDiscoveryCache.getInstance().clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
     }
 
     @Override
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent component activation tasks, such as database schema capability checks, on a small bounded pool
+ * while the activation thread continues with the work that has to stay on it. The activation thread waits for a task
+ * result only at the point it is needed. The time taken by each task is logged at debug level.
+ */
+final class StartupTaskRunner implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(StartupTaskRunner.class);
+
+    private final ExecutorService executor;
+
+    StartupTaskRunner(String name, int parallelism) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submit a startup task.
+     *
+     * @param taskName Name of the task, used when logging.
+     * @param task     Task to run.
+     * @param <T>      Type of the task result.
+     * @return Future of the task result.
+     */
+    <T> Future<T> submit(String taskName, Callable<T> task) {
+
+        return executor.submit(() -> {
+            long startTime = System.currentTimeMillis();
+            try {
+                return task.call();
+            } finally {
+                if (log.isDebugEnabled()) {
+                    log.debug("Startup task: " + taskName + " completed in " +
+                            (System.currentTimeMillis() - startTime) + " ms.");
+                }
+            }
+        });
+    }
+
+    /**
+     * Wait for a startup task and return its result. Failures of the task are rethrown on the calling thread.
+     *
+     * @param future Future returned when submitting the task.
+     * @param <T>    Type of the task result.
+     * @return Result of the task.
+     */
+    <T> T await(Future<T> future) {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a startup task.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public void close() {
+
+        executor.shutdownNow();
+    }
+}
@@ -20,20 +20,49 @@ package org.wso2.carbon.identity.oauth2.internal.cache;
 
 import org.wso2.carbon.identity.core.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth2.model.UserApplicationScopeConsentDO;
+import org.wso2.carbon.identity.oauth2.util.ScopeSet;
+import org.wso2.carbon.identity.oauth2.util.ScopeVocabulary;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Cache entry for User Consented Scope.
+ * Cache entry for User Consented Scope. An entry holds the consents of a single user for each application that has
+ * been looked up, including applications for which the user has not given any consent (negative entries).
  */
 public class OAuthUserConsentedScopeCacheEntry extends CacheEntry {
 
+    private static final long serialVersionUID = -2818204766474413519L;
+
     private String appID;
     private UserApplicationScopeConsentDO userApplicationScopeConsentDO;
+    private final Map<String, UserApplicationScopeConsentDO> appConsents = new ConcurrentHashMap<>();
+    private final int tenantId;
+    // Scope sets are local to the node, hence they are rebuilt from the consents after deserialization.
+    private transient volatile Map<String, ScopeSet> appConsentedScopes;
+
+    public OAuthUserConsentedScopeCacheEntry() {
+
+        this(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    public OAuthUserConsentedScopeCacheEntry(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
 
     public OAuthUserConsentedScopeCacheEntry(String appId, UserApplicationScopeConsentDO userConsent) {
 
+        this();
         this.appID = appId;
         this.userApplicationScopeConsentDO = userConsent;
-
+        if (appId != null && userConsent != null) {
+            putConsent(appId, userConsent);
+        }
     }
 
     public String getAppID() {
@@ -55,4 +84,94 @@ public class OAuthUserConsentedScopeCacheEntry extends CacheEntry {
 
         this.userApplicationScopeConsentDO = userApplicationScopeConsentDO;
     }
+
+    /**
+     * Get the cached consent of the user for the given application.
+     *
+     * @param appId Application identifier.
+     * @return Cached consent, an empty consent if the user has not consented to the application, or null if the
+     * consent of the application is not cached.
+     */
+    public UserApplicationScopeConsentDO getConsent(String appId) {
+
+        return appConsents.get(appId);
+    }
+
+    /**
+     * Check whether the consent of the given application is available in this entry.
+     *
+     * @param appId Application identifier.
+     * @return True if the consent (positive or negative) is cached.
+     */
+    public boolean containsConsent(String appId) {
+
+        return appConsents.containsKey(appId);
+    }
+
+    /**
+     * Cache the consent of the user for the given application. An empty consent is cached as a negative entry.
+     *
+     * @param appId       Application identifier.
+     * @param userConsent User consent.
+     */
+    public void putConsent(String appId, UserApplicationScopeConsentDO userConsent) {
+
+        getAppConsentedScopes().put(appId, buildConsentedScopeSet(userConsent));
+        appConsents.put(appId, userConsent);
+    }
+
+    /**
+     * Remove the cached consent of the given application.
+     *
+     * @param appId Application identifier.
+     */
+    public void removeConsent(String appId) {
+
+        appConsents.remove(appId);
+        getAppConsentedScopes().remove(appId);
+    }
+
+    /**
+     * Check whether the user has either approved or denied all the given scopes for the application.
+     *
+     * @param appId  Application identifier.
+     * @param scopes Scopes to be checked.
+     * @return True if a decision has been made for all the scopes, false otherwise or if the consent of the
+     * application is not cached.
+     */
+    public boolean isConsentedForAllScopes(String appId, Collection<String> scopes) {
+
+        ScopeSet consentedScopes = getAppConsentedScopes().get(appId);
+        if (consentedScopes == null) {
+            UserApplicationScopeConsentDO userConsent = appConsents.get(appId);
+            if (userConsent == null) {
+                return false;
+            }
+            consentedScopes = buildConsentedScopeSet(userConsent);
+            getAppConsentedScopes().put(appId, consentedScopes);
+        }
+        return consentedScopes.containsAll(scopes);
+    }
+
+    private Map<String, ScopeSet> getAppConsentedScopes() {
+
+        Map<String, ScopeSet> consentedScopes = appConsentedScopes;
+        if (consentedScopes == null) {
+            synchronized (this) {
+                consentedScopes = appConsentedScopes;
+                if (consentedScopes == null) {
+                    consentedScopes = new ConcurrentHashMap<>();
+                    appConsentedScopes = consentedScopes;
+                }
+            }
+        }
+        return consentedScopes;
+    }
+
+    private ScopeSet buildConsentedScopeSet(UserApplicationScopeConsentDO userConsent) {
+
+        List<String> consentedScopes = new ArrayList<>(userConsent.getApprovedScopes());
+        consentedScopes.addAll(userConsent.getDeniedScopes());
+        return ScopeSet.of(ScopeVocabulary.getInstance(tenantId), consentedScopes);
+    }
 }
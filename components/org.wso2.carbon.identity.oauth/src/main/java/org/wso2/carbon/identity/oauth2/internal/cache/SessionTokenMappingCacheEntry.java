@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.internal.cache;
+
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Cache entry holding the ids of the tokens mapped to an SSO session. An empty entry records that no tokens are
+ * mapped to the session.
+ */
+public class SessionTokenMappingCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4213790648365213708L;
+
+    private final Set<String> tokenIds;
+
+    public SessionTokenMappingCacheEntry(Set<String> tokenIds) {
+
+        this.tokenIds = Collections.unmodifiableSet(new HashSet<>(tokenIds));
+    }
+
+    public Set<String> getTokenIds() {
+
+        return tokenIds;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal.cache;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache for token bindings. Bindings are cached by token id, by token id and binding reference, by binding reference
+ * and by refresh token, and absent bindings are cached as empty entries. Token ids, binding references and refresh
+ * tokens are unique across tenants, hence all the entries are kept in the super tenant.
+ * <p>
+ * A binding stored along with its token may have been cached as absent before the transaction is committed. Hence the
+ * entries of the token are cleared once the transaction storing the binding is committed, and not when the binding is
+ * written. A binding reference is cached as existing until the token bindings of the reference are cleared, which
+ * requires the reference to be known or to be resolvable from the cached binding of the token.
+ */
+public class TokenBindingCache extends BaseCache<String, TokenBindingCacheEntry> {
+
+    private static final String CACHE_NAME = "TokenBindingCache";
+
+    private static final String TOKEN_ID_PREFIX = "TOKEN_ID:";
+    private static final String TOKEN_ID_AND_BINDING_REF_PREFIX = "TOKEN_ID_AND_BINDING_REF:";
+    private static final String BINDING_REF_PREFIX = "BINDING_REF:";
+    private static final String REFRESH_TOKEN_PREFIX = "REFRESH_TOKEN:";
+
+    private static final TokenBindingCache instance = new TokenBindingCache();
+
+    private TokenBindingCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Returns TokenBindingCache instance.
+     *
+     * @return Instance of TokenBindingCache.
+     */
+    public static TokenBindingCache getInstance() {
+
+        return instance;
+    }
+
+    public static String buildTokenIdKey(String tokenId) {
+
+        return TOKEN_ID_PREFIX + tokenId;
+    }
+
+    public static String buildTokenIdAndBindingRefKey(String tokenId, String bindingRef) {
+
+        return TOKEN_ID_AND_BINDING_REF_PREFIX + tokenId + ":" + bindingRef;
+    }
+
+    public static String buildBindingRefKey(String bindingRef) {
+
+        return BINDING_REF_PREFIX + bindingRef;
+    }
+
+    public static String buildRefreshTokenKey(String refreshToken) {
+
+        // Refresh tokens are kept out of the cache keys.
+        return REFRESH_TOKEN_PREFIX + DigestUtils.sha256Hex(refreshToken);
+    }
+
+    /**
+     * Clear the cached bindings of a token. The binding reference is resolved from the cached binding of the token
+     * when it is not given.
+     *
+     * @param tokenId      Token id.
+     * @param bindingRef   Binding reference of the token. Can be null.
+     * @param refreshToken Refresh token of the token. Can be null.
+     */
+    public void clearCacheEntries(String tokenId, String bindingRef, String refreshToken) {
+
+        if (StringUtils.isNotBlank(tokenId)) {
+            String tokenIdKey = buildTokenIdKey(tokenId);
+            TokenBindingCacheEntry cachedBinding = getValueFromCache(tokenIdKey, MultitenantConstants.SUPER_TENANT_ID);
+            if (cachedBinding != null && !cachedBinding.isEmpty()
+                    && !StringUtils.equals(cachedBinding.getBindingReference(), bindingRef)) {
+                clearBindingRefEntries(tokenId, cachedBinding.getBindingReference());
+            }
+            clearCacheEntry(tokenIdKey, MultitenantConstants.SUPER_TENANT_ID);
+        }
+        if (StringUtils.isNotBlank(bindingRef)) {
+            clearBindingRefEntries(tokenId, bindingRef);
+        }
+        if (StringUtils.isNotBlank(refreshToken)) {
+            clearCacheEntry(buildRefreshTokenKey(refreshToken), MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+
+    private void clearBindingRefEntries(String tokenId, String bindingRef) {
+
+        clearCacheEntry(buildBindingRefKey(bindingRef), MultitenantConstants.SUPER_TENANT_ID);
+        if (StringUtils.isNotBlank(tokenId)) {
+            clearCacheEntry(buildTokenIdAndBindingRefKey(tokenId, bindingRef), MultitenantConstants.SUPER_TENANT_ID);
+        }
+    }
+}
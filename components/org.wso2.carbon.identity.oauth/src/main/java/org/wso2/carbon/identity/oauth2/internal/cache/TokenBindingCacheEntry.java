@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal.cache;
+
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+
+/**
+ * Cache entry holding a token binding. An empty entry records that no matching token binding exists.
+ */
+public class TokenBindingCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -6180235431807451932L;
+
+    private final String bindingType;
+    private final String bindingReference;
+    private final String bindingValue;
+    private final boolean empty;
+
+    public TokenBindingCacheEntry(TokenBinding tokenBinding) {
+
+        this.empty = tokenBinding == null;
+        this.bindingType = empty ? null : tokenBinding.getBindingType();
+        this.bindingReference = empty ? null : tokenBinding.getBindingReference();
+        this.bindingValue = empty ? null : tokenBinding.getBindingValue();
+    }
+
+    public boolean isEmpty() {
+
+        return empty;
+    }
+
+    public String getBindingReference() {
+
+        return bindingReference;
+    }
+
+    /**
+     * Build a new token binding from the cached values, so callers can not modify the cached binding.
+     *
+     * @return Token binding, or null if the entry is empty.
+     */
+    public TokenBinding toTokenBinding() {
+
+        return empty ? null : new TokenBinding(bindingType, bindingReference, bindingValue);
+    }
+}
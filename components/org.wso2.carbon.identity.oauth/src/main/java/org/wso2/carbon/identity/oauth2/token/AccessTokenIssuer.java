@@ -69,6 +69,7 @@ import org.wso2.carbon.identity.oauth2.device.cache.DeviceAuthorizationGrantCach
 import org.wso2.carbon.identity.oauth2.device.cache.DeviceAuthorizationGrantCacheEntry;
 import org.wso2.carbon.identity.oauth2.device.cache.DeviceAuthorizationGrantCacheKey;
 import org.wso2.carbon.identity.oauth2.device.constants.Constants;
+import org.wso2.carbon.identity.oauth2.device.errorcodes.DeviceErrorCodes;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.impersonation.models.ImpersonationNotificationRequestDTO;
@@ -140,6 +141,7 @@ public class AccessTokenIssuer {
     private Map<String, AuthorizationGrantHandler> authzGrantHandlers;
     public static final String OAUTH_APP_DO = "OAuthAppDO";
     private static final String SERVICE_PROVIDERS_SUB_CLAIM = "ServiceProviders.UseUsernameAsSubClaim";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
     private final AuthorizationDetailsValidator authorizationDetailsValidator;
 
     /**
@@ -324,6 +326,27 @@ public class AccessTokenIssuer {
         // loading the stored application data
         OAuthAppDO oAuthAppDO = getOAuthApplication(tokenReqDTO.getClientId());
 
+        // Throttle before the grant is validated so that rejected requests do not reach the token store.
+        long retryAfterSeconds = TokenRequestRateLimiter.getInstance().tryAcquire(oAuthAppDO, grantType);
+        if (retryAfterSeconds > 0) {
+            // errorDiagnosticLogBuilder will be null if diagnostic logs are disabled.
+            if (errorDiagnosticLogBuilder != null) {
+                errorDiagnosticLogBuilder.resultMessage("Token request rate limit exceeded.")
+                        .inputParam(OAuthConstants.LogConstants.InputKeys.GRANT_TYPE, grantType);
+                LoggerUtils.triggerDiagnosticLogEvent(errorDiagnosticLogBuilder);
+            }
+            String errorCode = isDeviceCodeRequest ? DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN :
+                    OAuth2ErrorCodes.TEMPORARY_UNAVAILABLE;
+            tokenRespDTO = handleError(errorCode, "Token request rate limit exceeded for the client.",
+                    tokenReqDTO);
+            ResponseHeader retryAfterHeader = new ResponseHeader();
+            retryAfterHeader.setKey(RETRY_AFTER_HEADER);
+            retryAfterHeader.setValue(String.valueOf(retryAfterSeconds));
+            tokenRespDTO.setResponseHeaders(new ResponseHeader[]{retryAfterHeader});
+            triggerPostListeners(tokenReqDTO, tokenRespDTO, tokReqMsgCtx, isRefreshRequest);
+            return tokenRespDTO;
+        }
+
         // set the tenantDomain of the SP in the tokenReqDTO
         // Indirectly we can say that the tenantDomain of the SP is the tenantDomain of the user who created SP.
         // This is done to avoid having to send the tenantDomain as a query param to the token endpoint
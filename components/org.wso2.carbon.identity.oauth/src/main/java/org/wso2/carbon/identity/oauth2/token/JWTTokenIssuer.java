@@ -1090,7 +1090,8 @@ public class JWTTokenIssuer extends OauthTokenIssuerImpl {
 
     /**
      * Set entity_id claim to the JWT if token persistence is disabled. This is to identify the principal subject of the
-     * issuing token.
+     * issuing token. The tenant and user store domains of the user and the grant type are set as well, so that the
+     * token can be validated without a persisted token.
      *
      * @param jwtClaimsSetBuilder        JWT Claim Set Builder
      * @param authAuthzReqMessageContext OAuthAuthzReqMessageContext
@@ -1135,6 +1136,18 @@ public class JWTTokenIssuer extends OauthTokenIssuerImpl {
                 jwtClaimsSetBuilder.claim(OAuth2Constants.IS_CONSENTED, isConsented);
             }
             jwtClaimsSetBuilder.claim(OAuth2Constants.IS_FEDERATED, authenticatedUser.isFederatedUser());
+            // The below claims let the token be validated and introspected without a persisted token.
+            jwtClaimsSetBuilder.claim(OAuth2Constants.USER_TENANT_DOMAIN, authenticatedUser.getTenantDomain());
+            if (!authenticatedUser.isFederatedUser() && authenticatedUser.getUserStoreDomain() != null) {
+                jwtClaimsSetBuilder.claim(OAuth2Constants.USER_STORE_DOMAIN, authenticatedUser.getUserStoreDomain());
+            }
+            if (tokenReqMessageContext != null) {
+                jwtClaimsSetBuilder.claim(OAuth2Constants.GRANT_TYPE,
+                        tokenReqMessageContext.getOauth2AccessTokenReqDTO().getGrantType());
+            } else {
+                jwtClaimsSetBuilder.claim(OAuth2Constants.GRANT_TYPE, OAuth2Util.getGrantType(
+                        authAuthzReqMessageContext.getAuthorizationReqDTO().getResponseType()));
+            }
         }
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node local admission control for the token endpoint. Each client and grant type pair gets a token bucket which
+ * allows a burst of one minute worth of requests and refills at the configured rate. A bucket is a single
+ * {@link AtomicLong} holding the theoretical arrival time of the next request (the generic cell rate algorithm), so
+ * admitting a request is a compare-and-set without locks.
+ * <p>
+ * The limit of an application is taken from {@link OAuthAppDO#getTokenRequestRateLimit()}, falling back to the server
+ * default. Rejected requests are counted per client.
+ */
+public final class TokenRequestRateLimiter {
+
+    private static final Log log = LogFactory.getLog(TokenRequestRateLimiter.class);
+
+    private static final String ENABLE = "OAuth.TokenRequestRateLimit.Enable";
+    private static final String DEFAULT_LIMIT = "OAuth.TokenRequestRateLimit.DefaultLimit";
+    private static final String KEY_SEPARATOR = ":";
+    private static final long WINDOW_IN_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final TokenRequestRateLimiter instance = new TokenRequestRateLimiter();
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejectedRequests = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int defaultLimit;
+
+    private TokenRequestRateLimiter() {
+
+        this(ConfigPropertyUtil.getBooleanProperty(ENABLE, false),
+                ConfigPropertyUtil.getNonNegativeIntProperty(DEFAULT_LIMIT, 0));
+    }
+
+    TokenRequestRateLimiter(boolean enabled, int defaultLimit) {
+
+        this.enabled = enabled;
+        this.defaultLimit = defaultLimit;
+    }
+
+    public static TokenRequestRateLimiter getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Try to admit a token request of the given application.
+     *
+     * @param oAuthAppDO Application which requested the token.
+     * @param grantType  Requested grant type.
+     * @return 0 if the request is admitted, otherwise the number of seconds the client should wait before retrying.
+     */
+    public long tryAcquire(OAuthAppDO oAuthAppDO, String grantType) {
+
+        if (!enabled) {
+            return 0;
+        }
+        int limit = oAuthAppDO.getTokenRequestRateLimit() > 0 ? oAuthAppDO.getTokenRequestRateLimit() : defaultLimit;
+        if (limit <= 0) {
+            return 0;
+        }
+        String clientId = oAuthAppDO.getOauthConsumerKey();
+        String key = clientId + KEY_SEPARATOR + grantType;
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(limit));
+        if (bucket.limit != limit) {
+            // The limit of the application has been changed, hence start over with a new bucket.
+            Bucket updatedBucket = new Bucket(limit);
+            bucket = buckets.replace(key, bucket, updatedBucket) ? updatedBucket : buckets.get(key);
+        }
+        long waitTimeInNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitTimeInNanos == 0) {
+            return 0;
+        }
+        rejectedRequests.computeIfAbsent(clientId, k -> new LongAdder()).increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Token request of client: " + clientId + " for grant type: " + grantType +
+                    " is rejected as it exceeds the limit of " + limit + " requests per minute.");
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitTimeInNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * Get the number of token requests of a client rejected by this node.
+     *
+     * @param clientId Client ID.
+     * @return Number of rejected requests.
+     */
+    public long getRejectedRequestCount(String clientId) {
+
+        LongAdder count = rejectedRequests.get(clientId);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Get the number of rejected token requests of all clients which had at least one rejection on this node.
+     *
+     * @return Map of client ID and number of rejected requests.
+     */
+    public Map<String, Long> getRejectedRequestCounts() {
+
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        rejectedRequests.forEach((clientId, count) -> counts.put(clientId, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Token bucket of a client and grant type pair.
+     */
+    private static final class Bucket {
+
+        private final int limit;
+        private final long emissionIntervalInNanos;
+        private final long burstToleranceInNanos;
+        private final AtomicLong theoreticalArrivalTime;
+
+        Bucket(int limit) {
+
+            this.limit = limit;
+            this.emissionIntervalInNanos = WINDOW_IN_NANOS / limit;
+            this.burstToleranceInNanos = WINDOW_IN_NANOS - emissionIntervalInNanos;
+            this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+        }
+
+        /**
+         * @return 0 if a token is taken from the bucket, otherwise the time to wait until one is available.
+         */
+        long tryAcquire(long now) {
+
+            while (true) {
+                long current = theoreticalArrivalTime.get();
+                long arrivalTime = current - now > 0 ? current : now;
+                long waitTime = arrivalTime - now - burstToleranceInNanos;
+                if (waitTime > 0) {
+                    return waitTime;
+                }
+                if (theoreticalArrivalTime.compareAndSet(current, arrivalTime + emissionIntervalInNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -42,14 +42,17 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2ClientException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.OAuthSystemClientException;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -372,7 +375,8 @@ public class TokenBindingExpiryEventHandler extends AbstractEventHandler {
     }
 
     /**
-     * Get the access tokens mapped for the session identifier and revoke those tokens.
+     * Get the access tokens mapped for the session identifier and revoke those tokens. The caches of all the tokens
+     * are cleared before the tokens are revoked together with a single batch update.
      *
      * @param sessionId Session context identifier.
      * @param user Authenticated user.
@@ -380,9 +384,8 @@ public class TokenBindingExpiryEventHandler extends AbstractEventHandler {
      */
     private void revokeTokensMappedToSession(String sessionId, AuthenticatedUser user) throws IdentityOAuth2Exception {
 
-        Set<String> tokenIds =
-                OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                        .getTokenIdBySessionIdentifier(sessionId);
+        AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
+        Set<String> tokenIds = accessTokenDAO.getTokenIdBySessionIdentifier(sessionId);
 
         if (tokenIds.isEmpty()) {
             if (log.isDebugEnabled()) {
@@ -391,50 +394,48 @@ public class TokenBindingExpiryEventHandler extends AbstractEventHandler {
             }
             return;
         }
-        for (String tokenId : tokenIds) {
-            String accessToken =
-                    OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().getAccessTokenByTokenId(tokenId);
-            if (StringUtils.isBlank(accessToken)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Could not find access token mapped for tokenId: %s", tokenId));
-                }
-                return;
-            }
-            AccessTokenDO accessTokenDO = null;
-            try {
-                accessTokenDO = OAuth2Util.getAccessTokenDOFromTokenIdentifier(accessToken, false);
-            } catch (IllegalArgumentException e) {
-                if (StringUtils.equals(OAuth2Util.ACCESS_TOKEN_IS_NOT_ACTIVE_ERROR_MESSAGE, e.getMessage())) {
-                    if (log.isDebugEnabled()) {
-                        log.debug(String.format("Invalid token id: %s was found while revoking tokens mapped to the " +
-                                "session.", tokenId));
-                    }
-                } else {
-                    throw e;
-                }
-            }
+        Map<String, AccessTokenDO> activeAccessTokens = accessTokenDAO.getActiveAccessTokensByTokenIds(tokenIds);
+        if (log.isDebugEnabled() && activeAccessTokens.size() < tokenIds.size()) {
+            log.debug(String.format("%d of the %d tokens mapped to the session: %s are not active.",
+                    tokenIds.size() - activeAccessTokens.size(), tokenIds.size(), sessionId));
+        }
+        List<AccessTokenDO> accessTokensToRevoke = new ArrayList<>(activeAccessTokens.values());
+        if (accessTokensToRevoke.isEmpty()) {
+            return;
+        }
 
-            if (accessTokenDO != null) {
-                String tokenBindingRef = OAuthConstants.TokenBindings.NONE;
-                if (accessTokenDO.getTokenBinding() != null) {
-                    tokenBindingRef = accessTokenDO.getTokenBinding().getBindingReference();
-                }
+        for (AccessTokenDO accessTokenDO : accessTokensToRevoke) {
+            String tokenBindingRef = OAuthConstants.TokenBindings.NONE;
+            if (accessTokenDO.getTokenBinding() != null) {
+                tokenBindingRef = accessTokenDO.getTokenBinding().getBindingReference();
+            }
 
-                boolean isFederatedRoleBasedAuthzEnabled = false;
-                AuthenticatedUser authenticatedUser = new AuthenticatedUser(accessTokenDO.getAuthzUser());
+            boolean isFederatedRoleBasedAuthzEnabled = false;
+            AuthenticatedUser authenticatedUser = new AuthenticatedUser(accessTokenDO.getAuthzUser());
 
-                String consumerKey = accessTokenDO.getConsumerKey();
-                if (authenticatedUser.isFederatedUser()) {
-                    isFederatedRoleBasedAuthzEnabled = OAuth2Util.isFederatedRoleBasedAuthzEnabled(consumerKey);
-                }
+            String consumerKey = accessTokenDO.getConsumerKey();
+            if (authenticatedUser.isFederatedUser()) {
+                isFederatedRoleBasedAuthzEnabled = OAuth2Util.isFederatedRoleBasedAuthzEnabled(consumerKey);
+            }
 
-                if (isFederatedRoleBasedAuthzEnabled
-                        && StringUtils.equalsIgnoreCase(user.getUserName(), authenticatedUser.getUserName())) {
-                    revokeFederatedTokens(consumerKey, user, accessTokenDO, tokenBindingRef);
-                } else {
-                    revokeTokens(consumerKey, accessTokenDO, tokenBindingRef);
-                }
+            if (isFederatedRoleBasedAuthzEnabled
+                    && StringUtils.equalsIgnoreCase(user.getUserName(), authenticatedUser.getUserName())) {
+                clearTokenCaches(consumerKey, user, accessTokenDO, tokenBindingRef);
+            } else {
+                clearTokenCaches(consumerKey, accessTokenDO.getAuthzUser(), accessTokenDO, tokenBindingRef);
             }
+            OAuthUtil.invokePreRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
+        }
+        String[] tokens = new String[accessTokensToRevoke.size()];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = accessTokensToRevoke.get(i).getAccessToken();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Revoking " + tokens.length + " tokens mapped to the session: " + sessionId);
+        }
+        accessTokenDAO.revokeAccessTokens(tokens, OAuth2Util.isHashEnabled());
+        for (AccessTokenDO accessTokenDO : accessTokensToRevoke) {
+            OAuthUtil.invokePostRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
         }
     }
 
@@ -447,6 +448,16 @@ public class TokenBindingExpiryEventHandler extends AbstractEventHandler {
     private void revokeFederatedTokens(String consumerKey, AuthenticatedUser user, AccessTokenDO accessTokenDO,
                                        String tokenBindingReference) throws IdentityOAuth2Exception {
 
+        clearTokenCaches(consumerKey, user, accessTokenDO, tokenBindingReference);
+        OAuthUtil.invokePreRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
+        OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
+                .revokeAccessTokens(new String[]{accessTokenDO.getAccessToken()}, OAuth2Util.isHashEnabled());
+        OAuthUtil.invokePostRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
+    }
+
+    private void clearTokenCaches(String consumerKey, AuthenticatedUser user, AccessTokenDO accessTokenDO,
+                                  String tokenBindingReference) {
+
         if (log.isDebugEnabled()) {
             log.debug("Revoking tokens for the application with consumerKey:" + consumerKey + " for the user: "
                     + user.getLoggableUserId());
@@ -457,10 +468,6 @@ public class TokenBindingExpiryEventHandler extends AbstractEventHandler {
                 (accessTokenDO.getScope()));
         OAuthUtil.clearOAuthCache(consumerKey, user);
         OAuthUtil.clearOAuthCache(accessTokenDO);
-        OAuthUtil.invokePreRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
-        OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                .revokeAccessTokens(new String[]{accessTokenDO.getAccessToken()}, OAuth2Util.isHashEnabled());
-        OAuthUtil.invokePostRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
     }
 
     /**
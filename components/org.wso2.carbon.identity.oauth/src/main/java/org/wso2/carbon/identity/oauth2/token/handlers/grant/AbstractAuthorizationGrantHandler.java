@@ -83,6 +83,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.IMPERSONATING_ACTOR;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OAUTH_APP;
@@ -107,6 +108,7 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
     protected static final int SECONDS_TO_MILISECONDS_FACTOR = 1000;
     private boolean isHashDisabled = OAuth2Util.isHashDisabled();
     protected AuthorizationDetailsService authorizationDetailsService;
+    private final ClientCredentialsTokenCache clientCredentialsTokenCache = ClientCredentialsTokenCache.getInstance();
 
     @Override
     public void init() throws IdentityOAuth2Exception {
@@ -178,66 +180,209 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
                     "Error while retrieving oauth issuer for the app with clientId: " + consumerKey, e);
         }
 
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference).intern()) {
-            AccessTokenDO existingTokenBean = null;
+        OAuthCacheKey oauthCacheKey = getOAuthCacheKey(scope, consumerKey, authorizedUserId, authenticatedIDP,
+                tokenBindingReference, authorizedOrganization);
+        String tenantDomain = tokReqMsgCtx.getAuthorizedUser().getTenantDomain();
+        String clientCredentialsTokenKey = null;
+        boolean renewalClaimed = false;
+        if (isClientCredentialsTokenCacheApplicable(tokReqMsgCtx, oauthTokenIssuer)) {
+            clientCredentialsTokenKey = tenantDomain + ":" + oauthCacheKey.getCacheKeyString();
+            // Served without taking the lock, as long as the token is still the active token in the OAuthCache.
+            Predicate<AccessTokenDO> isStillUsed = token -> isActiveTokenInCache(oauthCacheKey, tenantDomain, token);
+            AccessTokenDO cachedToken = clientCredentialsTokenCache.getToken(clientCredentialsTokenKey, isStillUsed);
+            if (cachedToken == null) {
+                renewalClaimed = clientCredentialsTokenCache.claimRenewal(clientCredentialsTokenKey);
+                if (!renewalClaimed) {
+                    // A concurrent request may have claimed the renewal, hence the token being replaced is reusable.
+                    cachedToken = clientCredentialsTokenCache.getToken(clientCredentialsTokenKey, isStillUsed);
+                }
+            }
+            if (cachedToken != null) {
+                long expireTime = getAccessTokenExpiryTimeMillis(cachedToken);
+                if (isExistingTokenValid(cachedToken, expireTime)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Reusing the cached client credentials token of client Id: " + consumerKey +
+                                " and scope: " + scope + ".");
+                    }
+                    OAuth2AccessTokenRespDTO tokenRespDTO =
+                            issueExistingAccessToken(tokReqMsgCtx, scope, expireTime, cachedToken);
+                    limitExpiryToRenewalTime(tokenRespDTO,
+                            clientCredentialsTokenCache.getRenewalTime(clientCredentialsTokenKey));
+                    return tokenRespDTO;
+                }
+            }
+        }
 
-            OAuthAppDO oAuthAppDO = (OAuthAppDO) tokReqMsgCtx.getProperty(OAUTH_APP);
-            String tokenType = oauthTokenIssuer.getAccessTokenType();
+        try {
+            synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference).intern()) {
+                AccessTokenDO existingTokenBean = null;
+
+                OAuthAppDO oAuthAppDO = (OAuthAppDO) tokReqMsgCtx.getProperty(OAUTH_APP);
+                String tokenType = oauthTokenIssuer.getAccessTokenType();
 
-            /*
-            Check if the token type is JWT and renew without revoking existing tokens is enabled.
-            Additionally, ensure that the grant type used for the token request is allowed to renew without revoke,
-            based on the config.
-            */
-            if (JWT.equalsIgnoreCase(tokenType) && getRenewWithoutRevokingExistingStatus() &&
-                    OAuth2ServiceComponentHolder.getJwtRenewWithoutRevokeAllowedGrantTypes()
-                            .contains(tokReqMsgCtx.getOauth2AccessTokenReqDTO().getGrantType())) {
                 /*
-                If the application does not have a token binding type (i.e., no specific binding type is set),
-                binding reference will be randomly generated UUID, in that case we can generate a new access token
-                without looking up the existing tokens in the token table.
+                Check if the token type is JWT and renew without revoking existing tokens is enabled.
+                Additionally, ensure that the grant type used for the token request is allowed to renew without revoke,
+                based on the config.
                 */
-                if (oAuthAppDO.getTokenBindingType() == null) {
-                    return generateNewAccessToken(tokReqMsgCtx, scope, consumerKey, existingTokenBean,
-                            false, oauthTokenIssuer);
+                if (JWT.equalsIgnoreCase(tokenType) && getRenewWithoutRevokingExistingStatus() &&
+                        OAuth2ServiceComponentHolder.getJwtRenewWithoutRevokeAllowedGrantTypes()
+                                .contains(tokReqMsgCtx.getOauth2AccessTokenReqDTO().getGrantType())) {
+                    /*
+                    If the application does not have a token binding type (i.e., no specific binding type is set),
+                    binding reference will be randomly generated UUID, in that case we can generate a new access token
+                    without looking up the existing tokens in the token table.
+                    */
+                    if (oAuthAppDO.getTokenBindingType() == null) {
+                        return generateNewAccessToken(tokReqMsgCtx, scope, consumerKey, existingTokenBean,
+                                false, oauthTokenIssuer);
+                    }
                 }
-            }
 
-            if (isHashDisabled) {
-                existingTokenBean = getExistingToken(tokReqMsgCtx,
-                        getOAuthCacheKey(scope, consumerKey, authorizedUserId, authenticatedIDP,
-                                tokenBindingReference, authorizedOrganization));
-            }
-
-            if (existingTokenBean != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Latest access token is found in the OAuthCache for the app: " + consumerKey);
+                if (isHashDisabled) {
+                    existingTokenBean = getExistingToken(tokReqMsgCtx, oauthCacheKey);
                 }
-                if (accessTokenRenewedPerRequest(oauthTokenIssuer, tokReqMsgCtx)) {
+
+                if (existingTokenBean != null) {
                     if (log.isDebugEnabled()) {
-                        log.debug("TokenRenewalPerRequest is enabled. " +
-                                "Proceeding to revoke any existing active tokens and issue new token for client Id: " +
-                                consumerKey + ", user: " + authorizedUserId + " and scope: " + scope + ".");
+                        log.debug("Latest access token is found in the OAuthCache for the app: " + consumerKey);
+                    }
+                    if (accessTokenRenewedPerRequest(oauthTokenIssuer, tokReqMsgCtx)) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("TokenRenewalPerRequest is enabled. Proceeding to revoke any existing " +
+                                    "active tokens and issue new token for client Id: " +
+                                    consumerKey + ", user: " + authorizedUserId + " and scope: " + scope + ".");
+                        }
+                        return renewAccessToken(tokReqMsgCtx, scope, consumerKey, existingTokenBean, oauthTokenIssuer);
                     }
-                    return renewAccessToken(tokReqMsgCtx, scope, consumerKey, existingTokenBean, oauthTokenIssuer);
-                }
 
-                long expireTime = getAccessTokenExpiryTimeMillis(existingTokenBean);
-                if (isExistingTokenValid(existingTokenBean, expireTime)) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Existing token is active for client Id: " + consumerKey + ", user: " +
-                                authorizedUserId + " and scope: " + scope + ". Therefore issuing the same token.");
+                    long expireTime = getAccessTokenExpiryTimeMillis(existingTokenBean);
+                    if (isExistingTokenValid(existingTokenBean, expireTime)) {
+                        if (renewalClaimed && clientCredentialsTokenCache
+                                .isRenewalClaimed(clientCredentialsTokenKey, existingTokenBean.getTokenId())) {
+                            return renewClientCredentialsToken(tokReqMsgCtx, scope, consumerKey, existingTokenBean,
+                                    oauthTokenIssuer, clientCredentialsTokenKey, oauthCacheKey, tenantDomain);
+                        }
+                        if (log.isDebugEnabled()) {
+                            log.debug("Existing token is active for client Id: " + consumerKey + ", user: " +
+                                    authorizedUserId + " and scope: " + scope + ". Therefore issuing the same token.");
+                        }
+                        OAuth2AccessTokenRespDTO tokenRespDTO =
+                                issueExistingAccessToken(tokReqMsgCtx, scope, expireTime, existingTokenBean);
+                        if (clientCredentialsTokenKey != null) {
+                            cacheClientCredentialsToken(tokenRespDTO, clientCredentialsTokenKey, oauthCacheKey,
+                                    tenantDomain, false);
+                        }
+                        return tokenRespDTO;
                     }
-                    return issueExistingAccessToken(tokReqMsgCtx, scope, expireTime, existingTokenBean);
                 }
-            }
 
-            if (log.isDebugEnabled()) {
-                log.debug("No active access token found for client Id: " + consumerKey + ", user: " +
-                        authorizedUserId + " and scope: " + scope + ". Therefore issuing new token.");
+                if (log.isDebugEnabled()) {
+                    log.debug("No active access token found for client Id: " + consumerKey + ", user: " +
+                            authorizedUserId + " and scope: " + scope + ". Therefore issuing new token.");
+                }
+                OAuth2AccessTokenRespDTO tokenRespDTO = generateNewAccessToken(tokReqMsgCtx, scope, consumerKey,
+                        existingTokenBean, true, oauthTokenIssuer);
+                if (clientCredentialsTokenKey != null) {
+                    cacheClientCredentialsToken(tokenRespDTO, clientCredentialsTokenKey, oauthCacheKey, tenantDomain,
+                            false);
+                }
+                return tokenRespDTO;
+            }
+        } finally {
+            if (renewalClaimed) {
+                // Lets the next request retry a renewal which did not complete.
+                clientCredentialsTokenCache.releaseRenewal(clientCredentialsTokenKey);
             }
-            return generateNewAccessToken(tokReqMsgCtx, scope, consumerKey, existingTokenBean, true,
-                    oauthTokenIssuer);
+        }
+    }
+
+    /**
+     * Replace a client credentials token which is due for renewal. Until the new token is cached, concurrent
+     * requests are served with the token being replaced.
+     */
+    private OAuth2AccessTokenRespDTO renewClientCredentialsToken(OAuthTokenReqMessageContext tokReqMsgCtx,
+                                                                 String scope, String consumerKey,
+                                                                 AccessTokenDO existingTokenBean,
+                                                                 OauthTokenIssuer oauthTokenIssuer,
+                                                                 String clientCredentialsTokenKey,
+                                                                 OAuthCacheKey oauthCacheKey, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Renewing the client credentials token of client Id: " + consumerKey + " and scope: " +
+                    scope + " ahead of its expiry.");
+        }
+        OAuth2AccessTokenRespDTO tokenRespDTO = generateNewAccessToken(tokReqMsgCtx, scope, consumerKey,
+                existingTokenBean, true, oauthTokenIssuer);
+        if (!tokenRespDTO.isError()) {
+            // The replaced token is marked as expired in the database, hence stop validating it from the cache.
+            OAuthUtil.clearOAuthCache(existingTokenBean);
+        }
+        cacheClientCredentialsToken(tokenRespDTO, clientCredentialsTokenKey, oauthCacheKey, tenantDomain, true);
+        return tokenRespDTO;
+    }
+
+    private boolean isClientCredentialsTokenCacheApplicable(OAuthTokenReqMessageContext tokReqMsgCtx,
+                                                            OauthTokenIssuer oauthTokenIssuer) {
+
+        /*
+         Cached tokens are only served while they are the active token in the OAuthCache, which is invalidated across
+         the cluster on revocation. Hence the OAuthCache is required along with the token reuse.
+         */
+        if (!clientCredentialsTokenCache.isEnabled() || !cacheEnabled || !isHashDisabled ||
+                !OAuth2Util.isTokenPersistenceEnabled()) {
+            return false;
+        }
+        String grantType = tokReqMsgCtx.getOauth2AccessTokenReqDTO().getGrantType();
+        if (!OAuthConstants.GrantTypes.CLIENT_CREDENTIALS.equals(grantType) ||
+                AuthorizationDetailsUtils.isRichAuthorizationRequest(tokReqMsgCtx.getAuthorizationDetails())) {
+            return false;
+        }
+        if (JWT.equalsIgnoreCase(oauthTokenIssuer.getAccessTokenType()) && getRenewWithoutRevokingExistingStatus() &&
+                OAuth2ServiceComponentHolder.getJwtRenewWithoutRevokeAllowedGrantTypes().contains(grantType)) {
+            return false;
+        }
+        return !accessTokenRenewedPerRequest(oauthTokenIssuer, tokReqMsgCtx);
+    }
+
+    private boolean isActiveTokenInCache(OAuthCacheKey oauthCacheKey, String tenantDomain, AccessTokenDO token) {
+
+        CacheEntry cacheEntry = oauthCache.getValueFromCache(oauthCacheKey, tenantDomain);
+        return cacheEntry instanceof AccessTokenDO &&
+                StringUtils.equals(((AccessTokenDO) cacheEntry).getTokenId(), token.getTokenId());
+    }
+
+    private void cacheClientCredentialsToken(OAuth2AccessTokenRespDTO tokenRespDTO, String clientCredentialsTokenKey,
+                                             OAuthCacheKey oauthCacheKey, String tenantDomain, boolean renewed) {
+
+        if (tokenRespDTO.isError()) {
+            return;
+        }
+        // Cache the same token instance which is served from the OAuthCache.
+        CacheEntry cacheEntry = oauthCache.getValueFromCache(oauthCacheKey, tenantDomain);
+        if (cacheEntry instanceof AccessTokenDO &&
+                StringUtils.equals(((AccessTokenDO) cacheEntry).getTokenId(), tokenRespDTO.getTokenId())) {
+            long renewalTime = clientCredentialsTokenCache.put(clientCredentialsTokenKey, (AccessTokenDO) cacheEntry,
+                    renewed);
+            limitExpiryToRenewalTime(tokenRespDTO, renewalTime);
+        }
+    }
+
+    /**
+     * Advertise the renewal time as the expiry of a cached client credentials token, so that clients come back for a
+     * new token once the cached token is renewed. Once the renewal is due, the remaining lifetime of the token is
+     * advertised as is, so that clients do not poll while the renewal is in progress.
+     */
+    private void limitExpiryToRenewalTime(OAuth2AccessTokenRespDTO tokenRespDTO, long renewalTime) {
+
+        long timeToRenewal = renewalTime - System.currentTimeMillis();
+        if (renewalTime == Long.MAX_VALUE || timeToRenewal < SECONDS_TO_MILISECONDS_FACTOR) {
+            return;
+        }
+        if (tokenRespDTO.getExpiresInMillis() > timeToRenewal) {
+            tokenRespDTO.setExpiresIn(timeToRenewal / SECONDS_TO_MILISECONDS_FACTOR);
+            tokenRespDTO.setExpiresInMillis(timeToRenewal);
         }
     }
 
@@ -44,6 +44,8 @@ import org.wso2.carbon.identity.oauth.event.OAuthEventInterceptor;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetails;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.authcode.ConsumedAuthzCodeCache;
+import org.wso2.carbon.identity.oauth2.authcode.SelfContainedAuthzCodeUtil;
 import org.wso2.carbon.identity.oauth2.dao.AuthorizationCodeValidationResult;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
@@ -275,6 +277,9 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
      */
     private AuthzCodeDO getPersistedAuthzCode(OAuth2AccessTokenReqDTO tokenReqDTO) throws IdentityOAuth2Exception {
 
+        if (SelfContainedAuthzCodeUtil.isSelfContainedAuthzCode(tokenReqDTO.getAuthorizationCode())) {
+            return getSelfContainedAuthzCode(tokenReqDTO);
+        }
         AuthzCodeDO authzCodeDO;
         // If cache is enabled, check in the cache first.
         if (cacheEnabled) {
@@ -320,6 +325,37 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
         }
     }
 
+    /**
+     * Provides authorization code request details carried in a self-contained authorization code. The code is marked
+     * as consumed here, so a code which has already been redeemed is returned as an inactive code.
+     *
+     * @param tokenReqDTO Token request.
+     * @return Authorization code details, or null if the code is invalid.
+     * @throws IdentityOAuth2Exception If an error occurs while reading the code.
+     */
+    private AuthzCodeDO getSelfContainedAuthzCode(OAuth2AccessTokenReqDTO tokenReqDTO) throws IdentityOAuth2Exception {
+
+        AuthzCodeDO authzCodeDO = SelfContainedAuthzCodeUtil.readAuthzCode(tokenReqDTO.getAuthorizationCode(),
+                tokenReqDTO.getClientId());
+        if (authzCodeDO == null) {
+            return null;
+        }
+        long expiryTime = authzCodeDO.getIssuedTime().getTime() + authzCodeDO.getValidityPeriod() +
+                OAuthServerConfiguration.getInstance().getTimeStampSkewInSeconds() * 1000;
+        if (!ConsumedAuthzCodeCache.getInstance().consume(authzCodeDO.getAuthzCodeId(), expiryTime)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Self-contained authorization code with id: " + authzCodeDO.getAuthzCodeId() +
+                        " has already been redeemed by client: " + tokenReqDTO.getClientId());
+            }
+            authzCodeDO.setState(OAuthConstants.AuthorizationCodeState.INACTIVE);
+        }
+        if (authzCodeDO.getAuthorizedUser().getUserResidentOrganization() == null) {
+            resolveUserResidentOrgForOrganizationSSOUsers(authzCodeDO.getAuthorizedUser(),
+                    tokenReqDTO.getAuthorizationCode());
+        }
+        return authzCodeDO;
+    }
+
     private void revokeExistingAccessTokens(String tokenId, AuthzCodeDO authzCodeDO) throws IdentityOAuth2Exception {
 
         String userId = null;
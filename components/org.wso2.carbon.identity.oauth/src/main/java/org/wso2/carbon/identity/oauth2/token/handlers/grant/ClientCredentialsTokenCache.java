@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.handlers.grant;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Node local cache of the client credentials tokens handed out for reuse, keyed by the client, scope set and token
+ * binding of the token request.
+ * <p>
+ * A token is renewed once the configured fraction of its lifetime has elapsed. The first request after that point
+ * claims the renewal and issues a new token, while concurrent requests keep getting the cached token, which is still
+ * valid, instead of waiting for the issuance to complete.
+ * <p>
+ * The renewal claim is an in-memory state of this node, and the cached instance is the one served from the
+ * OAuthCache, hence this is not built on a distributed BaseCache.
+ */
+public final class ClientCredentialsTokenCache {
+
+    private static final Log log = LogFactory.getLog(ClientCredentialsTokenCache.class);
+
+    private static final String ENABLE = "OAuth.ClientCredentialsTokenCache.Enable";
+    private static final String RENEWAL_FRACTION = "OAuth.ClientCredentialsTokenCache.RenewalFraction";
+    private static final String MAX_ENTRIES = "OAuth.ClientCredentialsTokenCache.MaxEntries";
+    private static final double DEFAULT_RENEWAL_FRACTION = 0.8;
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private static final ClientCredentialsTokenCache instance = new ClientCredentialsTokenCache();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder reuseCount = new LongAdder();
+    private final LongAdder renewalCount = new LongAdder();
+    private final boolean enabled;
+    private final double renewalFraction;
+    private final int maxEntries;
+
+    private ClientCredentialsTokenCache() {
+
+        this(ConfigPropertyUtil.getBooleanProperty(ENABLE, false),
+                ConfigPropertyUtil.getFractionProperty(RENEWAL_FRACTION, DEFAULT_RENEWAL_FRACTION),
+                ConfigPropertyUtil.getPositiveIntProperty(MAX_ENTRIES, DEFAULT_MAX_ENTRIES));
+    }
+
+    ClientCredentialsTokenCache(boolean enabled, double renewalFraction, int maxEntries) {
+
+        this.enabled = enabled;
+        this.renewalFraction = renewalFraction;
+        this.maxEntries = maxEntries;
+    }
+
+    public static ClientCredentialsTokenCache getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the cached token to be reused for a token request.
+     *
+     * @param key         Cache key.
+     * @param isStillUsed Check whether the cached token is still the active token of the key, i.e. it has not been
+     *                    revoked or replaced since it was cached.
+     * @return Cached token, or null if there is no usable token or the token is due for a renewal which is not yet
+     * claimed.
+     */
+    AccessTokenDO getToken(String key, Predicate<AccessTokenDO> isStillUsed) {
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (now >= entry.expiryTime || !isStillUsed.test(entry.token)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        if (now >= entry.renewalTime && !entry.renewing.get()) {
+            return null;
+        }
+        reuseCount.increment();
+        return entry.token;
+    }
+
+    /**
+     * Claim the renewal of the cached token, if it is due. Only one request gets the claim, which has to be released
+     * with {@link #releaseRenewal(String)} once the request completes.
+     *
+     * @param key Cache key.
+     * @return True if the caller claimed the renewal.
+     */
+    boolean claimRenewal(String key) {
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (now < entry.renewalTime || now >= entry.expiryTime || !entry.renewing.compareAndSet(false, true)) {
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Renewal of the client credentials token of client: " + entry.token.getConsumerKey() +
+                    " is due.");
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the renewal of the given cached token has been claimed by a token request.
+     *
+     * @param key     Cache key.
+     * @param tokenId ID of the token.
+     * @return True if the token has to be renewed.
+     */
+    boolean isRenewalClaimed(String key, String tokenId) {
+
+        Entry entry = entries.get(key);
+        return entry != null && entry.renewing.get() && StringUtils.equals(entry.token.getTokenId(), tokenId);
+    }
+
+    /**
+     * Release the renewal claim of the cached token, so that the next request can retry a failed renewal.
+     *
+     * @param key Cache key.
+     */
+    void releaseRenewal(String key) {
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.renewing.set(false);
+        }
+    }
+
+    /**
+     * Cache a token for reuse. A token which is already cached for the key keeps its renewal state.
+     *
+     * @param key     Cache key.
+     * @param token   Token to cache.
+     * @param renewed Whether the token replaces a token which was due for renewal.
+     * @return Time in milliseconds at which the token is due for renewal.
+     */
+    long put(String key, AccessTokenDO token, boolean renewed) {
+
+        Entry entry = entries.get(key);
+        if (entry != null && StringUtils.equals(entry.token.getTokenId(), token.getTokenId())) {
+            return entry.renewalTime;
+        }
+        if (entries.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(cachedEntry -> now >= cachedEntry.expiryTime);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entry = new Entry(token, renewalFraction);
+        entries.put(key, entry);
+        if (renewed) {
+            renewalCount.increment();
+        }
+        return entry.renewalTime;
+    }
+
+    /**
+     * Get the time at which the cached token of the key is due for renewal.
+     *
+     * @param key Cache key.
+     * @return Renewal time in milliseconds, or {@link Long#MAX_VALUE} if there is no cached token.
+     */
+    long getRenewalTime(String key) {
+
+        Entry entry = entries.get(key);
+        return entry == null ? Long.MAX_VALUE : entry.renewalTime;
+    }
+
+    /**
+     * Get the number of token requests served with a cached token by this node.
+     *
+     * @return Reuse count.
+     */
+    public long getReuseCount() {
+
+        return reuseCount.sum();
+    }
+
+    /**
+     * Get the number of cached tokens renewed by this node.
+     *
+     * @return Renewal count.
+     */
+    public long getRenewalCount() {
+
+        return renewalCount.sum();
+    }
+
+    /**
+     * Cached token along with its renewal state.
+     */
+    private static final class Entry {
+
+        private final AccessTokenDO token;
+        private final long renewalTime;
+        private final long expiryTime;
+        private final AtomicBoolean renewing = new AtomicBoolean();
+
+        Entry(AccessTokenDO token, double renewalFraction) {
+
+            this.token = token;
+            long validityPeriod = token.getValidityPeriodInMillis();
+            long issuedTime = token.getIssuedTime() == null ? 0 : token.getIssuedTime().getTime();
+            if (token.getIssuedTime() == null || validityPeriod < 0 || validityPeriod > Long.MAX_VALUE - issuedTime) {
+                // Tokens with an infinite lifetime are never renewed.
+                this.renewalTime = Long.MAX_VALUE;
+                this.expiryTime = Long.MAX_VALUE;
+            } else {
+                this.renewalTime = issuedTime + (long) (validityPeriod * renewalFraction);
+                this.expiryTime = issuedTime + validityPeriod;
+            }
+        }
+    }
+}
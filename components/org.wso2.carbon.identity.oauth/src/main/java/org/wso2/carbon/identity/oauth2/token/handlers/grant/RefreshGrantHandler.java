@@ -165,30 +165,43 @@ public class RefreshGrantHandler extends AbstractAuthorizationGrantHandler {
                     + tokReqMsgCtx.getAuthorizedUser().getLoggableMaskedUserId(), e);
         }
         String tokenBindingReference = getTokenBindingReference(tokReqMsgCtx);
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference).intern()) {
-            // sets accessToken, refreshToken and validity data
-            setTokenData(accessTokenBean, tokReqMsgCtx, validationBean, tokenReq, accessTokenBean.getIssuedTime());
-            persistNewToken(tokReqMsgCtx, accessTokenBean, tokenReq.getClientId());
-            super.authorizationDetailsService
-                    .replaceAccessTokenAuthorizationDetails(validationBean.getTokenId(), accessTokenBean, tokReqMsgCtx);
-
-            if (log.isDebugEnabled()) {
-                log.debug("Persisted an access token for the refresh token, " +
-                        "Client ID : " + tokenReq.getClientId() +
-                        ", Authorized user : " + tokReqMsgCtx.getAuthorizedUser() +
-                        ", Timestamp : " + accessTokenBean.getIssuedTime() +
-                        ", Validity period (s) : " + accessTokenBean.getValidityPeriod() +
-                        ", Scope : " + OAuth2Util.buildScopeString(tokReqMsgCtx.getScope()) +
-                        ", Token State : " + OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE +
-                        " and User Type : " + getTokenType(tokReqMsgCtx));
+        if (OAuth2Util.isOptimisticRefreshTokenRotationEnabled()) {
+            // Concurrent use of the refresh token is detected when the previous token state is updated.
+            rotateToken(tokReqMsgCtx, tokenReq, validationBean, accessTokenBean);
+        } else {
+            synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference)
+                    .intern()) {
+                rotateToken(tokReqMsgCtx, tokenReq, validationBean, accessTokenBean);
             }
-
-            setTokenDataToMessageContext(tokReqMsgCtx, accessTokenBean);
-            addUserAttributesToCache(accessTokenBean, tokReqMsgCtx);
         }
         return buildTokenResponse(tokReqMsgCtx, accessTokenBean);
     }
 
+    private void rotateToken(OAuthTokenReqMessageContext tokReqMsgCtx, OAuth2AccessTokenReqDTO tokenReq,
+                             RefreshTokenValidationDataDO validationBean, AccessTokenDO accessTokenBean)
+            throws IdentityOAuth2Exception {
+
+        // sets accessToken, refreshToken and validity data
+        setTokenData(accessTokenBean, tokReqMsgCtx, validationBean, tokenReq, accessTokenBean.getIssuedTime());
+        persistNewToken(tokReqMsgCtx, accessTokenBean, tokenReq.getClientId());
+        super.authorizationDetailsService
+                .replaceAccessTokenAuthorizationDetails(validationBean.getTokenId(), accessTokenBean, tokReqMsgCtx);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted an access token for the refresh token, " +
+                    "Client ID : " + tokenReq.getClientId() +
+                    ", Authorized user : " + tokReqMsgCtx.getAuthorizedUser() +
+                    ", Timestamp : " + accessTokenBean.getIssuedTime() +
+                    ", Validity period (s) : " + accessTokenBean.getValidityPeriod() +
+                    ", Scope : " + OAuth2Util.buildScopeString(tokReqMsgCtx.getScope()) +
+                    ", Token State : " + OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE +
+                    " and User Type : " + getTokenType(tokReqMsgCtx));
+        }
+
+        setTokenDataToMessageContext(tokReqMsgCtx, accessTokenBean);
+        addUserAttributesToCache(accessTokenBean, tokReqMsgCtx);
+    }
+
     private OAuth2AccessTokenRespDTO getFailureOrErrorResponseDTO(ActionExecutionStatus<?> executionStatus) {
 
         OAuth2AccessTokenRespDTO accessTokenResponse = new OAuth2AccessTokenRespDTO();
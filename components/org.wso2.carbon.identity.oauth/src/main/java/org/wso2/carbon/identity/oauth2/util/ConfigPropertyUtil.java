@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reads typed configuration properties from identity.xml. A property which is not configured resolves to the given
+ * default value. A property which can not be parsed or is out of range is logged and also resolves to the default
+ * value, so that a misconfiguration does not prevent the server from starting.
+ */
+public final class ConfigPropertyUtil {
+
+    private static final Log log = LogFactory.getLog(ConfigPropertyUtil.class);
+
+    private ConfigPropertyUtil() {
+
+    }
+
+    /**
+     * Read a boolean property.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured.
+     * @return Value of the property.
+     */
+    public static boolean getBooleanProperty(String propertyName, boolean defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Read an int property which may be negative, such as a threshold where a negative value disables a feature.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured or invalid.
+     * @return Value of the property.
+     */
+    public static int getIntProperty(String propertyName, int defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Integer::valueOf, value -> true);
+    }
+
+    /**
+     * Read a positive int property.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured or invalid.
+     * @return Value of the property.
+     */
+    public static int getPositiveIntProperty(String propertyName, int defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Integer::valueOf, value -> value > 0);
+    }
+
+    /**
+     * Read an int property which may be zero, such as a limit which can be disabled.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured or invalid.
+     * @return Value of the property.
+     */
+    public static int getNonNegativeIntProperty(String propertyName, int defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Integer::valueOf, value -> value >= 0);
+    }
+
+    /**
+     * Read a positive long property.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured or invalid.
+     * @return Value of the property.
+     */
+    public static long getPositiveLongProperty(String propertyName, long defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Long::valueOf, value -> value > 0);
+    }
+
+    /**
+     * Read a long property which may be zero, such as an interval which can be disabled.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured or invalid.
+     * @return Value of the property.
+     */
+    public static long getNonNegativeLongProperty(String propertyName, long defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Long::valueOf, value -> value >= 0);
+    }
+
+    /**
+     * Read a fraction property in the range (0, 1].
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured or invalid.
+     * @return Value of the property.
+     */
+    public static double getFractionProperty(String propertyName, double defaultValue) {
+
+        return getProperty(propertyName, defaultValue, Double::valueOf, value -> value > 0 && value <= 1);
+    }
+
+    /**
+     * Read an enum property. The value is matched against the enum constant names ignoring the case.
+     *
+     * @param propertyName Name of the property.
+     * @param enumType     Type of the enum.
+     * @param defaultValue Value to use when the property is not configured or invalid.
+     * @param <E>          Type of the enum.
+     * @return Value of the property.
+     */
+    public static <E extends Enum<E>> E getEnumProperty(String propertyName, Class<E> enumType, E defaultValue) {
+
+        return getProperty(propertyName, defaultValue, value -> Enum.valueOf(enumType, value.toUpperCase(Locale.ROOT)),
+                value -> true);
+    }
+
+    private static <T> T getProperty(String propertyName, T defaultValue, Function<String, T> parser,
+                                     Predicate<T> validator) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            T parsedValue = parser.apply(value.trim());
+            if (validator.test(parsedValue)) {
+                return parsedValue;
+            }
+        } catch (IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while parsing the value: " + value + " configured for " + propertyName, e);
+            }
+        }
+        log.warn("Invalid value: " + value + " configured for " + propertyName + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+}
@@ -165,6 +165,7 @@ import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.service.RealmService;
 import org.wso2.carbon.user.core.tenant.TenantManager;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
+import org.wso2.carbon.utils.ConfigurationContextService;
 import org.wso2.carbon.utils.DiagnosticLog;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
@@ -355,6 +356,7 @@ public class OAuth2Util {
     private static ThreadLocal<OAuthAuthzReqMessageContext> authzRequestContext = new ThreadLocal<>();
     //Precompile PKCE Regex pattern for performance improvement
     private static Pattern pkceCodeVerifierPattern = Pattern.compile("[\\w\\-\\._~]+");
+    private static final Pattern SCOPE_SEPARATOR_PATTERN = Pattern.compile("\\s");
     // System flag to allow the weak keys (key length less than 2048) to be used for the signing.
     private static final String ALLOW_WEAK_RSA_SIGNER_KEY = "allow_weak_rsa_signer_key";
 
@@ -524,7 +526,7 @@ public class OAuth2Util {
 
         if (StringUtils.isNotBlank(scopeStr)) {
             scopeStr = scopeStr.trim();
-            return scopeStr.split("\\s");
+            return SCOPE_SEPARATOR_PATTERN.split(scopeStr);
         }
         return new String[0];
     }
@@ -5295,13 +5297,11 @@ public class OAuth2Util {
      */
     public static boolean isAllowedScope(List<String> allowedScopesList, String scope) {
 
-        for (String scopeTobeSkipped : allowedScopesList) {
-            if (scope.matches(scopeTobeSkipped)) {
-                if (log.isDebugEnabled()) {
-                    log.debug(scope + " is found in the allowed list of scopes.");
-                }
-                return true;
+        if (ScopePatternMatcher.getInstance(allowedScopesList).matches(scope)) {
+            if (log.isDebugEnabled()) {
+                log.debug(scope + " is found in the allowed list of scopes.");
             }
+            return true;
         }
         return false;
     }
@@ -5725,6 +5725,35 @@ public class OAuth2Util {
         return OAuth2Constants.DEFAULT_PERSIST_ENABLED;
     }
 
+    /**
+     * Check if self-contained authorization codes are enabled. When enabled, the authorization code carries the code
+     * context itself and is neither persisted nor read back from the database. Since redeemed self-contained codes
+     * are tracked per node, they are not issued when clustering is enabled, even if configured.
+     *
+     * @return True if self-contained authorization codes are enabled.
+     */
+    public static boolean isSelfContainedAuthCodeEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(OAuth2Constants.OAUTH_SELF_CONTAINED_CODE_ENABLE))
+                && !isClusteringEnabled();
+    }
+
+    /**
+     * Check if the server runs in a cluster.
+     *
+     * @return True if a clustering agent is configured for the server.
+     */
+    public static boolean isClusteringEnabled() {
+
+        ConfigurationContextService configurationContextService =
+                OAuth2ServiceComponentHolder.getConfigurationContextService();
+        if (configurationContextService == null || configurationContextService.getServerConfigContext() == null) {
+            return false;
+        }
+        return configurationContextService.getServerConfigContext().getAxisConfiguration()
+                .getClusteringAgent() != null;
+    }
+
     /**
      * Check if revoke token headers is enabled.
      *
@@ -5738,6 +5767,18 @@ public class OAuth2Util {
         return true;
     }
 
+    /**
+     * Check whether refresh token rotation relies on the token state in the database, instead of a JVM lock, to
+     * detect concurrent use of the same refresh token.
+     *
+     * @return True if optimistic refresh token rotation is enabled.
+     */
+    public static boolean isOptimisticRefreshTokenRotationEnabled() {
+
+        return Boolean.parseBoolean(
+                IdentityUtil.getProperty(OAuth2Constants.OAUTH_OPTIMISTIC_REFRESH_TOKEN_ROTATION_ENABLE));
+    }
+
     /**
      * Check whether the request is an API based authentication request.
      *
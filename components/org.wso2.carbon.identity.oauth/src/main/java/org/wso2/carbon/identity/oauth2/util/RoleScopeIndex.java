@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache used by role based scope validation, which holds per tenant the roles associated with each application and
+ * the scopes granted by each role as a {@link ScopeSet}. The scopes a user may get for an application are then the
+ * union of the scope sets of the user's roles which are associated with the application.
+ * <p>
+ * The index of a tenant is built lazily and is discarded as a whole on all the nodes of the cluster when a role or an
+ * authorized API of the tenant changes. The index of an application may be held by tenants other than the one of the
+ * application, such as the sub organizations accessing it, hence an application change discards the indexes of all
+ * the tenants. Changes which are not notified, such as role creation, are picked up once the index expires as per
+ * the timeout configured for this cache. The indexes of all the tenants are kept in the super tenant.
+ * <p>
+ * A cached index is never modified. Entries loaded by a request are collected with a {@link TenantIndex.Builder} and
+ * a new index holding them replaces the index the request started with, only if that index is still cached.
+ */
+public final class RoleScopeIndex extends BaseCache<String, RoleScopeIndex.TenantIndex> {
+
+    private static final Log log = LogFactory.getLog(RoleScopeIndex.class);
+
+    private static final String CACHE_NAME = "RoleScopeIndex";
+    private static final String ENABLE = "OAuth.RoleScopeIndex.Enable";
+
+    private static final RoleScopeIndex instance = new RoleScopeIndex();
+
+    private final boolean enabled;
+
+    private RoleScopeIndex() {
+
+        super(CACHE_NAME);
+        enabled = ConfigPropertyUtil.getBooleanProperty(ENABLE, false);
+    }
+
+    public static RoleScopeIndex getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the index of the given tenant, caching an empty one if there is no index for the given vocabulary. A
+     * request should do all its lookups on the same tenant index, and add the entries it loads with
+     * {@link #update(String, TenantIndex, TenantIndex.Builder)}.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param vocabulary   Scope vocabulary of the tenant.
+     * @return Index of the tenant.
+     */
+    public TenantIndex getTenantIndex(String tenantDomain, ScopeVocabulary vocabulary) {
+
+        TenantIndex tenantIndex = getValueFromCache(tenantDomain, MultitenantConstants.SUPER_TENANT_ID);
+        if (tenantIndex != null && tenantIndex.vocabulary == vocabulary) {
+            return tenantIndex;
+        }
+        tenantIndex = new TenantIndex(vocabulary, Collections.emptyMap(), Collections.emptyMap(), null);
+        addToCache(tenantDomain, tenantIndex, MultitenantConstants.SUPER_TENANT_ID);
+        return tenantIndex;
+    }
+
+    /**
+     * Replace the index of the given tenant with a new index holding the entries added to the given builder. The
+     * index is not replaced if it is no longer the one the builder is based on, as the entries may then have been
+     * loaded before an invalidation, or by a concurrent request.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantIndex  Index the builder is based on.
+     * @param builder      Builder holding the entries loaded by the request.
+     */
+    public synchronized void update(String tenantDomain, TenantIndex tenantIndex, TenantIndex.Builder builder) {
+
+        if (!builder.isModified()) {
+            return;
+        }
+        if (getValueFromCache(tenantDomain, MultitenantConstants.SUPER_TENANT_ID) != tenantIndex) {
+            if (log.isDebugEnabled()) {
+                log.debug("Role scope index of tenant: " + tenantDomain + " changed while loading its entries. " +
+                        "Hence the loaded entries are not added to the index.");
+            }
+            return;
+        }
+        addToCache(tenantDomain, builder.build(), MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Discard the index of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public synchronized void invalidateTenant(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return;
+        }
+        clearCacheEntry(tenantDomain, MultitenantConstants.SUPER_TENANT_ID);
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the role scope index of tenant: " + tenantDomain);
+        }
+    }
+
+    /**
+     * Discard the indexes which may hold the roles of the given application. As the tenants accessing an application
+     * are not known on every node, the indexes of all the tenants are discarded.
+     *
+     * @param appId Application id.
+     */
+    public synchronized void invalidateApplication(String appId) {
+
+        if (appId == null) {
+            return;
+        }
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the role scope indexes of all the tenants for the change of application: " +
+                    appId);
+        }
+    }
+
+    /**
+     * Discard the indexes of all the tenants, for a change of which the affected tenants can not be resolved, such as
+     * the deletion of an application or of a role which may have been shared with other organizations.
+     */
+    public synchronized void invalidateAllTenants() {
+
+        clear(MultitenantConstants.SUPER_TENANT_ID);
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the role scope indexes of all the tenants.");
+        }
+    }
+
+    /**
+     * Role and scope index of a tenant. The scope sets are bound to the node local scope vocabulary, hence they are
+     * not serialized. An index which is deserialized has no vocabulary and is replaced on first use.
+     */
+    public static final class TenantIndex extends CacheEntry {
+
+        private static final long serialVersionUID = -5391620684927751830L;
+
+        private final transient ScopeVocabulary vocabulary;
+        private final Map<String, Set<String>> applicationRoleIds;
+        private final transient Map<String, ScopeSet> roleScopes;
+        private final Set<String> organizationRoleIds;
+
+        private TenantIndex(ScopeVocabulary vocabulary, Map<String, Set<String>> applicationRoleIds,
+                            Map<String, ScopeSet> roleScopes, Set<String> organizationRoleIds) {
+
+            this.vocabulary = vocabulary;
+            this.applicationRoleIds = applicationRoleIds;
+            this.roleScopes = roleScopes;
+            this.organizationRoleIds = organizationRoleIds;
+        }
+
+        public ScopeVocabulary getVocabulary() {
+
+            return vocabulary;
+        }
+
+        /**
+         * Get the ids of the roles associated with the given application.
+         *
+         * @param appId Application id.
+         * @return Role ids, or null if they are not indexed yet.
+         */
+        public Set<String> getApplicationRoleIds(String appId) {
+
+            return applicationRoleIds.get(appId);
+        }
+
+        /**
+         * Get the ids of the organization audience roles of the tenant.
+         *
+         * @return Role ids, or null if they are not indexed yet.
+         */
+        public Set<String> getOrganizationRoleIds() {
+
+            return organizationRoleIds;
+        }
+
+        /**
+         * Get the scopes granted by the given role.
+         *
+         * @param roleId Role id.
+         * @return Scopes of the role, or null if they are not indexed yet.
+         */
+        public ScopeSet getRoleScopes(String roleId) {
+
+            return roleScopes.get(roleId);
+        }
+
+        /**
+         * Create a builder for a new index holding the entries of this index.
+         *
+         * @return Builder.
+         */
+        public Builder toBuilder() {
+
+            return new Builder(this);
+        }
+
+        /**
+         * Collects the entries loaded by a request on top of a tenant index. Lookups on the builder return the
+         * entries added to it, falling back to the entries of the index it is based on.
+         */
+        public static final class Builder {
+
+            private final TenantIndex base;
+            private final Map<String, Set<String>> applicationRoleIds = new HashMap<>();
+            private final Map<String, ScopeSet> roleScopes = new HashMap<>();
+            private Set<String> organizationRoleIds;
+
+            private Builder(TenantIndex base) {
+
+                this.base = base;
+            }
+
+            public ScopeVocabulary getVocabulary() {
+
+                return base.vocabulary;
+            }
+
+            public Set<String> getApplicationRoleIds(String appId) {
+
+                Set<String> roleIds = applicationRoleIds.get(appId);
+                return roleIds == null ? base.getApplicationRoleIds(appId) : roleIds;
+            }
+
+            /**
+             * Index the ids of the roles associated with the given application. The given set must not be
+             * modified afterwards.
+             *
+             * @param appId   Application id.
+             * @param roleIds Role ids.
+             * @return Role ids.
+             */
+            public Set<String> putApplicationRoleIds(String appId, Set<String> roleIds) {
+
+                applicationRoleIds.put(appId, roleIds);
+                return roleIds;
+            }
+
+            public Set<String> getOrganizationRoleIds() {
+
+                return organizationRoleIds == null ? base.organizationRoleIds : organizationRoleIds;
+            }
+
+            /**
+             * Index the ids of the organization audience roles of the tenant. The given set must not be modified
+             * afterwards.
+             *
+             * @param roleIds Role ids.
+             * @return Role ids.
+             */
+            public Set<String> putOrganizationRoleIds(Set<String> roleIds) {
+
+                organizationRoleIds = roleIds;
+                return roleIds;
+            }
+
+            public ScopeSet getRoleScopes(String roleId) {
+
+                ScopeSet scopeSet = roleScopes.get(roleId);
+                return scopeSet == null ? base.getRoleScopes(roleId) : scopeSet;
+            }
+
+            /**
+             * Index the scopes granted by the given role.
+             *
+             * @param roleId Role id.
+             * @param scopes Scopes of the role.
+             * @return Scopes of the role.
+             */
+            public ScopeSet putRoleScopes(String roleId, Collection<String> scopes) {
+
+                ScopeSet scopeSet = ScopeSet.of(base.vocabulary, scopes);
+                roleScopes.put(roleId, scopeSet);
+                return scopeSet;
+            }
+
+            boolean isModified() {
+
+                return !applicationRoleIds.isEmpty() || !roleScopes.isEmpty() || organizationRoleIds != null;
+            }
+
+            /**
+             * Build a new index holding the entries of the base index and the entries added to this builder.
+             *
+             * @return Tenant index.
+             */
+            public TenantIndex build() {
+
+                return new TenantIndex(base.vocabulary, merge(base.applicationRoleIds, applicationRoleIds),
+                        merge(base.roleScopes, roleScopes), getOrganizationRoleIds());
+            }
+
+            private static <V> Map<String, V> merge(Map<String, V> baseEntries, Map<String, V> addedEntries) {
+
+                if (addedEntries.isEmpty()) {
+                    return baseEntries;
+                }
+                Map<String, V> entries = new HashMap<>(baseEntries);
+                entries.putAll(addedEntries);
+                return Collections.unmodifiableMap(entries);
+            }
+        }
+    }
+}
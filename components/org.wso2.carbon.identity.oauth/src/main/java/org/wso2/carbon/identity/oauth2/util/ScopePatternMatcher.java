@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Matches scopes against a list of scope patterns, such as the allowed scopes configured in
+ * OAuthServerConfiguration, with the same result as calling {@link String#matches(String)} with each pattern.
+ * <p>
+ * The patterns are analysed once. Literal patterns go to a hash set and literal prefixes followed by ".*" go to a
+ * prefix trie, so that they are checked in time proportional to the scope length regardless of the number of
+ * patterns. Only the remaining patterns are kept as precompiled regular expressions.
+ */
+public final class ScopePatternMatcher {
+
+    private static final Log log = LogFactory.getLog(ScopePatternMatcher.class);
+
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String MATCH_ANY_SUFFIX = ".*";
+    private static final int MAX_CACHED_MATCHERS = 16;
+
+    /*
+     Matchers are immutable and derived from the configured patterns, so they are memoized per node rather than kept
+     in a BaseCache, which would serialize the compiled patterns and add a cache lookup to every scope check.
+     */
+    private static final Map<List<String>, ScopePatternMatcher> matchers = new ConcurrentHashMap<>();
+
+    private final List<String> patterns;
+    private final Set<String> exactScopes = new HashSet<>();
+    private final PrefixNode prefixRoot = new PrefixNode();
+    private final List<Pattern> regexPatterns = new ArrayList<>();
+
+    /**
+     * Build a matcher for the given scope patterns.
+     *
+     * @param patterns Scope patterns as accepted by {@link String#matches(String)}.
+     */
+    public ScopePatternMatcher(List<String> patterns) {
+
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+        for (String pattern : this.patterns) {
+            addPattern(pattern);
+        }
+    }
+
+    /**
+     * Get the matcher of the given scope patterns. Matchers are cached by the content of the pattern list, so
+     * callers may pass the same configured list on every request.
+     *
+     * @param patterns Scope patterns.
+     * @return Matcher of the given patterns.
+     */
+    public static ScopePatternMatcher getInstance(List<String> patterns) {
+
+        ScopePatternMatcher matcher = matchers.get(patterns);
+        if (matcher == null) {
+            matcher = new ScopePatternMatcher(patterns);
+            if (matchers.size() >= MAX_CACHED_MATCHERS) {
+                // Pattern lists are expected to come from configuration, hence this only guards against misuse.
+                matchers.clear();
+            }
+            matchers.put(matcher.patterns, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * Check whether the scope matches any of the patterns.
+     *
+     * @param scope Scope.
+     * @return True if the scope matches at least one pattern.
+     */
+    public boolean matches(String scope) {
+
+        if (scope == null) {
+            return false;
+        }
+        if (exactScopes.contains(scope) || matchesPrefix(scope)) {
+            return true;
+        }
+        for (Pattern pattern : regexPatterns) {
+            if (pattern.matcher(scope).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addPattern(String pattern) {
+
+        if (pattern == null) {
+            return;
+        }
+        // The whole scope is matched, hence the boundary anchors do not change the result.
+        String body = pattern;
+        if (body.startsWith("^")) {
+            body = body.substring(1);
+        }
+        if (body.endsWith("$") && !body.endsWith("\\$")) {
+            body = body.substring(0, body.length() - 1);
+        }
+
+        if (isLiteral(body)) {
+            exactScopes.add(body);
+        } else if (body.endsWith(MATCH_ANY_SUFFIX)
+                && isLiteral(body.substring(0, body.length() - MATCH_ANY_SUFFIX.length()))) {
+            addPrefix(body.substring(0, body.length() - MATCH_ANY_SUFFIX.length()));
+        } else {
+            try {
+                regexPatterns.add(Pattern.compile(pattern));
+            } catch (PatternSyntaxException e) {
+                log.warn("Invalid scope pattern: " + pattern + " is ignored.", e);
+            }
+        }
+    }
+
+    private void addPrefix(String prefix) {
+
+        PrefixNode node = prefixRoot;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), key -> new PrefixNode());
+        }
+        node.terminal = true;
+    }
+
+    private boolean matchesPrefix(String scope) {
+
+        PrefixNode node = prefixRoot;
+        for (int i = 0; ; i++) {
+            // ".*" does not match line terminators, hence the rest of the scope must not contain any.
+            if (node.terminal && !containsLineTerminator(scope, i)) {
+                return true;
+            }
+            if (i == scope.length()) {
+                return false;
+            }
+            node = node.children.get(scope.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean isLiteral(String pattern) {
+
+        for (int i = 0; i < pattern.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(pattern.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsLineTerminator(String value, int fromIndex) {
+
+        for (int i = fromIndex; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Node of the prefix trie.
+     */
+    private static final class PrefixNode {
+
+        private final Map<Character, PrefixNode> children = new HashMap<>();
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable set of scopes backed by a sorted array of {@link ScopeVocabulary} ids. Membership checks are a hash
+ * lookup and a binary search without any allocation, and comparing two sets of the same vocabulary is a linear merge
+ * of the id arrays. The hash code is computed once. Scope sets of different vocabularies are never equal.
+ * <p>
+ * Scopes which could not be added to a full vocabulary are kept by name, hence a scope set always holds all the
+ * scopes it was built from. Scope sets are local to the node and are not meant to be serialized.
+ */
+public final class ScopeSet {
+
+    private static final int[] NO_SCOPE_IDS = new int[0];
+
+    private final ScopeVocabulary vocabulary;
+    private final int[] scopeIds;
+    private final Set<String> unmappedScopes;
+    private final int hashCode;
+    private volatile String scopeString;
+
+    private ScopeSet(ScopeVocabulary vocabulary, int[] scopeIds, Set<String> unmappedScopes) {
+
+        this.vocabulary = vocabulary;
+        this.scopeIds = scopeIds;
+        this.unmappedScopes = unmappedScopes;
+        this.hashCode = 31 * Arrays.hashCode(scopeIds) + unmappedScopes.hashCode();
+    }
+
+    /**
+     * Build a scope set from the given scopes. The scopes are added to the vocabulary, hence this should only be used
+     * with scopes from trusted sources. Use {@link #contains(String)} to check requested scopes against a scope set.
+     *
+     * @param vocabulary Scope vocabulary of the tenant.
+     * @param scopes     Scopes.
+     * @return Scope set.
+     */
+    public static ScopeSet of(ScopeVocabulary vocabulary, Collection<String> scopes) {
+
+        if (scopes == null || scopes.isEmpty()) {
+            return new ScopeSet(vocabulary, NO_SCOPE_IDS, Collections.emptySet());
+        }
+        int[] ids = new int[scopes.size()];
+        int count = 0;
+        Set<String> unmappedScopes = null;
+        for (String scope : scopes) {
+            if (scope == null) {
+                continue;
+            }
+            int scopeId = vocabulary.getScopeId(scope);
+            if (scopeId == ScopeVocabulary.UNKNOWN_SCOPE_ID) {
+                if (unmappedScopes == null) {
+                    unmappedScopes = new HashSet<>();
+                }
+                unmappedScopes.add(scope);
+            } else {
+                ids[count++] = scopeId;
+            }
+        }
+        Arrays.sort(ids, 0, count);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || ids[distinctCount - 1] != ids[i]) {
+                ids[distinctCount++] = ids[i];
+            }
+        }
+        if (distinctCount != ids.length) {
+            ids = Arrays.copyOf(ids, distinctCount);
+        }
+        return new ScopeSet(vocabulary, ids, unmappedScopes == null ? Collections.emptySet() :
+                Collections.unmodifiableSet(unmappedScopes));
+    }
+
+    /**
+     * Build the union of the given scope sets, such as the scopes granted by each of the roles of a user. Scope sets of
+     * the given vocabulary are merged by their ids without resolving any scope names.
+     *
+     * @param vocabulary Scope vocabulary of the tenant.
+     * @param scopeSets  Scope sets.
+     * @return Union of the scope sets.
+     */
+    public static ScopeSet union(ScopeVocabulary vocabulary, Collection<ScopeSet> scopeSets) {
+
+        BitSet ids = new BitSet();
+        Set<String> unmappedScopes = new HashSet<>();
+        for (ScopeSet scopeSet : scopeSets) {
+            if (scopeSet.vocabulary == vocabulary) {
+                for (int scopeId : scopeSet.scopeIds) {
+                    ids.set(scopeId);
+                }
+                unmappedScopes.addAll(scopeSet.unmappedScopes);
+                continue;
+            }
+            for (String scope : scopeSet.getScopes()) {
+                int scopeId = vocabulary.getScopeId(scope);
+                if (scopeId == ScopeVocabulary.UNKNOWN_SCOPE_ID) {
+                    unmappedScopes.add(scope);
+                } else {
+                    ids.set(scopeId);
+                }
+            }
+        }
+        return new ScopeSet(vocabulary, ids.isEmpty() ? NO_SCOPE_IDS : ids.stream().toArray(),
+                unmappedScopes.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(unmappedScopes));
+    }
+
+    /**
+     * Check whether the given scope is in this set.
+     *
+     * @param scope Scope name.
+     * @return True if the scope is in this set.
+     */
+    public boolean contains(String scope) {
+
+        int scopeId = vocabulary.lookupScopeId(scope);
+        if (scopeId != ScopeVocabulary.UNKNOWN_SCOPE_ID && Arrays.binarySearch(scopeIds, scopeId) >= 0) {
+            return true;
+        }
+        return !unmappedScopes.isEmpty() && unmappedScopes.contains(scope);
+    }
+
+    /**
+     * Check whether all the given scopes are in this set.
+     *
+     * @param scopes Scope names.
+     * @return True if all the scopes are in this set.
+     */
+    public boolean containsAll(Collection<String> scopes) {
+
+        for (String scope : scopes) {
+            if (!contains(scope)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether all the scopes of the given set are in this set.
+     *
+     * @param other Scope set.
+     * @return True if the given set is a subset of this set.
+     */
+    public boolean containsAll(ScopeSet other) {
+
+        if (other.vocabulary != vocabulary) {
+            return containsAll(other.getScopes());
+        }
+        int[] otherIds = other.scopeIds;
+        if (otherIds.length > scopeIds.length) {
+            return false;
+        }
+        int i = 0;
+        for (int otherId : otherIds) {
+            while (i < scopeIds.length && scopeIds[i] < otherId) {
+                i++;
+            }
+            if (i == scopeIds.length || scopeIds[i] != otherId) {
+                return false;
+            }
+            i++;
+        }
+        return other.unmappedScopes.isEmpty() || containsAll(other.unmappedScopes);
+    }
+
+    /**
+     * Get the given scopes which are in this set, in the given order.
+     *
+     * @param scopes Scope names.
+     * @return Scopes which are in this set.
+     */
+    public List<String> filter(Collection<String> scopes) {
+
+        List<String> filteredScopes = new ArrayList<>(scopes.size());
+        for (String scope : scopes) {
+            if (contains(scope)) {
+                filteredScopes.add(scope);
+            }
+        }
+        return filteredScopes;
+    }
+
+    public int size() {
+
+        return scopeIds.length + unmappedScopes.size();
+    }
+
+    public boolean isEmpty() {
+
+        return size() == 0;
+    }
+
+    /**
+     * Get the scope names of this set.
+     *
+     * @return Scope names.
+     */
+    public List<String> getScopes() {
+
+        List<String> scopes = new ArrayList<>(size());
+        for (int scopeId : scopeIds) {
+            scopes.add(vocabulary.getScopeName(scopeId));
+        }
+        scopes.addAll(unmappedScopes);
+        return scopes;
+    }
+
+    /**
+     * Get the space separated scope string of this set, sorted in the same way as
+     * {@link OAuth2Util#buildScopeString(String[])}.
+     *
+     * @return Scope string.
+     */
+    public String toScopeString() {
+
+        String result = scopeString;
+        if (result == null) {
+            List<String> scopes = getScopes();
+            Collections.sort(scopes);
+            result = String.join(" ", scopes);
+            scopeString = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ScopeSet)) {
+            return false;
+        }
+        ScopeSet other = (ScopeSet) o;
+        return hashCode == other.hashCode && vocabulary == other.vocabulary &&
+                Arrays.equals(scopeIds, other.scopeIds) && unmappedScopes.equals(other.unmappedScopes);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+
+        return toScopeString();
+    }
+}
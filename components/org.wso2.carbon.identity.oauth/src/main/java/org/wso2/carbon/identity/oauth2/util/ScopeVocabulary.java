@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per tenant vocabulary which maps scope names to small integer ids, so that sets of scopes can be represented as
+ * sorted id arrays by {@link ScopeSet}. Ids are assigned in the order scopes are first seen and are local to the node,
+ * hence they must never be persisted or used in cluster wide cache keys.
+ * <p>
+ * Only scopes from trusted sources, such as registered or authorized scopes, are added to the vocabulary. Requested
+ * scopes are only looked up, so that arbitrary scope names sent by clients do not grow the vocabulary. The number of
+ * scopes per tenant is bounded by OAuth.ScopeVocabulary.MaxSize.
+ */
+public final class ScopeVocabulary {
+
+    private static final Log log = LogFactory.getLog(ScopeVocabulary.class);
+
+    static final int UNKNOWN_SCOPE_ID = -1;
+
+    private static final String SCOPE_VOCABULARY_MAX_SIZE = "OAuth.ScopeVocabulary.MaxSize";
+    private static final int DEFAULT_MAX_SIZE = 10000;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final Map<Integer, ScopeVocabulary> vocabularies = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> scopeIds = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private volatile String[] scopeNames = new String[INITIAL_CAPACITY];
+    private int size;
+    private boolean maxSizeReached;
+
+    ScopeVocabulary(int maxSize) {
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the scope vocabulary of the given tenant.
+     *
+     * @param tenantId Tenant id.
+     * @return Scope vocabulary of the tenant.
+     */
+    public static ScopeVocabulary getInstance(int tenantId) {
+
+        return vocabularies.computeIfAbsent(tenantId, id -> new ScopeVocabulary(
+                ConfigPropertyUtil.getPositiveIntProperty(SCOPE_VOCABULARY_MAX_SIZE, DEFAULT_MAX_SIZE)));
+    }
+
+    /**
+     * Remove the scope vocabulary of the given tenant.
+     *
+     * @param tenantId Tenant id.
+     */
+    public static void clear(int tenantId) {
+
+        vocabularies.remove(tenantId);
+    }
+
+    /**
+     * Get the id of the given scope, adding the scope to the vocabulary if it is not known yet.
+     *
+     * @param scope Scope name.
+     * @return Id of the scope, or {@link #UNKNOWN_SCOPE_ID} if the vocabulary is full.
+     */
+    int getScopeId(String scope) {
+
+        Integer scopeId = scopeIds.get(scope);
+        if (scopeId != null) {
+            return scopeId;
+        }
+        synchronized (this) {
+            scopeId = scopeIds.get(scope);
+            if (scopeId != null) {
+                return scopeId;
+            }
+            if (size >= maxSize) {
+                if (!maxSizeReached) {
+                    maxSizeReached = true;
+                    log.warn("Scope vocabulary reached the maximum size of " + maxSize + " scopes. Scope sets " +
+                            "containing new scopes will be slower. Consider increasing " + SCOPE_VOCABULARY_MAX_SIZE);
+                }
+                return UNKNOWN_SCOPE_ID;
+            }
+            String[] names = scopeNames;
+            if (size == names.length) {
+                names = Arrays.copyOf(names, Math.min(names.length * 2, maxSize));
+            }
+            names[size] = scope;
+            // Publish the name before the id, so that readers which find the id always find the name.
+            scopeNames = names;
+            scopeIds.put(scope, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Look up the id of the given scope without adding it to the vocabulary.
+     *
+     * @param scope Scope name.
+     * @return Id of the scope, or {@link #UNKNOWN_SCOPE_ID} if the scope is not in the vocabulary.
+     */
+    int lookupScopeId(String scope) {
+
+        if (scope == null) {
+            return UNKNOWN_SCOPE_ID;
+        }
+        Integer scopeId = scopeIds.get(scope);
+        return scopeId == null ? UNKNOWN_SCOPE_ID : scopeId;
+    }
+
+    String getScopeName(int scopeId) {
+
+        return scopeNames[scopeId];
+    }
+}
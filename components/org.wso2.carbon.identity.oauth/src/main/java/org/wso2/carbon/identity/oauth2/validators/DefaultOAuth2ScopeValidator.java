@@ -296,9 +296,10 @@ public class DefaultOAuth2ScopeValidator {
         List<String> intersection = new ArrayList<>();
         if (!otherHandlerScopes.isEmpty()) {
             intersection = otherHandlerScopes.get(0);
+            // Handler results may contain requested scopes, hence they are not added to the scope vocabulary.
             for (int i = 1; i < otherHandlerScopes.size(); i++) {
-                intersection = intersection.stream().filter(otherHandlerScopes.get(i)::contains)
-                        .collect(Collectors.toList());
+                Set<String> handlerScopes = new HashSet<>(otherHandlerScopes.get(i));
+                intersection = intersection.stream().filter(handlerScopes::contains).collect(Collectors.toList());
             }
         }
         scopes.addAll(intersection);
@@ -22,26 +22,15 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.KeySourceException;
-import com.nimbusds.jose.RemoteKeySourceException;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKMatcher;
-import com.nimbusds.jose.jwk.JWKSelector;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.BadJOSEException;
-import com.nimbusds.jose.proc.JWSKeySelector;
-import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jose.proc.SimpleSecurityContext;
-import com.nimbusds.jose.util.X509CertUtils;
 import com.nimbusds.jwt.EncryptedJWT;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTParser;
 import com.nimbusds.jwt.PlainJWT;
 import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
-import com.nimbusds.jwt.proc.DefaultJWTProcessor;
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -56,7 +45,6 @@ import java.security.cert.CertificateNotYetValidException;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -69,16 +57,9 @@ import static org.wso2.carbon.identity.openidconnect.model.Constants.RS;
 public class JWKSBasedJWTValidator implements JWTValidator {
 
     private static final Log log = LogFactory.getLog(JWKSBasedJWTValidator.class);
-    private ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
     private static final String ENFORCE_CERTIFICATE_VALIDITY
             = "JWTValidatorConfigs.EnforceCertificateExpiryTimeValidity";
 
-    public JWKSBasedJWTValidator() {
-        /* Set up a JWT processor to parse the tokens and then check their signature and validity time window
-        (bounded by the "iat", "nbf" and "exp" claims). */
-        this.jwtProcessor = new DefaultJWTProcessor<>();
-    }
-
     @Override
     public boolean validateSignature(String jwtString, String jwksUri, String algorithm, Map<String, Object> opts)
             throws IdentityOAuth2Exception {
@@ -114,10 +95,9 @@ public class JWKSBasedJWTValidator implements JWTValidator {
      * @param jwksUri URI of the JWKS endpoint
      * @param jwt     Signed JWT
      * @throws MalformedURLException           If the provided JWKS URI is not valid.
-     * @throws RemoteKeySourceException        If the remote JWKS endpoint could not be accessed.
      * @throws CertificateNotYetValidException If X509Certificate decoded from the "x5c" parameter is not yet valid.
      * @throws CertificateExpiredException     If X509Certificate decoded from the "x5c" parameter is expired.
-     * @throws KeySourceException              If remote JWK, or matching keys set was not found in the given JWKS.
+     * @throws KeySourceException              If remote JWKS could not be accessed, or matching keys were not found.
      * @throws BadJOSEException                If the keyId of the JWS header is null (i.e. due to a bad signature.)
      */
     private boolean checkCertificateValidity(String jwksUri, SignedJWT jwt) throws MalformedURLException,
@@ -132,53 +112,30 @@ public class JWKSBasedJWTValidator implements JWTValidator {
             return true;
         }
 
-        X509Certificate x509Certificate = null;
-        List<JWK> matchingJWKs;
-        RemoteJWKSet<SecurityContext> remoteJWKSet = JWKSourceDataProvider.getInstance().getJWKSource(jwksUri);
         String kid = Optional.ofNullable(jwt.getHeader()).map(JWSHeader::getKeyID).orElse(null);
-
         if (kid == null) {
             throw new BadJOSEException("Value of the \"kid\" property in JWS header is null.");
         }
 
-        if (remoteJWKSet != null) {
-            matchingJWKs = remoteJWKSet.get(new JWKSelector(
-                    new JWKMatcher.Builder()
-                            .keyID(kid)
-                            .build()
-            ), null);
-            if (CollectionUtils.isNotEmpty(matchingJWKs)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Matching key found in JWKS endpoint: " + jwksUri);
-                }
-                JWK key = matchingJWKs.get(0);
-
-                if (CollectionUtils.isNotEmpty(key.getX509CertChain())) {
-                    x509Certificate = X509CertUtils.parse(key.getX509CertChain().get(0).decode());
-                } else if (log.isDebugEnabled()) {
-                    log.debug("x5c parameter is undefined in JWK having the kid: " + kid);
-                }
-            } else {
-                throw new KeySourceException("No matching keys found in JWKS endpoint: " + jwksUri);
+        // The certificate is parsed once per retrieval of the key set.
+        X509Certificate x509Certificate = JWKSourceDataProvider.getInstance().getRefreshingJWKSource(jwksUri)
+                .getCertificate(kid);
+        if (log.isDebugEnabled()) {
+            log.debug("Matching key found in JWKS endpoint: " + jwksUri);
+        }
+        if (x509Certificate != null) {
+            String alg = jwt.getHeader().getAlgorithm().getName();
+            if (log.isDebugEnabled()) {
+                log.debug("Signature Algorithm found in the JWT Header: " + alg);
             }
 
-            if (x509Certificate != null) {
-
-                String alg = jwt.getHeader().getAlgorithm().getName();
-                if (log.isDebugEnabled()) {
-                    log.debug("Signature Algorithm found in the JWT Header: " + alg);
-                }
-
-                if (!isSupportedAlgorithm(alg) || !isValidPublicKey(x509Certificate)) {
-                    return false;
-                }
-
-                x509Certificate.checkValidity();
-            } else if (log.isDebugEnabled()) {
-                log.debug("X509Certificate is null. Hence, certificate expiry date validation is skipped.");
+            if (!isSupportedAlgorithm(alg) || !isValidPublicKey(x509Certificate)) {
+                return false;
             }
-        } else {
-            throw new KeySourceException("Remote JWK set not found in the JWKS endpoint: " + jwksUri);
+
+            x509Certificate.checkValidity();
+        } else if (log.isDebugEnabled()) {
+            log.debug("X509Certificate is null. Hence, certificate expiry date validation is skipped.");
         }
         return true;
     }
@@ -192,8 +149,7 @@ public class JWKSBasedJWTValidator implements JWTValidator {
                     algorithm);
         }
         try {
-            // set the Key Selector for the jwks_uri.
-            setJWKeySelector(jwksUri, algorithm);
+            ConfigurableJWTProcessor<SecurityContext> jwtProcessor = getJWTProcessor(jwksUri, algorithm);
 
             // Process the token, set optional context parameters.
             SecurityContext securityContext = null;
@@ -222,20 +178,24 @@ public class JWKSBasedJWTValidator implements JWTValidator {
         }
     }
 
-    private void setJWKeySelector(String jwksUri, String algorithm) throws MalformedURLException {
+    /**
+     * Returns the JWT processor of the jwks_uri and algorithm.
+     *
+     * @param jwksUri   URI of the JWKS endpoint.
+     * @param algorithm Expected JWS algorithm.
+     * @return JWT processor.
+     * @throws MalformedURLException If the provided JWKS URI is not valid.
+     */
+    private ConfigurableJWTProcessor<SecurityContext> getJWTProcessor(String jwksUri, String algorithm)
+            throws MalformedURLException {
 
-        /* The public RSA keys to validate the signatures will be sourced from the OAuth 2.0 server's JWK set,
-        published at a well-known URL. The RemoteJWKSet object caches the retrieved keys to speed up subsequent
-        look-ups and can also gracefully handle key-rollover. */
-        JWKSource<SecurityContext> keySource = JWKSourceDataProvider.getInstance().getJWKSource(jwksUri);
+        /* The public keys to validate the signatures are sourced from the JWK set published at the jwks_uri. The
+        RefreshingJWKSource keeps the retrieved keys in memory, refreshes them in the background and handles
+        key-rollover. */
+        RefreshingJWKSource keySource = JWKSourceDataProvider.getInstance().getRefreshingJWKSource(jwksUri);
 
         // The expected JWS algorithm of the access tokens (agreed out-of-band).
-        JWSAlgorithm expectedJWSAlg = JWSAlgorithm.parse(algorithm);
-
-        /* Configure the JWT processor with a key selector to feed matching public RSA keys sourced from the JWK set
-        URL. */
-        JWSKeySelector<SecurityContext> keySelector = new JWSVerificationKeySelector<>(expectedJWSAlg, keySource);
-        jwtProcessor.setJWSKeySelector(keySelector);
+        return keySource.getJWTProcessor(JWSAlgorithm.parse(algorithm));
     }
 
     private boolean isSupportedAlgorithm(String alg) {
@@ -18,21 +18,29 @@
 
 package org.wso2.carbon.identity.oauth2.validators.jwt;
 
+import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
-import org.wso2.carbon.identity.oauth2.cache.JWKSCache;
-import org.wso2.carbon.identity.oauth2.cache.JWKSCacheEntry;
-import org.wso2.carbon.identity.oauth2.cache.JWKSCacheKey;
 import org.wso2.carbon.identity.oauth2.device.constants.Constants;
+import org.wso2.carbon.identity.oauth2.util.ConfigPropertyUtil;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Provides JWK sources for JWT validation.
@@ -47,10 +55,27 @@ public class JWKSourceDataProvider {
             ".HTTPReadTimeout";
     private static final String HTTP_SIZE_LIMIT_XPATH = "JWTValidatorConfigs.JWKSEndpoint" +
             ".HTTPSizeLimit";
+    private static final String JWKS_REFRESH_INTERVAL_XPATH = "JWTValidatorConfigs.JWKSEndpoint.RefreshInterval";
+    private static final String JWKS_MAX_STALE_TIME_XPATH = "JWTValidatorConfigs.JWKSEndpoint.MaxStaleTime";
+    private static final String JWKS_MIN_REFETCH_INTERVAL_XPATH = "JWTValidatorConfigs.JWKSEndpoint" +
+            ".MinRefetchInterval";
+    private static final String JWKS_MAX_SOURCES_XPATH = "JWTValidatorConfigs.JWKSEndpoint.MaxCachedJWKSources";
+    private static final String JWKS_REFRESH_POOL_SIZE_XPATH = "JWTValidatorConfigs.JWKSEndpoint" +
+            ".RefreshThreadPoolSize";
+    private static final long DEFAULT_JWKS_REFRESH_INTERVAL = 5 * 60 * 1000L;
+    private static final long DEFAULT_JWKS_MAX_STALE_TIME = 60 * 60 * 1000L;
+    private static final long DEFAULT_JWKS_MIN_REFETCH_INTERVAL = 30 * 1000L;
+    private static final int DEFAULT_JWKS_MAX_SOURCES = 100;
+    private static final int DEFAULT_JWKS_REFRESH_POOL_SIZE = 4;
+    private static final long JWKS_REFRESH_THREAD_KEEP_ALIVE_TIME = 60;
+    private static final String JWKS_REFRESH_THREAD_NAME_PREFIX = "oauth-jwks-refresh-";
     private static final Log log = LogFactory.getLog(JWKSourceDataProvider.class);
 
     private static JWKSourceDataProvider jwkSourceDataProvider = new JWKSourceDataProvider();
 
+    private volatile Map<String, RefreshingJWKSource> refreshingJWKSources;
+    private volatile ExecutorService refreshExecutor;
+
     private JWKSourceDataProvider() {
 
     }
@@ -66,35 +91,55 @@ public class JWKSourceDataProvider {
     }
 
     /**
-     * Get cached JWKSet for the jwks_uri.
+     * Get the JWK source of the jwks_uri.
      *
      * @param jwksUri Identity provider's JWKS endpoint.
-     * @return RemoteJWKSet.
+     * @return JWKSource.
      * @throws MalformedURLException for invalid URL.
+     * @deprecated use {@link #getRefreshingJWKSource(String)} instead, which this method delegates to.
      */
-    public RemoteJWKSet<SecurityContext> getJWKSource(String jwksUri) throws MalformedURLException {
-
-        JWKSCacheKey jwksCacheKey = new JWKSCacheKey(jwksUri);
-        JWKSCacheEntry jwksCacheEntry = JWKSCache.getInstance().getValueFromCache(jwksCacheKey);
-        RemoteJWKSet<SecurityContext> jwkSet = null;
-        if (jwksCacheEntry != null) {
-            jwkSet = jwksCacheEntry.getValue();
-            if (log.isDebugEnabled()) {
-                log.debug("Retrieving JWKS for " + jwksUri + " from cache.");
-            }
+    @Deprecated
+    public JWKSource<SecurityContext> getJWKSource(String jwksUri) throws MalformedURLException {
+
+        return getRefreshingJWKSource(jwksUri);
+    }
+
+    /**
+     * Get the node local JWK source of the jwks_uri. The source keeps the parsed key set in memory and refreshes it
+     * in the background, so that request threads are not blocked on the remote endpoint. At most the configured
+     * number of sources are kept, evicting the least recently used one.
+     *
+     * @param jwksUri Identity provider's JWKS endpoint.
+     * @return RefreshingJWKSource.
+     * @throws MalformedURLException for invalid URL.
+     */
+    public RefreshingJWKSource getRefreshingJWKSource(String jwksUri) throws MalformedURLException {
+
+        Map<String, RefreshingJWKSource> jwkSources = getRefreshingJWKSources();
+        RefreshingJWKSource refreshingJWKSource = jwkSources.get(jwksUri);
+        if (refreshingJWKSource != null) {
+            return refreshingJWKSource;
         }
-        if (jwkSet == null) {
-            jwkSet = retrieveJWKSFromJWKSEndpoint(jwksUri);
-            JWKSCache.getInstance().addToCache(jwksCacheKey, new JWKSCacheEntry(jwkSet));
-            if (log.isDebugEnabled()) {
-                log.debug("Fetching JWKS from remote endpoint.");
+        URL jwksUrl = new URL(jwksUri);
+        synchronized (jwkSources) {
+            refreshingJWKSource = jwkSources.get(jwksUri);
+            if (refreshingJWKSource == null) {
+                refreshingJWKSource = new RefreshingJWKSource(jwksUrl, getResourceRetriever(), getRefreshExecutor(),
+                        ConfigPropertyUtil.getNonNegativeLongProperty(JWKS_REFRESH_INTERVAL_XPATH,
+                                DEFAULT_JWKS_REFRESH_INTERVAL),
+                        ConfigPropertyUtil.getNonNegativeLongProperty(JWKS_MAX_STALE_TIME_XPATH,
+                                DEFAULT_JWKS_MAX_STALE_TIME),
+                        ConfigPropertyUtil.getNonNegativeLongProperty(JWKS_MIN_REFETCH_INTERVAL_XPATH,
+                                DEFAULT_JWKS_MIN_REFETCH_INTERVAL));
+                jwkSources.put(jwksUri, refreshingJWKSource);
             }
         }
-        return jwkSet;
+        return refreshingJWKSource;
     }
 
     /**
-     * Retrieve the new-keyset from the JWKS endpoint in case of signature validation failure.
+     * Retrieve the new-keyset from the JWKS endpoint in case of signature validation failure. The current key set is
+     * served until the retrieval completes.
      *
      * @param jwksUri Identity providers jwks_uri.
      * @throws IdentityOAuth2Exception for invalid/malformed URL.
@@ -102,23 +147,18 @@ public class JWKSourceDataProvider {
     public void refreshJWKSResource(String jwksUri) throws IdentityOAuth2Exception {
 
         try {
-            JWKSCacheKey jwksCacheKey = new JWKSCacheKey(jwksUri);
-            JWKSCache.getInstance().clearCacheEntry(jwksCacheKey);
-            RemoteJWKSet<SecurityContext> jwkSet = retrieveJWKSFromJWKSEndpoint(jwksUri);
-            JWKSCache.getInstance().addToCache(jwksCacheKey, new JWKSCacheEntry(jwkSet));
+            getRefreshingJWKSource(jwksUri).refresh();
         } catch (MalformedURLException e) {
             throw new IdentityOAuth2Exception("Provided URI is malformed. jwks_uri: " + jwksUri, e);
         }
     }
 
     /**
-     * Retrieve JWKS from jwks_uri.
+     * Build the resource retriever used to access JWKS endpoints.
      *
-     * @param jwksUri Identity provider's jwks_uri.
-     * @return RemoteJWKSet
-     * @throws MalformedURLException for invalid URL.
+     * @return ResourceRetriever configured with the HTTP connection configurations.
      */
-    private RemoteJWKSet<SecurityContext> retrieveJWKSFromJWKSEndpoint(String jwksUri) throws MalformedURLException {
+    private ResourceRetriever getResourceRetriever() {
 
         // Retrieve HTTP endpoint configurations.
         int connectionTimeout = readHTTPConnectionConfigValue(HTTP_CONNECTION_TIMEOUT_XPATH);
@@ -137,17 +177,71 @@ public class JWKSourceDataProvider {
         }
 
         if (Boolean.parseBoolean(proxyEnabled)) {
-            ExtendedDefaultResourceRetriever resourceRetriever = new ExtendedDefaultResourceRetriever(
+            return new ExtendedDefaultResourceRetriever(
                     connectionTimeout,
                     readTimeout,
                     sizeLimit);
-            return new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
         }
-        DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
+        return new DefaultResourceRetriever(
                 connectionTimeout,
                 readTimeout,
                 sizeLimit);
-        return new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
+    }
+
+    private Map<String, RefreshingJWKSource> getRefreshingJWKSources() {
+
+        if (refreshingJWKSources == null) {
+            synchronized (this) {
+                if (refreshingJWKSources == null) {
+                    int maxSources = ConfigPropertyUtil.getPositiveIntProperty(JWKS_MAX_SOURCES_XPATH,
+                            DEFAULT_JWKS_MAX_SOURCES);
+                    refreshingJWKSources = Collections.synchronizedMap(
+                            new LinkedHashMap<String, RefreshingJWKSource>(16, 0.75f, true) {
+
+                                private static final long serialVersionUID = -2815347901846392750L;
+
+                                @Override
+                                protected boolean removeEldestEntry(Map.Entry<String, RefreshingJWKSource> eldest) {
+
+                                    return size() > maxSources;
+                                }
+                            });
+                }
+            }
+        }
+        return refreshingJWKSources;
+    }
+
+    /**
+     * Returns the executor which refreshes the key sets. The pool is bounded, and so is its queue since a source
+     * has at most one refresh in progress. Refreshes which can not be queued are skipped by the sources.
+     *
+     * @return Refresh executor.
+     */
+    private ExecutorService getRefreshExecutor() {
+
+        if (refreshExecutor == null) {
+            synchronized (this) {
+                if (refreshExecutor == null) {
+                    int poolSize = ConfigPropertyUtil.getPositiveIntProperty(JWKS_REFRESH_POOL_SIZE_XPATH,
+                            DEFAULT_JWKS_REFRESH_POOL_SIZE);
+                    int queueSize = ConfigPropertyUtil.getPositiveIntProperty(JWKS_MAX_SOURCES_XPATH,
+                            DEFAULT_JWKS_MAX_SOURCES);
+                    AtomicInteger threadCount = new AtomicInteger();
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize,
+                            JWKS_REFRESH_THREAD_KEEP_ALIVE_TIME, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueSize),
+                            runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        JWKS_REFRESH_THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    executor.allowCoreThreadTimeOut(true);
+                    refreshExecutor = executor;
+                }
+            }
+        }
+        return refreshExecutor;
     }
 
     /**
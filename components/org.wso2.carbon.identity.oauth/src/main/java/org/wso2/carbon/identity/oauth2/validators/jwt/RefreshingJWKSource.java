@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.RemoteKeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import com.nimbusds.jose.util.X509CertUtils;
+import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.security.cert.X509Certificate;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JWK source of a single jwks_uri which keeps the last retrieved JWK set in memory, together with the X509
+ * certificates parsed from the "x5c" parameter of its keys.
+ * <p>
+ * Once the key set is older than the refresh interval it is refreshed on the given executor while request threads
+ * keep using the current key set. The current key set is served this way until it reaches the max stale time, after
+ * which its keys are no longer used and a request thread retrieves the key set itself, as it does for the first
+ * retrieval. A "kid" which is not in the current key set triggers an immediate retrieval by the request thread, while
+ * concurrent requests keep using the current key set instead of waiting for it. Retrievals, including failed ones,
+ * are done at most once per min refetch interval, so that neither an unreachable endpoint nor unknown key ids hammer
+ * the remote endpoint.
+ */
+public class RefreshingJWKSource implements JWKSource<SecurityContext> {
+
+    private static final Log log = LogFactory.getLog(RefreshingJWKSource.class);
+
+    private final URL jwksUrl;
+    private final ResourceRetriever resourceRetriever;
+    private final Executor refreshExecutor;
+    private final long refreshIntervalInMillis;
+    private final long maxStaleTimeInMillis;
+    private final long minRefetchIntervalInMillis;
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+    private final Map<JWSAlgorithm, ConfigurableJWTProcessor<SecurityContext>> jwtProcessors =
+            new ConcurrentHashMap<>();
+    private final ReentrantLock retrievalLock = new ReentrantLock();
+    private volatile JWKSetSnapshot snapshot;
+    private volatile long lastRetrievalTime;
+
+    RefreshingJWKSource(URL jwksUrl, ResourceRetriever resourceRetriever, Executor refreshExecutor,
+                        long refreshIntervalInMillis, long maxStaleTimeInMillis, long minRefetchIntervalInMillis) {
+
+        this.jwksUrl = jwksUrl;
+        this.resourceRetriever = resourceRetriever;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshIntervalInMillis = refreshIntervalInMillis;
+        this.maxStaleTimeInMillis = Math.max(maxStaleTimeInMillis, refreshIntervalInMillis);
+        this.minRefetchIntervalInMillis = minRefetchIntervalInMillis;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+
+        JWKSetSnapshot currentSnapshot = getSnapshot();
+        List<JWK> matchingKeys = jwkSelector.select(currentSnapshot.jwkSet);
+        if (matchingKeys.isEmpty()) {
+            String kid = getKeyId(jwkSelector.getMatcher());
+            JWKSetSnapshot refetchedSnapshot = refetchOnUnknownKeyId(currentSnapshot, kid);
+            if (refetchedSnapshot != currentSnapshot) {
+                matchingKeys = jwkSelector.select(refetchedSnapshot.jwkSet);
+            }
+        }
+        return matchingKeys;
+    }
+
+    /**
+     * Returns the X509 certificate parsed from the "x5c" parameter of the key with the given key id.
+     *
+     * @param kid Key id.
+     * @return X509 certificate of the key or null if the key does not have a certificate chain.
+     * @throws KeySourceException If the key set could not be retrieved or no key matches the key id.
+     */
+    public X509Certificate getCertificate(String kid) throws KeySourceException {
+
+        JWKSetSnapshot currentSnapshot = getSnapshot();
+        if (currentSnapshot.jwkSet.getKeyByKeyId(kid) == null) {
+            currentSnapshot = refetchOnUnknownKeyId(currentSnapshot, kid);
+            if (currentSnapshot.jwkSet.getKeyByKeyId(kid) == null) {
+                throw new KeySourceException("No matching keys found in JWKS endpoint: " + jwksUrl);
+            }
+        }
+        return currentSnapshot.certificates.get(kid);
+    }
+
+    /**
+     * Schedules a retrieval of the key set, e.g. after a signature validation failure. The current key set is served
+     * until the retrieval completes.
+     */
+    public void refresh() {
+
+        scheduleRefresh();
+    }
+
+    /**
+     * Returns the JWT processor which validates the signatures of the given algorithm against this key set, creating
+     * it on first use. Processors are fully configured when they are created and never modified afterwards, hence
+     * they are shared by concurrent validations. Only the processors of the RSA algorithms are kept, so that the
+     * processors held per key set are bounded.
+     *
+     * @param algorithm Expected JWS algorithm.
+     * @return JWT processor.
+     */
+    ConfigurableJWTProcessor<SecurityContext> getJWTProcessor(JWSAlgorithm algorithm) {
+
+        if (!JWSAlgorithm.Family.RSA.contains(algorithm)) {
+            return createJWTProcessor(algorithm);
+        }
+        return jwtProcessors.computeIfAbsent(algorithm, this::createJWTProcessor);
+    }
+
+    private ConfigurableJWTProcessor<SecurityContext> createJWTProcessor(JWSAlgorithm algorithm) {
+
+        /* Set up a JWT processor to parse the tokens and then check their signature and validity time window
+        (bounded by the "iat", "nbf" and "exp" claims), with a key selector to feed matching public keys. */
+        ConfigurableJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithm, this));
+        return jwtProcessor;
+    }
+
+    private JWKSetSnapshot getSnapshot() throws KeySourceException {
+
+        JWKSetSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null) {
+            long age = System.currentTimeMillis() - currentSnapshot.retrievedTime;
+            if (age > refreshIntervalInMillis && age <= maxStaleTimeInMillis) {
+                // The current key set is served until the refresh completes.
+                scheduleRefresh();
+            }
+            if (age <= maxStaleTimeInMillis) {
+                return currentSnapshot;
+            }
+        }
+        retrievalLock.lock();
+        try {
+            if (snapshot != currentSnapshot) {
+                // Another thread has already retrieved a newer key set.
+                return snapshot;
+            }
+            if (System.currentTimeMillis() - lastRetrievalTime < minRefetchIntervalInMillis) {
+                throw new KeySourceException("Couldn't retrieve remote JWK set from: " + jwksUrl +
+                        ". The retrieval will be retried after the min refetch interval.");
+            }
+            if (currentSnapshot != null && log.isDebugEnabled()) {
+                log.debug("JWKS of: " + jwksUrl + " has reached the max stale time. Retrieving the key set.");
+            }
+            return retrieve();
+        } finally {
+            retrievalLock.unlock();
+        }
+    }
+
+    private JWKSetSnapshot refetchOnUnknownKeyId(JWKSetSnapshot currentSnapshot, String kid)
+            throws KeySourceException {
+
+        if (StringUtils.isEmpty(kid)) {
+            return currentSnapshot;
+        }
+        if (System.currentTimeMillis() - lastRetrievalTime < minRefetchIntervalInMillis) {
+            if (log.isDebugEnabled()) {
+                log.debug("Key id: " + kid + " is not found in the JWKS of: " + jwksUrl + ". Skipping the " +
+                        "retrieval as the key set was retrieved recently.");
+            }
+            return currentSnapshot;
+        }
+        // Requests do not wait for a retrieval in progress, but keep using the current key set.
+        if (!retrievalLock.tryLock()) {
+            return currentSnapshot;
+        }
+        try {
+            if (snapshot != currentSnapshot) {
+                // Another thread has already retrieved a newer key set.
+                return snapshot;
+            }
+            if (System.currentTimeMillis() - lastRetrievalTime < minRefetchIntervalInMillis) {
+                return currentSnapshot;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Key id: " + kid + " is not found in the JWKS of: " + jwksUrl + ". Retrieving the key set.");
+            }
+            return retrieve();
+        } finally {
+            retrievalLock.unlock();
+        }
+    }
+
+    private void scheduleRefresh() {
+
+        // A failed refresh is not retried before the min refetch interval elapses.
+        if (System.currentTimeMillis() - lastRetrievalTime < minRefetchIntervalInMillis
+                || !refreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                retrievalLock.lock();
+                try {
+                    retrieve();
+                } catch (KeySourceException e) {
+                    log.warn("Error while refreshing the JWKS of: " + jwksUrl + ". The current key set will be " +
+                            "used until the next attempt.", e);
+                } finally {
+                    retrievalLock.unlock();
+                    refreshInProgress.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshInProgress.set(false);
+            log.warn("Unable to schedule the refresh of the JWKS of: " + jwksUrl, e);
+        }
+    }
+
+    /**
+     * Retrieves and parses the key set. Callers must hold the retrieval lock.
+     */
+    private JWKSetSnapshot retrieve() throws KeySourceException {
+
+        lastRetrievalTime = System.currentTimeMillis();
+        JWKSet jwkSet;
+        try {
+            Resource resource = resourceRetriever.retrieveResource(jwksUrl);
+            jwkSet = JWKSet.parse(resource.getContent());
+        } catch (IOException e) {
+            throw new RemoteKeySourceException("Couldn't retrieve remote JWK set: " + e.getMessage(), e);
+        } catch (ParseException e) {
+            throw new RemoteKeySourceException("Couldn't parse remote JWK set: " + e.getMessage(), e);
+        }
+        JWKSetSnapshot retrievedSnapshot = new JWKSetSnapshot(jwkSet, System.currentTimeMillis());
+        snapshot = retrievedSnapshot;
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieved " + jwkSet.getKeys().size() + " keys from the JWKS endpoint: " + jwksUrl);
+        }
+        return retrievedSnapshot;
+    }
+
+    private static String getKeyId(JWKMatcher jwkMatcher) {
+
+        if (jwkMatcher == null || CollectionUtils.isEmpty(jwkMatcher.getKeyIDs())) {
+            return null;
+        }
+        return jwkMatcher.getKeyIDs().iterator().next();
+    }
+
+    /**
+     * Immutable view of a retrieved key set.
+     */
+    private static final class JWKSetSnapshot {
+
+        private final JWKSet jwkSet;
+        private final Map<String, X509Certificate> certificates;
+        private final long retrievedTime;
+
+        private JWKSetSnapshot(JWKSet jwkSet, long retrievedTime) {
+
+            this.jwkSet = jwkSet;
+            this.retrievedTime = retrievedTime;
+            Map<String, X509Certificate> parsedCertificates = new HashMap<>();
+            for (JWK jwk : jwkSet.getKeys()) {
+                if (jwk.getKeyID() == null || CollectionUtils.isEmpty(jwk.getX509CertChain())) {
+                    continue;
+                }
+                X509Certificate certificate = X509CertUtils.parse(jwk.getX509CertChain().get(0).decode());
+                if (certificate != null) {
+                    parsedCertificates.put(jwk.getKeyID(), certificate);
+                }
+            }
+            this.certificates = Collections.unmodifiableMap(parsedCertificates);
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.oauth2.bean.Scope;
 import org.wso2.carbon.identity.oauth2.bean.ScopeBinding;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.identity.oauth2.util.ScopePatternMatcher;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.util.Arrays;
@@ -108,12 +109,7 @@ public abstract class AbstractRoleBasedScopeIssuer {
      */
     public boolean isWhiteListedScope(List<String> scopeSkipList, String scope) {
 
-        for (String scopeTobeSkipped : scopeSkipList) {
-            if (scope.matches(scopeTobeSkipped)) {
-                return true;
-            }
-        }
-        return false;
+        return ScopePatternMatcher.getInstance(scopeSkipList).matches(scope);
     }
 
     /**
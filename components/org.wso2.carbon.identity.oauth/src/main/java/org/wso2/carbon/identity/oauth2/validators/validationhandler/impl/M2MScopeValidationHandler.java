@@ -18,8 +18,11 @@
 
 package org.wso2.carbon.identity.oauth2.validators.validationhandler.impl;
 
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
+import org.wso2.carbon.identity.oauth2.util.ScopeSet;
+import org.wso2.carbon.identity.oauth2.util.ScopeVocabulary;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.ScopeValidationContext;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.ScopeValidationHandler;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.ScopeValidationHandlerException;
@@ -60,7 +63,9 @@ public class M2MScopeValidationHandler implements ScopeValidationHandler {
            return requestedScopes.stream().filter(internalOrgScopes::contains).collect(Collectors.toList());
        }
 
-        return requestedScopes.stream().filter(appAuthorizedScopes::contains).collect(Collectors.toList());
+        ScopeVocabulary vocabulary = ScopeVocabulary.getInstance(
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+        return ScopeSet.of(vocabulary, appAuthorizedScopes).filter(requestedScopes);
     }
 
     @Override
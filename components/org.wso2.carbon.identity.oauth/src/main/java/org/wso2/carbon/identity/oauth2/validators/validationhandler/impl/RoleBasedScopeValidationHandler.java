@@ -33,6 +33,9 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.util.AuthzUtil;
+import org.wso2.carbon.identity.oauth2.util.RoleScopeIndex;
+import org.wso2.carbon.identity.oauth2.util.ScopeSet;
+import org.wso2.carbon.identity.oauth2.util.ScopeVocabulary;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.ScopeValidationContext;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.ScopeValidationHandler;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.ScopeValidationHandlerClientException;
@@ -44,7 +47,10 @@ import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagemen
 import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -80,27 +86,38 @@ public class RoleBasedScopeValidationHandler implements ScopeValidationHandler {
                 tenantDomain = resolveTenantDomainByOrgId(scopeValidationContext.getAuthenticatedUser()
                         .getAccessingOrganization());
             }
-            List<String> filteredRoleIds = getFilteredRoleIds(userRoles, scopeValidationContext.getAppId(),
-                    tenantDomain);
-            if (filteredRoleIds.isEmpty()) {
+            ScopeVocabulary vocabulary = ScopeVocabulary.getInstance(IdentityTenantUtil.getTenantId(tenantDomain));
+            ScopeSet associatedScopeSet;
+            if (RoleScopeIndex.getInstance().isEnabled()) {
+                RoleScopeIndex.TenantIndex tenantIndex = RoleScopeIndex.getInstance().getTenantIndex(tenantDomain,
+                        vocabulary);
+                RoleScopeIndex.TenantIndex.Builder tenantIndexBuilder = tenantIndex.toBuilder();
+                associatedScopeSet = getAssociatedScopeSetFromIndex(userRoles, scopeValidationContext.getAppId(),
+                        tenantDomain, tenantIndexBuilder);
+                RoleScopeIndex.getInstance().update(tenantDomain, tenantIndex, tenantIndexBuilder);
+            } else {
+                List<String> filteredRoleIds = getFilteredRoleIds(userRoles, scopeValidationContext.getAppId(),
+                        tenantDomain);
+                associatedScopeSet = filteredRoleIds.isEmpty() ? null : ScopeSet.of(vocabulary,
+                        AuthzUtil.getAssociatedScopesForRoles(filteredRoleIds, tenantDomain));
+            }
+            if (associatedScopeSet == null) {
                 return new ArrayList<>();
             }
-            List<String> associatedScopes = AuthzUtil.getAssociatedScopesForRoles(filteredRoleIds, tenantDomain);
             /*
             TODO: Refactor this to drop internal_ scopes when getting associated scopes for roles.
             When user is not accessing the resident organization, retain only the internal_org_ scopes
             from system scopes.
             */
-            if (StringUtils.isNotBlank(scopeValidationContext.getAuthenticatedUser().getAccessingOrganization())) {
-                List<String> internalOrgScopes = associatedScopes.stream()
-                        .filter(scope -> scope.startsWith(Oauth2ScopeConstants.INTERNAL_ORG_SCOPE_PREFIX))
-                        .collect(Collectors.toList());
-                associatedScopes.removeIf(scope -> scope.startsWith(Oauth2ScopeConstants.INTERNAL_SCOPE_PREFIX));
-                associatedScopes.addAll(internalOrgScopes);
-            }
-            List<String> filteredScopes = appAuthorizedScopes.stream().filter(associatedScopes::contains)
+            boolean retainOnlyInternalOrgScopes = StringUtils.isNotBlank(
+                    scopeValidationContext.getAuthenticatedUser().getAccessingOrganization());
+            ScopeSet appAuthorizedScopeSet = ScopeSet.of(vocabulary, appAuthorizedScopes);
+            return requestedScopes.stream()
+                    .filter(scope -> appAuthorizedScopeSet.contains(scope) && associatedScopeSet.contains(scope))
+                    .filter(scope -> !retainOnlyInternalOrgScopes
+                            || !scope.startsWith(Oauth2ScopeConstants.INTERNAL_SCOPE_PREFIX)
+                            || scope.startsWith(Oauth2ScopeConstants.INTERNAL_ORG_SCOPE_PREFIX))
                     .collect(Collectors.toList());
-            return requestedScopes.stream().filter(filteredScopes::contains).collect(Collectors.toList());
         } catch (IdentityOAuth2ClientException e) {
             throw new ScopeValidationHandlerClientException(e.getMessage(), e);
         } catch (IdentityOAuth2Exception | IdentityRoleManagementException e) {
@@ -109,6 +126,54 @@ public class RoleBasedScopeValidationHandler implements ScopeValidationHandler {
         }
     }
 
+    /**
+     * Get the scopes granted to the given roles for the application from the role scope index, loading the roles of
+     * the application and the scopes of the roles which are not indexed yet.
+     *
+     * @param roleIds      Role ids of the user.
+     * @param appId        App id.
+     * @param tenantDomain Tenant domain.
+     * @param tenantIndex  Builder on the role scope index of the tenant, which collects the loaded entries.
+     * @return Union of the scopes of the roles associated with the app, or null if none of the roles is associated
+     * with the app.
+     * @throws ScopeValidationHandlerException if an error occurs while retrieving the role id list of the app.
+     */
+    private ScopeSet getAssociatedScopeSetFromIndex(List<String> roleIds, String appId, String tenantDomain,
+                                                    RoleScopeIndex.TenantIndex.Builder tenantIndex)
+            throws ScopeValidationHandlerException, IdentityOAuth2Exception, IdentityRoleManagementException {
+
+        Set<String> rolesAssociatedWithApp = tenantIndex.getApplicationRoleIds(appId);
+        if (rolesAssociatedWithApp == null) {
+            String allowedAudience = getApplicationAllowedAudience(appId, tenantDomain);
+            if (RoleConstants.APPLICATION.equalsIgnoreCase(allowedAudience)) {
+                rolesAssociatedWithApp = new HashSet<>(getRoleIdsAssociatedWithApp(appId));
+            } else {
+                rolesAssociatedWithApp = tenantIndex.getOrganizationRoleIds();
+                if (rolesAssociatedWithApp == null) {
+                    rolesAssociatedWithApp = tenantIndex.putOrganizationRoleIds(
+                            getAllOrganizationRoles(tenantDomain).stream()
+                                    .map(RoleBasicInfo::getId)
+                                    .collect(Collectors.toSet()));
+                }
+            }
+            tenantIndex.putApplicationRoleIds(appId, rolesAssociatedWithApp);
+        }
+
+        List<ScopeSet> roleScopeSets = new ArrayList<>();
+        for (String roleId : roleIds) {
+            if (!rolesAssociatedWithApp.contains(roleId)) {
+                continue;
+            }
+            ScopeSet roleScopeSet = tenantIndex.getRoleScopes(roleId);
+            if (roleScopeSet == null) {
+                roleScopeSet = tenantIndex.putRoleScopes(roleId,
+                        AuthzUtil.getAssociatedScopesForRoles(Collections.singletonList(roleId), tenantDomain));
+            }
+            roleScopeSets.add(roleScopeSet);
+        }
+        return roleScopeSets.isEmpty() ? null : ScopeSet.union(tenantIndex.getVocabulary(), roleScopeSets);
+    }
+
     /**
      * Get the filtered role ids.
      *
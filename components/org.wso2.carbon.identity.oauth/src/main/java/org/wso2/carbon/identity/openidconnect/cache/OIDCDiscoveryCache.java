@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Implements a cache to store the serialized OIDC discovery document of a tenant.
+ */
+public class OIDCDiscoveryCache extends BaseCache<Integer, OIDCDiscoveryCacheEntry> {
+
+    public static final String OIDC_DISCOVERY_CACHE = "OIDCDiscoveryCache";
+    private static volatile OIDCDiscoveryCache instance;
+
+    private OIDCDiscoveryCache() {
+
+        super(OIDC_DISCOVERY_CACHE);
+    }
+
+    public static OIDCDiscoveryCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (OIDCDiscoveryCache.class) {
+                if (instance == null) {
+                    instance = new OIDCDiscoveryCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public void addDiscoveryDocument(int tenantId, OIDCDiscoveryCacheEntry oidcDiscoveryCacheEntry) {
+
+        super.addToCache(tenantId, oidcDiscoveryCacheEntry, tenantId);
+    }
+
+    public void clearDiscoveryDocument(int tenantId) {
+
+        super.clearCacheEntry(tenantId, tenantId);
+    }
+
+    public OIDCDiscoveryCacheEntry getDiscoveryDocument(int tenantId) {
+
+        return super.getValueFromCache(tenantId, tenantId);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache Entry which will use in {@link OIDCDiscoveryCache}. Holds the discovery document exactly as it is written to
+ * the response, together with the entity tag derived from it.
+ */
+public class OIDCDiscoveryCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -3048710226592563419L;
+
+    private final byte[] document;
+    private final String eTag;
+
+    public OIDCDiscoveryCacheEntry(byte[] document, String eTag) {
+
+        this.document = document;
+        this.eTag = eTag;
+    }
+
+    /**
+     * Returns the UTF-8 encoded discovery document. The returned array is shared and must not be modified.
+     *
+     * @return Serialized discovery document.
+     */
+    public byte[] getDocument() {
+
+        return document;
+    }
+
+    /**
+     * Returns the quoted entity tag of the document, ready to be used as the ETag header value.
+     *
+     * @return Quoted entity tag.
+     */
+    public String getETag() {
+
+        return eTag;
+    }
+}
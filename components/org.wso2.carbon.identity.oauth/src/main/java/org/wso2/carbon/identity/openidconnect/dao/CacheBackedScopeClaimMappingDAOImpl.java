@@ -24,7 +24,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.ScopeRegistry;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryCache;
 import org.wso2.carbon.identity.openidconnect.cache.OIDCScopeClaimCache;
 import org.wso2.carbon.identity.openidconnect.cache.OIDCScopeClaimCacheEntry;
 
@@ -39,6 +41,7 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
 
     private static final Log log = LogFactory.getLog(CacheBackedScopeClaimMappingDAOImpl.class);
     private final OIDCScopeClaimCache oidcScopeClaimCache = OIDCScopeClaimCache.getInstance();
+    private final OIDCDiscoveryCache oidcDiscoveryCache = OIDCDiscoveryCache.getInstance();
     private final ScopeClaimMappingDAO scopeClaimMappingDAOImpl = OAuth2ServiceComponentHolder
             .getInstance().getScopeClaimMappingDAO();
 
@@ -46,6 +49,8 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
     public void initScopeClaimMapping(int tenantId, List<ScopeDTO> scopeClaims) throws IdentityOAuth2Exception {
 
         scopeClaimMappingDAOImpl.initScopeClaimMapping(tenantId, scopeClaims);
+        oidcDiscoveryCache.clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
         OIDCScopeClaimCacheEntry oidcScopeClaimCacheEntry = new OIDCScopeClaimCacheEntry();
         oidcScopeClaimCacheEntry.setScopeClaimMapping(scopeClaims);
         oidcScopeClaimCache.addScopeClaimMap(tenantId, oidcScopeClaimCacheEntry);
@@ -58,6 +63,8 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
     public void addScopes(int tenantId, List<ScopeDTO> scopeClaimsMap) throws IdentityOAuth2Exception {
 
         scopeClaimMappingDAOImpl.addScopes(tenantId, scopeClaimsMap);
+        oidcDiscoveryCache.clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
         OIDCScopeClaimCacheEntry oidcScopeClaimCacheEntry = new OIDCScopeClaimCacheEntry();
         oidcScopeClaimCacheEntry.setScopeClaimMapping(scopeClaimsMap);
         oidcScopeClaimCache.addScopeClaimMap(tenantId, oidcScopeClaimCacheEntry);
@@ -71,6 +78,8 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
 
         oidcScopeClaimCache.clearScopeClaimMap(tenantId);
         scopeClaimMappingDAOImpl.addScope(tenantId, scope, claimsList);
+        oidcDiscoveryCache.clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("The cache oidcScopeClaimCache is cleared for the tenant : " + tenantId);
         }
@@ -81,6 +90,8 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
 
         oidcScopeClaimCache.clearScopeClaimMap(tenantId);
         scopeClaimMappingDAOImpl.addScope(scope, tenantId);
+        oidcDiscoveryCache.clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("The cache oidcScopeClaimCache is cleared for the tenant : " + tenantId);
         }
@@ -98,6 +109,8 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
     public void deleteScope(String scope, int tenantId) throws IdentityOAuth2Exception {
 
         scopeClaimMappingDAOImpl.deleteScope(scope, tenantId);
+        oidcDiscoveryCache.clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
         oidcScopeClaimCache.clearScopeClaimMap(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("OIDC scope claims mapping deleted from the oidcScopeClaimCache for tenant: " + tenantId);
@@ -109,6 +122,8 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
             throws IdentityOAuth2Exception {
 
         scopeClaimMappingDAOImpl.updateScope(scope, tenantId, addClaims, deleteClaims);
+        oidcDiscoveryCache.clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
         oidcScopeClaimCache.clearScopeClaimMap(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("The cache oidcScopeClaimCache is cleared for the tenant : " + tenantId);
@@ -119,6 +134,8 @@ public class CacheBackedScopeClaimMappingDAOImpl implements ScopeClaimMappingDAO
     public void updateScope(ScopeDTO scope, int tenantId) throws IdentityOAuth2Exception {
 
         scopeClaimMappingDAOImpl.updateScope(scope, tenantId);
+        oidcDiscoveryCache.clearDiscoveryDocument(tenantId);
+        ScopeRegistry.getInstance().invalidate(tenantId);
         oidcScopeClaimCache.clearScopeClaimMap(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("The cache oidcScopeClaimCache is cleared for the tenant : " + tenantId);
@@ -51,6 +51,7 @@ import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientExcepti
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDAO;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth.dto.OAuthAppRegistrationResult;
 import org.wso2.carbon.identity.oauth.dto.OAuthAppRevocationRequestDTO;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.carbon.identity.oauth.dto.OAuthRevocationResponseDTO;
@@ -101,6 +102,7 @@ import java.util.UUID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
@@ -331,6 +333,51 @@ public class OAuthAdminServiceImplTest {
         }
     }
 
+    @Test
+    public void testRegisterOAuthApplicationsDataFallsBackToSingleInserts() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<OAuthComponentServiceHolder> oAuthComponentServiceHolder =
+                     mockStatic(OAuthComponentServiceHolder.class)) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain("carbon.super");
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(-1234);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername("admin");
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setUserRealm(userRealm);
+
+            List<OAuthConsumerAppDTO> applications = new ArrayList<>();
+            for (String appName : new String[]{"SAMPLE_APP1", "SAMPLE_APP2"}) {
+                OAuthConsumerAppDTO oAuthConsumerAppDTO = new OAuthConsumerAppDTO();
+                oAuthConsumerAppDTO.setApplicationName(appName);
+                oAuthConsumerAppDTO.setCallbackUrl("http://localhost:8080/acsUrl");
+                oAuthConsumerAppDTO.setGrantTypes("");
+                oAuthConsumerAppDTO.setUsername("admin");
+                oAuthConsumerAppDTO.setOAuthVersion(OAuthConstants.OAuthVersions.VERSION_2);
+                oAuthConsumerAppDTO.setBackChannelLogoutUrl(DEFAULT_BACKCHANNEL_LOGOUT_URL);
+                applications.add(oAuthConsumerAppDTO);
+            }
+
+            // The name clash of the second application is only detected when it is inserted.
+            try (MockedConstruction<OAuthAppDAO> mockedConstruction = Mockito.mockConstruction(OAuthAppDAO.class,
+                    (mock, context) -> {
+                        doThrow(new IdentityOAuthAdminException("Duplicate application.")).when(mock)
+                                .addOAuthApplications(any());
+                        doThrow(new IdentityOAuthAdminException("Duplicate application.")).when(mock)
+                                .addOAuthApplication(argThat(app -> app != null &&
+                                        "SAMPLE_APP2".equals(app.getApplicationName())));
+                    })) {
+                mockUserstore(identityUtil, oAuthComponentServiceHolder);
+
+                List<OAuthAppRegistrationResult> results =
+                        new OAuthAdminServiceImpl().registerAndRetrieveOAuthApplicationsData(applications, false);
+                Assert.assertEquals(results.size(), 2);
+                Assert.assertTrue(results.get(0).isSuccess());
+                Assert.assertEquals(results.get(0).getApplication().getApplicationName(), "SAMPLE_APP1");
+                Assert.assertFalse(results.get(1).isSuccess());
+                verify(mockedConstruction.constructed().get(0), times(2)).addOAuthApplication(any());
+            }
+        }
+    }
+
 
     @Test
     public void testGetAllOAuthApplicationData() throws Exception {
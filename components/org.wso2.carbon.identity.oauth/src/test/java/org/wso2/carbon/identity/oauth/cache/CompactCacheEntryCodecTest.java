@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.oauth2.model.OAuth2Parameters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompactCacheEntryCodec}.
+ */
+public class CompactCacheEntryCodecTest {
+
+    private static final String[] CLAIMS = {"username", "emailaddress", "givenname", "lastname", "country", "mobile",
+            "groups", "roles", "userid", "dob"};
+
+    @DataProvider(name = "compressionThresholds")
+    public Object[][] compressionThresholds() {
+
+        return new Object[][]{{-1}, {0}};
+    }
+
+    @Test(dataProvider = "compressionThresholds")
+    public void testAuthorizationGrantCacheEntryRoundTrip(int compressionThreshold) throws Exception {
+
+        AuthorizationGrantCacheEntry entry = buildAuthorizationGrantCacheEntry();
+
+        AuthorizationGrantCacheEntry decodedEntry = (AuthorizationGrantCacheEntry) CompactCacheEntryCodec.decode(
+                CompactCacheEntryCodec.encode(entry, compressionThreshold));
+
+        assertEquals(decodedEntry.getCodeId(), entry.getCodeId());
+        assertEquals(decodedEntry.getAuthorizationCode(), entry.getAuthorizationCode());
+        assertEquals(decodedEntry.getUserAttributes(), entry.getUserAttributes());
+        for (Map.Entry<ClaimMapping, String> userAttribute : entry.getUserAttributes().entrySet()) {
+            assertEquals(decodedEntry.getUserAttributes().get(userAttribute.getKey()), userAttribute.getValue());
+        }
+        assertEquals(decodedEntry.getNonceValue(), entry.getNonceValue());
+        assertEquals(decodedEntry.getPkceCodeChallenge(), entry.getPkceCodeChallenge());
+        assertEquals(decodedEntry.getPkceCodeChallengeMethod(), entry.getPkceCodeChallengeMethod());
+        assertEquals(decodedEntry.getAcrValue(), entry.getAcrValue());
+        assertEquals(decodedEntry.getAmrList(), entry.getAmrList());
+        assertEquals(decodedEntry.getAuthTime(), entry.getAuthTime());
+        assertEquals(decodedEntry.getMaxAge(), entry.getMaxAge());
+        assertEquals(decodedEntry.getSubjectClaim(), entry.getSubjectClaim());
+        assertEquals(decodedEntry.getOidcSessionId(), entry.getOidcSessionId());
+        assertEquals(decodedEntry.isRequestObjectFlow(), entry.isRequestObjectFlow());
+        assertEquals(decodedEntry.getAudiences(), entry.getAudiences());
+        assertEquals(decodedEntry.getCustomClaims(), entry.getCustomClaims());
+        assertEquals(decodedEntry.getCustomClaims().getClass(), LinkedHashMap.class);
+        assertNull(decodedEntry.getRequestObject());
+        assertNull(decodedEntry.getTokenBindingValue());
+    }
+
+    @Test(dataProvider = "compressionThresholds")
+    public void testSessionDataCacheEntryRoundTrip(int compressionThreshold) throws Exception {
+
+        AuthenticatedUser user = new AuthenticatedUser();
+        user.setUserName("admin");
+        user.setTenantDomain("carbon.super");
+        user.setUserStoreDomain("PRIMARY");
+        OAuth2Parameters oAuth2Parameters = new OAuth2Parameters();
+        oAuth2Parameters.setClientId("client-id");
+        oAuth2Parameters.setScopes(new HashSet<>(Arrays.asList("openid", "profile")));
+
+        SessionDataCacheEntry entry = new SessionDataCacheEntry();
+        entry.setLoggedInUser(user);
+        entry.setoAuth2Parameters(oAuth2Parameters);
+        entry.setAuthTime(System.currentTimeMillis());
+        entry.setQueryString("response_type=code&client_id=client-id");
+        entry.setRemoveOnConsume(true);
+        entry.getParamMap().put("scope", new String[]{"openid profile"});
+        entry.getEndpointParams().put("prompt", "login");
+
+        SessionDataCacheEntry decodedEntry = (SessionDataCacheEntry) CompactCacheEntryCodec.decode(
+                CompactCacheEntryCodec.encode(entry, compressionThreshold));
+
+        assertEquals(decodedEntry.getLoggedInUser().getUserName(), "admin");
+        assertEquals(decodedEntry.getoAuth2Parameters().getClientId(), "client-id");
+        assertEquals(decodedEntry.getoAuth2Parameters().getScopes(), oAuth2Parameters.getScopes());
+        assertEquals(decodedEntry.getAuthTime(), entry.getAuthTime());
+        assertEquals(decodedEntry.getQueryString(), entry.getQueryString());
+        assertTrue(decodedEntry.isRemoveOnConsume());
+        assertEquals(decodedEntry.getParamMap().get("scope"), new String[]{"openid profile"});
+        assertEquals(decodedEntry.getEndpointParams().get("prompt"), "login");
+        assertNull(decodedEntry.getAuthzReqMsgCtx());
+    }
+
+    @Test
+    public void testEncodedEntryIsSmallerThanJavaSerialization() throws Exception {
+
+        AuthorizationGrantCacheEntry entry = buildAuthorizationGrantCacheEntry();
+
+        int javaSerializedSize = javaSerialize(entry).length;
+        int compactSize = CompactCacheEntryCodec.encode(entry, -1).length;
+        int compressedSize = CompactCacheEntryCodec.encode(entry, 0).length;
+
+        assertTrue(compactSize < javaSerializedSize / 2, "Compact size: " + compactSize + ", Java serialized " +
+                "size: " + javaSerializedSize);
+        assertTrue(compressedSize < compactSize, "Compressed size: " + compressedSize + ", compact size: " +
+                compactSize);
+    }
+
+    @Test
+    public void testUnwrapEntryStoredWithDefaultSerialization() {
+
+        AuthorizationGrantCacheEntry entry = new AuthorizationGrantCacheEntry();
+        assertSame(CompactCacheEntryCodec.unwrap(entry), entry);
+        assertNull(CompactCacheEntryCodec.unwrap(null));
+    }
+
+    @Test
+    public void testUnwrapCorruptedEntry() {
+
+        assertNull(CompactCacheEntryCodec.unwrap(new CompactCacheEntry(new byte[]{CompactCacheEntryCodec.VERSION_1,
+                0, 1, 100}, 0)));
+        assertNull(CompactCacheEntryCodec.unwrap(new CompactCacheEntry(new byte[]{99, 0, 1}, 0)));
+    }
+
+    @Test
+    public void testUnwrapEntryWithInvalidCompressedLength() {
+
+        // Compressed entries claiming an inflated length of Integer.MAX_VALUE and of a negative value.
+        assertNull(CompactCacheEntryCodec.unwrap(new CompactCacheEntry(new byte[]{CompactCacheEntryCodec.VERSION_1,
+                1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x78, (byte) 0x9C}, 0)));
+        assertNull(CompactCacheEntryCodec.unwrap(new CompactCacheEntry(new byte[]{CompactCacheEntryCodec.VERSION_1,
+                1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 0x78, (byte) 0x9C}, 0)));
+        // A small compressed section can not inflate to a large payload.
+        assertNull(CompactCacheEntryCodec.unwrap(new CompactCacheEntry(new byte[]{CompactCacheEntryCodec.VERSION_1,
+                1, 1, (byte) 0x80, (byte) 0x80, 0x40, 0x78, (byte) 0x9C}, 0)));
+    }
+
+    /**
+     * The codec writes the fields of the entries one by one. A new field must be added to the codec, with a new
+     * encoding version, before it is added to this list.
+     */
+    @Test
+    public void testAllFieldsAreEncoded() {
+
+        assertEquals(getInstanceFields(AuthorizationGrantCacheEntry.class), new HashSet<>(Arrays.asList(
+                "codeId", "authorizationCode", "tokenId", "userAttributes", "nonceValue", "pkceCodeChallenge",
+                "pkceCodeChallengeMethod", "acrValue", "selectedAcrValue", "amrList", "essentialClaims", "authTime",
+                "maxAge", "requestObject", "hasNonOIDCClaims", "mappedRemoteClaims", "subjectClaim",
+                "tokenBindingValue", "sessionContextIdentifier", "oidcSessionId", "isRequestObjectFlow",
+                "accessTokenExtendedAttributes", "isApiBasedAuthRequest", "impersonator", "federatedTokens",
+                "audiences", "customClaims", "isPreIssueAccessTokenActionsExecuted")));
+        assertEquals(getInstanceFields(SessionDataCacheEntry.class), new HashSet<>(Arrays.asList(
+                "loggedInUser", "oAuth2Parameters", "authzReqMsgCtx", "authTime", "authenticatedIdPs",
+                "essentialClaims", "sessionContextIdentifier", "removeOnConsume", "queryString", "paramMap",
+                "endpointParams", "federatedTokens", "mappedRemoteClaims")));
+    }
+
+    private AuthorizationGrantCacheEntry buildAuthorizationGrantCacheEntry() {
+
+        Map<ClaimMapping, String> userAttributes = new HashMap<>();
+        for (String claim : CLAIMS) {
+            userAttributes.put(ClaimMapping.build("http://wso2.org/claims/" + claim, "http://wso2.org/claims/" +
+                    claim, null, false), "value of " + claim);
+        }
+        AuthorizationGrantCacheEntry entry = new AuthorizationGrantCacheEntry(userAttributes);
+        entry.setCodeId(UUID.randomUUID().toString());
+        entry.setAuthorizationCode(UUID.randomUUID().toString());
+        entry.setNonceValue("nonce");
+        entry.setPkceCodeChallenge("E9Melhoa2OwvFrEMTJguCHaoeK1t8URWbuGJSstw-cM");
+        entry.setPkceCodeChallengeMethod("S256");
+        LinkedHashSet<String> acrValues = new LinkedHashSet<>();
+        acrValues.add("urn:mace:incommon:iap:silver");
+        entry.setAcrValue(acrValues);
+        entry.addAmr("pwd");
+        entry.setAuthTime(System.currentTimeMillis());
+        entry.setMaxAge(3600);
+        entry.setSubjectClaim("admin");
+        entry.setOidcSessionId(UUID.randomUUID().toString());
+        entry.setRequestObjectFlow(true);
+        entry.setAudiences(new ArrayList<>(Arrays.asList("client-id", "https://api.example.com")));
+        Map<String, Object> customClaims = new LinkedHashMap<>();
+        customClaims.put("level", 3L);
+        customClaims.put("verified", Boolean.TRUE);
+        customClaims.put("departments", new ArrayList<>(Arrays.asList("sales", "support")));
+        entry.setCustomClaims(customClaims);
+        return entry;
+    }
+
+    private static Set<String> getInstanceFields(Class<?> clazz) {
+
+        Set<String> fieldNames = new HashSet<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                fieldNames.add(field.getName());
+            }
+        }
+        return fieldNames;
+    }
+
+    private static byte[] javaSerialize(Object object) throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+}
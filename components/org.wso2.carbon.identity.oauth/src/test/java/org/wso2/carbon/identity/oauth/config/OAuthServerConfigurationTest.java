@@ -512,6 +512,15 @@ public class OAuthServerConfigurationTest {
                 .isValidateAuthenticatedUserForRefreshGrantEnabled());
     }
 
+    @Test
+    public void testGetSupportedResponseTypeValidatorsIsInitializedOnce() throws Exception {
+
+        OAuthServerConfiguration oAuthServerConfiguration = OAuthServerConfiguration.getInstance();
+        Assert.assertSame(oAuthServerConfiguration.getSupportedResponseTypeValidators(),
+                oAuthServerConfiguration.getSupportedResponseTypeValidators(),
+                "Response type validators should be built only once.");
+    }
+
     private String fillURLPlaceholdersForTest(String url) {
 
         return url.replace("${carbon.protocol}", "https")
@@ -67,6 +67,7 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -321,6 +322,77 @@ public class OAuthAppDAOTest extends TestOAuthDAOBase {
         }
     }
 
+    @Test
+    public void testAddOAuthApplications() throws Exception {
+
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
+                OAuthServerConfiguration.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            setupMocksForTest(oAuthServerConfiguration, identityTenantUtil, identityUtil);
+
+            OAuthAppDAO appDAO = new OAuthAppDAO();
+            try (Connection connection = getConnection(DB_NAME)) {
+                mockIdentityUtilDataBaseConnection(connection, identityDatabaseUtil);
+                OAuthAppDO firstApp = getDefaultOAuthAppDO();
+                OAuthAppDO secondApp = getDefaultOAuthAppDO();
+                secondApp.setApplicationName("secondApp");
+                secondApp.setOauthConsumerKey("secondClientID");
+                secondApp.setOauthConsumerSecret("secondClientSecret");
+
+                appDAO.addOAuthApplications(Arrays.asList(firstApp, secondApp));
+                assertTrue(isAppAvailable(DB_NAME, APP_NAME, TENANT_ID));
+                assertTrue(isAppAvailable(DB_NAME, "secondApp", TENANT_ID));
+                assertTrue(firstApp.getId() > 0);
+                assertTrue(secondApp.getId() > 0);
+                assertEquals(appDAO.getAppInformation("secondClientID").getApplicationName(),
+                        "secondApp");
+                assertEquals(appDAO.getExistingConsumerKeys(Arrays.asList(CONSUMER_KEY, "unknownClientID"),
+                        TENANT_ID), Collections.singleton(CONSUMER_KEY));
+            }
+        } finally {
+            resetPrivilegedCarbonContext();
+        }
+    }
+
+    /**
+     * Test adding a batch of OAuth apps in which an app has the same name as an existing app. None of the apps in
+     * the batch should be added.
+     */
+    @Test
+    public void testAddOAuthApplicationsWithDuplicateName() throws Exception {
+
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(
+                OAuthServerConfiguration.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            setupMocksForTest(oAuthServerConfiguration, identityTenantUtil, identityUtil);
+
+            OAuthAppDAO appDAO = new OAuthAppDAO();
+            try (Connection connection = getConnection(DB_NAME)) {
+                mockIdentityUtilDataBaseConnection(connection, identityDatabaseUtil);
+                addOAuthApplication(getDefaultOAuthAppDO(), TENANT_ID);
+
+                OAuthAppDO newApp = getDefaultOAuthAppDO();
+                newApp.setApplicationName("newApp");
+                newApp.setOauthConsumerKey("newClientID");
+                OAuthAppDO duplicateApp = getDefaultOAuthAppDO();
+                duplicateApp.setOauthConsumerKey("duplicateClientID");
+                try {
+                    appDAO.addOAuthApplications(Arrays.asList(newApp, duplicateApp));
+                    fail("Application creation with duplicate name did not fail as expected.");
+                } catch (IdentityOAuthClientException e) {
+                    assertEquals(e.getErrorCode(), DUPLICATE_OAUTH_CLIENT.getErrorCode());
+                }
+                assertFalse(isAppAvailable(DB_NAME, "newApp", TENANT_ID));
+            }
+        } finally {
+            resetPrivilegedCarbonContext();
+        }
+    }
+
     @Test(expectedExceptions = IdentityOAuthAdminException.class)
     public void testAddOAuthApplicationWithExceptions() throws Exception {
 
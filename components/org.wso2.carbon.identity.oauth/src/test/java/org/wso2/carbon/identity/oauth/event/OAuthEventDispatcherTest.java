@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.event;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+@WithCarbonHome
+public class OAuthEventDispatcherTest {
+
+    private static final String LISTENER = "TestListener";
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final int TENANT_ID = 2;
+
+    @Test
+    public void testDispatchWhenDisabled() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(false, 1, 10,
+                OAuthEventDispatcher.BackPressurePolicy.BLOCK);
+        Thread callerThread = Thread.currentThread();
+        List<Thread> handlerThreads = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> handlerThreads.add(Thread.currentThread()));
+
+        assertEquals(handlerThreads, Collections.singletonList(callerThread));
+        assertEquals(dispatcher.getListenerMetrics(LISTENER).getCompletedCount(), 1);
+    }
+
+    @Test(expectedExceptions = IdentityOAuth2Exception.class)
+    public void testSynchronousDispatchPropagatesErrors() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(false, 1, 10,
+                OAuthEventDispatcher.BackPressurePolicy.BLOCK);
+        dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> {
+            throw new IdentityOAuth2Exception("Listener failure.");
+        });
+    }
+
+    @Test
+    public void testDispatchOnWorkerThread() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(true, 2, 10,
+                OAuthEventDispatcher.BackPressurePolicy.BLOCK);
+        CountDownLatch handled = new CountDownLatch(3);
+        List<Thread> handlerThreads = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> {
+                handlerThreads.add(Thread.currentThread());
+                handled.countDown();
+            });
+        }
+
+        assertTrue(handled.await(5, TimeUnit.SECONDS));
+        for (Thread handlerThread : handlerThreads) {
+            assertNotEquals(handlerThread, Thread.currentThread());
+        }
+        dispatcher.shutdown();
+        OAuthEventDispatcher.ListenerMetrics metrics = dispatcher.getListenerMetrics(LISTENER);
+        assertEquals(metrics.getSubmittedCount(), 3);
+        assertEquals(metrics.getCompletedCount(), 3);
+        assertEquals(metrics.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testDispatchPropagatesTenantFlow() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(true, 1, 10,
+                OAuthEventDispatcher.BackPressurePolicy.BLOCK);
+        List<String> tenantDomains = new CopyOnWriteArrayList<>();
+        List<Integer> tenantIds = new CopyOnWriteArrayList<>();
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(TENANT_ID);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+            dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> {
+                tenantDomains.add(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                tenantIds.add(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
+            });
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        dispatcher.shutdown();
+
+        assertEquals(tenantDomains, Collections.singletonList(TENANT_DOMAIN));
+        assertEquals(tenantIds, Collections.singletonList(TENANT_ID));
+    }
+
+    @Test
+    public void testAsynchronousErrorsAreCounted() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(true, 1, 10,
+                OAuthEventDispatcher.BackPressurePolicy.BLOCK);
+        dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> {
+            throw new IdentityOAuth2Exception("Listener failure.");
+        });
+        dispatcher.shutdown();
+
+        assertEquals(dispatcher.getListenerMetrics(LISTENER).getFailedCount(), 1);
+    }
+
+    @Test
+    public void testCallerRunsWhenQueueIsFull() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(true, 1, 1,
+                OAuthEventDispatcher.BackPressurePolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            // Occupy the only worker and fill the queue.
+            dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> { });
+
+            List<Thread> handlerThreads = new CopyOnWriteArrayList<>();
+            dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> handlerThreads.add(Thread.currentThread()));
+
+            assertEquals(handlerThreads, Collections.singletonList(Thread.currentThread()));
+            assertEquals(dispatcher.getListenerMetrics(LISTENER).getCallerRunsCount(), 1);
+        } finally {
+            release.countDown();
+            dispatcher.shutdown();
+        }
+        assertEquals(dispatcher.getListenerMetrics(LISTENER).getCompletedCount(), 3);
+    }
+
+    @Test
+    public void testBlockWhenQueueIsFull() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(true, 1, 1,
+                OAuthEventDispatcher.BackPressurePolicy.BLOCK);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> { });
+
+        List<Exception> errors = new CopyOnWriteArrayList<>();
+        Thread producer = new Thread(() -> {
+            try {
+                dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> { });
+            } catch (IdentityOAuth2Exception e) {
+                errors.add(e);
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive(), "Dispatch should block while the queue is full.");
+
+        release.countDown();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertTrue(errors.isEmpty());
+        dispatcher.shutdown();
+
+        OAuthEventDispatcher.ListenerMetrics metrics = dispatcher.getListenerMetrics(LISTENER);
+        assertEquals(metrics.getCompletedCount(), 3);
+        assertEquals(metrics.getCallerRunsCount(), 0);
+        assertTrue(metrics.getMaxLagInMillis() > 0);
+    }
+
+    @Test
+    public void testDispatchAfterShutdown() throws Exception {
+
+        OAuthEventDispatcher dispatcher = new OAuthEventDispatcher(true, 1, 10,
+                OAuthEventDispatcher.BackPressurePolicy.BLOCK);
+        dispatcher.shutdown();
+        List<Thread> handlerThreads = new CopyOnWriteArrayList<>();
+
+        dispatcher.dispatch(LISTENER, createSnapshot(), snapshot -> handlerThreads.add(Thread.currentThread()));
+
+        assertFalse(dispatcher.isEnabled());
+        assertEquals(handlerThreads, Collections.singletonList(Thread.currentThread()));
+    }
+
+    @Test
+    public void testSnapshotIsImmutable() {
+
+        String[] scopes = {"openid", "profile"};
+        List<String> audiences = new ArrayList<>();
+        audiences.add("audience");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "value");
+        properties.put("audiences", audiences);
+        OAuthEventSnapshot snapshot = new OAuthEventSnapshot.Builder(OAuthEventSnapshot.EventType.POST_TOKEN_ISSUE)
+                .scopes(scopes).properties(properties).build();
+        scopes[0] = "email";
+        properties.put("key", "changed");
+        audiences.add("other");
+
+        assertEquals(snapshot.getScopes().get(0), "openid");
+        assertEquals(snapshot.getProperties().get("key"), "value");
+        assertEquals(snapshot.getProperties().get("audiences"), Collections.singletonList("audience"));
+        try {
+            snapshot.getScopes().add("email");
+            fail("Snapshot scopes should not be modifiable.");
+        } catch (UnsupportedOperationException e) {
+            // Expected.
+        }
+    }
+
+    private static OAuthEventSnapshot createSnapshot() {
+
+        return new OAuthEventSnapshot.Builder(OAuthEventSnapshot.EventType.POST_TOKEN_ISSUE).clientId("client")
+                .tokenId("token").build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
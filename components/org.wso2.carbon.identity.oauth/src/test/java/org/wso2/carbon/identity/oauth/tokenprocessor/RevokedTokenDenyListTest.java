@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.RevokedTokenDAO;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class RevokedTokenDenyListTest {
+
+    private InMemoryRevokedTokenDAO revokedTokenDAO;
+    private RevokedTokenDenyList denyList;
+
+    @BeforeMethod
+    public void setUp() {
+
+        revokedTokenDAO = new InMemoryRevokedTokenDAO();
+        // A non positive sync interval disables the periodic sync.
+        denyList = new RevokedTokenDenyList(revokedTokenDAO, 0);
+    }
+
+    @Test
+    public void testRevoke() throws Exception {
+
+        denyList.revoke("jti1", "client", System.currentTimeMillis() + 60000);
+
+        assertTrue(denyList.isRevoked("jti1"));
+        assertFalse(denyList.isRevoked("jti2"));
+        assertEquals(revokedTokenDAO.revokedTokens.size(), 1);
+    }
+
+    @Test
+    public void testRevokeExpiredToken() throws Exception {
+
+        denyList.revoke("jti1", "client", System.currentTimeMillis() - 1000);
+
+        assertFalse(denyList.isRevoked("jti1"));
+        assertTrue(revokedTokenDAO.revokedTokens.isEmpty());
+    }
+
+    @Test
+    public void testEntryIsDroppedAfterExpiry() throws Exception {
+
+        denyList.revoke("jti1", "client", System.currentTimeMillis() + 100);
+        assertTrue(denyList.isRevoked("jti1"));
+
+        Thread.sleep(200);
+        assertFalse(denyList.isRevoked("jti1"));
+        assertEquals(denyList.size(), 0);
+    }
+
+    @Test
+    public void testRevocationsOfOtherNodesAreLoaded() throws Exception {
+
+        revokedTokenDAO.addRevokedToken("jti1", "client", System.currentTimeMillis() + 60000);
+        assertTrue(denyList.isRevoked("jti1"));
+
+        revokedTokenDAO.addRevokedToken("jti2", "client", System.currentTimeMillis() + 60000);
+        assertFalse(denyList.isRevoked("jti2"));
+        denyList.sync();
+        assertTrue(denyList.isRevoked("jti2"));
+    }
+
+    @Test(expectedExceptions = IdentityOAuth2Exception.class)
+    public void testLoadFailure() throws Exception {
+
+        revokedTokenDAO.failOnRead = true;
+        denyList.isRevoked("jti1");
+    }
+
+    private static class InMemoryRevokedTokenDAO implements RevokedTokenDAO {
+
+        private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+        private final Map<String, Long> createdTimes = new ConcurrentHashMap<>();
+        private boolean failOnRead;
+
+        @Override
+        public void addRevokedToken(String tokenIdentifier, String consumerKey, long expiryTime) {
+
+            revokedTokens.put(tokenIdentifier, expiryTime);
+            createdTimes.put(tokenIdentifier, System.currentTimeMillis());
+        }
+
+        @Override
+        public Map<String, Long> getRevokedTokens(long createdAfter) throws IdentityOAuth2Exception {
+
+            if (failOnRead) {
+                throw new IdentityOAuth2Exception("Database is not available.");
+            }
+            Map<String, Long> result = new HashMap<>();
+            long currentTime = System.currentTimeMillis();
+            for (Map.Entry<String, Long> entry : revokedTokens.entrySet()) {
+                if (createdTimes.get(entry.getKey()) >= createdAfter && entry.getValue() > currentTime) {
+                    result.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int removeExpiredRevokedTokens() {
+
+            long currentTime = System.currentTimeMillis();
+            int size = revokedTokens.size();
+            revokedTokens.values().removeIf(expiryTime -> expiryTime <= currentTime);
+            return size - revokedTokens.size();
+        }
+    }
+}
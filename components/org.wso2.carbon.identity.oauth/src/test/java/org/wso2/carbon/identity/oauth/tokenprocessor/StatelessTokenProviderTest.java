@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
+import org.wso2.carbon.identity.oauth2.dao.RevokedTokenDAO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.token.JWTTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the offline validation of JWT access tokens by {@link StatelessTokenProvider}.
+ */
+@WithCarbonHome
+public class StatelessTokenProviderTest {
+
+    private static final String ISSUER = "https://localhost:9443/oauth2/token";
+    private static final String CLIENT_ID = "dummyClientId";
+    private static final String USER_ID = "dummyUserId";
+    private static final String JTI = "dummyJti";
+    private static final String GRANT_TYPE = "password";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int TENANT_ID = -1234;
+    private static final String USER_STORE_DOMAIN = "PRIMARY";
+
+    private KeyPair keyPair;
+    private KeyPair otherKeyPair;
+    private RevokedTokenDenyList denyList;
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<OAuth2Util> oAuth2Util;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private MockedStatic<RevokedTokenDenyList> revokedTokenDenyList;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+        otherKeyPair = keyPairGenerator.generateKeyPair();
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        OAuthServerConfiguration mockOAuthServerConfiguration = mock(OAuthServerConfiguration.class);
+        when(mockOAuthServerConfiguration.getSignatureAlgorithm()).thenReturn("SHA256withRSA");
+        oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(mockOAuthServerConfiguration);
+
+        X509Certificate certificate = mock(X509Certificate.class);
+        when(certificate.getPublicKey()).thenReturn(keyPair.getPublic());
+        oAuth2Util = mockStatic(OAuth2Util.class);
+        oAuth2Util.when(() -> OAuth2Util.getCertificate(anyString(), anyInt())).thenReturn(certificate);
+        oAuth2Util.when(() -> OAuth2Util.getTenantId(anyString())).thenReturn(TENANT_ID);
+        oAuth2Util.when(() -> OAuth2Util.buildScopeArray(anyString())).thenCallRealMethod();
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(TENANT_ID);
+
+        // A non positive sync interval disables the periodic sync.
+        denyList = new RevokedTokenDenyList(mock(RevokedTokenDAO.class), 0);
+        revokedTokenDenyList = mockStatic(RevokedTokenDenyList.class);
+        revokedTokenDenyList.when(RevokedTokenDenyList::getInstance).thenReturn(denyList);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        revokedTokenDenyList.close();
+        identityTenantUtil.close();
+        oAuth2Util.close();
+        oAuthServerConfiguration.close();
+        OAuth2ServiceComponentHolder.setConsentedTokenColumnEnabled(false);
+    }
+
+    @Test
+    public void testClaimsOfNonPersistedTokenAreMapped() throws Exception {
+
+        OAuth2ServiceComponentHolder.setConsentedTokenColumnEnabled(true);
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserId(USER_ID);
+        authenticatedUser.setUserName("dummyUser");
+        authenticatedUser.setTenantDomain(TENANT_DOMAIN);
+        authenticatedUser.setUserStoreDomain(USER_STORE_DOMAIN);
+        OAuth2AccessTokenReqDTO tokenReqDTO = new OAuth2AccessTokenReqDTO();
+        tokenReqDTO.setGrantType(GRANT_TYPE);
+        OAuthTokenReqMessageContext tokenReqMessageContext = new OAuthTokenReqMessageContext(tokenReqDTO);
+        tokenReqMessageContext.addProperty(OAuthConstants.UserType.USER_TYPE,
+                OAuthConstants.UserType.APPLICATION_USER);
+        tokenReqMessageContext.setConsentedToken(true);
+
+        JWTClaimsSet.Builder claimsSetBuilder = getClaimsSetBuilder(new Date(System.currentTimeMillis() + 3600000));
+        new NonPersistenceClaimsIssuer().setClaims(claimsSetBuilder, tokenReqMessageContext, authenticatedUser);
+        String accessToken = sign(claimsSetBuilder.build(), keyPair.getPrivate());
+
+        AccessTokenDO accessTokenDO = new StatelessTokenProvider().getVerifiedAccessToken(accessToken, false);
+
+        assertNotNull(accessTokenDO);
+        assertEquals(accessTokenDO.getTokenId(), JTI);
+        assertEquals(accessTokenDO.getAccessToken(), JTI);
+        assertEquals(accessTokenDO.getConsumerKey(), CLIENT_ID);
+        assertEquals(accessTokenDO.getGrantType(), GRANT_TYPE);
+        assertEquals(accessTokenDO.getTokenType(), OAuthConstants.UserType.APPLICATION_USER);
+        assertEquals(accessTokenDO.getTokenState(), OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE);
+        assertEquals(accessTokenDO.getTenantID(), TENANT_ID);
+        assertEquals(Arrays.asList(accessTokenDO.getScope()), Arrays.asList("openid", "profile"));
+        assertTrue(accessTokenDO.isConsentedToken());
+        AuthenticatedUser authzUser = accessTokenDO.getAuthzUser();
+        assertEquals(authzUser.getUserId(), USER_ID);
+        assertEquals(authzUser.getTenantDomain(), TENANT_DOMAIN);
+        assertEquals(authzUser.getUserStoreDomain(), USER_STORE_DOMAIN);
+        assertFalse(authzUser.isFederatedUser());
+    }
+
+    @Test
+    public void testTokenWithInvalidSignatureIsRejected() throws Exception {
+
+        String accessToken = sign(getClaimsSetBuilder(new Date(System.currentTimeMillis() + 3600000)).build(),
+                otherKeyPair.getPrivate());
+
+        assertNull(new StatelessTokenProvider().getVerifiedAccessToken(accessToken, true));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testTokenWithInvalidSignatureIsNotActive() throws Exception {
+
+        String accessToken = sign(getClaimsSetBuilder(new Date(System.currentTimeMillis() + 3600000)).build(),
+                otherKeyPair.getPrivate());
+
+        new StatelessTokenProvider().getVerifiedAccessToken(accessToken, false);
+    }
+
+    @Test
+    public void testExpiredToken() throws Exception {
+
+        String accessToken = sign(getClaimsSetBuilder(new Date(System.currentTimeMillis() - 60000)).build(),
+                keyPair.getPrivate());
+
+        AccessTokenDO accessTokenDO = new StatelessTokenProvider().getVerifiedAccessToken(accessToken, true);
+
+        assertNotNull(accessTokenDO);
+        assertEquals(accessTokenDO.getTokenState(), OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED);
+    }
+
+    @Test
+    public void testRevokedTokenIsRejected() throws Exception {
+
+        Date expirationTime = new Date(System.currentTimeMillis() + 3600000);
+        String accessToken = sign(getClaimsSetBuilder(expirationTime).build(), keyPair.getPrivate());
+        StatelessTokenProvider tokenProvider = new StatelessTokenProvider();
+        assertNotNull(tokenProvider.getVerifiedAccessToken(accessToken, true));
+
+        denyList.revoke(JTI, CLIENT_ID, expirationTime.getTime());
+
+        assertNull(tokenProvider.getVerifiedAccessToken(accessToken, true));
+    }
+
+    private static JWTClaimsSet.Builder getClaimsSetBuilder(Date expirationTime) {
+
+        return new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(USER_ID)
+                .audience(CLIENT_ID)
+                .jwtID(JTI)
+                .issueTime(new Date(System.currentTimeMillis() - 120000))
+                .expirationTime(expirationTime)
+                .claim("client_id", CLIENT_ID)
+                .claim(OAuthConstants.SCOPE, "openid profile")
+                .claim(OAuthConstants.AUTHORIZED_USER_TYPE, OAuthConstants.UserType.APPLICATION_USER)
+                .claim(OAuthConstants.OIDCClaims.REALM,
+                        Collections.singletonMap(OAuthConstants.OIDCClaims.SIGNING_TENANT, TENANT_DOMAIN))
+                .claim(OAuth2Constants.ENTITY_ID, USER_ID);
+    }
+
+    private static String sign(JWTClaimsSet claimsSet, PrivateKey privateKey) throws JOSEException {
+
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claimsSet);
+        signedJWT.sign(new RSASSASigner(privateKey));
+        return signedJWT.serialize();
+    }
+
+    /**
+     * Exposes the claims the JWT token issuer adds to tokens which are not persisted.
+     */
+    private static class NonPersistenceClaimsIssuer extends JWTTokenIssuer {
+
+        NonPersistenceClaimsIssuer() throws IdentityOAuth2Exception {
+
+            super();
+        }
+
+        void setClaims(JWTClaimsSet.Builder claimsSetBuilder, OAuthTokenReqMessageContext tokenReqMessageContext,
+                       AuthenticatedUser authenticatedUser) throws IdentityOAuth2Exception {
+
+            setClaimsForNonPersistence(claimsSetBuilder, null, tokenReqMessageContext, authenticatedUser, null);
+        }
+    }
+}
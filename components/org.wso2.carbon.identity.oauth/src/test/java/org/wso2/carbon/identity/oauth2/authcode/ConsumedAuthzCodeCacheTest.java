@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.authcode;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ConsumedAuthzCodeCacheTest {
+
+    private ConsumedAuthzCodeCache consumedAuthzCodeCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        // A zero purge interval purges the expired entries on every call.
+        consumedAuthzCodeCache = new ConsumedAuthzCodeCache(0);
+    }
+
+    @Test
+    public void testCodeCanBeConsumedOnlyOnce() {
+
+        long expiryTime = System.currentTimeMillis() + 60000;
+
+        assertTrue(consumedAuthzCodeCache.consume("code1", expiryTime));
+        assertFalse(consumedAuthzCodeCache.consume("code1", expiryTime));
+        assertTrue(consumedAuthzCodeCache.consume("code2", expiryTime));
+        assertEquals(consumedAuthzCodeCache.size(), 2);
+    }
+
+    @Test
+    public void testExpiredCodeIsNotRecorded() {
+
+        assertTrue(consumedAuthzCodeCache.consume("code1", System.currentTimeMillis() - 1000));
+        assertEquals(consumedAuthzCodeCache.size(), 0);
+    }
+
+    @Test
+    public void testEntryIsPurgedAfterExpiry() throws Exception {
+
+        assertTrue(consumedAuthzCodeCache.consume("code1", System.currentTimeMillis() + 100));
+        Thread.sleep(200);
+
+        assertTrue(consumedAuthzCodeCache.consume("code2", System.currentTimeMillis() + 60000));
+        assertEquals(consumedAuthzCodeCache.size(), 1);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.authcode;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetail;
+import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetails;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeReqDTO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class SelfContainedAuthzCodeUtilTest {
+
+    @Test
+    public void testSelfContainedAuthzCodeIsApplicable() {
+
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class)) {
+            oAuth2Util.when(OAuth2Util::isSelfContainedAuthCodeEnabled).thenReturn(true);
+            assertTrue(SelfContainedAuthzCodeUtil.isSelfContainedAuthzCodeApplicable(
+                    new OAuthAuthzReqMessageContext(new OAuth2AuthorizeReqDTO())));
+
+            oAuth2Util.when(OAuth2Util::isSelfContainedAuthCodeEnabled).thenReturn(false);
+            assertFalse(SelfContainedAuthzCodeUtil.isSelfContainedAuthzCodeApplicable(
+                    new OAuthAuthzReqMessageContext(new OAuth2AuthorizeReqDTO())));
+        }
+    }
+
+    @Test
+    public void testRichAuthorizationRequestGetsPersistedCode() {
+
+        AuthorizationDetail authorizationDetail = new AuthorizationDetail();
+        authorizationDetail.setType("payment_initiation");
+        OAuthAuthzReqMessageContext oauthAuthzMsgCtx = new OAuthAuthzReqMessageContext(new OAuth2AuthorizeReqDTO());
+        oauthAuthzMsgCtx.setRequestedAuthorizationDetails(
+                new AuthorizationDetails(Collections.singleton(authorizationDetail)));
+
+        try (MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class)) {
+            oAuth2Util.when(OAuth2Util::isSelfContainedAuthCodeEnabled).thenReturn(true);
+            // The approved authorization details are stored against the persisted code, hence no self-contained code.
+            assertFalse(SelfContainedAuthzCodeUtil.isSelfContainedAuthzCodeApplicable(oauthAuthzMsgCtx));
+        }
+    }
+}
@@ -27,24 +27,37 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
 import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.dao.util.DAOUtils;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE;
+import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TokenStates.TOKEN_STATE_INACTIVE;
 
 @WithCarbonHome
 @Listeners(MockitoTestNGListener.class)
@@ -156,4 +169,86 @@ public class AccessTokenDAOImplTest {
 
         accessTokenDAO.revokeAccessTokensInBatch(tokens, isHashedToken);
     }
+
+    @Test
+    public void testRotateAccessToken() throws Exception {
+
+        String oldTokenId = "2sa9a678f890877856y66e75f605d456";
+        connection.setAutoCommit(false);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenReturn(connection);
+        when(OAuthServerConfiguration.getInstance().isTokenCleanupEnabled()).thenReturn(false);
+        accessTokenDAO = new AccessTokenDAOImpl();
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setTokenId("newTokenId");
+        accessTokenDO.setAuthzUser(new AuthenticatedUser());
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<OAuth2TokenUtil> oAuth2TokenUtil = mockStatic(OAuth2TokenUtil.class)) {
+            // Skip persisting the new token, so that only the conditional update of the existing token is covered.
+            identityUtil.when(() -> IdentityUtil.getProperty(OAuth2Constants.OAUTH_TOKEN_PERSISTENCE_ENABLE))
+                    .thenReturn("false");
+
+            assertTrue(accessTokenDAO.rotateAccessToken(oldTokenId, TOKEN_STATE_ACTIVE, TOKEN_STATE_INACTIVE,
+                    "clientId", "tokenStateId", accessTokenDO, "PRIMARY", "refresh_token"));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(
+                    "SELECT TOKEN_STATE, TOKEN_STATE_ID FROM IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_ID=?")) {
+                preparedStatement.setString(1, oldTokenId);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    assertEquals(resultSet.getString(1), TOKEN_STATE_INACTIVE);
+                    assertEquals(resultSet.getString(2), "tokenStateId");
+                }
+            }
+            identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.commitTransaction(connection));
+            oAuth2TokenUtil.verify(() -> OAuth2TokenUtil.postRefreshAccessToken(oldTokenId, "newTokenId",
+                    TOKEN_STATE_INACTIVE, true));
+
+            // The token is no longer in the expected state, hence a second rotation of it backs off.
+            assertFalse(accessTokenDAO.rotateAccessToken(oldTokenId, TOKEN_STATE_ACTIVE, TOKEN_STATE_INACTIVE,
+                    "clientId", "tokenStateId", accessTokenDO, "PRIMARY", "refresh_token"));
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @Test
+    public void testRotateAccessTokenRotatedConcurrently() throws Exception {
+
+        Connection mockConnection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        // No row is in the expected state, as a concurrent request has already rotated the token.
+        when(preparedStatement.executeUpdate()).thenReturn(0);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(true)).thenReturn(mockConnection);
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setTokenId("newTokenId");
+        accessTokenDO.setAuthzUser(new AuthenticatedUser());
+
+        assertFalse(accessTokenDAO.rotateAccessToken("oldTokenId", TOKEN_STATE_ACTIVE, TOKEN_STATE_INACTIVE,
+                "clientId", "tokenStateId", accessTokenDO, "PRIMARY", "refresh_token"));
+        // Neither the new token nor any dependent data should be written.
+        verify(mockConnection, times(1)).prepareStatement(anyString());
+        verify(mockConnection).prepareStatement(SQLQueries.UPDATE_TOKEN_STATE_IF_CURRENT);
+        identityDatabaseUtil.verify(() -> IdentityDatabaseUtil.rollbackTransaction(mockConnection));
+    }
+
+    @Test
+    public void testGetActiveAccessTokensByTokenIdsWithoutTokens() throws Exception {
+
+        Connection mockConnection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(false);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(mockConnection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(false)).thenReturn(mockConnection);
+
+        assertTrue(accessTokenDAO.getActiveAccessTokensByTokenIds(
+                new HashSet<>(Arrays.asList("tokenId1", "tokenId2"))).isEmpty());
+        // The token details are not queried when none of the token ids has a token.
+        verify(mockConnection, times(1)).prepareStatement(anyString());
+    }
 }
@@ -32,12 +32,14 @@ import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
@@ -190,6 +192,60 @@ public class ScopeMgtDAOTest extends IdentityBaseTest {
         }
     }
 
+    @DataProvider(name = "getScopesAfterDataProvider")
+    public Object[][] getScopesAfterData() {
+
+        return new Object[][]{
+                {
+                        Arrays.asList(
+                                new Scope("cursor_a", "cursor_a", "cursor_a"),
+                                new Scope("cursor_b", "cursor_b", "cursor_b",
+                                        Arrays.asList("cursorBinding1", "cursorBinding2")),
+                                new Scope("cursor_c", "cursor_c", "cursor_c"),
+                                new Scope("cursorXd", "cursorXd", "cursorXd")
+                                     ),
+                        MultitenantConstants.SUPER_TENANT_ID
+                },
+                {
+                        Arrays.asList(
+                                new Scope("cursor_a", "cursor_a", "cursor_a"),
+                                new Scope("cursor_b", "cursor_b", "cursor_b",
+                                        Arrays.asList("cursorBinding1", "cursorBinding2")),
+                                new Scope("cursor_c", "cursor_c", "cursor_c"),
+                                new Scope("cursorXd", "cursorXd", "cursorXd")
+                                     ),
+                        SAMPLE_TENANT_ID
+                },
+        };
+    }
+
+    @Test(dataProvider = "getScopesAfterDataProvider")
+    public void getScopesAfter(List<Object> scopes, int tenantId) throws SQLException, IdentityOAuth2ScopeException {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+
+            addScopes(scopes, tenantId, identityDatabaseUtil);
+
+            // The underscore of the prefix must not match any character, hence cursorXd is not returned.
+            List<Scope> firstPage = getScopesAfter(null, 2, tenantId, "cursor_", null, identityDatabaseUtil);
+            assertEquals(getScopeNames(firstPage), Arrays.asList("cursor_a", "cursor_b"));
+            assertTrue(firstPage.get(1).getBindings().containsAll(
+                    Arrays.asList("cursorBinding1", "cursorBinding2")), "Failed to retrieve scope bindings.");
+
+            List<Scope> secondPage = getScopesAfter("cursor_b", 2, tenantId, "cursor_", null,
+                    identityDatabaseUtil);
+            assertEquals(getScopeNames(secondPage), Collections.singletonList("cursor_c"));
+
+            List<Scope> boundScopes = getScopesAfter(null, 10, tenantId, "cursor", "cursorBinding2",
+                    identityDatabaseUtil);
+            assertEquals(getScopeNames(boundScopes), Collections.singletonList("cursor_b"));
+            assertEquals(boundScopes.get(0).getBindings().size(), 2, "Bindings of a scope must not be filtered.");
+
+            // Clean after test
+            deleteScopes(scopes, tenantId, identityDatabaseUtil);
+        }
+    }
+
     @DataProvider(name = "getScopeByNameDataProvider")
     public Object[][] getScopeByNameData() {
 
@@ -379,6 +435,25 @@ public class ScopeMgtDAOTest extends IdentityBaseTest {
         }
     }
 
+    private List<Scope> getScopesAfter(String after, int limit, int tenantId, String namePrefix, String binding,
+                                       MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil)
+            throws SQLException, IdentityOAuth2ScopeException {
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(false)).thenReturn(connection);
+            return oAuthScopeDAO.getScopesAfter(after, limit, tenantId, false, namePrefix, binding);
+        }
+    }
+
+    private List<String> getScopeNames(List<Scope> scopes) {
+
+        List<String> scopeNames = new ArrayList<>();
+        for (Scope scope : scopes) {
+            scopeNames.add(scope.getName());
+        }
+        return scopeNames;
+    }
+
     private void deleteScopes(List<Object> scopes, int tenantId,
                               MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil)
             throws SQLException, IdentityOAuth2ScopeException {
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+@WithCarbonHome
+public class ScopeRegistryTest {
+
+    private static final int TENANT_ID = -1234;
+
+    private final ScopeRegistry scopeRegistry = ScopeRegistry.getInstance();
+
+    @AfterMethod
+    public void tearDown() {
+
+        scopeRegistry.invalidate(TENANT_ID);
+    }
+
+    @Test
+    public void testTenantScopesAreReused() throws Exception {
+
+        AtomicInteger loads = new AtomicInteger();
+        ScopeRegistry.TenantScopesLoader loader = tenantId -> {
+            loads.incrementAndGet();
+            return getTenantScopes(false);
+        };
+
+        scopeRegistry.getTenantScopes(TENANT_ID, loader);
+        scopeRegistry.getTenantScopes(TENANT_ID, loader);
+        assertEquals(loads.get(), 1);
+
+        scopeRegistry.invalidate(TENANT_ID);
+        scopeRegistry.getTenantScopes(TENANT_ID, loader);
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    public void testTenantScopesLoadedDuringInvalidationAreNotKept() throws Exception {
+
+        scopeRegistry.getTenantScopes(TENANT_ID, tenantId -> {
+            // A scope change is committed while the scopes are being loaded.
+            scopeRegistry.invalidate(tenantId);
+            return getTenantScopes(false);
+        });
+
+        AtomicInteger loads = new AtomicInteger();
+        scopeRegistry.getTenantScopes(TENANT_ID, tenantId -> {
+            loads.incrementAndGet();
+            return getTenantScopes(false);
+        });
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testTenantScopesLoadedDuringClusterInvalidationAreNotKept() throws Exception {
+
+        scopeRegistry.getTenantScopes(TENANT_ID, tenantId -> {
+            // An invalidation is received from another node while the scopes are being loaded.
+            scopeRegistry.clearCacheEntry(tenantId, tenantId);
+            return getTenantScopes(false);
+        });
+
+        AtomicInteger loads = new AtomicInteger();
+        scopeRegistry.getTenantScopes(TENANT_ID, tenantId -> {
+            loads.incrementAndGet();
+            return getTenantScopes(false);
+        });
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testScopeLookups() throws Exception {
+
+        ScopeRegistry.TenantScopes tenantScopes = scopeRegistry.getTenantScopes(TENANT_ID,
+                tenantId -> getTenantScopes(false));
+
+        assertEquals(tenantScopes.getScopeId("read", false), 1);
+        assertEquals(tenantScopes.getScopeId("openid", false), Oauth2ScopeConstants.INVALID_SCOPE_ID);
+        assertEquals(tenantScopes.getScopeId("openid", true), 3);
+        assertEquals(tenantScopes.getScopeId("unknown", true), Oauth2ScopeConstants.INVALID_SCOPE_ID);
+
+        assertEquals(getNames(tenantScopes.getScopes(false)), new HashSet<>(Arrays.asList("read", "write")));
+        assertEquals(getNames(tenantScopes.getScopes(true)), new HashSet<>(Arrays.asList("read", "write", "openid")));
+        assertEquals(getNames(tenantScopes.getScopes(false, Arrays.asList("read", "openid", "unknown"))),
+                Collections.singleton("read"));
+
+        Set<Scope> permissionScopes = tenantScopes.getScopesByBindingType("PERMISSION");
+        assertEquals(getNames(permissionScopes), Collections.singleton("read"));
+        assertEquals(permissionScopes.iterator().next().getScopeBindings().get(0).getBindings(),
+                Collections.singletonList("/permission/read"));
+
+        Scope write = tenantScopes.getScopeByName("write");
+        assertEquals(write.getScopeBindings().size(), 1);
+        assertEquals(write.getScopeBindings().get(0).getBindingType(), Oauth2ScopeConstants.DEFAULT_SCOPE_BINDING);
+        assertTrue(write.getScopeBindings().get(0).getBindings().isEmpty());
+        assertNull(tenantScopes.getScopeByName("openid"));
+
+        assertEquals(tenantScopes.getBindings("read"), new HashSet<>(Arrays.asList("admin", "/permission/read")));
+    }
+
+    @Test
+    public void testScopeNameMatching() {
+
+        ScopeRegistry.TenantScopes caseSensitiveScopes = getTenantScopes(false);
+        assertEquals(caseSensitiveScopes.getScopeId("READ", false), Oauth2ScopeConstants.INVALID_SCOPE_ID);
+        assertNull(caseSensitiveScopes.getScopeByName("Read"));
+
+        ScopeRegistry.TenantScopes caseInsensitiveScopes = getTenantScopes(true);
+        assertEquals(caseInsensitiveScopes.getScopeId("READ", false), 1);
+        assertEquals(caseInsensitiveScopes.getScopeByName("Read").getName(), "read");
+        assertEquals(caseInsensitiveScopes.getScopeId("OpenID", true), 3);
+        assertEquals(getNames(caseInsensitiveScopes.getScopes(false, Arrays.asList("Read", "WRITE"))),
+                new HashSet<>(Arrays.asList("read", "write")));
+    }
+
+    @Test
+    public void testReturnedScopesAreCopies() throws Exception {
+
+        ScopeRegistry.TenantScopes tenantScopes = scopeRegistry.getTenantScopes(TENANT_ID,
+                tenantId -> getTenantScopes(false));
+
+        Scope read = tenantScopes.getScopeByName("read");
+        read.setDescription("changed");
+        read.addScopeBinding("DEFAULT", "newRole");
+
+        Scope readAgain = tenantScopes.getScopeByName("read");
+        assertEquals(readAgain.getDescription(), "Read");
+        assertEquals(tenantScopes.getBindings("read"), new HashSet<>(Arrays.asList("admin", "/permission/read")));
+    }
+
+    private static ScopeRegistry.TenantScopes getTenantScopes(boolean caseInsensitiveNames) {
+
+        ScopeRegistry.ScopeEntry read = new ScopeRegistry.ScopeEntry(1, "read", "Read", "Read", true);
+        read.addBinding("DEFAULT", "admin");
+        read.addBinding("PERMISSION", "/permission/read");
+        ScopeRegistry.ScopeEntry write = new ScopeRegistry.ScopeEntry(2, "write", "Write", "Write", true);
+        // Scopes without bindings are loaded with a binding row without a type.
+        write.addBinding(null, null);
+        ScopeRegistry.ScopeEntry openid = new ScopeRegistry.ScopeEntry(3, "openid", "OpenID", "OpenID", false);
+        openid.addBinding(null, null);
+        return new ScopeRegistry.TenantScopes(Arrays.asList(read, write, openid), caseInsensitiveNames);
+    }
+
+    private static Set<String> getNames(Set<Scope> scopes) {
+
+        Set<String> names = new HashSet<>();
+        for (Scope scope : scopes) {
+            names.add(scope.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.internal.cache.TokenBindingCache;
+import org.wso2.carbon.identity.oauth2.internal.cache.TokenBindingCacheEntry;
+import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.oauth2.dao.SQLQueries.RETRIEVE_TOKEN_BINDING_BY_TOKEN_ID;
+import static org.wso2.carbon.identity.oauth2.dao.SQLQueries.RETRIEVE_TOKEN_BINDING_REF_EXISTS;
+
+/**
+ * Unit tests for the caching of token bindings in {@link TokenBindingMgtDAOImpl}.
+ */
+@WithCarbonHome
+@Listeners(MockitoTestNGListener.class)
+public class TokenBindingMgtDAOImplTest {
+
+    private static final String TOKEN_ID = "token-id";
+    private static final String BINDING_TYPE = "cookie";
+    private static final String BINDING_REF = "binding-ref";
+    private static final String BINDING_VALUE = "binding-value";
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final Map<String, TokenBindingCacheEntry> cachedEntries = new HashMap<>();
+    private MockedStatic<TokenBindingCache> tokenBindingCache;
+    private MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil;
+    private TokenBindingMgtDAOImpl tokenBindingMgtDAO;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        cachedEntries.clear();
+        // The cache is backed by a map, while the key building and invalidation logic of the cache is kept.
+        TokenBindingCache cache = mock(TokenBindingCache.class, CALLS_REAL_METHODS);
+        lenient().doAnswer(invocation -> cachedEntries.get(invocation.<String>getArgument(0)))
+                .when(cache).getValueFromCache(anyString(), anyInt());
+        lenient().doAnswer(invocation -> cachedEntries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cache).addToCache(anyString(), any(), anyInt());
+        lenient().doAnswer(invocation -> cachedEntries.remove(invocation.<String>getArgument(0)))
+                .when(cache).clearCacheEntry(anyString(), anyInt());
+        tokenBindingCache = mockStatic(TokenBindingCache.class, CALLS_REAL_METHODS);
+        tokenBindingCache.when(TokenBindingCache::getInstance).thenReturn(cache);
+
+        identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        lenient().when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        tokenBindingMgtDAO = new TokenBindingMgtDAOImpl();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        tokenBindingCache.close();
+        identityDatabaseUtil.close();
+    }
+
+    @Test
+    public void testTokenBindingIsServedFromCache() throws Exception {
+
+        mockStoredBinding();
+
+        assertBinding(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID));
+        assertBinding(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID));
+        verify(connection, times(1)).prepareStatement(RETRIEVE_TOKEN_BINDING_BY_TOKEN_ID);
+    }
+
+    @Test
+    public void testMissingTokenBindingIsCached() throws Exception {
+
+        when(resultSet.next()).thenReturn(false);
+
+        assertFalse(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID).isPresent());
+        assertFalse(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID).isPresent());
+        verify(connection, times(1)).prepareStatement(RETRIEVE_TOKEN_BINDING_BY_TOKEN_ID);
+    }
+
+    @Test
+    public void testBindingReferenceExistenceIsCached() throws Exception {
+
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt("TOTAL")).thenReturn(0, 1);
+
+        assertFalse(tokenBindingMgtDAO.isTokenBindingExistsForBindingReference(BINDING_REF));
+        assertFalse(tokenBindingMgtDAO.isTokenBindingExistsForBindingReference(BINDING_REF));
+        verify(connection, times(1)).prepareStatement(RETRIEVE_TOKEN_BINDING_REF_EXISTS);
+
+        // A token bound to the reference is committed.
+        TokenBindingCache.getInstance().clearCacheEntries(TOKEN_ID, BINDING_REF, null);
+
+        assertTrue(tokenBindingMgtDAO.isTokenBindingExistsForBindingReference(BINDING_REF));
+        verify(connection, times(2)).prepareStatement(RETRIEVE_TOKEN_BINDING_REF_EXISTS);
+    }
+
+    @Test
+    public void testStoringTokenBindingClearsMissingEntries() throws Exception {
+
+        when(resultSet.next()).thenReturn(false);
+        assertFalse(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID).isPresent());
+
+        tokenBindingMgtDAO.storeTokenBinding(new TokenBinding(TOKEN_ID, BINDING_TYPE, BINDING_REF, BINDING_VALUE),
+                -1234);
+
+        mockStoredBinding();
+        assertBinding(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID));
+        verify(connection, times(2)).prepareStatement(RETRIEVE_TOKEN_BINDING_BY_TOKEN_ID);
+    }
+
+    @Test
+    public void testRevokingTokenClearsCachedTokenBinding() throws Exception {
+
+        mockStoredBinding();
+        assertBinding(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID));
+        assertTrue(tokenBindingMgtDAO.getTokenBindingByBindingRef(TOKEN_ID, BINDING_REF).isPresent());
+
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration =
+                     mockStatic(OAuthServerConfiguration.class);
+             MockedStatic<OAuth2TokenUtil> oAuth2TokenUtil = mockStatic(OAuth2TokenUtil.class)) {
+            oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance)
+                    .thenReturn(mock(OAuthServerConfiguration.class));
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection).thenReturn(connection);
+            when(preparedStatement.executeUpdate()).thenReturn(1);
+
+            new AccessTokenDAOImpl().revokeAccessToken(TOKEN_ID, "user");
+        }
+
+        assertTrue(cachedEntries.isEmpty(), "Cached bindings of the revoked token should be cleared.");
+        assertBinding(tokenBindingMgtDAO.getTokenBinding(TOKEN_ID));
+        verify(connection, times(2)).prepareStatement(RETRIEVE_TOKEN_BINDING_BY_TOKEN_ID);
+    }
+
+    private void mockStoredBinding() throws Exception {
+
+        when(resultSet.next()).thenReturn(true);
+        lenient().when(resultSet.getString("TOKEN_BINDING_TYPE")).thenReturn(BINDING_TYPE);
+        lenient().when(resultSet.getString("TOKEN_BINDING_REF")).thenReturn(BINDING_REF);
+        lenient().when(resultSet.getString("TOKEN_BINDING_VALUE")).thenReturn(BINDING_VALUE);
+    }
+
+    private static void assertBinding(Optional<TokenBinding> tokenBinding) {
+
+        assertTrue(tokenBinding.isPresent());
+        assertEquals(tokenBinding.get().getBindingType(), BINDING_TYPE);
+        assertEquals(tokenBinding.get().getBindingReference(), BINDING_REF);
+        assertEquals(tokenBinding.get().getBindingValue(), BINDING_VALUE);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class WriteBehindBufferTest {
+
+    private static final String UPDATE_SQL = "UPDATE IDN_OAUTH2_ACCESS_TOKEN SET CONSENTED_TOKEN=? WHERE TOKEN_ID=?";
+    // Long enough for the scheduled flush not to run while the tests are running.
+    private static final long FLUSH_INTERVAL = 3600000;
+
+    @Test
+    public void testDeferWhenDisabled() {
+
+        WriteBehindBuffer buffer = new WriteBehindBuffer(false, FLUSH_INTERVAL, 10);
+
+        assertFalse(buffer.defer(createUpdate("token1", farExpiry())));
+        assertEquals(buffer.getPendingUpdateCount(), 0);
+    }
+
+    @Test
+    public void testDeferNearExpiry() {
+
+        WriteBehindBuffer buffer = new WriteBehindBuffer(true, FLUSH_INTERVAL, 10);
+        assertFalse(buffer.defer(createUpdate("token1", System.currentTimeMillis() + FLUSH_INTERVAL / 2)));
+        assertEquals(buffer.getPendingUpdateCount(), 0);
+    }
+
+    @Test
+    public void testUpdatesToSameRowAreCoalesced() {
+
+        WriteBehindBuffer buffer = new WriteBehindBuffer(true, FLUSH_INTERVAL, 10);
+        assertTrue(buffer.defer(createUpdate("token1", farExpiry())));
+        assertTrue(buffer.defer(createUpdate("token1", farExpiry())));
+        assertTrue(buffer.defer(createUpdate("token2", farExpiry())));
+        assertEquals(buffer.getPendingUpdateCount(), 2);
+    }
+
+    @Test
+    public void testDeferWhenFull() {
+
+        WriteBehindBuffer buffer = new WriteBehindBuffer(true, FLUSH_INTERVAL, 1);
+        assertTrue(buffer.defer(createUpdate("token1", farExpiry())));
+        assertFalse(buffer.defer(createUpdate("token2", farExpiry())));
+        // An update to an already buffered row does not need additional space.
+        assertTrue(buffer.defer(createUpdate("token1", farExpiry())));
+        assertEquals(buffer.getPendingUpdateCount(), 1);
+    }
+
+    @Test
+    public void testDeferAfterShutdown() {
+
+        WriteBehindBuffer buffer = new WriteBehindBuffer(true, FLUSH_INTERVAL, 10);
+        buffer.shutdown();
+
+        assertFalse(buffer.isEnabled());
+        assertFalse(buffer.defer(createUpdate("token1", farExpiry())));
+    }
+
+    private DeferredUpdate createUpdate(String tokenId, long expiryTime) {
+
+        return new DeferredUpdate(UPDATE_SQL, tokenId, expiryTime, prepStmt -> {
+            prepStmt.setString(1, "true");
+            prepStmt.setString(2, tokenId);
+        });
+    }
+
+    private long farExpiry() {
+
+        return System.currentTimeMillis() + 10 * FLUSH_INTERVAL;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.internal;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for StartupTaskRunner.
+ */
+public class StartupTaskRunnerTest {
+
+    @Test
+    public void testTasksRunConcurrently() {
+
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        try (StartupTaskRunner startupTasks = new StartupTaskRunner("test-startup", 2)) {
+            // Each task waits for the other one to start, which only completes if both run at the same time.
+            Future<Boolean> first = startupTasks.submit("first", () -> {
+                firstStarted.countDown();
+                return secondStarted.await(10, TimeUnit.SECONDS);
+            });
+            Future<Boolean> second = startupTasks.submit("second", () -> {
+                secondStarted.countDown();
+                return firstStarted.await(10, TimeUnit.SECONDS);
+            });
+            Assert.assertTrue(startupTasks.await(first));
+            Assert.assertTrue(startupTasks.await(second));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testAwaitRethrowsRuntimeException() {
+
+        try (StartupTaskRunner startupTasks = new StartupTaskRunner("test-startup", 1)) {
+            Future<Boolean> task = startupTasks.submit("failing", () -> {
+                throw new IllegalArgumentException("Invalid schema.");
+            });
+            startupTasks.await(task);
+        }
+    }
+
+    @Test
+    public void testAwaitWrapsCheckedException() {
+
+        try (StartupTaskRunner startupTasks = new StartupTaskRunner("test-startup", 1)) {
+            Future<Boolean> task = startupTasks.submit("failing", () -> {
+                throw new IOException("Database is not reachable.");
+            });
+            try {
+                startupTasks.await(task);
+                Assert.fail("The failure of the startup task is not propagated.");
+            } catch (IllegalStateException e) {
+                Assert.assertTrue(e.getCause() instanceof IOException);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.model.UserApplicationScopeConsentDO;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+@WithCarbonHome
+public class OAuthUserConsentedScopeCacheEntryTest {
+
+    private static final String APP_ID = "app1";
+    private static final String OTHER_APP_ID = "app2";
+
+    @Test
+    public void testConsentedForAllScopes() {
+
+        OAuthUserConsentedScopeCacheEntry entry = new OAuthUserConsentedScopeCacheEntry(APP_ID,
+                new UserApplicationScopeConsentDO(APP_ID, Arrays.asList("read", "write"),
+                        Collections.singletonList("delete")));
+
+        assertTrue(entry.isConsentedForAllScopes(APP_ID, Arrays.asList("read", "delete")));
+        assertFalse(entry.isConsentedForAllScopes(APP_ID, Arrays.asList("read", "update")));
+        assertFalse(entry.isConsentedForAllScopes(OTHER_APP_ID, Collections.singletonList("read")));
+    }
+
+    @Test
+    public void testNegativeConsentIsCached() {
+
+        OAuthUserConsentedScopeCacheEntry entry = new OAuthUserConsentedScopeCacheEntry();
+        entry.putConsent(APP_ID, new UserApplicationScopeConsentDO(APP_ID));
+
+        assertTrue(entry.containsConsent(APP_ID));
+        assertNotNull(entry.getConsent(APP_ID));
+        assertTrue(entry.getConsent(APP_ID).getApprovedScopes().isEmpty());
+        assertFalse(entry.isConsentedForAllScopes(APP_ID, Collections.singletonList("read")));
+        assertTrue(entry.isConsentedForAllScopes(APP_ID, Collections.emptyList()));
+    }
+
+    @Test
+    public void testConsentsOfMultipleApps() {
+
+        OAuthUserConsentedScopeCacheEntry entry = new OAuthUserConsentedScopeCacheEntry();
+        entry.putConsent(APP_ID, new UserApplicationScopeConsentDO(APP_ID, Collections.singletonList("read"), null));
+        entry.putConsent(OTHER_APP_ID, new UserApplicationScopeConsentDO(OTHER_APP_ID,
+                Collections.singletonList("write"), null));
+
+        assertEquals(entry.getConsent(APP_ID).getApprovedScopes(), Collections.singletonList("read"));
+        assertEquals(entry.getConsent(OTHER_APP_ID).getApprovedScopes(), Collections.singletonList("write"));
+
+        entry.removeConsent(APP_ID);
+        assertFalse(entry.containsConsent(APP_ID));
+        assertNull(entry.getConsent(APP_ID));
+        assertTrue(entry.containsConsent(OTHER_APP_ID));
+    }
+}
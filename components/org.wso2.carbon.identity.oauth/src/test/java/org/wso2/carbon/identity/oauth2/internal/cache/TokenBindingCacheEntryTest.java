@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.internal.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TokenBindingCacheEntryTest {
+
+    @Test
+    public void testEntryWithBinding() {
+
+        TokenBinding tokenBinding = new TokenBinding("token-id", "cookie", "reference", "value");
+        TokenBindingCacheEntry entry = new TokenBindingCacheEntry(tokenBinding);
+
+        assertFalse(entry.isEmpty());
+        assertEquals(entry.getBindingReference(), "reference");
+
+        TokenBinding cachedBinding = entry.toTokenBinding();
+        assertNotSame(cachedBinding, tokenBinding);
+        assertEquals(cachedBinding.getBindingType(), "cookie");
+        assertEquals(cachedBinding.getBindingReference(), "reference");
+        assertEquals(cachedBinding.getBindingValue(), "value");
+
+        cachedBinding.setBindingValue("modified");
+        assertEquals(entry.toTokenBinding().getBindingValue(), "value");
+    }
+
+    @Test
+    public void testEmptyEntry() {
+
+        TokenBindingCacheEntry entry = new TokenBindingCacheEntry(null);
+
+        assertTrue(entry.isEmpty());
+        assertNull(entry.getBindingReference());
+        assertNull(entry.toTokenBinding());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+
+/**
+ * Unit tests for TokenRequestRateLimiter.
+ */
+public class TokenRequestRateLimiterTest {
+
+    private static final String CLIENT_ID = "rate-limited-client";
+    private static final String CLIENT_CREDENTIALS = "client_credentials";
+    private static final String PASSWORD = "password";
+
+    @Test
+    public void testRequestsBeyondLimitAreRejected() {
+
+        TokenRequestRateLimiter rateLimiter = new TokenRequestRateLimiter(true, 5);
+        OAuthAppDO oAuthAppDO = buildApp(0);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS), 0);
+        }
+        long retryAfter = rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS);
+        Assert.assertTrue(retryAfter > 0 && retryAfter <= 12, "Unexpected retry after value: " + retryAfter);
+        Assert.assertEquals(rateLimiter.getRejectedRequestCount(CLIENT_ID), 1);
+        Assert.assertEquals(rateLimiter.getRejectedRequestCounts().get(CLIENT_ID).longValue(), 1);
+    }
+
+    @Test
+    public void testApplicationLimitOverridesDefault() {
+
+        TokenRequestRateLimiter rateLimiter = new TokenRequestRateLimiter(true, 100);
+        OAuthAppDO oAuthAppDO = buildApp(2);
+        Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS), 0);
+        Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS), 0);
+        Assert.assertTrue(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS) > 0);
+
+        // Raising the limit of the application takes effect immediately.
+        oAuthAppDO.setTokenRequestRateLimit(10);
+        Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS), 0);
+    }
+
+    @Test
+    public void testGrantTypesAreLimitedSeparately() {
+
+        TokenRequestRateLimiter rateLimiter = new TokenRequestRateLimiter(true, 1);
+        OAuthAppDO oAuthAppDO = buildApp(0);
+        Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS), 0);
+        Assert.assertTrue(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS) > 0);
+        Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, PASSWORD), 0);
+    }
+
+    @Test
+    public void testRequestsAreNotLimitedWhenDisabled() {
+
+        TokenRequestRateLimiter rateLimiter = new TokenRequestRateLimiter(false, 1);
+        OAuthAppDO oAuthAppDO = buildApp(1);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS), 0);
+        }
+        Assert.assertEquals(rateLimiter.getRejectedRequestCount(CLIENT_ID), 0);
+    }
+
+    @Test
+    public void testRequestsAreNotLimitedWithoutLimit() {
+
+        TokenRequestRateLimiter rateLimiter = new TokenRequestRateLimiter(true, 0);
+        OAuthAppDO oAuthAppDO = buildApp(0);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(rateLimiter.tryAcquire(oAuthAppDO, CLIENT_CREDENTIALS), 0);
+        }
+    }
+
+    private OAuthAppDO buildApp(int tokenRequestRateLimit) {
+
+        OAuthAppDO oAuthAppDO = new OAuthAppDO();
+        oAuthAppDO.setOauthConsumerKey(CLIENT_ID);
+        oAuthAppDO.setTokenRequestRateLimit(tokenRequestRateLimit);
+        return oAuthAppDO;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.handlers.grant;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for ClientCredentialsTokenCache.
+ */
+public class ClientCredentialsTokenCacheTest {
+
+    private static final String KEY = "carbon.super:client:scope";
+    private static final long VALIDITY_PERIOD = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    public void testCachedTokenIsReused() {
+
+        ClientCredentialsTokenCache cache = new ClientCredentialsTokenCache(true, 0.8, 10);
+        AccessTokenDO token = buildToken("token-1", System.currentTimeMillis(), VALIDITY_PERIOD);
+        long renewalTime = cache.put(KEY, token, false);
+
+        Assert.assertEquals(renewalTime, token.getIssuedTime().getTime() + (long) (VALIDITY_PERIOD * 0.8));
+        Assert.assertSame(cache.getToken(KEY, cachedToken -> true), token);
+        Assert.assertSame(cache.getToken(KEY, cachedToken -> true), token);
+        Assert.assertEquals(cache.getReuseCount(), 2);
+        Assert.assertFalse(cache.isRenewalClaimed(KEY, token.getTokenId()));
+    }
+
+    @Test
+    public void testRenewalIsClaimedOnce() {
+
+        ClientCredentialsTokenCache cache = new ClientCredentialsTokenCache(true, 0.5, 10);
+        // Issued three quarters of its lifetime ago, hence due for renewal.
+        AccessTokenDO token = buildToken("token-1", System.currentTimeMillis() - VALIDITY_PERIOD * 3 / 4,
+                VALIDITY_PERIOD);
+        cache.put(KEY, token, false);
+
+        Assert.assertNull(cache.getToken(KEY, cachedToken -> true), "Token due for renewal should not be reused.");
+        Assert.assertTrue(cache.claimRenewal(KEY), "First request should claim the renewal.");
+        Assert.assertFalse(cache.claimRenewal(KEY), "Renewal should be claimed only once.");
+        Assert.assertTrue(cache.isRenewalClaimed(KEY, token.getTokenId()));
+        // Concurrent requests keep getting the still valid token while the renewal is in progress.
+        Assert.assertSame(cache.getToken(KEY, cachedToken -> true), token);
+
+        AccessTokenDO renewedToken = buildToken("token-2", System.currentTimeMillis(), VALIDITY_PERIOD);
+        cache.put(KEY, renewedToken, true);
+        Assert.assertFalse(cache.isRenewalClaimed(KEY, renewedToken.getTokenId()));
+        Assert.assertSame(cache.getToken(KEY, cachedToken -> true), renewedToken);
+        Assert.assertEquals(cache.getRenewalCount(), 1);
+    }
+
+    @Test
+    public void testReleasedRenewalCanBeClaimedAgain() {
+
+        ClientCredentialsTokenCache cache = new ClientCredentialsTokenCache(true, 0.5, 10);
+        AccessTokenDO token = buildToken("token-1", System.currentTimeMillis() - VALIDITY_PERIOD * 3 / 4,
+                VALIDITY_PERIOD);
+        cache.put(KEY, token, false);
+
+        Assert.assertTrue(cache.claimRenewal(KEY));
+        cache.releaseRenewal(KEY);
+        Assert.assertFalse(cache.isRenewalClaimed(KEY, token.getTokenId()));
+        Assert.assertNull(cache.getToken(KEY, cachedToken -> true));
+        Assert.assertTrue(cache.claimRenewal(KEY));
+    }
+
+    @Test
+    public void testRenewalIsNotClaimedBeforeDue() {
+
+        ClientCredentialsTokenCache cache = new ClientCredentialsTokenCache(true, 0.8, 10);
+        AccessTokenDO token = buildToken("token-1", System.currentTimeMillis(), VALIDITY_PERIOD);
+        cache.put(KEY, token, false);
+
+        Assert.assertFalse(cache.claimRenewal(KEY));
+        Assert.assertFalse(cache.claimRenewal("unknown-key"));
+        Assert.assertFalse(cache.isRenewalClaimed(KEY, token.getTokenId()));
+    }
+
+    @Test
+    public void testExpiredOrReplacedTokenIsNotReused() {
+
+        ClientCredentialsTokenCache cache = new ClientCredentialsTokenCache(true, 0.8, 10);
+        cache.put(KEY, buildToken("token-1", System.currentTimeMillis() - VALIDITY_PERIOD * 2, VALIDITY_PERIOD),
+                false);
+        Assert.assertNull(cache.getToken(KEY, cachedToken -> true));
+        Assert.assertEquals(cache.getRenewalTime(KEY), Long.MAX_VALUE);
+
+        cache.put(KEY, buildToken("token-2", System.currentTimeMillis(), VALIDITY_PERIOD), false);
+        Assert.assertNull(cache.getToken(KEY, cachedToken -> false));
+        Assert.assertEquals(cache.getRenewalTime(KEY), Long.MAX_VALUE);
+        Assert.assertEquals(cache.getReuseCount(), 0);
+    }
+
+    @Test
+    public void testTokenWithInfiniteLifetimeIsNotRenewed() {
+
+        ClientCredentialsTokenCache cache = new ClientCredentialsTokenCache(true, 0.8, 10);
+        AccessTokenDO token = buildToken("token-1", System.currentTimeMillis() - VALIDITY_PERIOD, Long.MAX_VALUE);
+
+        Assert.assertEquals(cache.put(KEY, token, false), Long.MAX_VALUE);
+        Assert.assertSame(cache.getToken(KEY, cachedToken -> true), token);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+
+        ClientCredentialsTokenCache cache = new ClientCredentialsTokenCache(true, 0.8, 2);
+        long now = System.currentTimeMillis();
+        cache.put("key-1", buildToken("token-1", now, VALIDITY_PERIOD), false);
+        cache.put("key-2", buildToken("token-2", now, VALIDITY_PERIOD), false);
+        cache.put("key-3", buildToken("token-3", now, VALIDITY_PERIOD), false);
+
+        Assert.assertNull(cache.getToken("key-1", cachedToken -> true));
+        Assert.assertNotNull(cache.getToken("key-3", cachedToken -> true));
+    }
+
+    private AccessTokenDO buildToken(String tokenId, long issuedTime, long validityPeriod) {
+
+        AccessTokenDO token = new AccessTokenDO();
+        token.setTokenId(tokenId);
+        token.setConsumerKey("client");
+        token.setIssuedTime(new Timestamp(issuedTime));
+        token.setValidityPeriodInMillis(validityPeriod);
+        return token;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ConfigPropertyUtil}.
+ */
+public class ConfigPropertyUtilTest {
+
+    private static final String PROPERTY = "OAuth.Test.Property";
+
+    private enum Policy {
+        BLOCK,
+        CALLER_RUNS
+    }
+
+    @DataProvider(name = "positiveLongProperties")
+    public Object[][] positiveLongProperties() {
+
+        return new Object[][]{
+                {null, 10L},
+                {" ", 10L},
+                {"25", 25L},
+                {" 25 ", 25L},
+                {"0", 10L},
+                {"-5", 10L},
+                {"abc", 10L}
+        };
+    }
+
+    @Test(dataProvider = "positiveLongProperties")
+    public void testGetPositiveLongProperty(String value, long expected) {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn(value);
+            assertEquals(ConfigPropertyUtil.getPositiveLongProperty(PROPERTY, 10L), expected);
+            assertEquals(ConfigPropertyUtil.getPositiveIntProperty(PROPERTY, 10), (int) expected);
+        }
+    }
+
+    @Test
+    public void testGetNonNegativeLongProperty() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("0");
+            assertEquals(ConfigPropertyUtil.getNonNegativeLongProperty(PROPERTY, 10L), 0L);
+            assertEquals(ConfigPropertyUtil.getNonNegativeIntProperty(PROPERTY, 10), 0);
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("-1");
+            assertEquals(ConfigPropertyUtil.getNonNegativeLongProperty(PROPERTY, 10L), 10L);
+            assertEquals(ConfigPropertyUtil.getNonNegativeIntProperty(PROPERTY, 10), 10);
+        }
+    }
+
+    @Test
+    public void testGetIntProperty() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("-1");
+            assertEquals(ConfigPropertyUtil.getIntProperty(PROPERTY, 10), -1);
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("abc");
+            assertEquals(ConfigPropertyUtil.getIntProperty(PROPERTY, 10), 10);
+        }
+    }
+
+    @Test
+    public void testGetFractionProperty() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("0.5");
+            assertEquals(ConfigPropertyUtil.getFractionProperty(PROPERTY, 0.8), 0.5);
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("1.5");
+            assertEquals(ConfigPropertyUtil.getFractionProperty(PROPERTY, 0.8), 0.8);
+        }
+    }
+
+    @Test
+    public void testGetBooleanProperty() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn(null);
+            assertTrue(ConfigPropertyUtil.getBooleanProperty(PROPERTY, true));
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn(" false ");
+            assertFalse(ConfigPropertyUtil.getBooleanProperty(PROPERTY, true));
+        }
+    }
+
+    @Test
+    public void testGetEnumProperty() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("caller_runs");
+            assertEquals(ConfigPropertyUtil.getEnumProperty(PROPERTY, Policy.class, Policy.BLOCK),
+                    Policy.CALLER_RUNS);
+            identityUtil.when(() -> IdentityUtil.getProperty(PROPERTY)).thenReturn("unknown");
+            assertEquals(ConfigPropertyUtil.getEnumProperty(PROPERTY, Policy.class, Policy.BLOCK), Policy.BLOCK);
+        }
+    }
+}
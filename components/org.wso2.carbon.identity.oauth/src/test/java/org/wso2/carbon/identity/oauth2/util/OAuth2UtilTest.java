@@ -25,6 +25,7 @@ import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.util.base64.Base64Utils;
+import org.apache.axis2.clustering.ClusteringAgent;
 import org.apache.axis2.context.ConfigurationContext;
 import org.apache.axis2.engine.AxisConfiguration;
 import org.apache.axis2.transport.http.HTTPConstants;
@@ -3266,4 +3267,20 @@ public class OAuth2UtilTest {
         String actualIdTokenIssuer = OAuth2Util.getIdTokenIssuer(tenantDomain, clientID, isMtlsRequest);
         assertEquals(actualIdTokenIssuer, expectedResult);
     }
+
+    @Test
+    public void testIsSelfContainedAuthCodeEnabledWhenClustered() {
+
+        OAuth2ServiceComponentHolder.setConfigurationContextService(mockConfigurationContextService);
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(OAuth2Constants.OAUTH_SELF_CONTAINED_CODE_ENABLE))
+                    .thenReturn("true");
+            assertTrue(OAuth2Util.isSelfContainedAuthCodeEnabled());
+
+            when(mockAxisConfiguration.getClusteringAgent()).thenReturn(mock(ClusteringAgent.class));
+            assertFalse(OAuth2Util.isSelfContainedAuthCodeEnabled());
+        } finally {
+            OAuth2ServiceComponentHolder.setConfigurationContextService(null);
+        }
+    }
 }
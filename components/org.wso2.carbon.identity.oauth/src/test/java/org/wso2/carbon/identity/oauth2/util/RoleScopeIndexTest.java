@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+@WithCarbonHome
+public class RoleScopeIndexTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private final RoleScopeIndex roleScopeIndex = RoleScopeIndex.getInstance();
+
+    @AfterMethod
+    public void tearDown() {
+
+        roleScopeIndex.clear(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    @Test
+    public void testTenantIndexIsReused() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        RoleScopeIndex.TenantIndex tenantIndex = roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary);
+        RoleScopeIndex.TenantIndex.Builder builder = tenantIndex.toBuilder();
+        builder.putRoleScopes("role1", Arrays.asList("read", "write"));
+        assertTrue(builder.getRoleScopes("role1").containsAll(Arrays.asList("write", "read")));
+        // The cached index is not modified by the builder.
+        assertNull(tenantIndex.getRoleScopes("role1"));
+
+        roleScopeIndex.update(TENANT_DOMAIN, tenantIndex, builder);
+        RoleScopeIndex.TenantIndex updatedTenantIndex = roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary);
+        assertNotSame(updatedTenantIndex, tenantIndex);
+        assertSame(roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary), updatedTenantIndex);
+        assertTrue(updatedTenantIndex.getRoleScopes("role1").containsAll(Arrays.asList("write", "read")));
+        assertNull(updatedTenantIndex.getRoleScopes("role2"));
+        // A cleared vocabulary invalidates the index built on it.
+        assertNotSame(roleScopeIndex.getTenantIndex(TENANT_DOMAIN, new ScopeVocabulary(100)), updatedTenantIndex);
+    }
+
+    @Test
+    public void testEntriesLoadedDuringInvalidationAreNotAdded() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        RoleScopeIndex.TenantIndex tenantIndex = roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary);
+        RoleScopeIndex.TenantIndex.Builder builder = tenantIndex.toBuilder();
+        builder.putOrganizationRoleIds(new HashSet<>(Arrays.asList("role1", "role2")));
+
+        roleScopeIndex.invalidateTenant(TENANT_DOMAIN);
+        roleScopeIndex.update(TENANT_DOMAIN, tenantIndex, builder);
+
+        assertNull(roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary).getOrganizationRoleIds());
+    }
+
+    @Test
+    public void testInvalidateTenant() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        RoleScopeIndex.TenantIndex tenantIndex = addOrganizationRoleIds(TENANT_DOMAIN, vocabulary, "role1", "role2");
+        RoleScopeIndex.TenantIndex otherTenantIndex = roleScopeIndex.getTenantIndex("abc.com", vocabulary);
+
+        roleScopeIndex.invalidateTenant(TENANT_DOMAIN);
+
+        RoleScopeIndex.TenantIndex newTenantIndex = roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary);
+        assertNotSame(newTenantIndex, tenantIndex);
+        assertNull(newTenantIndex.getOrganizationRoleIds());
+        assertSame(roleScopeIndex.getTenantIndex("abc.com", vocabulary), otherTenantIndex);
+    }
+
+    @Test
+    public void testInvalidateApplication() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        RoleScopeIndex.TenantIndex tenantIndex = addApplicationRoleIds(TENANT_DOMAIN, vocabulary, "app1", "role1");
+        RoleScopeIndex.TenantIndex otherTenantIndex = addApplicationRoleIds("abc.com", vocabulary, "app2", "role2");
+
+        roleScopeIndex.invalidateApplication("app1");
+
+        // The tenants accessing the application are not known, hence every index is discarded.
+        assertNotSame(roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary), tenantIndex);
+        RoleScopeIndex.TenantIndex newOtherTenantIndex = roleScopeIndex.getTenantIndex("abc.com", vocabulary);
+        assertNotSame(newOtherTenantIndex, otherTenantIndex);
+        assertNull(newOtherTenantIndex.getApplicationRoleIds("app2"));
+        assertEquals(otherTenantIndex.getApplicationRoleIds("app2"), Collections.singleton("role2"));
+    }
+
+    @Test
+    public void testInvalidateAllTenants() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        RoleScopeIndex.TenantIndex tenantIndex = addOrganizationRoleIds(TENANT_DOMAIN, vocabulary, "role1");
+        RoleScopeIndex.TenantIndex otherTenantIndex = addOrganizationRoleIds("abc.com", vocabulary, "role2");
+
+        roleScopeIndex.invalidateAllTenants();
+
+        assertNotSame(roleScopeIndex.getTenantIndex(TENANT_DOMAIN, vocabulary), tenantIndex);
+        assertNotSame(roleScopeIndex.getTenantIndex("abc.com", vocabulary), otherTenantIndex);
+    }
+
+    private RoleScopeIndex.TenantIndex addApplicationRoleIds(String tenantDomain, ScopeVocabulary vocabulary,
+                                                             String appId, String... roleIds) {
+
+        RoleScopeIndex.TenantIndex tenantIndex = roleScopeIndex.getTenantIndex(tenantDomain, vocabulary);
+        RoleScopeIndex.TenantIndex.Builder builder = tenantIndex.toBuilder();
+        builder.putApplicationRoleIds(appId, new HashSet<>(Arrays.asList(roleIds)));
+        roleScopeIndex.update(tenantDomain, tenantIndex, builder);
+        return roleScopeIndex.getTenantIndex(tenantDomain, vocabulary);
+    }
+
+    private RoleScopeIndex.TenantIndex addOrganizationRoleIds(String tenantDomain, ScopeVocabulary vocabulary,
+                                                              String... roleIds) {
+
+        RoleScopeIndex.TenantIndex tenantIndex = roleScopeIndex.getTenantIndex(tenantDomain, vocabulary);
+        RoleScopeIndex.TenantIndex.Builder builder = tenantIndex.toBuilder();
+        builder.putOrganizationRoleIds(new HashSet<>(Arrays.asList(roleIds)));
+        roleScopeIndex.update(tenantDomain, tenantIndex, builder);
+        return roleScopeIndex.getTenantIndex(tenantDomain, vocabulary);
+    }
+}
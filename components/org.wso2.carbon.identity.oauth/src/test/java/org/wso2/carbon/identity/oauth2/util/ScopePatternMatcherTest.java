@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ScopePatternMatcherTest {
+
+    private static final List<String> PATTERNS = Arrays.asList("openid", "^device_.*", "internal_.*$", "^am_.+",
+            "scope[0-9]{2}", "apim:.*", "a.c", ".*_admin", "^exact$", "console:*", "dollar\\$");
+
+    @DataProvider(name = "scopeDataProvider")
+    public Object[][] scopeData() {
+
+        return new Object[][]{
+                {"openid"}, {"openid2"}, {"device_"}, {"device_01"}, {"xdevice_01"}, {"internal_login"},
+                {"internal_"}, {"am_"}, {"am_x"}, {"scope42"}, {"scope4"}, {"apim:subscribe"}, {"abc"}, {"a.c"},
+                {"ac"}, {"tenant_admin"}, {"exact"}, {"exactly"}, {"console:"}, {"console::"}, {"dollar$"},
+                {"device_\nline"}, {"device_\u2028"}, {""}
+        };
+    }
+
+    @Test(dataProvider = "scopeDataProvider")
+    public void testMatchesSameAsStringMatches(String scope) {
+
+        ScopePatternMatcher matcher = new ScopePatternMatcher(PATTERNS);
+        assertEquals(matcher.matches(scope), matchesAny(PATTERNS, scope), "Unexpected result for scope: " + scope);
+    }
+
+    @Test
+    public void testMatchAll() {
+
+        ScopePatternMatcher matcher = new ScopePatternMatcher(Collections.singletonList(".*"));
+        assertTrue(matcher.matches(""));
+        assertTrue(matcher.matches("any_scope"));
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    public void testInvalidPatternIsIgnored() {
+
+        ScopePatternMatcher matcher = new ScopePatternMatcher(Arrays.asList("scope(", "openid"));
+        assertTrue(matcher.matches("openid"));
+        assertFalse(matcher.matches("scope("));
+    }
+
+    @Test
+    public void testGetInstance() {
+
+        List<String> patterns = new ArrayList<>(PATTERNS);
+        ScopePatternMatcher matcher = ScopePatternMatcher.getInstance(patterns);
+        assertSame(ScopePatternMatcher.getInstance(new ArrayList<>(PATTERNS)), matcher);
+
+        patterns.add("new_scope");
+        ScopePatternMatcher updatedMatcher = ScopePatternMatcher.getInstance(patterns);
+        assertTrue(updatedMatcher.matches("new_scope"));
+        assertFalse(matcher.matches("new_scope"));
+    }
+
+    private static boolean matchesAny(List<String> patterns, String scope) {
+
+        for (String pattern : patterns) {
+            if (scope.matches(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
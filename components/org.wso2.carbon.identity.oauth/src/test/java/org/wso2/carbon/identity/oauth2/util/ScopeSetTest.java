@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ScopeSetTest {
+
+    @Test
+    public void testContains() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        ScopeSet scopeSet = ScopeSet.of(vocabulary, Arrays.asList("read", "write", "read"));
+
+        assertEquals(scopeSet.size(), 2);
+        assertTrue(scopeSet.contains("read"));
+        assertTrue(scopeSet.containsAll(Arrays.asList("write", "read")));
+        assertFalse(scopeSet.contains("delete"));
+        assertFalse(scopeSet.contains(null));
+        // Looking up a requested scope must not add it to the vocabulary.
+        assertEquals(vocabulary.lookupScopeId("delete"), ScopeVocabulary.UNKNOWN_SCOPE_ID);
+    }
+
+    @Test
+    public void testContainsAllScopeSet() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        ScopeSet scopeSet = ScopeSet.of(vocabulary, Arrays.asList("a", "b", "c", "d"));
+
+        assertTrue(scopeSet.containsAll(ScopeSet.of(vocabulary, Arrays.asList("d", "b"))));
+        assertTrue(scopeSet.containsAll(ScopeSet.of(vocabulary, Collections.emptyList())));
+        assertFalse(scopeSet.containsAll(ScopeSet.of(vocabulary, Arrays.asList("b", "e"))));
+        assertTrue(scopeSet.containsAll(ScopeSet.of(new ScopeVocabulary(100), Arrays.asList("c", "a"))));
+    }
+
+    @Test
+    public void testEqualsAndScopeString() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(100);
+        ScopeSet scopeSet = ScopeSet.of(vocabulary, Arrays.asList("write", "openid", "read"));
+        ScopeSet sameScopeSet = ScopeSet.of(vocabulary, Arrays.asList("read", "write", "openid"));
+
+        assertEquals(scopeSet, sameScopeSet);
+        assertEquals(scopeSet.hashCode(), sameScopeSet.hashCode());
+        assertNotEquals(scopeSet, ScopeSet.of(vocabulary, Arrays.asList("read", "write")));
+        assertEquals(scopeSet.toScopeString(), "openid read write");
+    }
+
+    @Test
+    public void testFilterPreservesOrder() {
+
+        ScopeSet scopeSet = ScopeSet.of(new ScopeVocabulary(100), Arrays.asList("a", "b", "c"));
+
+        assertEquals(scopeSet.filter(Arrays.asList("c", "x", "a")), Arrays.asList("c", "a"));
+    }
+
+    @Test
+    public void testFullVocabulary() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(2);
+        ScopeSet scopeSet = ScopeSet.of(vocabulary, Arrays.asList("a", "b", "c", "d"));
+
+        assertEquals(scopeSet.size(), 4);
+        assertTrue(scopeSet.containsAll(Arrays.asList("a", "b", "c", "d")));
+        assertFalse(scopeSet.contains("e"));
+        assertEquals(scopeSet.toScopeString(), "a b c d");
+    }
+
+    @Test
+    public void testUnion() {
+
+        ScopeVocabulary vocabulary = new ScopeVocabulary(3);
+        ScopeSet union = ScopeSet.union(vocabulary, Arrays.asList(
+                ScopeSet.of(vocabulary, Arrays.asList("a", "b")),
+                ScopeSet.of(vocabulary, Arrays.asList("b", "c", "d")),
+                ScopeSet.of(new ScopeVocabulary(100), Arrays.asList("a", "e"))));
+
+        assertEquals(union.size(), 5);
+        assertEquals(union, ScopeSet.of(vocabulary, Arrays.asList("e", "d", "c", "b", "a")));
+        assertEquals(union.toScopeString(), "a b c d e");
+        assertTrue(ScopeSet.union(vocabulary, Collections.emptyList()).isEmpty());
+    }
+}
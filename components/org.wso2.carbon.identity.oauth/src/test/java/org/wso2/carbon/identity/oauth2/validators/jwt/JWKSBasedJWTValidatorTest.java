@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.oauth2.validators.jwt;
 
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jwt.JWTClaimsSet;
@@ -75,7 +74,7 @@ public class JWKSBasedJWTValidatorTest {
     @Mock
     private JWKSourceDataProvider dataProvider;
     @Mock
-    private RemoteJWKSet<SecurityContext> jwkSet;
+    private RefreshingJWKSource jwkSource;
 
     @BeforeMethod
     public void setUp() {
@@ -111,9 +110,10 @@ public class JWKSBasedJWTValidatorTest {
                 validator = new JWKSBasedJWTValidator();
 
                 if (testScenario == TestScenario.INVALID_JWKS) {
-                    doThrow(testScenario.throwError()).when(dataProvider).getJWKSource(jwksUri);
+                    doThrow(testScenario.throwError()).when(dataProvider).getRefreshingJWKSource(jwksUri);
                 } else {
-                    when(dataProvider.getJWKSource(anyString())).thenReturn(jwkSet);
+                    when(dataProvider.getRefreshingJWKSource(anyString())).thenReturn(jwkSource);
+                    when(jwkSource.getJWTProcessor(any())).thenAnswer(invocation -> new DefaultJWTProcessor<>());
                 }
 
                 try {
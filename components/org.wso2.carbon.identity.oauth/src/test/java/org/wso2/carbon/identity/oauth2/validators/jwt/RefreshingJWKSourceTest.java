@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link RefreshingJWKSource}.
+ */
+public class RefreshingJWKSourceTest {
+
+    private static final long ONE_HOUR = 60 * 60 * 1000L;
+
+    private RSAKey firstKey;
+    private RSAKey secondKey;
+    private URL jwksUrl;
+    private StubResourceRetriever resourceRetriever;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        firstKey = new RSAKey.Builder((RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic())
+                .keyID("key-1").build();
+        secondKey = new RSAKey.Builder((RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic())
+                .keyID("key-2").build();
+        jwksUrl = new URL("https://localhost:9443/oauth2/jwks");
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        resourceRetriever = new StubResourceRetriever();
+        resourceRetriever.jwks = new JWKSet(firstKey).toString();
+    }
+
+    @Test
+    public void testKeySetIsRetrievedOnce() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, ONE_HOUR,
+                ONE_HOUR, ONE_HOUR);
+
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+        assertEquals(resourceRetriever.retrievals.get(), 1);
+    }
+
+    @Test
+    public void testUnknownKeyIdTriggersRetrieval() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, ONE_HOUR,
+                ONE_HOUR, 0);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+
+        resourceRetriever.jwks = new JWKSet(Arrays.<JWK>asList(firstKey, secondKey)).toString();
+        List<JWK> matchingKeys = jwkSource.get(selectorOf("key-2"), null);
+
+        assertEquals(matchingKeys.size(), 1);
+        assertEquals(matchingKeys.get(0).getKeyID(), "key-2");
+        assertEquals(resourceRetriever.retrievals.get(), 2);
+    }
+
+    @Test
+    public void testUnknownKeyIdRetrievalIsRateLimited() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, ONE_HOUR,
+                ONE_HOUR, ONE_HOUR);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+
+        resourceRetriever.jwks = new JWKSet(Arrays.<JWK>asList(firstKey, secondKey)).toString();
+
+        assertTrue(jwkSource.get(selectorOf("key-2"), null).isEmpty());
+        assertTrue(jwkSource.get(selectorOf("unknown"), null).isEmpty());
+        assertEquals(resourceRetriever.retrievals.get(), 1);
+    }
+
+    @Test
+    public void testStaleKeySetIsServedWhileRefreshing() throws Exception {
+
+        List<Runnable> scheduledRefreshes = new ArrayList<>();
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, scheduledRefreshes::add,
+                -1, ONE_HOUR, 0);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+
+        // The key set is due for a refresh, but the current keys are served until the refresh completes.
+        resourceRetriever.jwks = new JWKSet(secondKey).toString();
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+        assertEquals(scheduledRefreshes.size(), 1, "Only one refresh should be in progress at a time.");
+        assertEquals(resourceRetriever.retrievals.get(), 1);
+
+        scheduledRefreshes.remove(0).run();
+
+        assertTrue(jwkSource.get(selectorOf("key-1"), null).isEmpty());
+        assertEquals(jwkSource.get(selectorOf("key-2"), null).size(), 1);
+    }
+
+    @Test
+    public void testFailedRefreshKeepsCurrentKeySet() throws Exception {
+
+        List<Runnable> scheduledRefreshes = new ArrayList<>();
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, scheduledRefreshes::add,
+                -1, ONE_HOUR, 0);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+
+        resourceRetriever.failing = true;
+        jwkSource.refresh();
+        scheduledRefreshes.remove(0).run();
+
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+    }
+
+    @Test(timeOut = 10000)
+    public void testUnknownKeyIdDoesNotWaitForRetrievalInProgress() throws Exception {
+
+        List<Runnable> scheduledRefreshes = new ArrayList<>();
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, scheduledRefreshes::add,
+                ONE_HOUR, ONE_HOUR, 0);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+
+        resourceRetriever.jwks = new JWKSet(Arrays.<JWK>asList(firstKey, secondKey)).toString();
+        resourceRetriever.retrievalStarted = new CountDownLatch(1);
+        resourceRetriever.endpointResponse = new CountDownLatch(1);
+        jwkSource.refresh();
+        Thread refreshThread = new Thread(scheduledRefreshes.remove(0));
+        refreshThread.start();
+        resourceRetriever.retrievalStarted.await();
+
+        // The request keeps using the current key set instead of waiting for the retrieval in progress.
+        assertTrue(jwkSource.get(selectorOf("key-2"), null).isEmpty());
+
+        resourceRetriever.endpointResponse.countDown();
+        refreshThread.join();
+        assertEquals(jwkSource.get(selectorOf("key-2"), null).size(), 1);
+        assertEquals(resourceRetriever.retrievals.get(), 2);
+    }
+
+    @Test
+    public void testKeySetPastMaxStaleTimeIsNotServed() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, -1, -1, 0);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+
+        // The key set is past the max stale time, hence its keys are not served while the endpoint is down.
+        resourceRetriever.failing = true;
+        assertRetrievalFails(jwkSource);
+
+        resourceRetriever.failing = false;
+        resourceRetriever.jwks = new JWKSet(secondKey).toString();
+        assertEquals(jwkSource.get(selectorOf("key-2"), null).size(), 1);
+        assertEquals(resourceRetriever.retrievals.get(), 3);
+    }
+
+    @Test
+    public void testKeySetPastMaxStaleTimeRetrievalIsRateLimited() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, -1, -1,
+                ONE_HOUR);
+        assertEquals(jwkSource.get(selectorOf("key-1"), null).size(), 1);
+
+        assertRetrievalFails(jwkSource);
+        assertEquals(resourceRetriever.retrievals.get(), 1);
+    }
+
+    @Test(expectedExceptions = KeySourceException.class)
+    public void testInitialRetrievalFailure() throws Exception {
+
+        resourceRetriever.failing = true;
+        new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, ONE_HOUR, ONE_HOUR, ONE_HOUR)
+                .get(selectorOf("key-1"), null);
+    }
+
+    @Test
+    public void testInitialRetrievalFailureIsRateLimited() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, ONE_HOUR,
+                ONE_HOUR, ONE_HOUR);
+        resourceRetriever.failing = true;
+        assertRetrievalFails(jwkSource);
+
+        // Requests within the min refetch interval fail without accessing the endpoint again.
+        resourceRetriever.failing = false;
+        assertRetrievalFails(jwkSource);
+        assertEquals(resourceRetriever.retrievals.get(), 1);
+    }
+
+    @Test
+    public void testGetCertificate() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, ONE_HOUR,
+                ONE_HOUR, ONE_HOUR);
+
+        assertNull(jwkSource.getCertificate("key-1"), "Key without x5c should not have a certificate.");
+    }
+
+    @Test(expectedExceptions = KeySourceException.class)
+    public void testGetCertificateOfUnknownKey() throws Exception {
+
+        RefreshingJWKSource jwkSource = new RefreshingJWKSource(jwksUrl, resourceRetriever, Runnable::run, ONE_HOUR,
+                ONE_HOUR, ONE_HOUR);
+
+        jwkSource.getCertificate("unknown");
+    }
+
+    private static void assertRetrievalFails(RefreshingJWKSource jwkSource) {
+
+        try {
+            jwkSource.get(selectorOf("key-1"), null);
+            fail("Retrieval of the key set should fail.");
+        } catch (KeySourceException e) {
+            // Expected.
+        }
+    }
+
+    private static JWKSelector selectorOf(String kid) {
+
+        return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+    }
+
+    private static class StubResourceRetriever implements ResourceRetriever {
+
+        private final AtomicInteger retrievals = new AtomicInteger();
+        private volatile String jwks;
+        private volatile boolean failing;
+        private volatile CountDownLatch retrievalStarted;
+        private volatile CountDownLatch endpointResponse;
+
+        @Override
+        public Resource retrieveResource(URL url) throws IOException {
+
+            retrievals.incrementAndGet();
+            if (retrievalStarted != null) {
+                retrievalStarted.countDown();
+                try {
+                    endpointResponse.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            if (failing) {
+                throw new IOException("JWKS endpoint is not reachable.");
+            }
+            return new Resource(jwks, "application/json");
+        }
+    }
+}
@@ -97,6 +97,15 @@ CREATE TABLE IF NOT EXISTS IDN_OAUTH2_TOKEN_BINDING (
     FOREIGN KEY (TOKEN_ID) REFERENCES IDN_OAUTH2_ACCESS_TOKEN(TOKEN_ID) ON DELETE CASCADE
 );
 
+CREATE TABLE IF NOT EXISTS IDN_OAUTH2_REVOKED_TOKENS (
+    UUID VARCHAR(255) NOT NULL,
+    TOKEN_IDENTIFIER VARCHAR(2048) NOT NULL,
+    CONSUMER_KEY VARCHAR(255) NOT NULL,
+    TIME_CREATED TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    EXPIRY_TIME TIMESTAMP NOT NULL,
+    PRIMARY KEY (UUID)
+);
+
 CREATE TABLE IF NOT EXISTS IDN_OAUTH2_ACCESS_TOKEN_AUDIT (
     ID INTEGER NOT NULL AUTO_INCREMENT,
     TOKEN_ID VARCHAR (255),
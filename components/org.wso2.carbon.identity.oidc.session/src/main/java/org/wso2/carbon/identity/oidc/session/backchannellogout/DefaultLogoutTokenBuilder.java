@@ -137,21 +137,69 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
 
         Map<String, String> logoutTokenList = new HashMap<>();
         // Send logout token to all RPs.
+        for (PendingLogoutToken pendingLogoutToken : buildPendingLogoutTokens(opbscookie, tenantDomain)) {
+            String logoutToken = OAuth2Util.signJWT(pendingLogoutToken.getClaimsSet(), signatureAlgorithm,
+                    pendingLogoutToken.getSigningTenantDomain()).serialize();
+            logoutTokenList.put(logoutToken, pendingLogoutToken.getBackChannelLogoutUrl());
+        }
+        return logoutTokenList;
+    }
+
+    /**
+     * Builds the unsigned logout tokens of all the RPs of the session which have registered a back-channel logout
+     * url. The claims common to the RPs of a tenant are built once and shared by the logout tokens of those RPs.
+     *
+     * @param opbscookie   OpbsCookie.
+     * @param tenantDomain Tenant domain of the session.
+     * @return Unsigned logout tokens.
+     * @throws IdentityOAuth2Exception If building the logout token claims fails.
+     */
+    List<PendingLogoutToken> buildPendingLogoutTokens(String opbscookie, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        List<PendingLogoutToken> pendingLogoutTokens = new ArrayList<>();
         OIDCSessionState sessionState = getSessionState(opbscookie, tenantDomain);
         if (sessionState != null) {
             Set<String> sessionParticipants = getSessionParticipants(sessionState);
-            if (!sessionParticipants.isEmpty()) {
-                for (String clientID : sessionParticipants) {
-                    addToLogoutTokenList(logoutTokenList, sessionState, clientID);
+            Map<String, JWTClaimsSet> claimsTemplates = new HashMap<>();
+            for (String clientID : sessionParticipants) {
+                PendingLogoutToken pendingLogoutToken = buildPendingLogoutToken(sessionState, clientID,
+                        claimsTemplates);
+                if (pendingLogoutToken != null) {
+                    pendingLogoutTokens.add(pendingLogoutToken);
                 }
             }
         }
-        return logoutTokenList;
+        return pendingLogoutTokens;
+    }
+
+    /**
+     * Returns the signer used to sign the logout tokens of the given signing tenant domain.
+     *
+     * @param signingTenantDomain Signing tenant domain.
+     * @return Logout token signer.
+     * @throws IdentityOAuth2Exception If the signing key of the tenant cannot be resolved.
+     */
+    LogoutTokenSigner getSigner(String signingTenantDomain) throws IdentityOAuth2Exception {
+
+        return new LogoutTokenSigner(signatureAlgorithm, signingTenantDomain);
     }
 
     private void addToLogoutTokenList(Map<String, String> logoutTokenList,
                                       OIDCSessionState sessionState, String clientID) throws IdentityOAuth2Exception {
 
+        PendingLogoutToken pendingLogoutToken = buildPendingLogoutToken(sessionState, clientID, new HashMap<>());
+        if (pendingLogoutToken != null) {
+            String logoutToken = OAuth2Util.signJWT(pendingLogoutToken.getClaimsSet(), signatureAlgorithm,
+                    pendingLogoutToken.getSigningTenantDomain()).serialize();
+            logoutTokenList.put(logoutToken, pendingLogoutToken.getBackChannelLogoutUrl());
+        }
+    }
+
+    private PendingLogoutToken buildPendingLogoutToken(OIDCSessionState sessionState, String clientID,
+                                                       Map<String, JWTClaimsSet> claimsTemplates)
+            throws IdentityOAuth2Exception {
+
         OAuthAppDO oAuthAppDO;
         try {
             oAuthAppDO = getOAuthAppDO(clientID);
@@ -161,38 +209,40 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
                         + " does not exists. This application may be deleted after"
                         + " this session is created. So skipping it in logout token list.", e);
             }
-            return;
+            return null;
         }
         String backChannelLogoutUrl = oAuthAppDO.getBackChannelLogoutUrl();
-        if (StringUtils.isNotBlank(backChannelLogoutUrl)) {
-            // Send back-channel logout request to all RPs those registered their back-channel logout uri.
-            JWTClaimsSet jwtClaimsSet = buildJwtToken(sessionState, getTenanatDomain(oAuthAppDO), clientID);
-            String logoutToken = OAuth2Util.signJWT(jwtClaimsSet, signatureAlgorithm,
-                    getSigningTenantDomain(oAuthAppDO)).serialize();
-            logoutTokenList.put(logoutToken, backChannelLogoutUrl);
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Logout token created for the client: " + clientID);
-            }
+        if (StringUtils.isBlank(backChannelLogoutUrl)) {
+            return null;
+        }
+        // Send back-channel logout request to all RPs those registered their back-channel logout uri.
+        String tenantDomain = getTenanatDomain(oAuthAppDO);
+        JWTClaimsSet claimsTemplate = claimsTemplates.get(tenantDomain);
+        if (claimsTemplate == null) {
+            claimsTemplate = buildClaimsTemplate(sessionState, tenantDomain);
+            claimsTemplates.put(tenantDomain, claimsTemplate);
         }
+        JWTClaimsSet jwtClaimsSet = buildJwtToken(claimsTemplate, clientID);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Logout token created for the client: " + clientID);
+        }
+        return new PendingLogoutToken(clientID, backChannelLogoutUrl, getSigningTenantDomain(oAuthAppDO),
+                jwtClaimsSet);
     }
 
     /**
-     * Builds jwtClaimSet.
+     * Builds the claims which are common to the logout tokens of all the RPs of the session in a tenant.
      *
-     * @param sessionState
-     * @param tenantDomain
-     * @param clientID
-     * @return
-     * @throws IdentityOAuth2Exception
+     * @param sessionState OIDC session state.
+     * @param tenantDomain Tenant domain of the RPs.
+     * @return Claims template.
+     * @throws IdentityOAuth2Exception If resolving the issuer fails.
      */
-    private JWTClaimsSet buildJwtToken(OIDCSessionState sessionState, String tenantDomain, String clientID)
+    private JWTClaimsSet buildClaimsTemplate(OIDCSessionState sessionState, String tenantDomain)
             throws IdentityOAuth2Exception {
 
         String sub = sessionState.getAuthenticatedUser();
-        String jti = UUID.randomUUID().toString();
         String iss = getIssuer(tenantDomain);
-        List<String> audience = getAudience(clientID);
         long logoutTokenValidityInMillis = getLogoutTokenExpiryInMillis();
         long currentTimeInMillis = Calendar.getInstance().getTimeInMillis();
         Date iat = new Date(currentTimeInMillis);
@@ -203,8 +253,6 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
         JWTClaimsSet.Builder jwtClaimsSetBuilder = new JWTClaimsSet.Builder();
         jwtClaimsSetBuilder.subject(sub);
         jwtClaimsSetBuilder.issuer(iss);
-        jwtClaimsSetBuilder.audience(audience);
-        jwtClaimsSetBuilder.claim("jti", jti);
         jwtClaimsSetBuilder.claim("events", event);
         jwtClaimsSetBuilder.expirationTime(new Date(currentTimeInMillis + logoutTokenValidityInMillis));
         jwtClaimsSetBuilder.claim("iat", iat);
@@ -213,6 +261,21 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
         return jwtClaimsSetBuilder.build();
     }
 
+    /**
+     * Builds jwtClaimSet of a RP from the claims template.
+     *
+     * @param claimsTemplate Claims common to the RPs of the tenant.
+     * @param clientID       Client id of the RP.
+     * @return Logout token claims of the RP.
+     */
+    private JWTClaimsSet buildJwtToken(JWTClaimsSet claimsTemplate, String clientID) {
+
+        return new JWTClaimsSet.Builder(claimsTemplate)
+                .audience(getAudience(clientID))
+                .claim("jti", UUID.randomUUID().toString())
+                .build();
+    }
+
     /**
      * Returns client id from servlet request.
      *
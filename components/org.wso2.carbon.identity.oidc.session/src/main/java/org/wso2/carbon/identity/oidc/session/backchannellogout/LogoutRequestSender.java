@@ -17,7 +17,7 @@
  */
 package org.wso2.carbon.identity.oidc.session.backchannellogout;
 
-import org.apache.commons.collections.MapUtils;
+import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -33,7 +33,6 @@ import org.apache.http.message.BasicNameValuePair;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
-import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oidc.session.OIDCSessionConstants;
 import org.wso2.carbon.identity.oidc.session.util.OIDCSessionManagementUtil;
@@ -42,6 +41,7 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -196,39 +196,41 @@ public class LogoutRequestSender {
      */
     public void sendLogoutRequests(String opbsCookieId, String tenantDomain) {
 
-        Map<String, String> logoutTokenList = getLogoutTokenList(opbsCookieId, tenantDomain);
-        if (MapUtils.isNotEmpty(logoutTokenList)) {
-            // For each logoutReq, create a new task and submit it to the thread pool.
-            for (Map.Entry<String, String> logoutTokenMap : logoutTokenList.entrySet()) {
-                String logoutToken = logoutTokenMap.getKey();
-                String bcLogoutUrl = logoutTokenMap.getValue();
-                LOG.debug("A LogoutReqSenderTask will be assigned to the thread pool.");
-                threadPool.submit(new LogoutReqSenderTask(logoutToken, bcLogoutUrl));
-            }
-        }
-    }
-
-    /**
-     * Returns a Map with logout tokens and back-channel logut Url of Service providers.
-     *
-     * @param opbsCookie OpbsCookie.
-     * @return Map with logoutToken, back-channel logout Url.
-     */
-    private Map<String, String> getLogoutTokenList(String opbsCookie, String tenantDomain) {
-
-        Map<String, String> logoutTokenList = null;
+        DefaultLogoutTokenBuilder logoutTokenBuilder;
+        List<PendingLogoutToken> pendingLogoutTokens;
         try {
-            DefaultLogoutTokenBuilder logoutTokenBuilder = new DefaultLogoutTokenBuilder();
-            logoutTokenList = logoutTokenBuilder.buildLogoutToken(opbsCookie, tenantDomain);
+            logoutTokenBuilder = new DefaultLogoutTokenBuilder();
+            pendingLogoutTokens = logoutTokenBuilder.buildPendingLogoutTokens(opbsCookieId, tenantDomain);
         } catch (IdentityOAuth2Exception e) {
-            LOG.error("Error while initializing " + DefaultLogoutTokenBuilder.class, e);
-        } catch (InvalidOAuthClientException e) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Error while obtaining logout token list for the obpsCookie: " + opbsCookie +
-                                "& tenant domain: " + tenantDomain, e);
+            LOG.error("Error while building logout tokens using " + DefaultLogoutTokenBuilder.class, e);
+            return;
+        }
+        if (CollectionUtils.isEmpty(pendingLogoutTokens)) {
+            return;
+        }
+
+        // Resolve the signer of each signing tenant once, so that the tasks only have to sign the claims.
+        Map<String, LogoutTokenSigner> signers = new HashMap<>();
+        for (PendingLogoutToken pendingLogoutToken : pendingLogoutTokens) {
+            String signingTenantDomain = pendingLogoutToken.getSigningTenantDomain();
+            if (!signers.containsKey(signingTenantDomain)) {
+                LogoutTokenSigner signer = null;
+                try {
+                    signer = logoutTokenBuilder.getSigner(signingTenantDomain);
+                } catch (IdentityOAuth2Exception e) {
+                    LOG.error("Error while initializing the logout token signer of the tenant: " +
+                            signingTenantDomain, e);
+                }
+                signers.put(signingTenantDomain, signer);
             }
+            LogoutTokenSigner signer = signers.get(signingTenantDomain);
+            if (signer == null) {
+                continue;
+            }
+            // For each logoutReq, create a new task and submit it to the thread pool.
+            LOG.debug("A LogoutReqSenderTask will be assigned to the thread pool.");
+            threadPool.submit(new LogoutReqSenderTask(pendingLogoutToken, signer));
         }
-        return logoutTokenList;
     }
 
     /**
@@ -238,13 +240,15 @@ public class LogoutRequestSender {
      */
     private class LogoutReqSenderTask implements Runnable {
 
-        private String logoutToken;
+        private PendingLogoutToken pendingLogoutToken;
+        private LogoutTokenSigner signer;
         private String backChannelLogouturl;
 
-        public LogoutReqSenderTask(String logoutToken, String backChannelLogouturl) {
+        public LogoutReqSenderTask(PendingLogoutToken pendingLogoutToken, LogoutTokenSigner signer) {
 
-            this.logoutToken = logoutToken;
-            this.backChannelLogouturl = backChannelLogouturl;
+            this.pendingLogoutToken = pendingLogoutToken;
+            this.signer = signer;
+            this.backChannelLogouturl = pendingLogoutToken.getBackChannelLogoutUrl();
         }
 
         @Override
@@ -254,6 +258,15 @@ public class LogoutRequestSender {
                 LOG.debug("Starting backchannel logout request to: " + backChannelLogouturl);
             }
 
+            String logoutToken;
+            try {
+                logoutToken = signer.sign(pendingLogoutToken.getClaimsSet());
+            } catch (IdentityOAuth2Exception e) {
+                LOG.error("Error while signing the logout token of the client: " +
+                        pendingLogoutToken.getClientId(), e);
+                return;
+            }
+
             List<NameValuePair> logoutReqParams = new ArrayList<NameValuePair>();
             CloseableHttpClient httpClient = null;
             try {
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oidc.session.backchannellogout;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.security.Key;
+import java.security.cert.Certificate;
+import java.security.interfaces.RSAPrivateKey;
+
+/**
+ * Signs the logout tokens of a tenant. The signing key, the signer and the JWS header are resolved once when the
+ * signer is created, in the same way as {@link OAuth2Util#signJWTWithRSA(JWTClaimsSet, JWSAlgorithm, String)}, and are
+ * shared by all the logout tokens of a logout. The signer is thread safe, hence the tokens can be signed in parallel.
+ */
+class LogoutTokenSigner {
+
+    private final JWSAlgorithm signatureAlgorithm;
+    private final String tenantDomain;
+    private final JWSSigner signer;
+    private final JWSHeader header;
+
+    LogoutTokenSigner(JWSAlgorithm signatureAlgorithm, String tenantDomain) throws IdentityOAuth2Exception {
+
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.tenantDomain = StringUtils.isBlank(tenantDomain) ? MultitenantConstants.SUPER_TENANT_DOMAIN_NAME :
+                tenantDomain;
+        if (JWSAlgorithm.Family.RSA.contains(signatureAlgorithm)) {
+            Key privateKey = OAuth2Util.getPrivateKey(this.tenantDomain);
+            Certificate certificate = OAuth2Util.getCertificate(this.tenantDomain);
+            this.signer = OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey);
+            this.header = new JWSHeader.Builder(signatureAlgorithm)
+                    .keyID(OAuth2Util.getKID(certificate, signatureAlgorithm, this.tenantDomain))
+                    .x509CertThumbprint(new Base64URL(OAuth2Util.getThumbPrintWithPrevAlgorithm(certificate, false)))
+                    .build();
+        } else {
+            // Unsupported algorithms are left to OAuth2Util, which reports them when signing.
+            this.signer = null;
+            this.header = null;
+        }
+    }
+
+    /**
+     * Sign the given logout token claims.
+     *
+     * @param claimsSet Logout token claims.
+     * @return Serialized logout token.
+     * @throws IdentityOAuth2Exception If signing fails.
+     */
+    String sign(JWTClaimsSet claimsSet) throws IdentityOAuth2Exception {
+
+        if (signer == null) {
+            return OAuth2Util.signJWT(claimsSet, signatureAlgorithm, tenantDomain).serialize();
+        }
+        try {
+            SignedJWT signedJWT = new SignedJWT(header, claimsSet);
+            signedJWT.sign(signer);
+            return signedJWT.serialize();
+        } catch (JOSEException e) {
+            throw new IdentityOAuth2Exception("Error occurred while signing the logout token.", e);
+        }
+    }
+}
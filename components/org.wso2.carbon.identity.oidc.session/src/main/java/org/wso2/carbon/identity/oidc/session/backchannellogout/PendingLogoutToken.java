@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oidc.session.backchannellogout;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+
+/**
+ * Logout token of a session participant, built along with the tokens of the other participants of the session and
+ * signed right before it is sent to the back-channel logout URL of the participant.
+ */
+class PendingLogoutToken {
+
+    private final String clientId;
+    private final String backChannelLogoutUrl;
+    private final String signingTenantDomain;
+    private final JWTClaimsSet claimsSet;
+
+    PendingLogoutToken(String clientId, String backChannelLogoutUrl, String signingTenantDomain,
+                       JWTClaimsSet claimsSet) {
+
+        this.clientId = clientId;
+        this.backChannelLogoutUrl = backChannelLogoutUrl;
+        this.signingTenantDomain = signingTenantDomain;
+        this.claimsSet = claimsSet;
+    }
+
+    String getClientId() {
+
+        return clientId;
+    }
+
+    String getBackChannelLogoutUrl() {
+
+        return backChannelLogoutUrl;
+    }
+
+    String getSigningTenantDomain() {
+
+        return signingTenantDomain;
+    }
+
+    JWTClaimsSet getClaimsSet() {
+
+        return claimsSet;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.oidc.session.model;
+
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.SignedJWT;
+import org.wso2.carbon.identity.oidc.session.util.OIDCSessionManagementUtil;
+
+import java.text.ParseException;
+
+/**
+ * This class holds the id_token_hint of a logout request along with the results of parsing, decrypting and
+ * validating it, so that they are computed at most once per request.
+ */
+public class IdTokenHint {
+
+    private final String idToken;
+    private final boolean encrypted;
+    private SignedJWT signedJWT;
+    private JWT decryptedIdToken;
+    private Boolean signatureValid;
+
+    public IdTokenHint(String idToken) {
+
+        this.idToken = idToken;
+        this.encrypted = OIDCSessionManagementUtil.isIDTokenEncrypted(idToken);
+    }
+
+    public String getIdToken() {
+
+        return idToken;
+    }
+
+    public boolean isEncrypted() {
+
+        return encrypted;
+    }
+
+    /**
+     * Get the signed ID token, parsing it on first use.
+     *
+     * @return Signed ID token.
+     * @throws ParseException If the ID token is not a valid signed JWT.
+     */
+    public SignedJWT getSignedJWT() throws ParseException {
+
+        if (signedJWT == null) {
+            signedJWT = SignedJWT.parse(idToken);
+        }
+        return signedJWT;
+    }
+
+    public JWT getDecryptedIdToken() {
+
+        return decryptedIdToken;
+    }
+
+    public void setDecryptedIdToken(JWT decryptedIdToken) {
+
+        this.decryptedIdToken = decryptedIdToken;
+    }
+
+    /**
+     * Get the result of the signature validation of the ID token.
+     *
+     * @return Whether the signature is valid, or null if it has not been validated yet.
+     */
+    public Boolean getSignatureValid() {
+
+        return signatureValid;
+    }
+
+    public void setSignatureValid(boolean signatureValid) {
+
+        this.signatureValid = signatureValid;
+    }
+}
@@ -24,7 +24,6 @@ import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -68,6 +67,7 @@ import org.wso2.carbon.identity.oidc.session.cache.OIDCSessionDataCacheKey;
 import org.wso2.carbon.identity.oidc.session.handler.OIDCLogoutHandler;
 import org.wso2.carbon.identity.oidc.session.internal.OIDCSessionManagementComponentServiceHolder;
 import org.wso2.carbon.identity.oidc.session.model.APIError;
+import org.wso2.carbon.identity.oidc.session.model.IdTokenHint;
 import org.wso2.carbon.identity.oidc.session.model.LogoutContext;
 import org.wso2.carbon.identity.oidc.session.util.OIDCSessionManagementUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
@@ -107,6 +107,7 @@ public class OIDCLogoutServlet extends HttpServlet {
     private static final Log log = LogFactory.getLog(OIDCLogoutServlet.class);
     private static final String REQUEST_PARAM_SP = "sp";
     private static final String UTF_8 = "UTF-8";
+    private static final String ID_TOKEN_HINT_ATTRIBUTE = "oidcLogoutIdTokenHint";
     private static final long serialVersionUID = -9203934217770142011L;
 
     @Override
@@ -418,14 +419,23 @@ public class OIDCLogoutServlet extends HttpServlet {
     }
 
     /**
-     * Validate Id token signature.
+     * Validate Id token signature. The result is kept in the id token hint, hence the signature is verified at most
+     * once per request.
      *
-     * @param idToken Id token
+     * @param idTokenHint Id token hint
      * @return validation state
      */
-    private boolean validateIdToken(String idToken) {
+    private boolean validateIdToken(IdTokenHint idTokenHint) {
 
-        String tenantDomain = getTenantDomainForSignatureValidation(idToken);
+        if (idTokenHint.getSignatureValid() == null) {
+            idTokenHint.setSignatureValid(verifyIdTokenSignature(idTokenHint));
+        }
+        return idTokenHint.getSignatureValid();
+    }
+
+    private boolean verifyIdTokenSignature(IdTokenHint idTokenHint) {
+
+        String tenantDomain = getTenantDomainForSignatureValidation(idTokenHint);
         if (StringUtils.isEmpty(tenantDomain)) {
             return false;
         }
@@ -433,13 +443,13 @@ public class OIDCLogoutServlet extends HttpServlet {
         try {
             RSAPublicKey publicKey = (RSAPublicKey) IdentityKeyStoreResolver.getInstance().getCertificate(tenantDomain,
                     IdentityKeyStoreResolverConstants.InboundProtocol.OAUTH).getPublicKey();
-            SignedJWT signedJWT = SignedJWT.parse(idToken);
             JWSVerifier verifier = new RSASSAVerifier(publicKey);
 
-            return signedJWT.verify(verifier);
+            return idTokenHint.getSignedJWT().verify(verifier);
         } catch (JOSEException | ParseException e) {
             if (log.isDebugEnabled()) {
-                log.debug("Error occurred while validating id token signature for the id token: " + idToken);
+                log.debug("Error occurred while validating id token signature for the id token: " +
+                        idTokenHint.getIdToken());
             }
             return false;
         } catch (Exception e) {
@@ -453,10 +463,10 @@ public class OIDCLogoutServlet extends HttpServlet {
      * There is a problem If Id token signed using SP's tenant and there is no direct way to get the tenant domain
      * using client id. So have iterate all the Tenants until get the right client id.
      *
-     * @param idToken id token
+     * @param idTokenHint id token hint
      * @return Tenant domain
      */
-    private String getTenantDomainForSignatureValidation(String idToken) {
+    private String getTenantDomainForSignatureValidation(IdTokenHint idTokenHint) {
 
         boolean isJWTSignedWithSPKey = OAuthServerConfiguration.getInstance().isJWTSignedWithSPKey();
         if (log.isDebugEnabled()) {
@@ -465,7 +475,7 @@ public class OIDCLogoutServlet extends HttpServlet {
         String tenantDomain;
 
         try {
-            String clientId = extractClientFromIdToken(idToken);
+            String clientId = extractClientFromIdToken(idTokenHint);
             if (isJWTSignedWithSPKey) {
                 OAuthAppDO oAuthAppDO = OAuth2Util.getAppInformationByClientId(clientId);
                 tenantDomain = OAuth2Util.getTenantDomainOfOauthApp(oAuthAppDO);
@@ -477,11 +487,11 @@ public class OIDCLogoutServlet extends HttpServlet {
                 if (log.isDebugEnabled()) {
                     log.debug("JWT signature will be validated with user tenant domain.");
                 }
-                tenantDomain = extractTenantDomainFromIdToken(idToken);
+                tenantDomain = extractTenantDomainFromIdToken(idTokenHint);
             }
         } catch (ParseException e) {
             if (log.isDebugEnabled()) {
-                log.debug("Error occurred while extracting client id from id token: " + idToken, e);
+                log.debug("Error occurred while extracting client id from id token: " + idTokenHint.getIdToken(), e);
             }
             return null;
         } catch (IdentityOAuth2Exception e) {
@@ -490,7 +500,7 @@ public class OIDCLogoutServlet extends HttpServlet {
         } catch (InvalidOAuthClientException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error occurred while getting tenant domain for signature validation with id token: "
-                        + idToken, e);
+                        + idTokenHint.getIdToken(), e);
             }
             return null;
         }
@@ -574,7 +584,7 @@ public class OIDCLogoutServlet extends HttpServlet {
             regexp = registeredCallbackUri.substring(OAuthConstants.CALLBACK_URL_REGEXP_PREFIX.length());
         }
 
-        if (regexp != null && postLogoutUri.matches(regexp)) {
+        if (regexp != null && OIDCSessionManagementUtil.matchesCallbackUrlRegex(postLogoutUri, regexp)) {
             return true;
         } else if (registeredCallbackUri.equals(postLogoutUri)) {
             return true;
@@ -587,17 +597,17 @@ public class OIDCLogoutServlet extends HttpServlet {
     /**
      * Extract Client Id from Id token.
      *
-     * @param idToken id token
+     * @param idTokenHint id token hint
      * @return Client Id
      * @throws ParseException
      */
-    private String extractClientFromIdToken(String idToken) throws ParseException {
+    private String extractClientFromIdToken(IdTokenHint idTokenHint) throws ParseException {
 
-        String clientId = (String) SignedJWT.parse(idToken).getJWTClaimsSet()
-                .getClaims().get(OIDCSessionConstants.OIDC_ID_TOKEN_AZP_CLAIM);
+        JWTClaimsSet claimsSet = idTokenHint.getSignedJWT().getJWTClaimsSet();
+        String clientId = (String) claimsSet.getClaims().get(OIDCSessionConstants.OIDC_ID_TOKEN_AZP_CLAIM);
 
         if (StringUtils.isBlank(clientId)) {
-            clientId = SignedJWT.parse(idToken).getJWTClaimsSet().getAudience().get(0);
+            clientId = claimsSet.getAudience().get(0);
             log.info("Provided ID Token does not contain azp claim with client ID. " +
                     "Client ID is extracted from the aud claim in the ID Token.");
         }
@@ -608,16 +618,16 @@ public class OIDCLogoutServlet extends HttpServlet {
     /**
      * Extract tenant domain from id token.
      *
-     * @param idToken id token
+     * @param idTokenHint id token hint
      * @return tenant domain
      * @throws ParseException
      */
-    private String extractTenantDomainFromIdToken(String idToken) throws ParseException {
+    private String extractTenantDomainFromIdToken(IdTokenHint idTokenHint) throws ParseException {
 
         String tenantDomain = null;
         Map realm = null;
 
-        JWTClaimsSet claimsSet = SignedJWT.parse(idToken).getJWTClaimsSet();
+        JWTClaimsSet claimsSet = idTokenHint.getSignedJWT().getJWTClaimsSet();
         if (claimsSet.getClaims().get(OAuthConstants.OIDCClaims.REALM) instanceof Map) {
             realm = (Map) claimsSet.getClaims().get(OAuthConstants.OIDCClaims.REALM);
         }
@@ -1008,7 +1018,8 @@ public class OIDCLogoutServlet extends HttpServlet {
                 response.sendRedirect(getRedirectURL(redirectURL, request));
                 return;
             }
-            if (!validateIdToken(idTokenHint) && !OIDCSessionManagementUtil.isIDTokenEncrypted(idTokenHint)) {
+            if (!OIDCSessionManagementUtil.isIDTokenEncrypted(idTokenHint)
+                    && !validateIdToken(getIdTokenHint(request, idTokenHint))) {
                 String msg = "ID token signature validation failed.";
                 if (log.isDebugEnabled()) {
                     log.debug(msg + " Client id from id token: " + clientId);
@@ -1089,43 +1100,69 @@ public class OIDCLogoutServlet extends HttpServlet {
     private String getClientIdFromIdToken(HttpServletRequest request, String idToken)
             throws IdentityOAuth2Exception, ParseException {
 
-        if (OIDCSessionManagementUtil.isIDTokenEncrypted(idToken)) {
-            String appTenantDomain = request.getParameter(OIDCSessionConstants.OIDC_TENANT_DOMAIN_PARAM);
-            if (StringUtils.isBlank(appTenantDomain)) {
-                appTenantDomain = IdentityTenantUtil.resolveTenantDomain();
-            }
-            JWT decryptedIDToken = OIDCSessionManagementUtil.decryptWithRSA(appTenantDomain, idToken);
-            return OIDCSessionManagementUtil.extractClientIDFromDecryptedIDToken(decryptedIDToken);
+        IdTokenHint idTokenHint = getIdTokenHint(request, idToken);
+        if (idTokenHint.isEncrypted()) {
+            return OIDCSessionManagementUtil.extractClientIDFromDecryptedIDToken(
+                    getDecryptedIdToken(request, idTokenHint));
         } else {
-            if (!validateIdToken(idToken)) {
+            if (!validateIdToken(idTokenHint)) {
                 throw new IdentityOAuth2Exception(OAuth2ErrorCodes.OAuth2SubErrorCodes.INVALID_ID_TOKEN,
                         "ID token signature validation failed.");
             }
-            return extractClientFromIdToken(idToken);
+            return extractClientFromIdToken(idTokenHint);
         }
     }
 
     private String getSessionIdFromIdToken(HttpServletRequest request, String idToken)
             throws IdentityOAuth2Exception, ParseException {
 
-        if (OIDCSessionManagementUtil.isIDTokenEncrypted(idToken)) {
-            String appTenantDomain = request.getParameter(OIDCSessionConstants.OIDC_TENANT_DOMAIN_PARAM);
-            if (StringUtils.isBlank(appTenantDomain)) {
-                appTenantDomain = IdentityTenantUtil.resolveTenantDomain();
-            }
-            JWT decryptedIDToken = OIDCSessionManagementUtil.decryptWithRSA(appTenantDomain, idToken);
-            return (String) decryptedIDToken.getJWTClaimsSet().getClaims()
+        IdTokenHint idTokenHint = getIdTokenHint(request, idToken);
+        if (idTokenHint.isEncrypted()) {
+            return (String) getDecryptedIdToken(request, idTokenHint).getJWTClaimsSet().getClaims()
                     .get(OAuthConstants.OIDCClaims.IDP_SESSION_KEY);
         } else {
-            if (!validateIdToken(idToken)) {
+            if (!validateIdToken(idTokenHint)) {
                 throw new IdentityOAuth2Exception(OAuth2ErrorCodes.OAuth2SubErrorCodes.INVALID_ID_TOKEN,
                         "ID token signature validation failed.");
             }
-            return (String) SignedJWT.parse(idToken).getJWTClaimsSet()
+            return (String) idTokenHint.getSignedJWT().getJWTClaimsSet()
                     .getClaims().get(OAuthConstants.OIDCClaims.IDP_SESSION_KEY);
         }
     }
 
+    /**
+     * Get the id token hint of the request, which holds the parsed, decrypted and validated id token once they are
+     * resolved, so that the id token is processed only once while handling a logout request.
+     *
+     * @param request Http servlet request.
+     * @param idToken Id token.
+     * @return Id token hint.
+     */
+    private IdTokenHint getIdTokenHint(HttpServletRequest request, String idToken) {
+
+        Object attribute = request.getAttribute(ID_TOKEN_HINT_ATTRIBUTE);
+        if (attribute instanceof IdTokenHint && StringUtils.equals(((IdTokenHint) attribute).getIdToken(), idToken)) {
+            return (IdTokenHint) attribute;
+        }
+        IdTokenHint idTokenHint = new IdTokenHint(idToken);
+        request.setAttribute(ID_TOKEN_HINT_ATTRIBUTE, idTokenHint);
+        return idTokenHint;
+    }
+
+    private JWT getDecryptedIdToken(HttpServletRequest request, IdTokenHint idTokenHint)
+            throws IdentityOAuth2Exception {
+
+        if (idTokenHint.getDecryptedIdToken() == null) {
+            String appTenantDomain = request.getParameter(OIDCSessionConstants.OIDC_TENANT_DOMAIN_PARAM);
+            if (StringUtils.isBlank(appTenantDomain)) {
+                appTenantDomain = IdentityTenantUtil.resolveTenantDomain();
+            }
+            idTokenHint.setDecryptedIdToken(OIDCSessionManagementUtil.decryptWithRSA(appTenantDomain,
+                    idTokenHint.getIdToken()));
+        }
+        return idTokenHint.getDecryptedIdToken();
+    }
+
     private boolean canHandleAPIBasedLogoutFromCookies(HttpServletRequest request) {
 
         String opBrowserState = getOPBrowserState(request);
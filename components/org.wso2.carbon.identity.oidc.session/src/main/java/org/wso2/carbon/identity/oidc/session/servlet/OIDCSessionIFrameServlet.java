@@ -137,7 +137,7 @@ public class OIDCSessionIFrameServlet extends HttpServlet {
                 }
                 String regexp = configuredCallbackURL
                         .substring(OAuthConstants.CALLBACK_URL_REGEXP_PREFIX.length());
-                if (rpIFrameReqCallbackURL.matches(regexp)) {
+                if (OIDCSessionManagementUtil.matchesCallbackUrlRegex(rpIFrameReqCallbackURL, regexp)) {
                     if (log.isDebugEnabled()) {
                         log.debug("Requested redirect_uri is matched with the regex in service provider.");
                     }
@@ -52,6 +52,9 @@ import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.security.interfaces.RSAPrivateKey;
 import java.text.ParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
@@ -68,7 +71,10 @@ public class OIDCSessionManagementUtil {
     private static final String ALLOW_ADDITIONAL_PARAMS_FROM_POST_LOGOUT_REDIRECT_URI = "OAuth" +
             ".OpenIDConnect.AllowAdditionalParamsFromPostLogoutRedirectURI";
 
+    private static final int MAX_CALLBACK_URL_PATTERNS = 1000;
+
     private static final OIDCSessionManager sessionManager = new OIDCSessionManager();
+    private static final Map<String, Pattern> callbackUrlPatterns = new ConcurrentHashMap<>();
     private static OIDCSessionStateManager oidcSessionStateManager;
 
     private static final Log log = LogFactory.getLog(OIDCSessionManagementUtil.class);
@@ -483,6 +489,27 @@ public class OIDCSessionManagementUtil {
         return StringUtils.countMatches(idToken, ".") == 4;
     }
 
+    /**
+     * Check whether the given URL matches the callback URL regex registered for an application. The compiled
+     * patterns are cached by the regex, hence changing the callback URL of an application picks up a new pattern.
+     *
+     * @param url    URL to match.
+     * @param regexp Callback URL regex, without the regexp prefix.
+     * @return True if the URL matches the regex.
+     */
+    public static boolean matchesCallbackUrlRegex(String url, String regexp) {
+
+        Pattern pattern = callbackUrlPatterns.get(regexp);
+        if (pattern == null) {
+            pattern = Pattern.compile(regexp);
+            if (callbackUrlPatterns.size() >= MAX_CALLBACK_URL_PATTERNS) {
+                callbackUrlPatterns.clear();
+            }
+            callbackUrlPatterns.put(regexp, pattern);
+        }
+        return pattern.matcher(url).matches();
+    }
+
     /**
      * Method to retrieve the <AllowAdditionalParamsFromPostLogoutRedirectURI> config from the OAuth Configuration.
      *
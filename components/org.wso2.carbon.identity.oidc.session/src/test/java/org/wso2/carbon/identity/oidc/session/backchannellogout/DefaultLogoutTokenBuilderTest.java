@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.oidc.session.backchannellogout;
 
 import com.nimbusds.jose.crypto.RSASSAVerifier;
 import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
@@ -57,6 +58,7 @@ import java.security.cert.Certificate;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -64,10 +66,12 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -202,6 +206,63 @@ public class DefaultLogoutTokenBuilderTest {
     }
 
 
+    @Test
+    public void testBuildPendingLogoutTokens() throws Exception {
+
+        OIDCSessionState oidcSessionState = new OIDCSessionState();
+        Set<String> sessionParticipants = new HashSet<>();
+        sessionParticipants.add("sp1");
+        sessionParticipants.add("sp2");
+        oidcSessionState.setSessionParticipants(sessionParticipants);
+        oidcSessionState.setAuthenticatedUser(USER_NAME);
+        oidcSessionState.setSidClaim("sid");
+
+        appDO = getDefaultOAuthAppDO(TENANT_DOMAIN);
+
+        try (MockedStatic<OIDCSessionManagementUtil> oidcSessionManagementUtilMockedStatic
+                     = mockStatic(OIDCSessionManagementUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtilMockedStatic = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<OrganizationManagementUtil> organizationManagementUtilMockedStatic
+                     = mockStatic(OrganizationManagementUtil.class);
+             MockedStatic<ServiceURLBuilder> serviceURLBuilderMockedStatic = mockStatic(ServiceURLBuilder.class);
+             MockedStatic<OAuthServerConfiguration> oAuthServerConfigurationMockedStatic
+                     = mockStatic(OAuthServerConfiguration.class);
+             MockedStatic<OAuth2Util> oAuth2UtilMockedStatic = mockStatic(OAuth2Util.class);) {
+
+            oidcSessionManagementUtilMockedStatic.when(OIDCSessionManagementUtil::getSessionManager)
+                    .thenReturn(oidcSessionManager);
+            when(oidcSessionManager.getOIDCSessionState(anyString(), anyString())).thenReturn(oidcSessionState);
+            oAuth2UtilMockedStatic.when(() -> OAuth2Util.getAppInformationByClientId(anyString()))
+                    .thenReturn(appDO);
+            oAuth2UtilMockedStatic.when(() -> OAuth2Util.getTenantDomainOfOauthApp(any(OAuthAppDO.class)))
+                    .thenReturn(TENANT_DOMAIN);
+            identityTenantUtilMockedStatic.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled)
+                    .thenReturn(true);
+            organizationManagementUtilMockedStatic.when(() -> OrganizationManagementUtil
+                    .isOrganization(TENANT_DOMAIN)).thenReturn(false);
+            oAuthServerConfigurationMockedStatic.when(OAuthServerConfiguration::getInstance)
+                    .thenReturn(oAuthServerConfiguration);
+            mockServiceURLBuilder(OTHER_TENANT_TOKEN_URL, serviceURLBuilderMockedStatic);
+
+            List<PendingLogoutToken> pendingLogoutTokens =
+                    logoutTokenBuilder.buildPendingLogoutTokens("opbsCookie", TENANT_DOMAIN);
+
+            assertEquals(pendingLogoutTokens.size(), 2);
+            JWTClaimsSet claimsSet1 = pendingLogoutTokens.get(0).getClaimsSet();
+            JWTClaimsSet claimsSet2 = pendingLogoutTokens.get(1).getClaimsSet();
+            assertEquals(claimsSet1.getIssuer(), OTHER_TENANT_TOKEN_URL);
+            assertEquals(claimsSet2.getIssuer(), OTHER_TENANT_TOKEN_URL);
+            assertEquals(claimsSet1.getClaim("sid"), "sid");
+            assertEquals(claimsSet1.getExpirationTime(), claimsSet2.getExpirationTime());
+            assertNotEquals(claimsSet1.getAudience(), claimsSet2.getAudience());
+            assertNotEquals(claimsSet1.getJWTID(), claimsSet2.getJWTID());
+            assertEquals(pendingLogoutTokens.get(0).getBackChannelLogoutUrl(), BACKCHANNEL_LOGOUT);
+            // The issuer is resolved once for all the participants of the tenant.
+            verify(mockServiceURLBuilder, times(1)).setTenant(TENANT_DOMAIN);
+        }
+    }
+
+
     private OAuthAppDO getDefaultOAuthAppDO(String tenantDomain) {
 
         AuthenticatedUser authenticatedUser = new AuthenticatedUser();
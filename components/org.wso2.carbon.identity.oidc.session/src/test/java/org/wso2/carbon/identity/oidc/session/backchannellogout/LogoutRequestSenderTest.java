@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.oidc.session.backchannellogout;
 
+import com.nimbusds.jwt.JWTClaimsSet;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
@@ -40,13 +41,12 @@ import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
@@ -176,10 +176,18 @@ public class LogoutRequestSenderTest {
 
         try (MockedConstruction<DefaultLogoutTokenBuilder> tokenBuilderMockCons = mockConstruction(
                 DefaultLogoutTokenBuilder.class, (mock, context) -> {
-                    Map<String, String> logoutTokenList = new HashMap<>();
-                    logoutTokenList.put("logoutToken1", "http://localhost:" + MOCK_SERVER_PORT + "/logout1");
-                    logoutTokenList.put("logoutToken2", "http://localhost:" + MOCK_SERVER_PORT + "/logout2");
-                    when(mock.buildLogoutToken(any(), any())).thenReturn(logoutTokenList);
+                    JWTClaimsSet claimsSet1 = new JWTClaimsSet.Builder().audience("client1").build();
+                    JWTClaimsSet claimsSet2 = new JWTClaimsSet.Builder().audience("client2").build();
+                    List<PendingLogoutToken> pendingLogoutTokens = new ArrayList<>();
+                    pendingLogoutTokens.add(new PendingLogoutToken("client1",
+                            "http://localhost:" + MOCK_SERVER_PORT + "/logout1", "testTenant", claimsSet1));
+                    pendingLogoutTokens.add(new PendingLogoutToken("client2",
+                            "http://localhost:" + MOCK_SERVER_PORT + "/logout2", "testTenant", claimsSet2));
+                    LogoutTokenSigner signer = mock(LogoutTokenSigner.class);
+                    when(signer.sign(claimsSet1)).thenReturn("logoutToken1");
+                    when(signer.sign(claimsSet2)).thenReturn("logoutToken2");
+                    when(mock.buildPendingLogoutTokens(any(), any())).thenReturn(pendingLogoutTokens);
+                    when(mock.getSigner(any())).thenReturn(signer);
             });
         ) {
             // Call the method under test.
@@ -469,4 +469,21 @@ public class OIDCSessionManagementUtilTest {
             assertThrows(() -> OIDCSessionManagementUtil.decryptWithRSA("carbon.super", idToken));
         }
     }
+
+    @DataProvider(name = "provideDataForTestMatchesCallbackUrlRegex")
+    public Object[][] provideDataForTestMatchesCallbackUrlRegex() {
+
+        return new Object[][]{
+                {"https://localhost:8080/playground2/oauth2client", "https://localhost:8080/playground2/.*", true},
+                {"https://localhost:8080/playground2/logout", "https://localhost:8080/playground2/.*", true},
+                {"https://localhost:8080/other/logout", "https://localhost:8080/playground2/.*", false},
+                {"https://localhost:8080/playground2", "(https://localhost:8080/playground2|https://app.com)", true}
+        };
+    }
+
+    @Test(dataProvider = "provideDataForTestMatchesCallbackUrlRegex")
+    public void testMatchesCallbackUrlRegex(String url, String regexp, boolean expected) {
+
+        Assert.assertEquals(OIDCSessionManagementUtil.matchesCallbackUrlRegex(url, regexp), expected);
+    }
 }
@@ -48,4 +48,7 @@ public class WebFingerConstants {
     public static final String ERROR_MESSAGE_INVALID_TENANT = "Provided tenant is invalid.";
     public static final String ACCT_SCHEME = "acct";
     public static final String RESPONSE_CONTENT_TYPE = "application/jrd+json";
+    public static final String ETAG_HEADER = "ETag";
+    public static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
 }
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.webfinger.servlet;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.ServerConfigurationException;
+import org.wso2.carbon.identity.discovery.DiscoveryUtil;
 import org.wso2.carbon.identity.webfinger.WebFingerConstants;
 import org.wso2.carbon.identity.webfinger.WebFingerEndpointException;
 import org.wso2.carbon.identity.webfinger.WebFingerProcessor;
@@ -61,6 +62,14 @@ public class WebFingerServlet extends HttpServlet {
             httpServletResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             return;
         }
+        String eTag = DiscoveryUtil.buildETag(response);
+        httpServletResponse.setHeader(WebFingerConstants.ETAG_HEADER, eTag);
+        httpServletResponse.setHeader(WebFingerConstants.CACHE_CONTROL_HEADER,
+                DiscoveryUtil.getCacheControlHeaderValue());
+        if (DiscoveryUtil.isETagMatched(httpServletRequest.getHeader(WebFingerConstants.IF_NONE_MATCH_HEADER), eTag)) {
+            httpServletResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
         httpServletResponse.setContentType(WebFingerConstants.RESPONSE_CONTENT_TYPE);
         PrintWriter out = httpServletResponse.getWriter();
         out.print(response);